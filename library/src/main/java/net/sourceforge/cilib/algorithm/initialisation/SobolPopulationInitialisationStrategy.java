@@ -0,0 +1,190 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.algorithm.initialisation;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.math.random.generator.quasi.Sobol;
+import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Create a collection of {@linkplain net.sourceforge.cilib.entity.Entity entities}
+ * by cloning the given prototype {@link net.sourceforge.cilib.entity.Entity} and
+ * positioning the clones at consecutive points of a Sobol sequence, scaled to
+ * the domain of the problem.
+ * <p>
+ * Every call to {@link #initialise(Problem)} uses the next block of
+ * {@code entityNumber} points of the sequence. Re-initialisations, such as the
+ * restarts of a {@linkplain net.sourceforge.cilib.algorithm.MultistartOptimisationAlgorithm},
+ * are therefore positioned at points disjoint from those of previous rounds.
+ * Independent runs may be given disjoint blocks with {@link #setOffset(int)}.
+ *
+ * @param <E> The {@code Entity} type.
+ */
+public class SobolPopulationInitialisationStrategy<E extends Entity> implements PopulationInitialisationStrategy<E> {
+
+    private static final long serialVersionUID = 2419036893318764123L;
+    private Entity prototypeEntity;
+    private int entityNumber;
+    private int offset;
+    private int rounds;
+
+    /**
+     * Create an instance of the {@code SobolPopulationInitialisationStrategy}.
+     * The first point of the sequence, which is the lower corner of the domain,
+     * is skipped by default.
+     */
+    public SobolPopulationInitialisationStrategy() {
+        this.entityNumber = 20;
+        this.prototypeEntity = null;
+        this.offset = 1;
+        this.rounds = 0;
+    }
+
+    /**
+     * Copy constructor. Create a copy of the given instance.
+     * @param copy The instance to copy.
+     */
+    public SobolPopulationInitialisationStrategy(SobolPopulationInitialisationStrategy<E> copy) {
+        this.entityNumber = copy.entityNumber;
+        this.prototypeEntity = copy.prototypeEntity.getClone();
+        this.offset = copy.offset;
+        this.rounds = copy.rounds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SobolPopulationInitialisationStrategy<E> getClone() {
+        return new SobolPopulationInitialisationStrategy<E>(this);
+    }
+
+    /**
+     * Perform the required initialization, using the provided <tt>Problem</tt>.
+     * All the points for the population are generated in a single batch. The
+     * batch is generated sequentially, as the Gray code recurrence of the
+     * sequence costs less per point than handing blocks of points to other
+     * threads.
+     * @param problem The <tt>Problem</tt> to use in the initialization of the topology.
+     * @return An {@code Iterable<E>} of initialised instances.
+     */
+    @Override
+    public Iterable<E> initialise(Problem problem) {
+        Preconditions.checkNotNull(problem, "No problem has been specified");
+        Preconditions.checkNotNull(prototypeEntity, "No prototype Entity object has been defined for the clone operation in the entity constrution process.");
+
+        Vector representation = (Vector) problem.getDomain().getBuiltRepresentation();
+        int dimensions = representation.size();
+
+        Sobol sobol = new Sobol(0);
+        sobol.setDimensions(dimensions);
+        sobol.skipTo(offset + rounds * entityNumber);
+        double[] points = new double[entityNumber * dimensions];
+        sobol.nextPoints(points);
+        rounds++;
+
+        List<E> clones = new ArrayList<E>();
+        for (int i = 0; i < entityNumber; ++i) {
+            E entity = cloneOf(prototypeEntity);
+            entity.initialise(problem);
+
+            Vector.Builder builder = Vector.newBuilder();
+            for (int j = 0; j < dimensions; j++) {
+                Bounds bounds = representation.get(j).getBounds();
+                double lower = bounds.getLowerBound();
+                builder.addWithin(lower + points[i * dimensions + j] * (bounds.getUpperBound() - lower), bounds);
+            }
+            Vector position = builder.build();
+            entity.setCandidateSolution(position);
+
+            if (entity.getProperties().get(EntityType.Particle.BEST_POSITION) != null) {
+                entity.getProperties().put(EntityType.Particle.BEST_POSITION, Vector.copyOf(position));
+            }
+            clones.add(entity);
+        }
+
+        return clones;
+    }
+
+    /**
+     * The prototype is set through the untyped {@link #setEntityType(Entity)},
+     * so its clones are only known to be of the population type by convention.
+     */
+    @SuppressWarnings("unchecked")
+    private E cloneOf(Entity prototype) {
+        return (E) prototype.getClone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEntityType(Entity entityType) {
+        this.prototypeEntity = entityType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Entity getEntityType() {
+        return this.prototypeEntity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getEntityNumber() {
+        return this.entityNumber;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEntityNumber(int entityNumber) {
+        this.entityNumber = entityNumber;
+    }
+
+    /**
+     * Get the index of the first point of the sequence that is used.
+     * @return The index of the first point.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Set the index of the first point of the sequence that is used.
+     * @param offset The index of the first point.
+     */
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+}
@@ -0,0 +1,420 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.boa;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.SingularAlgorithm;
+import net.sourceforge.cilib.boa.bee.ExplorerBee;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.calculator.ParallelFitnessEvaluator;
+import net.sourceforge.cilib.util.selection.AliasTable;
+
+/**
+ * <p>
+ * An implementation of the Artificial Bee Colony algorithm that keeps the food
+ * sources in a single matrix instead of a topology of {@link ABC bee} entities.
+ * </p>
+ * <p>
+ * Every iteration consists of the three phases of the original algorithm:
+ * </p>
+ * <ol>
+ *   <li>Each worker bee creates a candidate from its food source and a randomly
+ *       chosen other source. All worker candidates are evaluated as one batch.</li>
+ *   <li>Each onlooker bee chooses a food source in proportion to its fitness, using
+ *       an {@link AliasTable} built once from the fitness of the sources after the
+ *       worker phase, and creates a candidate from it. All onlooker candidates are
+ *       evaluated as one batch.</li>
+ *   <li>Sources that were not improved within the forage limit are abandoned, and
+ *       replaced by the {@link ExplorerBee} if it is allowed to search.</li>
+ * </ol>
+ * <p>
+ * A candidate replaces its food source if it is not worse, as in
+ * {@link net.sourceforge.cilib.boa.positionupdatestrategies.VisualPositionUpdateStategy}.
+ * Unlike {@link ABC}, onlookers improve the food source they choose rather than
+ * a position of their own, as described in the reference. The best solution is
+ * kept as a copy of the position, which is only made when the best improves.
+ * </p>
+ * <p>
+ * The fitness weights of the sources are normalised between the worst source,
+ * with a weight of zero, and the best source, with a weight of one, in the same
+ * way as {@link net.sourceforge.cilib.util.selection.weighting.EntityWeighting}.
+ * </p>
+ * <p>
+ * Reference:
+ * </p>
+ * <p>
+ * Dervis Karaboga and Bahriye Basturk, "A powerful and efficient algorithm for numerical
+ * function optimization: artificial bee colony (ABC) algorithm", Journal of Global
+ * Optimization, volume 39, number 3, pages 459--471, 2007.
+ * </p>
+ */
+public class VectorisedABC extends AbstractAlgorithm implements SingularAlgorithm {
+
+    private static final long serialVersionUID = -1569480164633519446L;
+    private RandomProvider random;
+    private ControlParameter colonySize;
+    private ControlParameter workerBeePercentage;
+    private ControlParameter forageLimit;
+    private ExplorerBee explorerBee;
+    private ParallelFitnessEvaluator evaluator;
+
+    private Bounds[] bounds;
+    private double[] sources;
+    private Fitness[] fitness;
+    private int[] failures;
+    private double[] bestPosition;
+    private Fitness bestFitness;
+
+    private double[] candidates;
+    private Vector[] candidateVectors;
+    private Fitness[] candidateFitness;
+    private int[] chosen;
+    private double[] weights;
+
+    /**
+     * Default constructor. Creates a colony of 100 bees, half of which are
+     * worker bees, with a forage limit of 500.
+     */
+    public VectorisedABC() {
+        this.random = new MersenneTwister();
+        this.colonySize = ConstantControlParameter.of(100);
+        this.workerBeePercentage = ConstantControlParameter.of(0.5);
+        this.forageLimit = ConstantControlParameter.of(500);
+        this.explorerBee = new ExplorerBee();
+        this.evaluator = new ParallelFitnessEvaluator();
+    }
+
+    /**
+     * Copy constructor. Creates a copy of the provided instance.
+     * @param copy The instance to copy.
+     */
+    public VectorisedABC(VectorisedABC copy) {
+        super(copy);
+        this.random = new MersenneTwister();
+        this.colonySize = copy.colonySize.getClone();
+        this.workerBeePercentage = copy.workerBeePercentage.getClone();
+        this.forageLimit = copy.forageLimit.getClone();
+        this.explorerBee = copy.explorerBee.getClone();
+        this.evaluator = copy.evaluator.getClone();
+
+        if (copy.sources != null) {
+            this.bounds = copy.bounds.clone();
+            this.sources = copy.sources.clone();
+            this.fitness = copy.fitness.clone();
+            this.failures = copy.failures.clone();
+            allocateBuffers(copy.fitness.length, copy.chosen.length, copy.bounds.length);
+        }
+        if (copy.bestPosition != null) {
+            this.bestPosition = copy.bestPosition.clone();
+            this.bestFitness = copy.bestFitness;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VectorisedABC getClone() {
+        return new VectorisedABC(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void algorithmInitialisation() {
+        Vector representation = (Vector) getOptimisationProblem().getDomain().getBuiltRepresentation();
+        int dimension = representation.size();
+        int workers = (int) (workerBeePercentage.getParameter() * colonySize.getParameter());
+        int onlookers = (int) colonySize.getParameter() - workers;
+        Preconditions.checkState(workers >= 2, "At least two worker bees are required.");
+
+        bounds = new Bounds[dimension];
+        for (int j = 0; j < dimension; j++) {
+            bounds[j] = representation.boundsOf(j);
+        }
+
+        sources = new double[workers * dimension];
+        fitness = new Fitness[workers];
+        failures = new int[workers];
+        allocateBuffers(workers, onlookers, dimension);
+
+        for (int i = 0; i < workers; i++) {
+            for (int j = 0; j < dimension; j++) {
+                double lower = bounds[j].getLowerBound();
+                sources[i * dimension + j] = lower + random.nextDouble() * (bounds[j].getUpperBound() - lower);
+            }
+            candidateVectors[i] = vectorOf(sources, i);
+        }
+        evaluator.evaluate(getOptimisationProblem(), candidateVectors, fitness, workers);
+
+        bestPosition = new double[dimension];
+        for (int i = 0; i < workers; i++) {
+            updateBest(i);
+        }
+    }
+
+    /**
+     * Allocate the buffers that hold the candidates of an iteration.
+     */
+    private void allocateBuffers(int workers, int onlookers, int dimension) {
+        int batch = Math.max(workers, onlookers);
+        weights = new double[workers];
+        candidates = new double[batch * dimension];
+        candidateVectors = new Vector[batch];
+        candidateFitness = new Fitness[batch];
+        chosen = new int[onlookers];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void algorithmIteration() {
+        Problem problem = getOptimisationProblem();
+        int workers = fitness.length;
+        int onlookers = chosen.length;
+
+        for (int i = 0; i < workers; i++) {
+            forage(i, i);
+        }
+        evaluator.evaluate(problem, candidateVectors, candidateFitness, workers);
+        for (int i = 0; i < workers; i++) {
+            accept(i, i);
+        }
+
+        if (onlookers > 0) {
+            AliasTable table = new AliasTable(weigh());
+            for (int o = 0; o < onlookers; o++) {
+                chosen[o] = table.sample(random);
+                forage(chosen[o], o);
+            }
+            evaluator.evaluate(problem, candidateVectors, candidateFitness, onlookers);
+            for (int o = 0; o < onlookers; o++) {
+                accept(chosen[o], o);
+            }
+        }
+
+        int dimension = bounds.length;
+        for (int i = 0; i < workers; i++) {
+            if (failures[i] >= forageLimit.getParameter()) {
+                failures[i] = 0;
+                if (explorerBee.searchAllowed(getIterations())) {
+                    Vector position = explorerBee.getNewPosition(getIterations(), vectorOf(sources, i));
+                    for (int j = 0; j < dimension; j++) {
+                        sources[i * dimension + j] = position.doubleValueOf(j);
+                    }
+                    fitness[i] = problem.getFitness(position);
+                    updateBest(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a candidate from the given food source in the given candidate row by
+     * moving a single randomly chosen dimension relative to another food source.
+     */
+    private void forage(int source, int row) {
+        int dimension = bounds.length;
+        int other = random.nextInt(fitness.length - 1);
+        if (other >= source) {
+            other++;
+        }
+        int j = random.nextInt(dimension);
+
+        System.arraycopy(sources, source * dimension, candidates, row * dimension, dimension);
+        double value = sources[source * dimension + j];
+        double phi = random.nextDouble() * 2 - 1;
+        candidates[row * dimension + j] = value + phi * (value - sources[other * dimension + j]);
+        candidateVectors[row] = vectorOf(candidates, row);
+    }
+
+    /**
+     * Replace the food source with the candidate in the given row if the
+     * candidate is not worse, otherwise count a failure for the source.
+     */
+    private void accept(int source, int row) {
+        if (candidateFitness[row].compareTo(fitness[source]) < 0) {
+            failures[source]++;
+            return;
+        }
+
+        int dimension = bounds.length;
+        System.arraycopy(candidates, row * dimension, sources, source * dimension, dimension);
+        fitness[source] = candidateFitness[row];
+        failures[source] = 0;
+        updateBest(source);
+    }
+
+    private void updateBest(int source) {
+        if (bestFitness == null || fitness[source].compareTo(bestFitness) > 0) {
+            System.arraycopy(sources, source * bounds.length, bestPosition, 0, bounds.length);
+            bestFitness = fitness[source];
+        }
+    }
+
+    /**
+     * Weigh the food sources by fitness, normalised between the worst and best
+     * source. Sources with an undefined fitness have no weight.
+     */
+    private double[] weigh() {
+        int worst = 0;
+        int best = 0;
+        for (int i = 1; i < fitness.length; i++) {
+            if (fitness[i].compareTo(fitness[worst]) < 0) {
+                worst = i;
+            }
+            if (fitness[i].compareTo(fitness[best]) > 0) {
+                best = i;
+            }
+        }
+
+        double min = fitness[worst].getValue();
+        double difference = fitness[best].getValue() - min;
+        for (int i = 0; i < fitness.length; i++) {
+            double value = fitness[i].getValue();
+            if (Double.isNaN(difference) || difference == 0.0) {
+                weights[i] = 1.0;
+            } else {
+                weights[i] = Double.isNaN(value) ? 0.0 : (value - min) / difference;
+            }
+        }
+        return weights;
+    }
+
+    private Vector vectorOf(double[] values, int row) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int j = 0, offset = row * bounds.length; j < bounds.length; j++) {
+            builder.addWithin(values[offset + j], bounds[j]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptimisationSolution getBestSolution() {
+        Preconditions.checkState(bestFitness != null, "Best solution cannot be determined before algorithm is run");
+        return new OptimisationSolution(vectorOf(bestPosition, 0), bestFitness);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<OptimisationSolution> getSolutions() {
+        return Arrays.asList(getBestSolution());
+    }
+
+    /**
+     * Gets the {@code ControlParameter} specifying the number of bees in the colony.
+     * @return the {@code ControlParameter} specifying the number of bees.
+     */
+    public ControlParameter getColonySize() {
+        return colonySize;
+    }
+
+    /**
+     * Sets the {@code ControlParameter} specifying the number of bees in the colony.
+     * @param colonySize the new {@code ControlParameter} specifying the number of bees.
+     */
+    public void setColonySize(ControlParameter colonySize) {
+        this.colonySize = colonySize;
+    }
+
+    /**
+     * Gets the {@code ControlParameter} specifying the percentage of worker bees.
+     * @return the {@code ControlParameter} specifying the percentage of worker bees.
+     */
+    public ControlParameter getWorkerBeePercentage() {
+        return workerBeePercentage;
+    }
+
+    /**
+     * Sets the {@code ControlParameter} specifying the percentage of worker bees.
+     * @param workerBeePercentage the new {@code ControlParameter} specifying the percentage of worker bees.
+     */
+    public void setWorkerBeePercentage(ControlParameter workerBeePercentage) {
+        this.workerBeePercentage = workerBeePercentage;
+    }
+
+    /**
+     * Gets the {@code ControlParameter} specifying the foraging limit.
+     * @return the {@code ControlParameter} specifying the foraging limit.
+     */
+    public ControlParameter getForageLimit() {
+        return forageLimit;
+    }
+
+    /**
+     * Sets the {@code ControlParameter} specifying the foraging limit.
+     * @param forageLimit the new {@code ControlParameter} specifying the foraging limit.
+     */
+    public void setForageLimit(ControlParameter forageLimit) {
+        this.forageLimit = forageLimit;
+    }
+
+    /**
+     * Gets the explorer bee.
+     * @return the explorer bee.
+     */
+    public ExplorerBee getExplorerBee() {
+        return explorerBee;
+    }
+
+    /**
+     * Sets the explorer bee.
+     * @param explorerBee the new explorer bee.
+     */
+    public void setExplorerBee(ExplorerBee explorerBee) {
+        this.explorerBee = explorerBee;
+    }
+
+    /**
+     * Gets the evaluator used for the worker and onlooker batches.
+     * @return the fitness evaluator.
+     */
+    public ParallelFitnessEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Sets the evaluator used for the worker and onlooker batches.
+     * @param evaluator the new fitness evaluator.
+     */
+    public void setEvaluator(ParallelFitnessEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+}
@@ -33,7 +33,6 @@ import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.pso.particle.AbstractParticle;
 import net.sourceforge.cilib.pso.particle.StandardParticle;
 import net.sourceforge.cilib.pso.pbestupdate.StandardPersonalBestUpdateStrategy;
-import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
 import net.sourceforge.cilib.type.types.container.ClusterCentroid;
 import net.sourceforge.cilib.util.calculator.EntityBasedFitnessCalculator;
@@ -256,7 +255,7 @@ public class ClusterParticle extends AbstractParticle{
         this.getProperties().put(EntityType.Particle.BEST_FITNESS, InferiorFitness.instance());
         this.neighbourhoodBest = this;
 
-        this.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(0));
+        setPersonalBestStagnationCount(0);
         this.getProperties().put(EntityType.PREVIOUS_SOLUTION, getCandidateSolution());
 
 
@@ -21,9 +21,9 @@
  */
 package net.sourceforge.cilib.clustering.iterationstrategies;
 
-import java.util.Iterator;
 import net.sourceforge.cilib.clustering.DataClusteringPSO;
 import net.sourceforge.cilib.clustering.entity.ClusterParticle;
+import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
@@ -111,17 +111,7 @@ public class StandardDataClusteringIterationStrategy extends SinglePopulationDat
             boundaryConstraint.enforce(particle);
         }
         
-        for (Iterator<? extends ClusterParticle> i = topology.iterator(); i.hasNext();) {
-            ClusterParticle current = i.next();
-
-            for (Iterator<? extends ClusterParticle> j = topology.neighbourhood(i); j.hasNext();) {
-                ClusterParticle other = j.next();
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
-                    other.setNeighbourhoodBest(current);
-                }
-            }
-            
-        }
+        Topologies.updateNeighbourhoodBests(topology);
         
         dataset = window.slideWindow();
         
@@ -32,6 +32,7 @@ import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.entity.operators.crossover.CrossoverStrategy;
 import net.sourceforge.cilib.entity.operators.crossover.de.DifferentialEvolutionBinomialCrossover;
+import net.sourceforge.cilib.util.selection.recipes.IndexedSelector;
 import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
 import net.sourceforge.cilib.util.selection.recipes.Selector;
 
@@ -87,7 +88,7 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
             current.calculateFitness();
 
             // Create the trial vector by applying mutation
-            Entity targetEntity = (Entity) targetVectorSelectionStrategy.on(topology).exclude(current).select();
+            Entity targetEntity = selectTargetEntity(topology, i);
 
             // Create the trial vector / entity
             Entity trialEntity = trialVectorCreationStrategy.create(targetEntity, current, topology);
@@ -106,6 +107,22 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
         }
     }
 
+    /**
+     * Select the target vector for the entity at the given index. Selectors that
+     * can sample by index do so directly from the topology; any other selector
+     * is applied to a copy of the topology as before.
+     * @param topology The current population.
+     * @param index The index of the current entity, which may not be selected.
+     * @return The target entity.
+     */
+    @SuppressWarnings("unchecked")
+    private Entity selectTargetEntity(Topology<Entity> topology, int index) {
+        if (targetVectorSelectionStrategy instanceof IndexedSelector) {
+            return topology.get(((IndexedSelector<Entity>) targetVectorSelectionStrategy).select(topology, index));
+        }
+        return (Entity) targetVectorSelectionStrategy.on(topology).exclude(topology.get(index)).select();
+    }
+
     /**
      * Obtain the {@linkplain SelectionStrategy} used to select the target vector.
      * @return The {@linkplain SelectionStrategy} of the target vector.
@@ -0,0 +1,289 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.ec.iterationstrategies;
+
+import com.google.common.base.Preconditions;
+import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.ec.EC;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.problem.boundaryconstraint.UnconstrainedBoundary;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.calculator.ParallelFitnessEvaluator;
+import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
+
+/**
+ * A synchronous DE/rand/n/bin iteration strategy. Unlike
+ * {@link DifferentialEvolutionIterationStrategy}, which replaces each parent
+ * as soon as its offspring is found to be better, all the trial vectors of a
+ * generation are created from the same parent population:
+ * <ol>
+ *   <li>The parents are copied into a primitive buffer.</li>
+ *   <li>Every trial vector is created by mutation and binomial crossover
+ *       directly in an offspring buffer, without creating entities.</li>
+ *   <li>The trial vectors are evaluated, in parallel if more than one
+ *       thread is configured.</li>
+ *   <li>Each parent is replaced in place by its offspring if the offspring
+ *       is fitter.</li>
+ * </ol>
+ * The fitness of a parent is that of the evaluation which created it, so
+ * parents are not re-evaluated every generation. This halves the number of
+ * fitness evaluations, but means the strategy is not suited to dynamic
+ * environments, where {@link DifferentialEvolutionIterationStrategy} should be
+ * used instead.
+ * <p>
+ * Trial vectors are evaluated directly by the
+ * {@link net.sourceforge.cilib.problem.Problem} of the algorithm, in the same
+ * way as the default entity fitness calculator does, using a
+ * {@link ParallelFitnessEvaluator}.
+ * <p>
+ * References:
+ * <ul>
+ * <li> R. Storn and K. Price, "Differential Evolution - A Simple and Efficient Heuristic
+ * for Global Optimization over Continuous Spaces," Journal of Global Optimization, vol. 11,
+ * no. 4, pp. 341-359, 1997.</li>
+ * </ul>
+ */
+public class SynchronousDifferentialEvolutionIterationStrategy extends AbstractIterationStrategy<EC> {
+
+    private static final long serialVersionUID = -4469356427463426471L;
+    private ControlParameter scaleParameter;
+    private ControlParameter crossoverProbability;
+    private ControlParameter numberOfDifferenceVectors;
+    private RandomProvider random;
+    private ParallelFitnessEvaluator evaluator;
+    private transient double[] parents;
+    private transient double[] offspring;
+
+    /**
+     * Create a new instance with a scale factor and crossover probability of
+     * 0.5, a single pair of difference vectors and evaluation in the calling
+     * thread.
+     */
+    public SynchronousDifferentialEvolutionIterationStrategy() {
+        this.scaleParameter = ConstantControlParameter.of(0.5);
+        this.crossoverProbability = ConstantControlParameter.of(0.5);
+        this.numberOfDifferenceVectors = ConstantControlParameter.of(2);
+        this.random = new MersenneTwister();
+        this.evaluator = new ParallelFitnessEvaluator();
+    }
+
+    /**
+     * Create a copy of the given instance.
+     * @param copy The instance to copy.
+     */
+    public SynchronousDifferentialEvolutionIterationStrategy(SynchronousDifferentialEvolutionIterationStrategy copy) {
+        this.scaleParameter = copy.scaleParameter.getClone();
+        this.crossoverProbability = copy.crossoverProbability.getClone();
+        this.numberOfDifferenceVectors = copy.numberOfDifferenceVectors.getClone();
+        this.random = copy.random;
+        this.evaluator = copy.evaluator.getClone();
+        this.boundaryConstraint = copy.boundaryConstraint.getClone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SynchronousDifferentialEvolutionIterationStrategy getClone() {
+        return new SynchronousDifferentialEvolutionIterationStrategy(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void performIteration(EC ec) {
+        @SuppressWarnings("unchecked")
+        Topology<Entity> topology = (Topology<Entity>) ec.getTopology();
+        int size = topology.size();
+        int pairs = Double.valueOf(numberOfDifferenceVectors.getParameter()).intValue() / 2;
+        Preconditions.checkState(size >= 2 + 2 * pairs,
+                "A population of at least %s entities is required.", 2 + 2 * pairs);
+
+        Vector representation = (Vector) topology.get(0).getCandidateSolution();
+        int dimension = representation.size();
+        if (parents == null || parents.length != size * dimension) {
+            parents = new double[size * dimension];
+            offspring = new double[size * dimension];
+        }
+        for (int i = 0; i < size; i++) {
+            Vector parent = (Vector) topology.get(i).getCandidateSolution();
+            for (int j = 0; j < dimension; j++) {
+                parents[i * dimension + j] = parent.doubleValueOf(j);
+            }
+        }
+
+        createTrialVectors(topology, size, dimension, pairs);
+
+        Vector[] trials = new Vector[size];
+        Entity[] constrained = new Entity[size];
+        for (int i = 0; i < size; i++) {
+            trials[i] = toVector(offspring, i, dimension, representation);
+            if (!(boundaryConstraint instanceof UnconstrainedBoundary)) {
+                constrained[i] = topology.get(i).getClone();
+                constrained[i].setCandidateSolution(trials[i]);
+                boundaryConstraint.enforce(constrained[i]);
+                trials[i] = (Vector) constrained[i].getCandidateSolution();
+            }
+        }
+
+        Fitness[] fitnesses = new Fitness[size];
+        evaluator.evaluate(ec.getOptimisationProblem(), trials, fitnesses, size);
+
+        for (int i = 0; i < size; i++) {
+            Entity parent = topology.get(i);
+            if (fitnesses[i].compareTo(parent.getFitness()) > 0) {
+                Entity replacement = constrained[i] == null ? parent : constrained[i];
+                replacement.setCandidateSolution(trials[i]);
+                replacement.getProperties().put(EntityType.FITNESS, fitnesses[i]);
+                topology.set(i, replacement);
+            }
+        }
+    }
+
+    /**
+     * Create the trial vector of every parent in the offspring buffer, using the
+     * DE/rand/n/bin scheme.
+     */
+    private void createTrialVectors(Topology<Entity> topology, int size, int dimension, int pairs) {
+        RandomSelector<Entity> selector = new RandomSelector<Entity>(random);
+        double scale = scaleParameter.getParameter();
+        double probability = crossoverProbability.getParameter();
+        int[] chosen = new int[2 + 2 * pairs];
+
+        for (int i = 0; i < size; i++) {
+            chosen[0] = i;
+            for (int k = 1; k < chosen.length; k++) {
+                chosen[k] = -1;
+            }
+            for (int k = 1; k < chosen.length; k++) {
+                chosen[k] = selector.select(topology, chosen);
+            }
+
+            int base = chosen[1] * dimension;
+            int row = i * dimension;
+            int crossoverPoint = random.nextInt(dimension);
+            for (int j = 0; j < dimension; j++) {
+                if (j == crossoverPoint || random.nextDouble() < probability) {
+                    double value = parents[base + j];
+                    for (int k = 2; k < chosen.length; k += 2) {
+                        value += scale * (parents[chosen[k] * dimension + j] - parents[chosen[k + 1] * dimension + j]);
+                    }
+                    offspring[row + j] = value;
+                } else {
+                    offspring[row + j] = parents[row + j];
+                }
+            }
+        }
+    }
+
+    private static Vector toVector(double[] data, int index, int dimension, Vector representation) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int j = 0, offset = index * dimension; j < dimension; j++) {
+            Bounds bounds = representation.boundsOf(j);
+            builder.addWithin(data[offset + j], bounds);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get the scale factor applied to the difference vectors.
+     * @return The scale parameter.
+     */
+    public ControlParameter getScaleParameter() {
+        return scaleParameter;
+    }
+
+    /**
+     * Set the scale factor applied to the difference vectors.
+     * @param scaleParameter The value to set.
+     */
+    public void setScaleParameter(ControlParameter scaleParameter) {
+        this.scaleParameter = scaleParameter;
+    }
+
+    /**
+     * Get the probability of taking a component from the mutant vector.
+     * @return The crossover probability.
+     */
+    public ControlParameter getCrossoverProbability() {
+        return crossoverProbability;
+    }
+
+    /**
+     * Set the probability of taking a component from the mutant vector.
+     * @param crossoverProbability The value to set.
+     */
+    public void setCrossoverProbability(ControlParameter crossoverProbability) {
+        this.crossoverProbability = crossoverProbability;
+    }
+
+    /**
+     * Get the number of entities used to form difference vectors. Every two
+     * entities form one difference vector.
+     * @return The number of difference vector entities.
+     */
+    public ControlParameter getNumberOfDifferenceVectors() {
+        return numberOfDifferenceVectors;
+    }
+
+    /**
+     * Set the number of entities used to form difference vectors.
+     * @param numberOfDifferenceVectors The value to set.
+     */
+    public void setNumberOfDifferenceVectors(ControlParameter numberOfDifferenceVectors) {
+        this.numberOfDifferenceVectors = numberOfDifferenceVectors;
+    }
+
+    /**
+     * Get the evaluator used for the trial vectors.
+     * @return The fitness evaluator.
+     */
+    public ParallelFitnessEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Set the evaluator used for the trial vectors. Its number of threads
+     * determines whether trial vectors are evaluated in parallel.
+     * @param evaluator The evaluator to use.
+     */
+    public void setEvaluator(ParallelFitnessEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Set the random number generator used for mutation and crossover.
+     * @param random The generator to use.
+     */
+    public void setRandom(RandomProvider random) {
+        this.random = random;
+    }
+}
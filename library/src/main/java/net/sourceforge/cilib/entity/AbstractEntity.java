@@ -37,7 +37,7 @@ public abstract class AbstractEntity implements Entity, CandidateSolution {
     private static final long serialVersionUID = 3104817182593047611L;
 
     private long id;
-    private final CandidateSolution candidateSolution;
+    private final CandidateSolutionMixin candidateSolution;
     private FitnessCalculator<Entity> fitnessCalculator;
 
     /**
@@ -57,7 +57,7 @@ public abstract class AbstractEntity implements Entity, CandidateSolution {
     protected AbstractEntity(AbstractEntity copy) {
         this.id = EntityIdFactory.getNextId();
 
-        this.candidateSolution = (CandidateSolution) copy.candidateSolution.getClone();
+        this.candidateSolution = copy.candidateSolution.getClone();
         this.fitnessCalculator = copy.fitnessCalculator.getClone();
     }
 
@@ -101,6 +101,14 @@ public abstract class AbstractEntity implements Entity, CandidateSolution {
         return this.candidateSolution.getProperties();
     }
 
+    /**
+     * Get the slot based store that backs the properties of the <code>Entity</code>.
+     * @return The {@linkplain EntityProperties} of the <code>Entity</code>.
+     */
+    protected final EntityProperties getEntityProperties() {
+        return this.candidateSolution.getEntityProperties();
+    }
+
     /**
      * Get the value of the {@linkplain CandidateSolution} maintained by this
      * {@linkplain Entity}.
@@ -21,8 +21,10 @@
  */
 package net.sourceforge.cilib.entity;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ForwardingList;
 import com.google.common.collect.Lists;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -41,12 +43,14 @@ public abstract class AbstractTopology<E extends Entity> extends ForwardingList<
     
     protected List<E> entities;
     protected ControlParameter neighbourhoodSize;
+    private transient int[][] neighbourhoods;
+    private transient int tableNeighbourhoodSize;
     
     /**
      * Default constructor.
      */
     public AbstractTopology() {
-        this.entities = Lists.<E>newLinkedList();
+        this.entities = Lists.<E>newArrayList();
     }
     
     /**
@@ -54,7 +58,7 @@ public abstract class AbstractTopology<E extends Entity> extends ForwardingList<
      */
     public AbstractTopology(AbstractTopology<E> copy) {
         this.neighbourhoodSize = copy.neighbourhoodSize;
-        this.entities = Lists.<E>newLinkedList();
+        this.entities = Lists.<E>newArrayList();
         
         for (E entity : copy.entities) {
             this.entities.add((E) entity.getClone());
@@ -69,6 +73,70 @@ public abstract class AbstractTopology<E extends Entity> extends ForwardingList<
         return new TopologyIterator<E>(this);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The neighbour tables of topologies with {@link #hasStaticNeighbourhoods() static}
+     * neighbourhoods are computed once and only recomputed when the number of entities
+     * or the neighbourhood size changes.
+     */
+    @Override
+    public int[] neighbourhoodIndices(int index) {
+        Preconditions.checkElementIndex(index, size());
+
+        if (!hasStaticNeighbourhoods()) {
+            return computeNeighbourhood(index);
+        }
+
+        int currentNeighbourhoodSize = getNeighbourhoodSize();
+        if (neighbourhoods == null || neighbourhoods.length != size() || tableNeighbourhoodSize != currentNeighbourhoodSize) {
+            neighbourhoods = new int[size()][];
+            tableNeighbourhoodSize = currentNeighbourhoodSize;
+        }
+
+        if (neighbourhoods[index] == null) {
+            neighbourhoods[index] = computeNeighbourhood(index);
+        }
+        return neighbourhoods[index];
+    }
+
+    /**
+     * Determine whether the neighbourhoods of this topology depend only on the positions of the
+     * entities within the topology, and not on the state of the entities themselves. Only then
+     * can the neighbour tables be reused between calls to {@link #neighbourhoodIndices(int)}.
+     * @return {@code true} if the neighbourhoods are static.
+     */
+    protected boolean hasStaticNeighbourhoods() {
+        return true;
+    }
+
+    /**
+     * Compute the indices of the neighbourhood of the entity at the given index. The default
+     * implementation walks the {@link #neighbourhood(Iterator) neighbourhood iterator}; subclasses
+     * that can calculate the indices directly should override it.
+     * @param index The index of the entity.
+     * @return The indices of the neighbouring entities.
+     */
+    protected int[] computeNeighbourhood(int index) {
+        TopologyIterator<E> iterator = new TopologyIterator<E>(this);
+        iterator.index = index;
+
+        int[] indices = new int[size()];
+        int count = 0;
+        for (Iterator<E> i = neighbourhood(iterator); i.hasNext();) {
+            E neighbour = i.next();
+            int neighbourIndex = 0;
+            while (entities.get(neighbourIndex) != neighbour) {
+                neighbourIndex++;
+            }
+            if (count == indices.length) {
+                indices = Arrays.copyOf(indices, 2 * count);
+            }
+            indices[count++] = neighbourIndex;
+        }
+        return Arrays.copyOf(indices, count);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -21,8 +21,6 @@
  */
 package net.sourceforge.cilib.entity;
 
-import java.util.Map;
-
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.type.types.Blackboard;
 import net.sourceforge.cilib.type.types.Type;
@@ -37,9 +35,14 @@ import net.sourceforge.cilib.type.types.container.StructuredType;
  * instances inherit from. All <code>Entity</code> objects have their respective contents
  * represented and maintained within the <code>Blackboard</code> as defined by the
  * <code>CandidateSolution</code>.
+ *
+ * <p>
+ * The properties are held in an {@linkplain EntityProperties} store, which
+ * is exposed as a {@linkplain Blackboard} view through {@link #getProperties()}.
  */
 public class CandidateSolutionMixin implements CandidateSolution {
     private static final long serialVersionUID = 4539668687773346284L;
+    private final EntityProperties store;
     private final Blackboard<Enum<?>, Type> properties;
 
     /**
@@ -47,7 +50,8 @@ public class CandidateSolutionMixin implements CandidateSolution {
      * data structure.
      */
     public CandidateSolutionMixin() {
-        this.properties = new Blackboard<Enum<?>, Type>();
+        this.store = new EntityProperties();
+        this.properties = new Blackboard<Enum<?>, Type>(store);
     }
 
     /**
@@ -56,11 +60,8 @@ public class CandidateSolutionMixin implements CandidateSolution {
      * @param copy The template object to copy.
      */
     public CandidateSolutionMixin(CandidateSolutionMixin copy) {
-        this.properties = new Blackboard<Enum<?>, Type>();
-
-        for (Map.Entry<Enum<?>, Type> entry : copy.properties.entrySet()) {
-            this.properties.put(entry.getKey(), entry.getValue().getClone());
-        }
+        this.store = new EntityProperties(copy.store);
+        this.properties = new Blackboard<Enum<?>, Type>(store);
     }
 
     /**
@@ -104,7 +105,7 @@ public class CandidateSolutionMixin implements CandidateSolution {
      */
     @Override
     public StructuredType getCandidateSolution() {
-        return (StructuredType) properties.get(EntityType.CANDIDATE_SOLUTION);
+        return (StructuredType) store.get(EntityType.CANDIDATE_SOLUTION);
     }
 
     /**
@@ -112,7 +113,7 @@ public class CandidateSolutionMixin implements CandidateSolution {
      */
     @Override
     public void setCandidateSolution(StructuredType contents) {
-        properties.put(EntityType.CANDIDATE_SOLUTION, contents);
+        store.put(EntityType.CANDIDATE_SOLUTION, contents);
     }
 
     /**
@@ -120,7 +121,7 @@ public class CandidateSolutionMixin implements CandidateSolution {
      */
     @Override
     public Fitness getFitness() {
-        return (Fitness) properties.get(EntityType.FITNESS);
+        return (Fitness) store.get(EntityType.FITNESS);
     }
 
     /**
@@ -131,4 +132,13 @@ public class CandidateSolutionMixin implements CandidateSolution {
         return properties;
     }
 
+    /**
+     * Get the underlying property store, which provides primitive access to
+     * the counters of the {@linkplain Entity}.
+     * @return The property store.
+     */
+    public EntityProperties getEntityProperties() {
+        return store;
+    }
+
 }
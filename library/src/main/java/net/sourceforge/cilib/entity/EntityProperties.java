@@ -0,0 +1,363 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * Property store for {@linkplain Entity} instances.
+ * <p>
+ * The well-known keys defined in {@linkplain EntityType} and
+ * {@linkplain EntityType.Particle} are mapped onto fixed array slots, so that
+ * the frequent property accesses during an iteration do not need to hash the
+ * key. The {@linkplain EntityType.Particle.Count} counters are kept as primitive
+ * {@code int} values and are only boxed into an {@linkplain Int} when accessed
+ * through the {@code Map} interface. Any other keys are stored in an ordinary
+ * {@code HashMap}, which is only created when first needed.
+ * <p>
+ * Storing a {@code null} value is equivalent to removing the key.
+ */
+public final class EntityProperties extends AbstractMap<Enum<?>, Type> implements Serializable {
+    private static final long serialVersionUID = -2781404212355219034L;
+
+    private static final int PARTICLE_OFFSET = EntityType.values().length;
+    private static final Enum<?>[] SLOT_KEYS = new Enum<?>[PARTICLE_OFFSET + EntityType.Particle.values().length];
+    private static final EntityType.Particle.Count[] COUNT_KEYS = EntityType.Particle.Count.values();
+
+    static {
+        for (EntityType key : EntityType.values()) {
+            SLOT_KEYS[key.ordinal()] = key;
+        }
+        for (EntityType.Particle key : EntityType.Particle.values()) {
+            SLOT_KEYS[PARTICLE_OFFSET + key.ordinal()] = key;
+        }
+    }
+
+    private final Type[] slots;
+    private final int[] counts;
+    private final boolean[] counted;
+    private HashMap<Enum<?>, Type> others;
+
+    /**
+     * Create a new, empty property store.
+     */
+    public EntityProperties() {
+        this.slots = new Type[SLOT_KEYS.length];
+        this.counts = new int[COUNT_KEYS.length];
+        this.counted = new boolean[COUNT_KEYS.length];
+    }
+
+    /**
+     * Copy constructor. All the stored values are cloned.
+     * @param copy The instance to copy.
+     */
+    public EntityProperties(EntityProperties copy) {
+        this.slots = new Type[SLOT_KEYS.length];
+        for (int i = 0; i < slots.length; i++) {
+            this.slots[i] = copy.slots[i] == null ? null : copy.slots[i].getClone();
+        }
+        this.counts = copy.counts.clone();
+        this.counted = copy.counted.clone();
+
+        if (copy.others != null) {
+            this.others = new HashMap<Enum<?>, Type>();
+            for (Map.Entry<Enum<?>, Type> entry : copy.others.entrySet()) {
+                this.others.put(entry.getKey(), entry.getValue().getClone());
+            }
+        }
+    }
+
+    private static int slotOf(Object key) {
+        if (!(key instanceof Enum<?>)) {
+            return -1;
+        }
+        Enum<?> e = (Enum<?>) key;
+        Class<?> type = e.getDeclaringClass();
+        if (type == EntityType.class) {
+            return e.ordinal();
+        }
+        if (type == EntityType.Particle.class) {
+            return PARTICLE_OFFSET + e.ordinal();
+        }
+        return -1;
+    }
+
+    private static int countOf(Object key) {
+        if (key instanceof EntityType.Particle.Count) {
+            return ((EntityType.Particle.Count) key).ordinal();
+        }
+        return -1;
+    }
+
+    /**
+     * Get the value of the given counter, or {@code 0} if the counter has not
+     * been set.
+     * @param key The counter.
+     * @return The value of the counter.
+     */
+    public int getCount(EntityType.Particle.Count key) {
+        return counts[key.ordinal()];
+    }
+
+    /**
+     * Set the value of the given counter.
+     * @param key The counter.
+     * @param value The new value of the counter.
+     */
+    public void setCount(EntityType.Particle.Count key, int value) {
+        counts[key.ordinal()] = value;
+        counted[key.ordinal()] = true;
+    }
+
+    /**
+     * Increment the given counter.
+     * @param key The counter.
+     * @return The value of the counter after the increment.
+     */
+    public int incrementCount(EntityType.Particle.Count key) {
+        counted[key.ordinal()] = true;
+        return ++counts[key.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Type get(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return slots[slot];
+        }
+        int count = countOf(key);
+        if (count >= 0) {
+            return counted[count] ? Int.valueOf(counts[count]) : null;
+        }
+        return others == null ? null : others.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Type put(Enum<?> key, Type value) {
+        if (value == null) {
+            return remove(key);
+        }
+
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            Type previous = slots[slot];
+            slots[slot] = value;
+            return previous;
+        }
+        int count = countOf(key);
+        if (count >= 0) {
+            Preconditions.checkArgument(value instanceof Numeric, "Counters can only hold numeric values.");
+            Type previous = get(key);
+            setCount(COUNT_KEYS[count], ((Numeric) value).intValue());
+            return previous;
+        }
+        if (others == null) {
+            others = new HashMap<Enum<?>, Type>();
+        }
+        return others.put(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Type remove(Object key) {
+        Type previous = get(key);
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            slots[slot] = null;
+            return previous;
+        }
+        int count = countOf(key);
+        if (count >= 0) {
+            counts[count] = 0;
+            counted[count] = false;
+            return previous;
+        }
+        if (others != null) {
+            others.remove(key);
+        }
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        int size = others == null ? 0 : others.size();
+        for (Type value : slots) {
+            if (value != null) {
+                size++;
+            }
+        }
+        for (boolean present : counted) {
+            if (present) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = null;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+            counted[i] = false;
+        }
+        others = null;
+    }
+
+    /**
+     * Obtain a view of the stored key / value pairs. Iteration is performed
+     * over a snapshot of the keys that are present when the iteration starts.
+     * @return The set of entries.
+     */
+    @Override
+    public Set<Map.Entry<Enum<?>, Type>> entrySet() {
+        return new AbstractSet<Map.Entry<Enum<?>, Type>>() {
+            @Override
+            public Iterator<Map.Entry<Enum<?>, Type>> iterator() {
+                final Iterator<Enum<?>> keys = keys().iterator();
+                return new Iterator<Map.Entry<Enum<?>, Type>>() {
+                    private Enum<?> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<Enum<?>, Type> next() {
+                        current = keys.next();
+                        return new PropertyEntry(current);
+                    }
+
+                    @Override
+                    public void remove() {
+                        Preconditions.checkState(current != null);
+                        EntityProperties.this.remove(current);
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return EntityProperties.this.size();
+            }
+        };
+    }
+
+    private List<Enum<?>> keys() {
+        List<Enum<?>> keys = new ArrayList<Enum<?>>();
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                keys.add(SLOT_KEYS[i]);
+            }
+        }
+        for (int i = 0; i < counted.length; i++) {
+            if (counted[i]) {
+                keys.add(COUNT_KEYS[i]);
+            }
+        }
+        if (others != null) {
+            keys.addAll(others.keySet());
+        }
+        return keys;
+    }
+
+    /**
+     * Map entry that reads and writes through to the store.
+     */
+    private final class PropertyEntry implements Map.Entry<Enum<?>, Type> {
+        private final Enum<?> key;
+
+        PropertyEntry(Enum<?> key) {
+            this.key = key;
+        }
+
+        @Override
+        public Enum<?> getKey() {
+            return key;
+        }
+
+        @Override
+        public Type getValue() {
+            return get(key);
+        }
+
+        @Override
+        public Type setValue(Type value) {
+            Preconditions.checkNotNull(value);
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry<?, ?>)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            Type value = getValue();
+            return key.equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Type value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+    }
+}
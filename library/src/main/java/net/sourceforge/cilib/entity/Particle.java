@@ -139,4 +139,16 @@ public interface Particle extends Entity, SocialEntity, MemoryBasedEntity {
      */
     void setParticleBehavior(ParticleBehavior particleBehavior);
 
+
+    /**
+     * Get the number of iterations for which the personal best of the particle has not improved.
+     * @return The personal best stagnation counter.
+     */
+    int getPersonalBestStagnationCount();
+
+    /**
+     * Set the number of iterations for which the personal best of the particle has not improved.
+     * @param count The new value of the personal best stagnation counter.
+     */
+    void setPersonalBestStagnationCount(int count);
 }
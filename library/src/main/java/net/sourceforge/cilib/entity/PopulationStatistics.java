@@ -0,0 +1,302 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity;
+
+import com.google.common.base.Preconditions;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * <p>
+ * Per-dimension statistics of the candidate solutions of a {@link Topology}.
+ * The positions are copied into a flat primitive array in a single sweep over
+ * the topology, during which the minimum, maximum and mean of every dimension
+ * are determined. The variance is calculated from the copy, as are the
+ * histograms and distances that the diversity measurements are based on.
+ * </p>
+ * <p>
+ * The statistics are a snapshot of the topology at the time of creation and
+ * are not updated when the entities move.
+ * </p>
+ */
+public final class PopulationStatistics {
+
+    private final int size;
+    private final int dimensions;
+    private final double[] positions;
+    private final double[] minimum;
+    private final double[] maximum;
+    private final double[] mean;
+    private double[] variance;
+
+    private PopulationStatistics(int size, int dimensions) {
+        this.size = size;
+        this.dimensions = dimensions;
+        this.positions = new double[size * dimensions];
+        this.minimum = new double[dimensions];
+        this.maximum = new double[dimensions];
+        this.mean = new double[dimensions];
+    }
+
+    /**
+     * Gather the statistics of the candidate solutions of the given topology,
+     * which must be {@link Vector} instances of the same dimension.
+     * @param topology The topology to inspect.
+     * @return The statistics of the topology.
+     */
+    public static PopulationStatistics of(Topology<? extends Entity> topology) {
+        Preconditions.checkArgument(!topology.isEmpty(), "Statistics of an empty topology are undefined.");
+
+        int dimensions = ((Vector) topology.get(0).getCandidateSolution()).size();
+        PopulationStatistics statistics = new PopulationStatistics(topology.size(), dimensions);
+        double[] positions = statistics.positions;
+
+        int offset = 0;
+        for (Entity entity : topology) {
+            Vector position = (Vector) entity.getCandidateSolution();
+            Preconditions.checkArgument(position.size() == dimensions, "Candidate solutions must have the same dimension.");
+            for (int d = 0; d < dimensions; d++) {
+                double value = position.doubleValueOf(d);
+                positions[offset + d] = value;
+
+                if (offset == 0 || value < statistics.minimum[d]) {
+                    statistics.minimum[d] = value;
+                }
+                if (offset == 0 || value > statistics.maximum[d]) {
+                    statistics.maximum[d] = value;
+                }
+                statistics.mean[d] += value;
+            }
+            offset += dimensions;
+        }
+
+        for (int d = 0; d < dimensions; d++) {
+            statistics.mean[d] /= statistics.size;
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Get the number of entities.
+     * @return The number of entities.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the number of dimensions.
+     * @return The number of dimensions.
+     */
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Get the value of the given entity in the given dimension.
+     * @param entity The index of the entity, in the order of the topology.
+     * @param dimension The dimension.
+     * @return The value.
+     */
+    public double getPosition(int entity, int dimension) {
+        return positions[entity * dimensions + dimension];
+    }
+
+    /**
+     * Get the smallest value in the given dimension.
+     * @param dimension The dimension.
+     * @return The minimum.
+     */
+    public double getMinimum(int dimension) {
+        return minimum[dimension];
+    }
+
+    /**
+     * Get the largest value in the given dimension.
+     * @param dimension The dimension.
+     * @return The maximum.
+     */
+    public double getMaximum(int dimension) {
+        return maximum[dimension];
+    }
+
+    /**
+     * Get the mean value in the given dimension.
+     * @param dimension The dimension.
+     * @return The mean.
+     */
+    public double getMean(int dimension) {
+        return mean[dimension];
+    }
+
+    /**
+     * Get the mean position, which is the spatial center of the population.
+     * @return The mean position.
+     */
+    public Vector getMean() {
+        Vector.Builder builder = Vector.newBuilder();
+        for (double value : mean) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get the population variance of the values in the given dimension.
+     * @param dimension The dimension.
+     * @return The variance.
+     */
+    public double getVariance(int dimension) {
+        if (variance == null) {
+            double[] result = new double[dimensions];
+            for (int offset = 0; offset < positions.length; offset += dimensions) {
+                for (int d = 0; d < dimensions; d++) {
+                    double difference = positions[offset + d] - mean[d];
+                    result[d] += difference * difference;
+                }
+            }
+            for (int d = 0; d < dimensions; d++) {
+                result[d] /= size;
+            }
+            variance = result;
+        }
+        return variance[dimension];
+    }
+
+    /**
+     * Count the values of the given dimension that fall within each of
+     * {@code intervals} equal intervals of {@code [lower, lower + range]}.
+     * The intervals are closed, so a value on the boundary between two
+     * intervals is counted in both. Values outside the range are not counted.
+     * @param dimension The dimension.
+     * @param lower The lower bound of the first interval.
+     * @param range The combined width of the intervals.
+     * @param intervals The number of intervals.
+     * @return The number of values in each interval.
+     */
+    public int[] getHistogram(int dimension, double lower, double range, int intervals) {
+        int[] counts = new int[intervals];
+        double width = range / intervals;
+
+        for (int offset = dimension; offset < positions.length; offset += dimensions) {
+            double value = positions[offset];
+            int bin = (int) Math.floor((value - lower) / width);
+
+            // Rounding may place the value in a neighbouring interval, and a
+            // value on a boundary belongs to both intervals, so the neighbours
+            // are tested with the exact bounds of the intervals.
+            for (int i = Math.max(bin - 1, 0); i <= Math.min(bin + 1, intervals - 1); i++) {
+                double intervalLower = lower + i * width;
+                if (value >= intervalLower && value <= intervalLower + width) {
+                    counts[i]++;
+                }
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Get the Euclidean distance of every entity from the mean position.
+     * @return The distances, in the order of the topology.
+     */
+    public double[] getDistancesFromMean() {
+        double[] distances = new double[size];
+        for (int i = 0, offset = 0; i < size; i++, offset += dimensions) {
+            double sum = 0.0;
+            for (int d = 0; d < dimensions; d++) {
+                double difference = positions[offset + d] - mean[d];
+                sum += difference * difference;
+            }
+            distances[i] = Math.sqrt(sum);
+        }
+        return distances;
+    }
+
+    /**
+     * Get the largest Euclidean distance between two entities, by comparing
+     * all pairs of entities.
+     * @return The diameter of the population.
+     */
+    public double getDiameter() {
+        double maximumSquared = 0.0;
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                double distance = squaredDistance(i, j);
+                if (distance > maximumSquared) {
+                    maximumSquared = distance;
+                }
+            }
+        }
+        return Math.sqrt(maximumSquared);
+    }
+
+    /**
+     * Estimate the largest Euclidean distance between two entities with the
+     * farthest point heuristic: starting from the first entity, the entity
+     * farthest from the current one is found repeatedly, until the distance
+     * stops growing or {@code sweeps} sweeps have been made. Each sweep takes
+     * linear time.
+     * <p>
+     * The estimate never exceeds the diameter and is at least half of it,
+     * since the entity farthest from any entity is at least half a diameter
+     * away from it.
+     * @param sweeps The maximum number of sweeps, at least one.
+     * @return The estimated diameter of the population.
+     */
+    public double getApproximateDiameter(int sweeps) {
+        Preconditions.checkArgument(sweeps >= 1, "At least one sweep is required.");
+        int current = 0;
+        double best = 0.0;
+
+        for (int sweep = 0; sweep < sweeps; sweep++) {
+            int farthest = current;
+            double farthestDistance = 0.0;
+            for (int j = 0; j < size; j++) {
+                double distance = squaredDistance(current, j);
+                if (distance > farthestDistance) {
+                    farthestDistance = distance;
+                    farthest = j;
+                }
+            }
+
+            if (farthestDistance <= best) {
+                break;
+            }
+            best = farthestDistance;
+            current = farthest;
+        }
+
+        return Math.sqrt(best);
+    }
+
+    private double squaredDistance(int i, int j) {
+        int a = i * dimensions;
+        int b = j * dimensions;
+        double sum = 0.0;
+        for (int d = 0; d < dimensions; d++) {
+            double difference = positions[a + d] - positions[b + d];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+}
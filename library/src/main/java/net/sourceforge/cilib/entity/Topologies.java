@@ -59,12 +59,10 @@ public final class Topologies {
     public static <T extends Entity> Set<T> getNeighbourhoodBestEntities(Topology<T> topology, Comparator<? super T> comparator) {
         // a Set does not allow duplicates
         Set<T> neighbourhoodBests = new HashSet<T>(topology.size());
-        Iterator<T> topologyIterator = topology.iterator();
 
         // iterate over all entities in the topology
-        while (topologyIterator.hasNext()) {
-            topologyIterator.next();
-            T currentBestEntity = getIteratorBest(topology.neighbourhood(topologyIterator), comparator);
+        for (int i = 0; i < topology.size(); i++) {
+            T currentBestEntity = getNeighbourhoodBest(topology, i, comparator);
 
             // only gather unique entities
             if (currentBestEntity != null) {
@@ -121,17 +119,51 @@ public final class Topologies {
      * @return The best entity in the topology according to the comparator.
      */
     public static <T extends Entity> T getNeighbourhoodBest(Topology<T> topology, T entity, Comparator<? super T> comparator) {
-        Iterator<T> entities = topology.iterator();
-        Iterator<T> neighbours = null;
-        
-        while (entities.hasNext()) {
-            if (entities.next().equals(entity)) {
-                neighbours = topology.neighbourhood(entities);
-                break;
+        return getNeighbourhoodBest(topology, topology.indexOf(entity), comparator);
+    }
+
+    /**
+     * Returns an entity from the neighbourhood of the entity at the given index
+     * in a topology using the given comparator.
+     *
+     * @param <T> The entity type.
+     * @param topology The topology to query.
+     * @param index The index of the entity whose neighbourhood is queried.
+     * @param comparator The comparator to use to compare entities.
+     * @return The best entity in the neighbourhood according to the comparator.
+     */
+    public static <T extends Entity> T getNeighbourhoodBest(Topology<T> topology, int index, Comparator<? super T> comparator) {
+        T bestEntity = null;
+
+        for (int neighbour : topology.neighbourhoodIndices(index)) {
+            T entity = topology.get(neighbour);
+            if (bestEntity == null || comparator.compare(bestEntity, entity) < 0) {
+                bestEntity = entity;
+            }
+        }
+
+        return bestEntity;
+    }
+
+    /**
+     * Offer every particle in the topology, in order, as the neighbourhood best of
+     * each particle in its neighbourhood. A particle replaces a neighbourhood best
+     * only if its social fitness is strictly better.
+     *
+     * @param <T> The particle type.
+     * @param topology The topology whose neighbourhood bests are updated.
+     */
+    public static <T extends Particle> void updateNeighbourhoodBests(Topology<T> topology) {
+        for (int i = 0; i < topology.size(); i++) {
+            T current = topology.get(i);
+
+            for (int neighbour : topology.neighbourhoodIndices(i)) {
+                Particle other = topology.get(neighbour);
+                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
+                    other.setNeighbourhoodBest(current);
+                }
             }
         }
-        
-        return getIteratorBest(neighbours, comparator);
     }
     
     /**
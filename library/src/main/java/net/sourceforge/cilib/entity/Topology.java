@@ -59,6 +59,16 @@ public interface Topology<E extends Entity> extends List<E>, Cloneable {
      */
     Iterator<E> neighbourhood(Iterator<? extends Entity> iterator);
 
+    /**
+     * Returns the indices of the entities in the neighbourhood of the entity at the given
+     * index, in the order that {@link #neighbourhood(Iterator)} visits them. The returned
+     * array may be shared by the topology and must not be modified.
+     *
+     * @param index The index of an entity in this topology.
+     * @return The indices of the neighbouring entities.
+     */
+    int[] neighbourhoodIndices(int index);
+
     /**
      * Accessor for the number of entities in a neighbourhood. NOTE: This method should
      * return the value of the {@linkplain ControlParameter} rounded to the nearest integer.
@@ -21,7 +21,9 @@
  */
 package net.sourceforge.cilib.entity.operators.creation;
 
+import com.google.common.collect.Lists;
 import fj.P1;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -30,11 +32,8 @@ import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
-import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.selection.Samples;
-import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
+import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
 
 public class RandCreationStrategy implements CreationStrategy {
 
@@ -73,12 +72,8 @@ public class RandCreationStrategy implements CreationStrategy {
      */
     @Override
     public Entity create(Entity targetEntity, Entity current, Topology<? extends Entity> topology) {
-        RandomProvider random = new MersenneTwister();
         int number = Double.valueOf(this.numberOfDifferenceVectors.getParameter()).intValue();
-        List<Entity> participants = (List<Entity>) Selection.copyOf(topology)
-                .exclude(targetEntity, current)
-                .orderBy(new RandomArrangement(random))
-                .select(Samples.first(number).unique());
+        List<Entity> participants = selectParticipants(topology, number, targetEntity, current);
         Vector differenceVector = determineDistanceVector(participants);
 
         Vector targetVector = (Vector) targetEntity.getCandidateSolution();
@@ -95,6 +90,51 @@ public class RandCreationStrategy implements CreationStrategy {
         return trialEntity;
     }
 
+    /**
+     * Select distinct participants uniformly at random from the topology. Entities
+     * that are equal to one of the excluded entities are never selected. The
+     * participants are drawn by index, without copying the topology. Fewer
+     * participants are returned if the topology does not contain enough
+     * eligible entities.
+     * @param topology The topology to select from.
+     * @param number The number of participants to select.
+     * @param excluded The entities that may not participate.
+     * @return The selected participants.
+     */
+    protected List<Entity> selectParticipants(Topology<? extends Entity> topology, int number, Entity... excluded) {
+        // unused slots hold -1, which never matches an index
+        int[] exclusions = new int[excluded.length + number];
+        Arrays.fill(exclusions, -1);
+
+        int count = 0;
+        for (int i = 0; i < topology.size(); i++) {
+            Entity entity = topology.get(i);
+            for (Entity e : excluded) {
+                if (entity.equals(e)) {
+                    if (count == exclusions.length) {
+                        exclusions = Arrays.copyOf(exclusions, 2 * count);
+                        Arrays.fill(exclusions, count, exclusions.length, -1);
+                    }
+                    exclusions[count++] = i;
+                    break;
+                }
+            }
+        }
+
+        RandomSelector<Entity> selector = new RandomSelector<Entity>(new MersenneTwister());
+        List<Entity> participants = Lists.newArrayListWithCapacity(number);
+        for (int i = 0; i < number && count < topology.size(); i++) {
+            int index = selector.select(topology, exclusions);
+            if (count == exclusions.length) {
+                exclusions = Arrays.copyOf(exclusions, 2 * count);
+                Arrays.fill(exclusions, count, exclusions.length, -1);
+            }
+            exclusions[count++] = index;
+            participants.add(topology.get(index));
+        }
+        return participants;
+    }
+
     /**
      * Calculate the {@linkplain Vector} that is the resultant of several difference vectors.
      * @param participants The {@linkplain Entity} list to create the difference vectors from. It
@@ -78,7 +78,7 @@ public class RandPerDimensionCreationStrategy implements CreationStrategy {
      */
     @Override
     public Entity create(Entity targetEntity, Entity current, Topology<? extends Entity> topology) {
-        List<Entity> participants = (List<Entity>) Selection.copyOf(topology)
+        List<Entity> participants = Selection.copyOf((Iterable<Entity>) topology)
                 .exclude(targetEntity, current)
                 .select(Samples.all());
         Vector differenceVector = determineDistanceVector(participants);
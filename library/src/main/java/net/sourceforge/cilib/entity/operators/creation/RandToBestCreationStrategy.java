@@ -31,12 +31,7 @@ import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.Topology;
-import net.sourceforge.cilib.math.random.generator.MersenneTwister;
-import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.selection.Samples;
-import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
 
 /**
  * This is an implimentation of the Rand-to-best DE  target creation strategy. This implimentation is simply an extension of the {@linkplain RandCreationStrategy} that also includes the best {@linkplain Entity}'s solution vector. The influence of the best vector and the
@@ -71,11 +66,8 @@ public class RandToBestCreationStrategy extends RandCreationStrategy {
     public Entity create(Entity targetEntity, Entity current,
             Topology<? extends Entity> topology) {
         Entity bestEntity = Topologies.getBestEntity(topology);
-        RandomProvider random = new MersenneTwister();
-        List<Entity> participants = (List<Entity>) Selection.copyOf(topology)
-                .exclude(targetEntity, bestEntity, current)
-                .orderBy(new RandomArrangement(random))
-                .select(Samples.first((int) numberOfDifferenceVectors.getParameter()).unique());
+        List<Entity> participants = selectParticipants(topology, (int) numberOfDifferenceVectors.getParameter(),
+                targetEntity, bestEntity, current);
         Vector differenceVector = determineDistanceVector(participants);
 
         Vector targetVector = ((Vector) targetEntity.getCandidateSolution()).multiply(1 - greedynessParameter.getParameter());
@@ -70,14 +70,31 @@ public class GaussianMutationStrategy extends MutationStrategy {
         for (ListIterator<? extends Entity> individual = entity.listIterator(); individual.hasNext();) {
             Entity current = individual.next();
             Vector chromosome = (Vector) current.getCandidateSolution();
+            double probability = this.getMutationProbability().getParameter();
 
-            for (int i = 0; i < chromosome.size(); i++) {
-                double random = this.getRandomDistribution().getRandomNumber();
-                if (random <= this.getMutationProbability().getParameter()) {
-                    double deviation = this.gaussian.getRandomNumber();
-                    double value = this.getOperatorStrategy().evaluate(chromosome.doubleValueOf(i), this.gaussian.getRandomNumber(this.mean, deviation));
+            double[] random = new double[chromosome.size()];
+            this.getRandomDistribution().getRandomNumbers(random);
+            int mutations = 0;
+            for (double r : random) {
+                if (r <= probability) {
+                    mutations++;
+                }
+            }
+
+            if (mutations == 0) {
+                continue;
+            }
+
+            double[] deviations = new double[mutations];
+            double[] offsets = new double[mutations];
+            this.gaussian.getRandomNumbers(deviations);
+            this.gaussian.getRandomNumbers(offsets, 0.0, 1.0);
 
+            for (int i = 0, j = 0; i < random.length; i++) {
+                if (random[i] <= probability) {
+                    double value = this.getOperatorStrategy().evaluate(chromosome.doubleValueOf(i), this.mean + deviations[j] * offsets[j]);
                     chromosome.setReal(i, value);
+                    j++;
                 }
             }
         }
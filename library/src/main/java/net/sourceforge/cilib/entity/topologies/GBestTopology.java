@@ -87,5 +87,17 @@ public class GBestTopology<E extends Entity> extends AbstractTopology<E> {
     public Iterator<E> neighbourhood(Iterator<? extends Entity> iterator) {
         return new TopologyIterator<E>(this);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int[] computeNeighbourhood(int index) {
+        int[] indices = new int[size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
 }
 
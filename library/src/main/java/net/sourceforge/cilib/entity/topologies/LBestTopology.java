@@ -96,6 +96,20 @@ public class LBestTopology<E extends Entity> extends AbstractTopology<E> {
 
         return Math.min(rounded, size());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int[] computeNeighbourhood(int index) {
+        int size = size();
+        int[] indices = new int[getNeighbourhoodSize()];
+        int start = index - indices.length / 2;
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = ((start + i) % size + size) % size;
+        }
+        return indices;
+    }
     
     /**
      * Iterator to traverse the lBest topology.
@@ -74,6 +74,16 @@ public class SpeciesSeedTopology<E extends Entity> extends AbstractTopology<E> {
         return new SameSpeciesTopologyIterator<E>(this, (IndexedIterator) iterator);
     }
 
+    /**
+     * Species are formed around the fittest entities, so the neighbourhoods change whenever the
+     * entities do.
+     * @return {@code false}
+     */
+    @Override
+    protected boolean hasStaticNeighbourhoods() {
+        return false;
+    }
+
     public void setRadius(ControlParameter radius) {
         this.radius = radius;
     }
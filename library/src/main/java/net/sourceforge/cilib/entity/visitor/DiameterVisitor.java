@@ -24,6 +24,7 @@ package net.sourceforge.cilib.entity.visitor;
 import java.util.Iterator;
 
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.PopulationStatistics;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.DistanceMeasure;
@@ -32,11 +33,18 @@ import net.sourceforge.cilib.util.EuclideanDistanceMeasure;
 /**
  * Visitor to determine the size of the diameter of the provided {@linkplain Topology}
  * within the <code>visit</code> method.
+ * <p>
+ * With the default Euclidean distance measure the positions are compared as
+ * primitive values, using {@link PopulationStatistics}. The diameter can then
+ * also be approximated in linear time, with a result of at least half the
+ * diameter, using {@link PopulationStatistics#getApproximateDiameter(int)}.
  */
 public class DiameterVisitor implements TopologyVisitor {
     private double distance;
     private boolean done;
     protected DistanceMeasure distanceMeasure;
+    private boolean approximate;
+    private int sweeps;
     
     /**
      * Default constructor.
@@ -45,6 +53,8 @@ public class DiameterVisitor implements TopologyVisitor {
         this.distance = -Double.MAX_VALUE;
         this.done = false;
         this.distanceMeasure = new EuclideanDistanceMeasure();
+        this.approximate = false;
+        this.sweeps = 3;
     }
 
     /**
@@ -54,14 +64,23 @@ public class DiameterVisitor implements TopologyVisitor {
     @Override
     public void visit(Topology<? extends Entity> topology) {
         done = false;
+
+        if (distanceMeasure.getClass() == EuclideanDistanceMeasure.class && !topology.isEmpty()) {
+            PopulationStatistics statistics = PopulationStatistics.of(topology);
+            distance = approximate ? statistics.getApproximateDiameter(sweeps) : statistics.getDiameter();
+            done = true;
+            return;
+        }
+
         double maxDistance = 0.0;
 
         Iterator<? extends Entity> k1 = topology.iterator();
-        while (k1.hasNext()) {
+        for (int i = 0; k1.hasNext(); i++) {
             Entity p1 = (Entity) k1.next();
             Vector position1 = (Vector) p1.getCandidateSolution();
 
-            Iterator<? extends Entity> k2 = topology.iterator();
+            // The distance is symmetric, so only the entities after p1 are considered.
+            Iterator<? extends Entity> k2 = topology.listIterator(i + 1);
             while (k2.hasNext()) {
                 Entity p2 = (Entity) k2.next();
                 Vector position2 = (Vector) p2.getCandidateSolution();
@@ -109,4 +128,38 @@ public class DiameterVisitor implements TopologyVisitor {
     public void setDistanceMeasure(DistanceMeasure distanceMeasure) {
         this.distanceMeasure = distanceMeasure;
     }
+
+    /**
+     * Determine whether the diameter is approximated.
+     * @return {@code true} if the diameter is approximated.
+     */
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    /**
+     * Set whether the diameter is approximated with the farthest point
+     * heuristic, rather than found by comparing all pairs of entities. This
+     * only applies to the Euclidean distance measure.
+     * @param approximate {@code true} to approximate the diameter.
+     */
+    public void setApproximate(boolean approximate) {
+        this.approximate = approximate;
+    }
+
+    /**
+     * Get the maximum number of sweeps made by the approximation.
+     * @return The number of sweeps.
+     */
+    public int getSweeps() {
+        return sweeps;
+    }
+
+    /**
+     * Set the maximum number of sweeps made by the approximation.
+     * @param sweeps The number of sweeps.
+     */
+    public void setSweeps(int sweeps) {
+        this.sweeps = sweeps;
+    }
 }
@@ -0,0 +1,78 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions;
+
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Skeletal implementation of a {@link PrimitiveContinuousFunction}, which
+ * evaluates a population by evaluating every row in turn. A {@code Vector} is
+ * evaluated by copying it into a per-thread scratch array, so implementations
+ * only need to supply the primitive form.
+ */
+public abstract class AbstractPrimitiveContinuousFunction implements PrimitiveContinuousFunction {
+
+    private static final long serialVersionUID = 6373283722498361873L;
+    private transient volatile ThreadLocal<double[]> scratch;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double apply(Vector input) {
+        int dim = input.size();
+        double[] x = getScratch(dim);
+        for (int i = 0; i < dim; i++) {
+            x[i] = input.doubleValueOf(i);
+        }
+        return apply(x, 0, dim);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(double[] population, int count, int dim, double[] results) {
+        for (int i = 0, offset = 0; i < count; i++, offset += dim) {
+            results[i] = apply(population, offset, dim);
+        }
+    }
+
+    private double[] getScratch(int dim) {
+        ThreadLocal<double[]> local = scratch;
+        if (local == null) {
+            synchronized (this) {
+                if (scratch == null) {
+                    scratch = new ThreadLocal<double[]>();
+                }
+                local = scratch;
+            }
+        }
+
+        double[] x = local.get();
+        if (x == null || x.length != dim) {
+            x = new double[dim];
+            local.set(x);
+        }
+        return x;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions;
+
+import java.io.Serializable;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A function with several objectives that are computed together. Multi-objective
+ * problems are usually defined by one function per objective, but the objectives
+ * tend to share most of their work, such as the transformations of the WFG
+ * problems or the {@code g} function of the ZDT problems. A multi-objective
+ * function computes all of its objectives in a single pass over the input.
+ */
+public interface MultiObjectiveFunction extends Serializable {
+
+    /**
+     * Get the number of objectives computed by the function.
+     * @return The number of objectives.
+     */
+    int getNumberOfObjectives();
+
+    /**
+     * Evaluate all the objectives of the input.
+     * @param input The input for the function.
+     * @param objectives The array in which to store the value of each objective.
+     *        Its length must be at least {@link #getNumberOfObjectives()}.
+     */
+    void apply(Vector input, double[] objectives);
+}
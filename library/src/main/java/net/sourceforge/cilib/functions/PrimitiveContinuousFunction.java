@@ -0,0 +1,56 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions;
+
+/**
+ * A {@link ContinuousFunction} that can also be evaluated directly on a
+ * primitive array, without creating a {@link net.sourceforge.cilib.type.types.container.Vector}.
+ * Both forms of evaluation must give the same result for the same input.
+ * <p>
+ * Implementations will usually extend {@link AbstractPrimitiveContinuousFunction}.
+ * Other functions can be evaluated in this form through a
+ * {@link PrimitiveFunctionAdapter}.
+ */
+public interface PrimitiveContinuousFunction extends ContinuousFunction {
+
+    /**
+     * Evaluate the function on the {@code dim} values of {@code x} that
+     * start at {@code offset}.
+     * @param x The array containing the input.
+     * @param offset The index of the first input value.
+     * @param dim The number of input values.
+     * @return The result of the evaluation.
+     */
+    double apply(double[] x, int offset, int dim);
+
+    /**
+     * Evaluate the function on every row of a population matrix. The
+     * {@code count} rows of {@code dim} values each are stored consecutively
+     * in {@code population}, and the result for row {@code i} is stored in
+     * {@code results[i]}.
+     * @param population The population, in row-major order.
+     * @param count The number of rows to evaluate.
+     * @param dim The number of values in every row.
+     * @param results The array to store the results in.
+     */
+    void apply(double[] population, int count, int dim, double[] results);
+}
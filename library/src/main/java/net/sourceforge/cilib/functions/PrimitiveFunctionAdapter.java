@@ -0,0 +1,87 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions;
+
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Allows a {@link ContinuousFunction} without a primitive implementation to be
+ * used where a {@link PrimitiveContinuousFunction} is expected. Every primitive
+ * evaluation creates a {@link Vector} from the input and evaluates the adapted
+ * function on it.
+ */
+public class PrimitiveFunctionAdapter extends AbstractPrimitiveContinuousFunction {
+
+    private static final long serialVersionUID = -4520113574196004853L;
+    private ContinuousFunction function;
+
+    /**
+     * Obtain a primitive form of the given function. Functions that already
+     * have a primitive implementation are returned as is.
+     * @param function The function to adapt.
+     * @return A primitive form of {@code function}.
+     */
+    public static PrimitiveContinuousFunction of(ContinuousFunction function) {
+        if (function instanceof PrimitiveContinuousFunction) {
+            return (PrimitiveContinuousFunction) function;
+        }
+        PrimitiveFunctionAdapter adapter = new PrimitiveFunctionAdapter();
+        adapter.setFunction(function);
+        return adapter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double apply(Vector input) {
+        return function.apply(input);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double apply(double[] x, int offset, int dim) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = offset; i < offset + dim; i++) {
+            builder.add(x[i]);
+        }
+        return function.apply(builder.build());
+    }
+
+    /**
+     * Get the adapted function.
+     * @return The adapted function.
+     */
+    public ContinuousFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * Set the function to adapt.
+     * @param function The function to adapt.
+     */
+    public void setFunction(ContinuousFunction function) {
+        this.function = function;
+    }
+}
@@ -0,0 +1,329 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import static com.google.common.base.Preconditions.checkPositionIndex;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.PrimitiveContinuousFunction;
+import net.sourceforge.cilib.type.types.container.DenseMatrix;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * <p>
+ * Evaluates a stack of function decorators as a single function. The
+ * {@linkplain ShiftedFunctionDecorator shift}, {@linkplain ScaledFunctionDecorator scale},
+ * {@linkplain ReflectedFunctionDecorator reflection} and {@linkplain RotatedFunctionDecorator rotation}
+ * decorators at the top of the decorated function are applied, in order, to a
+ * reused primitive buffer. The function beneath them is then evaluated on the
+ * buffer, and the vertical transformations are applied to the result.
+ * </p>
+ * <p>
+ * When the innermost function is a {@link PrimitiveContinuousFunction}, optionally
+ * wrapped in an {@link ExpandedFunctionDecorator}, evaluation does not allocate.
+ * Any other function is evaluated on a {@link Vector} built from the buffer.
+ * </p>
+ * <p>
+ * The result is the same as that of the decorated function, which is left
+ * unchanged and shares its rotation matrices with this decorator. The parameters
+ * of the decorators are read on every evaluation, but the stack itself is
+ * inspected only once for every input size. Buffers are kept per thread.
+ * </p>
+ */
+public class CompiledFunctionDecorator extends AbstractPrimitiveContinuousFunction {
+
+    private static final long serialVersionUID = -2519046214766512466L;
+    private ContinuousFunction function;
+    private transient volatile Compiled compiled;
+    private transient volatile ThreadLocal<double[][]> buffers;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double apply(Vector input) {
+        int size = input.size();
+        double[][] buffer = buffers(size);
+        for (int i = 0; i < size; i++) {
+            buffer[0][i] = input.doubleValueOf(i);
+        }
+        return evaluate(buffer, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double apply(double[] x, int offset, int dim) {
+        double[][] buffer = buffers(dim);
+        System.arraycopy(x, offset, buffer[0], 0, dim);
+        return evaluate(buffer, dim);
+    }
+
+    private double evaluate(double[][] buffer, int size) {
+        Compiled current = compile(size);
+        Stage[] stages = current.stages;
+        double[] x = buffer[0];
+        for (Stage stage : stages) {
+            stage.input(x, buffer[1], size);
+        }
+
+        double result = evaluateKernel(current.kernel, x, buffer[1], size);
+
+        for (int i = stages.length - 1; i >= 0; i--) {
+            result = stages[i].output(result);
+        }
+        return result;
+    }
+
+    private static double evaluateKernel(ContinuousFunction kernel, double[] x, double[] scratch, int size) {
+        if (kernel instanceof ExpandedFunctionDecorator
+                && ((ExpandedFunctionDecorator) kernel).getFunction() instanceof PrimitiveContinuousFunction) {
+            ExpandedFunctionDecorator expanded = (ExpandedFunctionDecorator) kernel;
+            PrimitiveContinuousFunction window = (PrimitiveContinuousFunction) expanded.getFunction();
+            int split = expanded.getSplitSize();
+            checkState(size >= split, "Input vector is too small, check that noOfSplits is correct.");
+            checkPositionIndex(size - 1 + split, size);
+
+            double sum = 0.0;
+            for (int i = split; i < size; i++) {
+                sum += window.apply(x, i - split, 2 * split);
+            }
+            System.arraycopy(x, size - split, scratch, 0, split);
+            scratch[split] = x[0];
+            sum += window.apply(scratch, 0, split + 1);
+            return sum;
+        }
+
+        if (kernel instanceof PrimitiveContinuousFunction) {
+            return ((PrimitiveContinuousFunction) kernel).apply(x, 0, size);
+        }
+
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.add(x[i]);
+        }
+        return kernel.apply(builder.build());
+    }
+
+    /**
+     * Inspect the decorator stack for inputs of the given size.
+     */
+    private Compiled compile(int size) {
+        Compiled current = compiled;
+        if (current != null && current.size == size) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (compiled == null || compiled.size != size) {
+                compiled = compile(function, size);
+            }
+            return compiled;
+        }
+    }
+
+    private static Compiled compile(ContinuousFunction function, int size) {
+        List<Stage> result = Lists.newArrayList();
+        ContinuousFunction current = function;
+        while (true) {
+            if (current instanceof ShiftedFunctionDecorator) {
+                result.add(new ShiftStage((ShiftedFunctionDecorator) current));
+                current = ((ShiftedFunctionDecorator) current).getFunction();
+            } else if (current instanceof ScaledFunctionDecorator) {
+                result.add(new ScaleStage((ScaledFunctionDecorator) current));
+                current = ((ScaledFunctionDecorator) current).getFunction();
+            } else if (current instanceof ReflectedFunctionDecorator) {
+                result.add(new ReflectionStage((ReflectedFunctionDecorator) current));
+                current = ((ReflectedFunctionDecorator) current).getFunction();
+            } else if (current instanceof RotatedFunctionDecorator) {
+                RotatedFunctionDecorator rotated = (RotatedFunctionDecorator) current;
+                if (!rotated.isIdentity()) {
+                    result.add(new RotationStage(rotated.initialise(size)));
+                }
+                current = rotated.getFunction();
+            } else {
+                break;
+            }
+        }
+
+        return new Compiled(result.toArray(new Stage[result.size()]), current, size);
+    }
+
+    private double[][] buffers(int size) {
+        ThreadLocal<double[][]> local = buffers;
+        if (local == null) {
+            synchronized (this) {
+                if (buffers == null) {
+                    buffers = new ThreadLocal<double[][]>();
+                }
+                local = buffers;
+            }
+        }
+        double[][] buffer = local.get();
+        if (buffer == null || buffer[0].length < size) {
+            buffer = new double[][] {new double[size], new double[size + 1]};
+            local.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Get the decorated function.
+     * @return The decorated function.
+     */
+    public ContinuousFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * Set the decorator stack that is to be evaluated.
+     * @param function The function to decorate.
+     */
+    public synchronized void setFunction(ContinuousFunction function) {
+        this.function = function;
+        this.compiled = null;
+    }
+
+    /**
+     * The transformations of a decorator stack for a single input size,
+     * together with the function they apply to.
+     */
+    private static final class Compiled {
+
+        private final Stage[] stages;
+        private final ContinuousFunction kernel;
+        private final int size;
+
+        Compiled(Stage[] stages, ContinuousFunction kernel, int size) {
+            this.stages = stages;
+            this.kernel = kernel;
+            this.size = size;
+        }
+    }
+
+    /**
+     * A single decorator in the stack, transforming the input before the
+     * decorated function is evaluated and the result afterwards.
+     */
+    private abstract static class Stage {
+
+        void input(double[] x, double[] scratch, int size) {
+        }
+
+        double output(double result) {
+            return result;
+        }
+    }
+
+    private static class ShiftStage extends Stage {
+
+        private final ShiftedFunctionDecorator decorator;
+
+        ShiftStage(ShiftedFunctionDecorator decorator) {
+            this.decorator = decorator;
+        }
+
+        @Override
+        void input(double[] x, double[] scratch, int size) {
+            double shift = decorator.getHorizontalShift().getParameter();
+            if (shift != 0.0) {
+                for (int i = 0; i < size; i++) {
+                    x[i] = x[i] - shift;
+                }
+            }
+        }
+
+        @Override
+        double output(double result) {
+            return result + decorator.getVerticalShift().getParameter();
+        }
+    }
+
+    private static class ScaleStage extends Stage {
+
+        private final ScaledFunctionDecorator decorator;
+
+        ScaleStage(ScaledFunctionDecorator decorator) {
+            this.decorator = decorator;
+        }
+
+        @Override
+        void input(double[] x, double[] scratch, int size) {
+            double scale = decorator.getHorizontalScale();
+            for (int i = 0; i < size; i++) {
+                x[i] = scale * x[i];
+            }
+        }
+
+        @Override
+        double output(double result) {
+            return decorator.getVerticalScale() * result;
+        }
+    }
+
+    private static class ReflectionStage extends Stage {
+
+        private final ReflectedFunctionDecorator decorator;
+
+        ReflectionStage(ReflectedFunctionDecorator decorator) {
+            this.decorator = decorator;
+        }
+
+        @Override
+        void input(double[] x, double[] scratch, int size) {
+            if (decorator.getHorizontalReflection()) {
+                for (int i = 0; i < size; i++) {
+                    x[i] = -x[i];
+                }
+            }
+        }
+
+        @Override
+        double output(double result) {
+            return decorator.getVerticalReflection() ? -result : result;
+        }
+    }
+
+    private static class RotationStage extends Stage {
+
+        private final DenseMatrix matrix;
+
+        RotationStage(DenseMatrix rotation) {
+            this.matrix = rotation;
+        }
+
+        /**
+         * Multiply the row vector by the matrix, accumulating every component
+         * in the same order as {@link RotatedFunctionDecorator}.
+         */
+        @Override
+        void input(double[] x, double[] scratch, int size) {
+            matrix.transposeMultiplyInto(x, scratch);
+            System.arraycopy(scratch, 0, x, 0, size);
+        }
+    }
+}
@@ -87,4 +87,12 @@ public class ExpandedFunctionDecorator implements ContinuousFunction {
     public void setSplitSize(int noOfSplits) {
         this.splitSize = noOfSplits;
     }
+
+    /**
+     * Gets the size of each split.
+     * @return The split size.
+     */
+    public int getSplitSize() {
+        return splitSize;
+    }
 }
@@ -22,6 +22,7 @@
 package net.sourceforge.cilib.functions.continuous.decorators;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.type.types.container.DenseMatrix;
 import net.sourceforge.cilib.type.types.container.Matrix;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.Matrices;
@@ -35,6 +36,7 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
     private static final long serialVersionUID = 3107473364744861153L;
     private ContinuousFunction function;
     private Matrix rotationMatrix;
+    private transient DenseMatrix denseRotationMatrix;
     private boolean initialized;
     private MatrixType type;
     private int condition;
@@ -63,20 +65,46 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
             return function.apply(input);
         }
         
-        if (!initialized) {
-            setRotationMatrix(input.size());
-            initialized = true;
+        DenseMatrix rotation = initialise(input.size());
+
+        double[] x = new double[input.size()];
+        double[] rotated = new double[input.size()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = input.doubleValueOf(i);
         }
+        rotation.transposeMultiplyInto(x, rotated);
 
-        Vector rotatedX = Vector.fill(0.0, input.size());
+        Vector.Builder rotatedX = Vector.newBuilder();
+        for (double value : rotated) {
+            rotatedX.add(value);
+        }
 
-        for (int j = 0; j < input.size(); j++) {
-            for (int i = 0; i < input.size(); i++) {
-                rotatedX.setReal(j, rotatedX.doubleValueOf(j) + input.doubleValueOf(i) * rotationMatrix.valueAt(i, j));
-            }
+        return function.apply(rotatedX.build());
+    }
+
+    /**
+     * Create the rotation matrix for inputs of the given size, if it has not
+     * been created yet.
+     * @param size The size of the input.
+     * @return The rotation matrix, in row-major form.
+     */
+    DenseMatrix initialise(int size) {
+        if (!initialized) {
+            setRotationMatrix(size);
+            initialized = true;
+        }
+        if (denseRotationMatrix == null) {
+            denseRotationMatrix = DenseMatrix.copyOf(rotationMatrix);
         }
+        return denseRotationMatrix;
+    }
 
-        return function.apply(rotatedX);
+    /**
+     * Determine whether the decorator leaves its input unchanged.
+     * @return {@code true} if the rotation matrix is the identity matrix.
+     */
+    boolean isIdentity() {
+        return type == MatrixType.IDENTITY;
     }
 
     /**
@@ -115,6 +143,7 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
                 rotationMatrix = Matrices.getRandomLinearTransformationMatrix(size, condition);
                 break;
         }
+        denseRotationMatrix = null;
     }
 
     public void setMatrixType(String type) {
@@ -24,7 +24,7 @@ package net.sourceforge.cilib.functions.continuous.decorators;
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.problem.changestrategy.ChangeStrategy;
 import net.sourceforge.cilib.problem.changestrategy.IterationBasedSingleChangeStrategy;
-import net.sourceforge.cilib.type.types.container.Matrix;
+import net.sourceforge.cilib.type.types.container.DenseMatrix;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -57,7 +57,7 @@ public class RotatingFunctionDecorator implements ContinuousFunction {
     private ContinuousFunction function;
     private int N;
     private double alpha = 0;
-    private Matrix matrix;
+    private DenseMatrix matrix;
     private int cycleLength = 100;
     private int rotatingFrequency = 5;
     private double center = 0;
@@ -88,41 +88,30 @@ public class RotatingFunctionDecorator implements ContinuousFunction {
         changeStrategy = new IterationBasedSingleChangeStrategy(rotatingFrequency);
     }
 
-    private Matrix initMatrices() {
-        Matrix.Builder matrixBuilder = Matrix.builder().dimensions(N, N);
-        for (int i = 0; i < N; i++) {
-            for (int j = 0; j < N; j++) {
-                if (i == j) {
-                    matrixBuilder.valueAt(i, j, 1);
-                }//if
-                else {
-                    matrixBuilder.valueAt(i, j, 0);
-                }//else
-            }//for
-        }//for
-
-        return matrixBuilder.build();
+    private DenseMatrix initMatrices() {
+        return DenseMatrix.identity(N);
     }
 
-    private Matrix localRotate(int i, int j) {
-        Matrix tmp = this.matrix.getClone();
-
+    private void localRotate(DenseMatrix result, int i, int j) {
         if (this.changeStrategy.shouldApply(null)) {
             alpha += 2 * Math.PI / cycleLength;
         }
 
-        return tmp.rotate(alpha, i, j);
+        result.rotate(alpha, i, j);
     }
 
-    private Matrix createMatrix() {
-        Matrix result = this.matrix.getClone();
+    /**
+     * Accumulate the plane rotations into a single matrix. Every rotation only
+     * changes two columns, so it is applied in place rather than by a full
+     * matrix multiplication.
+     */
+    private DenseMatrix createMatrix() {
+        DenseMatrix result = this.matrix.getClone();
         for (int i = 1; i < N; i++) {
-            Matrix rotated = localRotate(0, i);
-            result = result.times(rotated);
+            localRotate(result, 0, i);
         }//for
         for (int i = 1; i < N - 1; i++) {
-            Matrix rotated = localRotate(i, N - 1);
-            result = result.multiply(rotated);
+            localRotate(result, i, N - 1);
         }//for
 
         return result;
@@ -133,19 +122,21 @@ public class RotatingFunctionDecorator implements ContinuousFunction {
 
     @Override
     public Double apply(final Vector input) {
-        Matrix result = createMatrix();
-        Vector rotatedX = Vector.fill(0.0, input.size());
-
-        for (int j = 0; j < input.size(); j++) {
-            for (int i = 0; i < input.size(); i++) {
-                double value = rotatedX.doubleValueOf(j) + (input.doubleValueOf(i) - center) * result.valueAt(i, j);
-                rotatedX.setReal(j, value);
-            }
-            double rotatedValue = rotatedX.doubleValueOf(j) + center;
-            rotatedX.setReal(j, rotatedValue);
+        DenseMatrix result = createMatrix();
+        double[] x = new double[input.size()];
+        double[] rotated = new double[input.size()];
+
+        for (int i = 0; i < x.length; i++) {
+            x[i] = input.doubleValueOf(i) - center;
+        }
+        result.transposeMultiplyInto(x, rotated);
+
+        Vector.Builder rotatedX = Vector.newBuilder();
+        for (double value : rotated) {
+            rotatedX.add(value + center);
         }
 
-        return function.apply(rotatedX);
+        return function.apply(rotatedX.build());
     }
 
     /**
@@ -21,7 +21,10 @@
  */
 package net.sourceforge.cilib.functions.continuous.dynamic;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 import net.sourceforge.cilib.functions.DynamicFunction;
 import net.sourceforge.cilib.math.random.GaussianDistribution;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
@@ -48,9 +51,19 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * doi={10.1109/CEC.1999.785502},
  * ISSN={},}
  * </pre>
+ * <p/>
+ * The peak positions and shift vectors are kept in flat row-major arrays of
+ * {@code peaks x dimensions} elements. When the optional cut-off is enabled,
+ * peaks are evaluated from the highest to the lowest, and a peak is abandoned
+ * as soon as it can no longer exceed the best value found so far: its height
+ * is an upper bound of its value, and its value can only decrease as more
+ * dimensions are added to the distance. The result is the same as without the
+ * cut-off, which only pays off for large numbers of peaks.
  *
  */
-public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFunction<Vector, Double> {
+public class GeneralizedMovingPeaks extends AbstractPrimitiveContinuousFunction implements DynamicFunction<Vector, Double> {
+
+    private static final int CUT_OFF_INTERVAL = 8; //dimensions between checks of the cut-off
 
     private ProbabilityDistributionFunction gaussian, uniform; //random providers.
     private int frequency; //the frequency (in iterations) with which the environment changes.
@@ -59,8 +72,11 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
     private double widthSeverity, heightSeverity, shiftSeverity, lambda; //controls the severity and movement trends of peak movements.
     private double[] peakHeigths, peakWidths; //the current heights and widths of all peaks.
     private double minHeight, maxHeight, minWidth, maxWidth; //minimum and maximum values for peak heights and widths.
-    private Vector[] peakPositions, shiftVectors; //the positions of all peaks, as well as the previous shift vectors.
-    private int[][] movementDirections; //the movement directions of peaks in each dimension.
+    private int dimensions; //the dimensions of the peaks, known once the function has been evaluated.
+    private double[] peakPositions, shiftVectors; //the positions of all peaks, as well as the previous shift vectors, peaks x dimensions.
+    private int[] movementDirections; //the movement directions of peaks in each dimension, peaks x dimensions.
+    private boolean cutOff; //whether peaks that cannot exceed the current maximum are skipped.
+    private int[] peakOrder; //the peaks in order of decreasing height, used by the cut-off.
 
     public GeneralizedMovingPeaks() {
         this.gaussian = new GaussianDistribution();
@@ -94,26 +110,35 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
         this.maxWidth = 12.0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         //this is silly, but there's no way of knowing the dimensions of the problem until this method is called...
         if (movementDirections == null) {
-            initializePeaks(input.size());
+            initializePeaks(dim);
         }
+        Preconditions.checkArgument(dim == dimensions, "Expected an input with %s dimensions.", dimensions);
 
         //evaluate function
         double maximum = Double.MIN_VALUE;
-        int dimensions = input.size();
-
-        for (int p = 0; p < peaks; p++) {
-            double thisPeak = 0.0;
 
-            for (int i = 0; i < dimensions; i++) {
-                thisPeak += Math.pow(input.doubleValueOf(i) - peakPositions[p].doubleValueOf(i), 2);
+        if (cutOff) {
+            for (int p : peakOrder) {
+                if (peakHeigths[p] <= maximum) {
+                    break; //no remaining peak is high enough
+                }
+                double thisPeak = peakValue(x, offset, p, maximum);
+                if (thisPeak > maximum) {
+                    maximum = thisPeak;
+                }
             }
+            return maximum;
+        }
 
-            thisPeak = 1 + (peakWidths[p] * thisPeak);
-            thisPeak = peakHeigths[p] / thisPeak;
+        for (int p = 0; p < peaks; p++) {
+            double thisPeak = peakValue(x, offset, p);
 
             if (thisPeak > maximum) {
                 maximum = thisPeak;
@@ -123,6 +148,72 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
         return maximum;
     }
 
+    /**
+     * Evaluate every point against all the peaks. The peaks are visited in
+     * the outer loop, so that every peak position is read once for the whole
+     * batch.
+     */
+    @Override
+    public void apply(double[] population, int count, int dim, double[] results) {
+        if (movementDirections == null) {
+            initializePeaks(dim);
+        }
+        Preconditions.checkArgument(dim == dimensions, "Expected an input with %s dimensions.", dimensions);
+        if (cutOff) {
+            super.apply(population, count, dim, results);
+            return;
+        }
+
+        Arrays.fill(results, 0, count, Double.MIN_VALUE);
+        for (int p = 0; p < peaks; p++) {
+            for (int n = 0, offset = 0; n < count; n++, offset += dim) {
+                double thisPeak = peakValue(population, offset, p);
+                if (thisPeak > results[n]) {
+                    results[n] = thisPeak;
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculate the value of a peak at a point.
+     */
+    private double peakValue(double[] x, int offset, int p) {
+        int position = p * dimensions;
+        double distance = 0.0;
+
+        for (int i = 0; i < dimensions; i++) {
+            double difference = x[offset + i] - peakPositions[position + i];
+            distance += difference * difference;
+        }
+
+        return peakHeigths[p] / (1 + (peakWidths[p] * distance));
+    }
+
+    /**
+     * Calculate the value of a peak at a point, abandoning the calculation
+     * once it is certain that the value does not exceed {@code bound}, in
+     * which case {@code bound} is returned.
+     */
+    private double peakValue(double[] x, int offset, int p, double bound) {
+        int position = p * dimensions;
+        double distance = 0.0;
+
+        for (int start = 0; start < dimensions; start += CUT_OFF_INTERVAL) {
+            int end = Math.min(start + CUT_OFF_INTERVAL, dimensions);
+            for (int i = start; i < end; i++) {
+                double difference = x[offset + i] - peakPositions[position + i];
+                distance += difference * difference;
+            }
+
+            if (peakHeigths[p] / (1 + (peakWidths[p] * distance)) <= bound) {
+                return bound;
+            }
+        }
+
+        return peakHeigths[p] / (1 + (peakWidths[p] * distance));
+    }
+
     /**
      * Changes the environment according to Branke's formal description of how
      * peak heights, widths and positions change at each change interval.
@@ -135,8 +226,6 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
         double upper = 50;
         double lower = -50;
 
-        Vector tempPosition;
-
         updateShiftVectors();
 
         for (int p = 0; p < peaks; p++) {
@@ -159,26 +248,21 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
             }
 
             //change peak location
-            int dimensions = shiftVectors[0].size();
-
-            Double[] shift = new Double[dimensions];
-            for (int i = 0; i < dimensions; i++) {
-                shift[i] = shiftVectors[p].get(i).doubleValue() * movementDirections[p][i];
-            }
-
-            tempPosition = peakPositions[p].plus(Vector.of(shift));
-
-            //enforce boundary constraints
-            for (int i = 0; i < dimensions; i++) {
-                if (tempPosition.get(i).doubleValue() > upper ||
-                        tempPosition.get(i).doubleValue() < lower) {
-                    movementDirections[p][i] *= -1;
-                    shift[i] *= -1;
+            for (int i = p * dimensions; i < (p + 1) * dimensions; i++) {
+                double shift = shiftVectors[i] * movementDirections[i];
+                double position = peakPositions[i] + shift;
+
+                //enforce boundary constraints
+                if (position > upper || position < lower) {
+                    movementDirections[i] *= -1;
+                    shift *= -1;
                 }
-            }
 
-            peakPositions[p] = peakPositions[p].plus(Vector.of(shift));
+                peakPositions[i] += shift;
+            }
         }
+
+        sortPeaks();
     }
 
     /**
@@ -196,11 +280,12 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
      * @param dimensions The dimensions of the problem.
      */
     private void initializePeaks(int dimensions) {
-        movementDirections = new int[peaks][dimensions];
+        this.dimensions = dimensions;
+        movementDirections = new int[peaks * dimensions];
         peakHeigths = new double[peaks];
         peakWidths = new double[peaks];
-        peakPositions = new Vector[peaks];
-        shiftVectors = new Vector[peaks];
+        peakPositions = new double[peaks * dimensions];
+        shiftVectors = new double[peaks * dimensions];
 
         //get problem domain boundaries
         //Vector bounds = (Vector) DomainParser.parse(AbstractAlgorithm.get().getOptimisationProblem().getDomain().getDomainString());
@@ -208,24 +293,39 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
         double upper = 50;
         double lower = -50;
 
-        Double[] oneVector = new Double[dimensions];
-        for (int i = 0; i < dimensions; i++) {
-            oneVector[i] = 1.0;
-        }  // } What happened to Vector.fill?
-
         //initialize peaks and shift vectors
-        Double[] position = new Double[dimensions];
         for (int p = 0; p < peaks; p++) {
-            for (int i = 0; i < dimensions; i++) {
-                position[i] = uniform.getRandomNumber(lower, upper);
-                movementDirections[p][i] = 1;
+            for (int i = p * dimensions; i < (p + 1) * dimensions; i++) {
+                peakPositions[i] = uniform.getRandomNumber(lower, upper);
+                movementDirections[i] = 1;
+                shiftVectors[i] = 1.0;
             }
 
-            peakPositions[p] = Vector.of(position);
             peakHeigths[p] = uniform.getRandomNumber(minHeight, maxHeight);
             peakWidths[p] = uniform.getRandomNumber(minWidth, maxWidth);
+        }
 
-            shiftVectors[p] = Vector.of(oneVector);
+        sortPeaks();
+    }
+
+    /**
+     * Order the peaks by decreasing height, for the cut-off.
+     */
+    private void sortPeaks() {
+        Integer[] order = new Integer[peaks];
+        for (int p = 0; p < peaks; p++) {
+            order[p] = p;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Double.compare(peakHeigths[b], peakHeigths[a]);
+            }
+        });
+
+        peakOrder = new int[peaks];
+        for (int p = 0; p < peaks; p++) {
+            peakOrder[p] = order[p];
         }
     }
 
@@ -236,8 +336,6 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
      * on its previous move.
      */
     private void updateShiftVectors() {
-        int dimensions = peakPositions[0].size();
-
         Vector.Builder vectorBuilder = Vector.newBuilder();
         for (int i = 0; i < dimensions; i++) {
             vectorBuilder.addWithin(0.0, new Bounds(-1.0, 1.0));
@@ -247,10 +345,18 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
         Vector random = vectorBuilder.buildRandom().normalize().multiply(shiftSeverity);
 
         //compute new shift vectors
-        Vector vector;
-        for (int i = 0; i < peaks; i++) {
-            vector = (random.multiply(1 - lambda)).plus(shiftVectors[i].multiply(lambda));
-            shiftVectors[i] = vector.multiply(shiftSeverity).divide(vector.length());
+        double[] vector = new double[dimensions];
+        for (int p = 0; p < peaks; p++) {
+            double sumsq = 0.0;
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] = random.doubleValueOf(i) * (1 - lambda) + shiftVectors[p * dimensions + i] * lambda;
+                sumsq += vector[i] * vector[i];
+            }
+
+            double length = Math.sqrt(sumsq);
+            for (int i = 0; i < dimensions; i++) {
+                shiftVectors[p * dimensions + i] = vector[i] * shiftSeverity / length;
+            }
         }
     }
 
@@ -348,6 +454,25 @@ public class GeneralizedMovingPeaks implements ContinuousFunction, DynamicFuncti
         this.widthSeverity = widthSeverity;
     }
 
+    /**
+     * Determine whether peaks that cannot exceed the best value found so far
+     * are skipped during evaluation.
+     * @return {@code true} if the cut-off is enabled.
+     */
+    public boolean getCutOff() {
+        return cutOff;
+    }
+
+    /**
+     * Set whether peaks that cannot exceed the best value found so far are
+     * skipped during evaluation. This does not change the result, and is
+     * worthwhile for large numbers of peaks.
+     * @param cutOff {@code true} to enable the cut-off.
+     */
+    public void setCutOff(boolean cutOff) {
+        this.cutOff = cutOff;
+    }
+
     public void setSeed(long seed) {
         uniform.setRandomProvider(new MersenneTwister(seed));
     }
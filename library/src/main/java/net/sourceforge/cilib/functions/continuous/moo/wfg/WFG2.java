@@ -56,12 +56,19 @@ public class WFG2 extends MOOptimisationProblem {
             wfg2_fm.setFunction(function);
             List<String> domain = Lists.newArrayList();
             for (int j = 0; j < k + l; ++j) {
-                domain.add("R(0, " + 2 * (j + 1) + ")");
+                domain.add("R(0:" + 2 * (j + 1) + ")");
             }
             wfg2_fm.setDomain(Joiner.on(", ").join(domain));
             add(wfg2_fm);
         }
 
+        setFunction(new WFGFunction(k, M) {
+
+            @Override
+            protected Vector transform(Vector input, int k, int M) {
+                return Problems.WFG2(input, k, M);
+            }
+        });
     }
 
     public WFG2(WFG2 copy) {
@@ -56,12 +56,19 @@ public class WFG3 extends MOOptimisationProblem {
             wfg3_fm.setFunction(function);
             List<String> domain = Lists.newArrayList();
             for (int j = 0; j < k + l; ++j) {
-                domain.add("R(0, " + 2 * (j + 1) + ")");
+                domain.add("R(0:" + 2 * (j + 1) + ")");
             }
             wfg3_fm.setDomain(Joiner.on(", ").join(domain));
             add(wfg3_fm);
         }
 
+        setFunction(new WFGFunction(k, M) {
+
+            @Override
+            protected Vector transform(Vector input, int k, int M) {
+                return Problems.WFG3(input, k, M);
+            }
+        });
     }
 
     public WFG3(WFG3 copy) {
@@ -56,12 +56,19 @@ public class WFG5 extends MOOptimisationProblem {
             wfg5_fm.setFunction(function);
             List<String> domain = Lists.newArrayList();
             for (int j = 0; j < k + l; ++j) {
-                domain.add("R(0, " + 2 * (j + 1) + ")");
+                domain.add("R(0:" + 2 * (j + 1) + ")");
             }
             wfg5_fm.setDomain(Joiner.on(", ").join(domain));
             add(wfg5_fm);
         }
 
+        setFunction(new WFGFunction(k, M) {
+
+            @Override
+            protected Vector transform(Vector input, int k, int M) {
+                return Problems.WFG5(input, k, M);
+            }
+        });
     }
 
     public WFG5(WFG5 copy) {
@@ -56,12 +56,19 @@ public class WFG7 extends MOOptimisationProblem {
             wfg7_fm.setFunction(function);
             List<String> domain = Lists.newArrayList();
             for (int j = 0; j < k + l; ++j) {
-                domain.add("R(0, " + 2 * (j + 1) + ")");
+                domain.add("R(0:" + 2 * (j + 1) + ")");
             }
             wfg7_fm.setDomain(Joiner.on(", ").join(domain));
             add(wfg7_fm);
         }
 
+        setFunction(new WFGFunction(k, M) {
+
+            @Override
+            protected Vector transform(Vector input, int k, int M) {
+                return Problems.WFG7(input, k, M);
+            }
+        });
     }
 
     public WFG7(WFG7 copy) {
@@ -0,0 +1,63 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions.continuous.moo.wfg;
+
+import net.sourceforge.cilib.functions.MultiObjectiveFunction;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Computes all the objectives of a WFG problem from a single application of
+ * its transformations and shape functions.
+ */
+abstract class WFGFunction implements MultiObjectiveFunction {
+
+    private static final long serialVersionUID = 6090391476290911046L;
+    private final int k;
+    private final int M;
+
+    WFGFunction(int k, int M) {
+        this.k = k;
+        this.M = M;
+    }
+
+    /**
+     * Apply the WFG problem to the input.
+     * @param input The input vector.
+     * @param k The number of position related parameters.
+     * @param M The number of objectives.
+     * @return The value of every objective.
+     */
+    protected abstract Vector transform(Vector input, int k, int M);
+
+    @Override
+    public int getNumberOfObjectives() {
+        return M;
+    }
+
+    @Override
+    public void apply(Vector input, double[] objectives) {
+        Vector y = transform(input, k, M);
+        for (int i = 0; i < M; ++i) {
+            objectives[i] = y.doubleValueOf(i);
+        }
+    }
+}
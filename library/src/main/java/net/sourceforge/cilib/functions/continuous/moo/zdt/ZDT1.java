@@ -22,6 +22,7 @@
 package net.sourceforge.cilib.functions.continuous.moo.zdt;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.MultiObjectiveFunction;
 import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.MOOptimisationProblem;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -91,6 +92,34 @@ public final class ZDT1 extends MOOptimisationProblem {
         }
     }
 
+    /**
+     * Computes both objectives, evaluating {@code g} only once.
+     */
+    private static class ZDT1_objectives implements MultiObjectiveFunction {
+
+        private static final long serialVersionUID = -6211374090735328215L;
+        private final ZDT_f1 f1;
+        private final ZDT_g g;
+
+        public ZDT1_objectives() {
+            this.f1 = new ZDT_f1();
+            this.g = new ZDT_g();
+        }
+
+        @Override
+        public int getNumberOfObjectives() {
+            return 2;
+        }
+
+        @Override
+        public void apply(Vector input, double[] objectives) {
+            double f1 = this.f1.apply(input);
+            double g = this.g.apply(input);
+            objectives[0] = f1;
+            objectives[1] = g * (1.0 - Math.sqrt(f1 / g));
+        }
+    }
+
     public ZDT1() {
         FunctionOptimisationProblem zdt1_f1 = new FunctionOptimisationProblem();
         zdt1_f1.setFunction(new ZDT_f1());
@@ -101,6 +130,8 @@ public final class ZDT1 extends MOOptimisationProblem {
         zdt1_f2.setFunction(new ZDT1_f2());
         zdt1_f2.setDomain(DOMAIN);
         add(zdt1_f2);
+
+        setFunction(new ZDT1_objectives());
     }
 
     public ZDT1(ZDT1 copy) {
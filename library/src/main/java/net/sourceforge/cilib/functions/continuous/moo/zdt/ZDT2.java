@@ -22,6 +22,7 @@
 package net.sourceforge.cilib.functions.continuous.moo.zdt;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.MultiObjectiveFunction;
 import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.MOOptimisationProblem;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -92,6 +93,34 @@ public final class ZDT2 extends MOOptimisationProblem {
         }
     }
 
+    /**
+     * Computes both objectives, evaluating {@code g} only once.
+     */
+    private static class ZDT2_objectives implements MultiObjectiveFunction {
+
+        private static final long serialVersionUID = 4153937375478331374L;
+        private final ZDT_f1 f1;
+        private final ZDT_g g;
+
+        public ZDT2_objectives() {
+            this.f1 = new ZDT_f1();
+            this.g = new ZDT_g();
+        }
+
+        @Override
+        public int getNumberOfObjectives() {
+            return 2;
+        }
+
+        @Override
+        public void apply(Vector input, double[] objectives) {
+            double f1 = this.f1.apply(input);
+            double g = this.g.apply(input);
+            objectives[0] = f1;
+            objectives[1] = g * (1.0 - (f1 / g) * (f1 / g));
+        }
+    }
+
     public ZDT2() {
         FunctionOptimisationProblem zdt2_f1 = new FunctionOptimisationProblem();
         zdt2_f1.setFunction(new ZDT_f1());
@@ -102,6 +131,8 @@ public final class ZDT2 extends MOOptimisationProblem {
         zdt2_f2.setFunction(new ZDT2_f2());
         zdt2_f2.setDomain(DOMAIN);
         add(zdt2_f2);
+
+        setFunction(new ZDT2_objectives());
     }
 
     public ZDT2(ZDT2 copy) {
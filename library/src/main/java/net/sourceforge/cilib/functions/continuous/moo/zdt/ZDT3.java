@@ -22,6 +22,7 @@
 package net.sourceforge.cilib.functions.continuous.moo.zdt;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.MultiObjectiveFunction;
 import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.MOOptimisationProblem;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -101,6 +102,34 @@ public final class ZDT3 extends MOOptimisationProblem {
         }
     }
 
+    /**
+     * Computes both objectives, evaluating {@code g} only once.
+     */
+    private static class ZDT3_objectives implements MultiObjectiveFunction {
+
+        private static final long serialVersionUID = -2516307911574920446L;
+        private final ZDT_f1 f1;
+        private final ZDT_g g;
+
+        public ZDT3_objectives() {
+            this.f1 = new ZDT_f1();
+            this.g = new ZDT_g();
+        }
+
+        @Override
+        public int getNumberOfObjectives() {
+            return 2;
+        }
+
+        @Override
+        public void apply(Vector input, double[] objectives) {
+            double f1 = this.f1.apply(input);
+            double g = this.g.apply(input);
+            objectives[0] = f1;
+            objectives[1] = g * (1.0 - Math.sqrt(f1 / g) - (f1 / g) * Math.sin(10.0 * Math.PI * f1));
+        }
+    }
+
     public ZDT3() {
         FunctionOptimisationProblem zdt3_f1 = new FunctionOptimisationProblem();
         zdt3_f1.setFunction(new ZDT_f1());
@@ -111,6 +140,8 @@ public final class ZDT3 extends MOOptimisationProblem {
         zdt3_f2.setFunction(new ZDT3_f2());
         zdt3_f2.setDomain(DOMAIN);
         add(zdt3_f2);
+
+        setFunction(new ZDT3_objectives());
     }
 
     public ZDT3(ZDT3 copy) {
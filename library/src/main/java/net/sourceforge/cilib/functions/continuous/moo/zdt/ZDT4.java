@@ -22,6 +22,7 @@
 package net.sourceforge.cilib.functions.continuous.moo.zdt;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.MultiObjectiveFunction;
 import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.MOOptimisationProblem;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -113,6 +114,34 @@ public final class ZDT4 extends MOOptimisationProblem {
         }
     }
 
+    /**
+     * Computes both objectives, evaluating {@code g} only once.
+     */
+    private static class ZDT4_objectives implements MultiObjectiveFunction {
+
+        private static final long serialVersionUID = 8839148371938513316L;
+        private final ZDT_f1 f1;
+        private final ZDT4_g g;
+
+        public ZDT4_objectives() {
+            this.f1 = new ZDT_f1();
+            this.g = new ZDT4_g();
+        }
+
+        @Override
+        public int getNumberOfObjectives() {
+            return 2;
+        }
+
+        @Override
+        public void apply(Vector input, double[] objectives) {
+            double f1 = this.f1.apply(input);
+            double g = this.g.apply(input);
+            objectives[0] = f1;
+            objectives[1] = g * (1.0 - Math.sqrt(f1 / g));
+        }
+    }
+
     public ZDT4() {
         FunctionOptimisationProblem zdt4_f1 = new FunctionOptimisationProblem();
         zdt4_f1.setFunction(new ZDT_f1());
@@ -123,6 +152,8 @@ public final class ZDT4 extends MOOptimisationProblem {
         zdt4_f2.setFunction(new ZDT4_f2());
         zdt4_f2.setDomain(DOMAIN);
         add(zdt4_f2);
+
+        setFunction(new ZDT4_objectives());
     }
 
     public ZDT4(ZDT4 copy) {
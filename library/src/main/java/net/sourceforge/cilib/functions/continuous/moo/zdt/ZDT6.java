@@ -22,6 +22,7 @@
 package net.sourceforge.cilib.functions.continuous.moo.zdt;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.MultiObjectiveFunction;
 import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.MOOptimisationProblem;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -124,6 +125,34 @@ public final class ZDT6 extends MOOptimisationProblem {
         }
     }
 
+    /**
+     * Computes both objectives, evaluating {@code g} only once.
+     */
+    private static class ZDT6_objectives implements MultiObjectiveFunction {
+
+        private static final long serialVersionUID = -1049571542372834105L;
+        private final ZDT6_f1 f1;
+        private final ZDT6_g g;
+
+        public ZDT6_objectives() {
+            this.f1 = new ZDT6_f1();
+            this.g = new ZDT6_g();
+        }
+
+        @Override
+        public int getNumberOfObjectives() {
+            return 2;
+        }
+
+        @Override
+        public void apply(Vector input, double[] objectives) {
+            double f1 = this.f1.apply(input);
+            double g = this.g.apply(input);
+            objectives[0] = f1;
+            objectives[1] = g * (1.0 - Math.pow(f1 / g, 2.0));
+        }
+    }
+
     public ZDT6() {
         FunctionOptimisationProblem zdt6_f1 = new FunctionOptimisationProblem();
         zdt6_f1.setFunction(new ZDT6_f1());
@@ -134,6 +163,8 @@ public final class ZDT6 extends MOOptimisationProblem {
         zdt6_f2.setFunction(new ZDT6_f2());
         zdt6_f2.setDomain(DOMAIN);
         add(zdt6_f2);
+
+        setFunction(new ZDT6_objectives());
     }
 
     public ZDT6(ZDT6 copy) {
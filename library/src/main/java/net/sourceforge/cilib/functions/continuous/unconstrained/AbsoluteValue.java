@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  *  <p><b>The Absolute Value Function.</b></p>
@@ -46,7 +45,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-100, 100)^30
  *
  */
-public class AbsoluteValue implements ContinuousFunction {
+public class AbsoluteValue extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = 1662988096338786773L;
 
@@ -54,10 +53,10 @@ public class AbsoluteValue implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double tmp = 0.0;
-        for (int i = 0; i < input.size(); ++i) {
-            tmp += Math.abs(input.doubleValueOf(i));
+        for (int i = offset; i < offset + dim; ++i) {
+            tmp += Math.abs(x[i]);
         }
         return tmp;
     }
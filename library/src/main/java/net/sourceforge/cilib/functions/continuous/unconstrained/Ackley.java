@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p><b>The Generalized Ackley.</b></p>
@@ -49,22 +48,21 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *
  *
  */
-public class Ackley implements ContinuousFunction {
+public class Ackley extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = -7803711986955989075L;
 
-    /* (non-Javadoc)
-     * @see net.sourceforge.cilib.functions.redux.ContinuousFunction#evaluate(net.sourceforge.cilib.type.types.container.Vector)
+    /**
+     * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
-        final int size = input.size();
+    public double apply(double[] x, int offset, int dim) {
         double sumsq = 0.0;
         double sumcos = 0.0;
-        for (int i = 0; i < size; ++i) {
-            sumsq += input.doubleValueOf(i) * input.doubleValueOf(i);
-            sumcos += Math.cos(2 * Math.PI * input.doubleValueOf(i));
+        for (int i = offset; i < offset + dim; ++i) {
+            sumsq += x[i] * x[i];
+            sumcos += Math.cos(2 * Math.PI * x[i]);
         }
-        return -20.0 * Math.exp(-0.2 * Math.sqrt(sumsq / size)) - Math.exp(sumcos / size) + 20 + Math.E;
+        return -20.0 * Math.exp(-0.2 * Math.sqrt(sumsq / dim)) - Math.exp(sumcos / dim) + 20 + Math.E;
     }
 }
@@ -21,9 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.Numeric;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p><b>The Alpine Function.</b></p>
@@ -47,7 +45,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-10, 10)^30
  * 
  */
-public class Alpine implements ContinuousFunction {
+public class Alpine extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = -1365268075451075465L;
 
@@ -55,10 +53,10 @@ public class Alpine implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector x) {
+    public double apply(double[] x, int offset, int dim) {
         double sum = 0;
-        for (Numeric n : x) {
-            sum += Math.abs((n.doubleValue() * Math.sin(n.doubleValue())) + (0.1 * n.doubleValue()));
+        for (int i = offset; i < offset + dim; i++) {
+            sum += Math.abs((x[i] * Math.sin(x[i])) + (0.1 * x[i]));
         }
         return sum;
     }
@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p><b>De Jong's Function 4 (no noise).</b></p>
@@ -46,7 +45,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-1.28, 1.28)^30
  *
  */
-public class DeJongF4 implements ContinuousFunction {
+public class DeJongF4 extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = 4835441178770462999L;
 
@@ -54,10 +53,10 @@ public class DeJongF4 implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double sum = 0;
-        for (int i = 0; i < input.size(); ++i) {
-            double xi = input.doubleValueOf(i);
+        for (int i = 0; i < dim; ++i) {
+            double xi = x[offset + i];
             sum += (i + 1) * (xi * xi * xi * xi);
         }
         return sum;
@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * An implementation of the Elliptic function.
@@ -38,7 +37,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </pre>
  *
  */
-public class Elliptic implements ContinuousFunction {
+public class Elliptic extends AbstractPrimitiveContinuousFunction {
 
     /*
      * The condition number 10^6 is used to transform a sphere
@@ -46,14 +45,15 @@ public class Elliptic implements ContinuousFunction {
      */
     private static final double CONDITION_NUMBER = 1000000;
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double sum = 0;
-
-        for (int i = 0; i < input.size(); i++) {
-            sum += Math.pow(CONDITION_NUMBER, i / (input.size() - 1)) * input.doubleValueOf(i) * input.doubleValueOf(i);
+        for (int i = 0; i < dim; i++) {
+            sum += Math.pow(CONDITION_NUMBER, i / (dim - 1)) * x[offset + i] * x[offset + i];
         }
-
         return sum;
     }
 }
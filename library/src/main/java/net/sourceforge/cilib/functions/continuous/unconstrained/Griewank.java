@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * Generalised Griewank function.
@@ -41,7 +40,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-600, 600)^30
  *
  */
-public class Griewank implements ContinuousFunction {
+public class Griewank extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = 1095225532651577254L;
 
@@ -49,12 +48,12 @@ public class Griewank implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double sumsq = 0;
         double prod = 1;
-        for (int i = 0; i < input.size(); ++i) {
-            sumsq += input.doubleValueOf(i) * input.doubleValueOf(i);
-            prod *= Math.cos(input.doubleValueOf(i) / Math.sqrt(i + 1));
+        for (int i = 0; i < dim; ++i) {
+            sumsq += x[offset + i] * x[offset + i];
+            prod *= Math.cos(x[offset + i] / Math.sqrt(i + 1));
         }
         return 1 + sumsq * (1.0 / 4000.0) - prod;
     }
@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p><b>HyperEllipsoid.</b></p>
@@ -47,7 +46,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-5.12,5.12)^30
  * 
  */
-public class HyperEllipsoid implements ContinuousFunction {
+public class HyperEllipsoid extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = 813261964413884141L;
 
@@ -55,10 +54,10 @@ public class HyperEllipsoid implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double tmp = 0;
-        for (int i = 0; i < input.size(); ++i) {
-            tmp += (i + 1) * input.doubleValueOf(i) * input.doubleValueOf(i);
+        for (int i = 0; i < dim; ++i) {
+            tmp += (i + 1) * x[offset + i] * x[offset + i];
         }
         return tmp;
     }
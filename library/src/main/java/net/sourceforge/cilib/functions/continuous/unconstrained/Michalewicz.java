@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p>Michalewicz funtion 12.</p>
@@ -48,7 +47,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(0, 3.141592653589793)^10
  * 
  */
-public class Michalewicz implements ContinuousFunction {
+public class Michalewicz extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = -4391269929189674709L;
     /**
@@ -61,14 +60,12 @@ public class Michalewicz implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double sumsq = 0.0;
-
-        for (int i = 0; i < input.size(); i++) {
-            double x = input.doubleValueOf(i);
-            sumsq += Math.sin(x) * Math.pow(Math.sin(((i+1) * x * x)/Math.PI), 2*m);
+        for (int i = 0; i < dim; i++) {
+            double xi = x[offset + i];
+            sumsq += Math.sin(xi) * Math.pow(Math.sin(((i+1) * xi * xi)/Math.PI), 2*m);
         }
-
         return -sumsq;
     }
 
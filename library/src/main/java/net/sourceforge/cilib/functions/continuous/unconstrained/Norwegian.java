@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * Modified Schaffer Function 2.
@@ -42,21 +41,18 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * }
  *
  */
-public class Norwegian implements ContinuousFunction {
+public class Norwegian extends AbstractPrimitiveContinuousFunction {
     
     /**
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double product = 1.0;
-        double value;
-
-        for (int j = 0; j < input.size(); j++) {
-            value = input.doubleValueOf(j);
+        for (int j = offset; j < offset + dim; j++) {
+            double value = x[j];
             product *= Math.cos(Math.PI * Math.pow(value, 3)) * ((99 + value) / 100);
         }
-
-        return new Double(product);
+        return product;
     }
 }
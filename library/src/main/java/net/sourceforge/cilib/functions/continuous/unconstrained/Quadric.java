@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p><b>The Quadric Function</b></p>
@@ -47,7 +46,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-100, 100)^30
  *
  */
-public class Quadric implements ContinuousFunction {
+public class Quadric extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = -2555670302543357421L;
 
@@ -55,13 +54,12 @@ public class Quadric implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
+        // The inner sums of consecutive terms are prefixes of each other.
         double sumsq = 0;
-        for (int i = 0; i < input.size(); ++i) {
-            double sum = 0;
-            for (int j = 0; j <= i; ++j) {
-                sum += input.doubleValueOf(j);
-            }
+        double sum = 0;
+        for (int i = offset; i < offset + dim; ++i) {
+            sum += x[i];
             sumsq += sum * sum;
         }
         return sumsq;
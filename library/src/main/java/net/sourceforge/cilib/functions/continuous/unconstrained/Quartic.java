@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p><b>The Quartic function.</b></p>
@@ -48,7 +47,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-1.28, 1.28)^30
  *
  */
-public class Quartic implements ContinuousFunction {
+public class Quartic extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = 1830591489569513511L;
 
@@ -56,16 +55,13 @@ public class Quartic implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double result = 0.0;
-
-        for (int i = 0; i < input.size(); i++) {
-            double square = input.doubleValueOf(i) * input.doubleValueOf(i);
+        for (int i = 0; i < dim; i++) {
+            double square = x[offset + i] * x[offset + i];
             double square2 = square * square;
-
             result += (i + 1) * square2;
         }
-
         return result;
     }
 }
@@ -21,7 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 import net.sourceforge.cilib.functions.Differentiable;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
@@ -48,7 +48,7 @@ import net.sourceforge.cilib.type.types.container.Vector.Function;
  * R(-5.12, 5.12)^30
  *
  */
-public class Rastrigin implements ContinuousFunction, Differentiable {
+public class Rastrigin extends AbstractPrimitiveContinuousFunction implements Differentiable {
 
     private static final long serialVersionUID = 447701182683968035L;
 
@@ -56,12 +56,12 @@ public class Rastrigin implements ContinuousFunction, Differentiable {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double tmp = 0;
-        for (int i = 0; i < input.size(); ++i) {
-            tmp += input.doubleValueOf(i) * input.doubleValueOf(i) - 10.0 * Math.cos(2 * Math.PI * input.doubleValueOf(i));
+        for (int i = offset; i < offset + dim; ++i) {
+            tmp += x[i] * x[i] - 10.0 * Math.cos(2 * Math.PI * x[i]);
         }
-        return 10 * input.size() + tmp;
+        return 10 * dim + tmp;
     }
 
     /**
@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p>Generalised Rosenbrock function.</p>
@@ -46,7 +45,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-2.048, 2.048)^30
  *
  */
-public class Rosenbrock implements ContinuousFunction {
+public class Rosenbrock extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = -5850480295351224196L;
 
@@ -54,16 +53,13 @@ public class Rosenbrock implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double tmp = 0;
-
-        for (int i = 0; i < input.size()-1; ++i) {
-            double a = input.doubleValueOf(i);
-            double b = input.doubleValueOf(i+1);
-
+        for (int i = offset; i < offset + dim - 1; ++i) {
+            double a = x[i];
+            double b = x[i + 1];
             tmp += ((100 * (b - a * a) * (b - a * a)) + ((a - 1.0) * (a - 1.0)));
         }
-
         return tmp;
     }
 }
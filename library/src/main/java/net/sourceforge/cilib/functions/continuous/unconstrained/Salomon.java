@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p><b>The Salomon Function.</b></p>
@@ -49,7 +48,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-600, 600)^30
  *
  */
-public class Salomon implements ContinuousFunction {
+public class Salomon extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = -6002240316648057218L;
 
@@ -57,13 +56,11 @@ public class Salomon implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double sumSquares = 0.0;
-
-        for (int i = 0; i < input.size(); i++) {
-            sumSquares += input.doubleValueOf(i) * input.doubleValueOf(i);
+        for (int i = offset; i < offset + dim; i++) {
+            sumSquares += x[i] * x[i];
         }
-
         return -(Math.cos(2 * Math.PI * Math.sqrt(sumSquares))) + (0.1 * Math.sqrt(sumSquares)) + 1;
     }
 }
@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * SchwefelProblem2_21.
@@ -37,7 +36,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *
  */
 // TODO: Check discontinuous / continuous
-public class SchwefelProblem2_21 implements ContinuousFunction {
+public class SchwefelProblem2_21 extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = 8583159190281586599L;
 
@@ -45,12 +44,10 @@ public class SchwefelProblem2_21 implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
-        double max = Math.abs(input.doubleValueOf(0));
-        double value;
-
-        for (int i = 1; i < input.size(); ++i) {
-            value = Math.abs(input.doubleValueOf(i));
+    public double apply(double[] x, int offset, int dim) {
+        double max = Math.abs(x[offset]);
+        for (int i = offset + 1; i < offset + dim; ++i) {
+            double value = Math.abs(x[i]);
             if (value > max) {
                 max = value;
             }
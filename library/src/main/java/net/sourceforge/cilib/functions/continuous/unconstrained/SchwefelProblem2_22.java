@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * SchwefelProblem2_22.
@@ -37,7 +36,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *
  */
 // TODO: Check discontinuous / continuous
-public class SchwefelProblem2_22 implements ContinuousFunction {
+public class SchwefelProblem2_22 extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = -5004170862929300400L;
 
@@ -45,18 +44,17 @@ public class SchwefelProblem2_22 implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double sum = 0;
         double product = 0;
-        for (int i = 0; i < input.size(); ++i) {
-            sum += Math.abs(input.doubleValueOf(i));
+        for (int i = 0; i < dim; ++i) {
+            sum += Math.abs(x[offset + i]);
             if (i == 0) {
-                product = Math.abs(input.doubleValueOf(i));
+                product = Math.abs(x[offset + i]);
             } else {
-                product *= Math.abs(input.doubleValueOf(i));
+                product *= Math.abs(x[offset + i]);
             }
         }
-
         return sum + product;
     }
 }
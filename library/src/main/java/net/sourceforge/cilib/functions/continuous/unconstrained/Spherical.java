@@ -21,7 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 import net.sourceforge.cilib.functions.Differentiable;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
@@ -51,7 +51,7 @@ import net.sourceforge.cilib.type.types.container.Vector.Function;
  * R(-5.12, 5.12)^30
  *
  */
-public class Spherical implements ContinuousFunction, Differentiable {
+public class Spherical extends AbstractPrimitiveContinuousFunction implements Differentiable {
 
     private static final long serialVersionUID = 5811377575647995206L;
 
@@ -59,13 +59,12 @@ public class Spherical implements ContinuousFunction, Differentiable {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
-        return input.foldLeft(0.0, new Function<Numeric, Double>() {
-            @Override
-            public Double apply(Numeric x) {
-                return x.doubleValue() * x.doubleValue();
-            }            
-        });
+    public double apply(double[] x, int offset, int dim) {
+        double sum = 0.0;
+        for (int i = offset; i < offset + dim; i++) {
+            sum += x[i] * x[i];
+        }
+        return sum;
     }
 
     /**
@@ -21,15 +21,14 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * TODO: Complete this javadoc.
  *
  * R(-100.0, 100.0)^6
  */
-public class Step implements ContinuousFunction {
+public class Step extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = -3888436745417400797L;
 
@@ -37,14 +36,12 @@ public class Step implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double sum = 0.0;
-
-        for (int i = 0; i < input.size(); i++) {
-            double val = Math.floor(input.doubleValueOf(i) + 0.5);
+        for (int i = offset; i < offset + dim; i++) {
+            double val = Math.floor(x[i] + 0.5);
             sum += val * val;
         }
-
         return sum;
     }
 }
@@ -22,8 +22,7 @@
 
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p><b>The Vincent Function.</b></p>
@@ -41,15 +40,16 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(0.25,10)^n
  *
  */
-public class Vincent implements ContinuousFunction {
+public class Vincent extends AbstractPrimitiveContinuousFunction {
     /**
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double result = 1.0;
-        for (int i = 0; i < input.size(); ++i)
-            result += Math.sin(10*Math.log(input.doubleValueOf(i)));
+        for (int i = offset; i < offset + dim; ++i) {
+            result += Math.sin(10 * Math.log(x[i]));
+        }
         return -result;
     }
 }
@@ -21,8 +21,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
-import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.functions.AbstractPrimitiveContinuousFunction;
 
 /**
  * <p><b>The Zakharov Function.</b></p>
@@ -46,7 +45,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R(-5, 10)^30
  *
  */
-public class Zakharov implements ContinuousFunction {
+public class Zakharov extends AbstractPrimitiveContinuousFunction {
 
     private static final long serialVersionUID = -635648546100966058L;
 
@@ -54,12 +53,12 @@ public class Zakharov implements ContinuousFunction {
      * {@inheritDoc}
      */
     @Override
-    public Double apply(Vector input) {
+    public double apply(double[] x, int offset, int dim) {
         double sum1 = 0;
         double sum2 = 0;
-        for(int i = 0; i < input.size(); ++i){
-            sum1 += input.doubleValueOf(i) * input.doubleValueOf(i);
-            sum2 += 0.5 * (i + 1) * input.doubleValueOf(i);
+        for (int i = 0; i < dim; ++i) {
+            sum1 += x[offset + i] * x[offset + i];
+            sum2 += 0.5 * (i + 1) * x[offset + i];
         }
         return sum1 + (sum2 * sum2) + (sum2 * sum2 * sum2 * sum2);
     }
@@ -0,0 +1,364 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.hs;
+
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.SingularAlgorithm;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.calculator.ParallelFitnessEvaluator;
+
+/**
+ * A steady-state implementation of {@link HS Harmony Search} aimed at throughput.
+ * <p>
+ * The harmony memory is kept as a single matrix of harmony values, with the
+ * memory slots ordered in a binary heap so that the worst harmony is found and
+ * replaced in logarithmic time. The best harmony is tracked as new harmonies
+ * enter the memory. Every iteration improvises a batch of harmonies into a
+ * reused buffer, evaluates the batch, optionally in parallel, and then offers
+ * each new harmony to the memory in turn, where it replaces the worst harmony
+ * if it is better.
+ * <p>
+ * Unlike {@link HS}, the initial harmonies are evaluated during initialisation.
+ * With a batch size of one, each iteration is a single step of the original
+ * algorithm.
+ */
+public class SteadyStateHS extends AbstractAlgorithm implements SingularAlgorithm {
+
+    private static final long serialVersionUID = -3250961728329713950L;
+    private RandomProvider random;
+    private ControlParameter harmonyMemorySize;
+    private ControlParameter harmonyMemoryConsideringRate;
+    private ControlParameter pitchAdjustingRate;
+    private ControlParameter distanceBandwidth;
+    private ControlParameter improvisations;
+    private ParallelFitnessEvaluator evaluator;
+
+    private Bounds[] bounds;
+    private double[] memory;
+    private Fitness[] fitness;
+    private int[] heap;
+    private int best;
+
+    private double[] scratch;
+    private Vector[] candidates;
+    private Fitness[] candidateFitness;
+
+    /**
+     * Default constructor.
+     * <p>
+     * Set the parameters for the algorithm up as:
+     * <ul>
+     *   <li>Memory size: 20</li>
+     *   <li>Memory considering rate: 0.9</li>
+     *   <li>Pitch adjustment rate: 0.35</li>
+     *   <li>Distance bandwidth: 0.5</li>
+     *   <li>Improvisations per iteration: 1</li>
+     * </ul>
+     */
+    public SteadyStateHS() {
+        this.random = new MersenneTwister();
+        this.harmonyMemorySize = ConstantControlParameter.of(20);
+        this.harmonyMemoryConsideringRate = ConstantControlParameter.of(0.9);
+        this.pitchAdjustingRate = ConstantControlParameter.of(0.35);
+        this.distanceBandwidth = ConstantControlParameter.of(0.5);
+        this.improvisations = ConstantControlParameter.of(1);
+        this.evaluator = new ParallelFitnessEvaluator();
+    }
+
+    /**
+     * Copy constructor.
+     * @param copy The instance to copy.
+     */
+    public SteadyStateHS(SteadyStateHS copy) {
+        super(copy);
+        this.random = new MersenneTwister();
+        this.harmonyMemorySize = copy.harmonyMemorySize.getClone();
+        this.harmonyMemoryConsideringRate = copy.harmonyMemoryConsideringRate.getClone();
+        this.pitchAdjustingRate = copy.pitchAdjustingRate.getClone();
+        this.distanceBandwidth = copy.distanceBandwidth.getClone();
+        this.improvisations = copy.improvisations.getClone();
+        this.evaluator = copy.evaluator.getClone();
+
+        if (copy.memory != null) {
+            this.bounds = copy.bounds.clone();
+            this.memory = copy.memory.clone();
+            this.fitness = copy.fitness.clone();
+            this.heap = copy.heap.clone();
+            this.best = copy.best;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SteadyStateHS getClone() {
+        return new SteadyStateHS(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void algorithmInitialisation() {
+        Problem problem = getOptimisationProblem();
+        Vector representation = (Vector) problem.getDomain().getBuiltRepresentation();
+        int dimension = representation.size();
+        int size = (int) harmonyMemorySize.getParameter();
+
+        bounds = new Bounds[dimension];
+        for (int j = 0; j < dimension; j++) {
+            bounds[j] = representation.boundsOf(j);
+        }
+
+        memory = new double[size * dimension];
+        fitness = new Fitness[size];
+        heap = new int[size];
+        Vector[] harmonies = new Vector[size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < dimension; j++) {
+                double lower = bounds[j].getLowerBound();
+                memory[i * dimension + j] = lower + random.nextDouble() * (bounds[j].getUpperBound() - lower);
+            }
+            harmonies[i] = harmonyOf(memory, i);
+        }
+        evaluator.evaluate(problem, harmonies, fitness, size);
+
+        best = 0;
+        for (int i = 0; i < size; i++) {
+            heap[i] = i;
+            if (fitness[i].compareTo(fitness[best]) > 0) {
+                best = i;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void algorithmIteration() {
+        int dimension = bounds.length;
+        int size = fitness.length;
+        int batch = (int) improvisations.getParameter();
+        if (scratch == null || candidates.length != batch) {
+            scratch = new double[batch * dimension];
+            candidates = new Vector[batch];
+            candidateFitness = new Fitness[batch];
+        }
+
+        double consideringRate = harmonyMemoryConsideringRate.getParameter();
+        double adjustingRate = pitchAdjustingRate.getParameter();
+        double bandwidth = distanceBandwidth.getParameter();
+
+        for (int b = 0; b < batch; b++) {
+            for (int j = 0, offset = b * dimension; j < dimension; j++) {
+                double lower = bounds[j].getLowerBound();
+                double upper = bounds[j].getUpperBound();
+                double value;
+                if (random.nextDouble() < consideringRate) {
+                    value = memory[random.nextInt(size) * dimension + j];
+                    if (random.nextDouble() < adjustingRate) {
+                        double pitched = value + (2 * random.nextDouble() - 1) * bandwidth;
+                        if (pitched > lower && pitched < upper) {
+                            value = pitched;
+                        }
+                    }
+                } else {
+                    value = lower + random.nextDouble() * (upper - lower);
+                }
+                scratch[offset + j] = value;
+            }
+            candidates[b] = harmonyOf(scratch, b);
+        }
+
+        evaluator.evaluate(getOptimisationProblem(), candidates, candidateFitness, batch);
+
+        for (int b = 0; b < batch; b++) {
+            int worst = heap[0];
+            if (candidateFitness[b].compareTo(fitness[worst]) > 0) {
+                System.arraycopy(scratch, b * dimension, memory, worst * dimension, dimension);
+                fitness[worst] = candidateFitness[b];
+                // The worst slot can only hold the best harmony if all harmonies are equal.
+                if (worst == best || fitness[worst].compareTo(fitness[best]) > 0) {
+                    best = worst;
+                }
+                siftDown(0);
+            }
+        }
+    }
+
+    /**
+     * Restore the heap order below the given heap position, keeping the worst
+     * harmony at the root.
+     */
+    private void siftDown(int position) {
+        int slot = heap[position];
+        int half = heap.length / 2;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < heap.length && fitness[heap[child + 1]].compareTo(fitness[heap[child]]) < 0) {
+                child++;
+            }
+            if (fitness[heap[child]].compareTo(fitness[slot]) >= 0) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = slot;
+    }
+
+    private Vector harmonyOf(double[] values, int row) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int j = 0, offset = row * bounds.length; j < bounds.length; j++) {
+            builder.addWithin(values[offset + j], bounds[j]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OptimisationSolution getBestSolution() {
+        return new OptimisationSolution(harmonyOf(memory, best), fitness[best]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<OptimisationSolution> getSolutions() {
+        return Arrays.asList(getBestSolution());
+    }
+
+    /**
+     * Get the considering rate for the harmony memory.
+     * @return The {@linkplain ControlParameter} for the considering rate.
+     */
+    public ControlParameter getHarmonyMemoryConsideringRate() {
+        return harmonyMemoryConsideringRate;
+    }
+
+    /**
+     * Set the considering rate for the harmony memory.
+     * @param harmonyMemoryConsideringRate The {@linkplain ControlParameter} for the
+     *        memory considering rate.
+     */
+    public void setHarmonyMemoryConsideringRate(ControlParameter harmonyMemoryConsideringRate) {
+        this.harmonyMemoryConsideringRate = harmonyMemoryConsideringRate;
+    }
+
+    /**
+     * Get the size of the harmony memory.
+     * @return The size of the harmony memory.
+     */
+    public ControlParameter getHarmonyMemorySize() {
+        return harmonyMemorySize;
+    }
+
+    /**
+     * Set the size of the harmony memory.
+     * @param harmonyMemorySize The memory size to use.
+     */
+    public void setHarmonyMemorySize(ControlParameter harmonyMemorySize) {
+        this.harmonyMemorySize = harmonyMemorySize;
+    }
+
+    /**
+     * Get the current pitch adjusting rate as a {@linkplain ControlParameter}.
+     * @return The pitch adjusting rate as a {@linkplain ControlParameter}.
+     */
+    public ControlParameter getPitchAdjustingRate() {
+        return pitchAdjustingRate;
+    }
+
+    /**
+     * Set the pitch adjusting rate.
+     * @param pitchAdjustingRate The {@linkplain ControlParameter} to use.
+     */
+    public void setPitchAdjustingRate(ControlParameter pitchAdjustingRate) {
+        this.pitchAdjustingRate = pitchAdjustingRate;
+    }
+
+    /**
+     * Get the distance bandwidth.
+     * @return The {@linkplain ControlParameter} for the distance bandwidth.
+     */
+    public ControlParameter getDistanceBandwidth() {
+        return distanceBandwidth;
+    }
+
+    /**
+     * Set the distance bandwidth.
+     * @param distanceBandwidth The {@linkplain ControlParameter} to use.
+     */
+    public void setDistanceBandwidth(ControlParameter distanceBandwidth) {
+        this.distanceBandwidth = distanceBandwidth;
+    }
+
+    /**
+     * Get the number of harmonies improvised per iteration.
+     * @return The {@linkplain ControlParameter} for the number of improvisations.
+     */
+    public ControlParameter getImprovisations() {
+        return improvisations;
+    }
+
+    /**
+     * Set the number of harmonies improvised per iteration.
+     * @param improvisations The {@linkplain ControlParameter} to use.
+     */
+    public void setImprovisations(ControlParameter improvisations) {
+        this.improvisations = improvisations;
+    }
+
+    /**
+     * Get the evaluator used for improvised harmonies.
+     * @return The fitness evaluator.
+     */
+    public ParallelFitnessEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Set the evaluator used for improvised harmonies.
+     * @param evaluator The evaluator to use.
+     */
+    public void setEvaluator(ParallelFitnessEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+}
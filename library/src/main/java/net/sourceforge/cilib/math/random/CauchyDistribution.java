@@ -80,6 +80,28 @@ public class CauchyDistribution implements ProbabilityDistributionFunction {
         return locationScale[0] + locationScale[1] * Math.tan(Math.PI * (x - 0.5));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values) {
+        getRandomNumbers(values, location.getParameter(), scale.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values, double... locationScale) {
+        checkArgument(locationScale.length == 2, "The Cauchy distribution requires two parameters.");
+        checkArgument(locationScale[1] > 0, "The scale must be greater than zero.");
+        provider.nextDoubles(values);
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = locationScale[0] + locationScale[1] * Math.tan(Math.PI * (values[i] - 0.5));
+        }
+    }
+
     @Override
     public RandomProvider getRandomProvider() {
         return provider;
@@ -70,6 +70,28 @@ public class ExponentialDistribution implements ProbabilityDistributionFunction
         return -Math.log(1 - r) / rate[0];
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values) {
+        getRandomNumbers(values, rate.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values, double... rate) {
+        checkArgument(rate.length == 1, "The Exponential distribution requires a single parameter that specifies the rate.");
+        checkArgument(rate[0] > 0, "The rate for the Exponential distribution parameter must be greater than zero.");
+        provider.nextDoubles(values);
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = -Math.log(1 - values[i]) / rate[0];
+        }
+    }
+
     @Override
     public RandomProvider getRandomProvider() {
         return provider;
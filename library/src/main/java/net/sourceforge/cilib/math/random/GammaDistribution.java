@@ -88,6 +88,35 @@ public class GammaDistribution implements ProbabilityDistributionFunction {
         return sum;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values) {
+        getRandomNumbers(values, shape.getParameter(), scale.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The exponential variates are obtained directly from the
+     * {@linkplain RandomProvider} of this distribution.
+     */
+    @Override
+    public void getRandomNumbers(double[] values, double... shapeScale) {
+        checkArgument(shapeScale.length == 2, "The Gamma distribution requires two parameters. ");
+        checkArgument(shapeScale[0] > 0, "The first provided parameter (shape parameter) must be an integer greater than zero.");
+        checkArgument(shapeScale[1] > 0, "The second provided parameter (scale parameter) must be greater than zero.");
+
+        for (int i = 0; i < values.length; i++) {
+            double sum = 0;
+            for (int k = 0; k < shapeScale[0]; k++) {
+                sum -= Math.log(1 - provider.nextDouble());
+            }
+            values[i] = sum * shapeScale[1];
+        }
+    }
+
     public void setShape(ControlParameter shape) {
         this.shape = shape;
     }
@@ -119,6 +119,32 @@ public class GaussianDistribution implements ProbabilityDistributionFunction {
         return (locationScale[0] + locationScale[1] * v / u);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values) {
+        getRandomNumbers(values, mean.getParameter(), deviation.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are generated in bulk with
+     * {@link RandomProvider#nextGaussians(double[])}.
+     */
+    @Override
+    public void getRandomNumbers(double[] values, double... locationScale) {
+        checkArgument(locationScale.length == 2, "The Gaussian distribution requires two parameters. The first specifies the mean, the second specifies the deviation.");
+        provider.nextGaussians(values);
+
+        double location = locationScale[0];
+        double scale = locationScale[1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = location + scale * values[i];
+        }
+    }
+
     @Override
     public RandomProvider getRandomProvider() {
         return provider;
@@ -75,6 +75,29 @@ public class LaplaceDistribution implements ProbabilityDistributionFunction {
         return parameters[0] - parameters[1] * (Math.log(1 - 2 * Math.abs(r))) * Math.signum(r);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values) {
+        getRandomNumbers(values, location.getParameter(), scale.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values, double... parameters) {
+        checkArgument(parameters.length == 2, "The Laplace distribution requires two parameters.");
+        checkArgument(parameters[1] > 0, "The scale parameter must be greater than zero.");
+        provider.nextDoubles(values);
+
+        for (int i = 0; i < values.length; i++) {
+            double r = values[i] - 0.5;
+            values[i] = parameters[0] - parameters[1] * (Math.log(1 - 2 * Math.abs(r))) * Math.signum(r);
+        }
+    }
+
     public void setScale(ControlParameter scale) {
         this.scale = scale;
     }
@@ -49,6 +49,23 @@ public interface ProbabilityDistributionFunction {
      */
     double getRandomNumber(double... parameters);
 
+    /**
+     * Fill the provided array with random numbers sampled from the distribution.
+     * @param values The array to fill.
+     */
+    void getRandomNumbers(double[] values);
+
+    /**
+     * Fill the provided array with random numbers sampled from the distribution,
+     * given a number of control parameters. The control parameters are the same
+     * as for {@link #getRandomNumber(double...)} and are only validated once
+     * for the whole array.
+     *
+     * @param values The array to fill.
+     * @param parameters The control parameter for the distribution function.
+     */
+    void getRandomNumbers(double[] values, double... parameters);
+
     RandomProvider getRandomProvider();
 
     void setRandomProvider(RandomProvider provider);
@@ -81,6 +81,30 @@ public class UniformDistribution implements ProbabilityDistributionFunction {
         return ((bounds[1] - bounds[0]) * r + bounds[0]);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values) {
+        getRandomNumbers(values, lowerBound.getParameter(), upperBound.getParameter());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getRandomNumbers(double[] values, double... bounds) {
+        checkArgument(bounds.length == 2, "The Uniform distribution requires two parameters.");
+        checkArgument(bounds[1] > bounds[0], "The lower bound (first parameter) must be less than upper bound (second parameter).");
+        provider.nextDoubles(values);
+
+        double lower = bounds[0];
+        double range = bounds[1] - bounds[0];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = range * values[i] + lower;
+        }
+    }
+
     @Override
     public RandomProvider getRandomProvider() {
         return provider;
@@ -0,0 +1,141 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+/**
+ * A convenience base class for {@linkplain RandomProvider} implementations that
+ * provides the bulk generation methods in terms of the single value methods.
+ * Implementations that are able to generate bulk values more efficiently
+ * should override the relevant methods.
+ * <p>
+ * Gaussian values are generated using the Ziggurat method of Marsaglia and
+ * Tsang, which in the majority of cases requires only a single integer, a
+ * table lookup and a multiplication per value.
+ * <p>
+ * References:
+ * <ul><li>
+ * G. Marsaglia and W. W. Tsang, "The Ziggurat Method for Generating Random
+ * Variables", `Journal of Statistical Software', 5, 8 (2000), 1-7.
+ * </li></ul>
+ */
+public abstract class AbstractRandomProvider implements RandomProvider {
+
+    private static final int LAYERS = 128;
+    private static final double R = 3.442619855899;
+    private static final long[] KN = new long[LAYERS];
+    private static final double[] WN = new double[LAYERS];
+    private static final double[] FN = new double[LAYERS];
+
+    static {
+        final double m1 = 2147483648.0;
+        final double vn = 9.91256303526217e-3;
+        double dn = R;
+        double tn = dn;
+        double q = vn / Math.exp(-0.5 * dn * dn);
+
+        KN[0] = (long) ((dn / q) * m1);
+        KN[1] = 0;
+        WN[0] = q / m1;
+        WN[LAYERS - 1] = dn / m1;
+        FN[0] = 1.0;
+        FN[LAYERS - 1] = Math.exp(-0.5 * dn * dn);
+
+        for (int i = LAYERS - 2; i >= 1; i--) {
+            dn = Math.sqrt(-2.0 * Math.log(vn / dn + Math.exp(-0.5 * dn * dn)));
+            KN[i + 1] = (long) ((dn / tn) * m1);
+            tn = dn;
+            FN[i] = Math.exp(-0.5 * dn * dn);
+            WN[i] = dn / m1;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextDoubles(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = nextDouble();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextGaussians(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = nextGaussian();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are obtained with the multiply-and-shift method of Lemire,
+     * which replaces the division per value with a multiplication and only
+     * rarely requires rejection.
+     */
+    @Override
+    public void nextInts(int[] values, int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+
+        long threshold = (0x100000000L - bound) % bound;
+        for (int i = 0; i < values.length; i++) {
+            long m = (nextInt() & 0xffffffffL) * bound;
+            while ((m & 0xffffffffL) < threshold) {
+                m = (nextInt() & 0xffffffffL) * bound;
+            }
+            values[i] = (int) (m >>> 32);
+        }
+    }
+
+    /**
+     * Obtain a single standard normal value using the Ziggurat method.
+     */
+    private double nextGaussian() {
+        while (true) {
+            int hz = nextInt();
+            int iz = hz & (LAYERS - 1);
+            if (Math.abs((long) hz) < KN[iz]) {
+                return hz * WN[iz];
+            }
+
+            if (iz == 0) { // Sample from the tail
+                double x;
+                double y;
+                do {
+                    x = -Math.log(1.0 - nextDouble()) / R;
+                    y = -Math.log(1.0 - nextDouble());
+                } while (y + y < x * x);
+                return hz > 0 ? R + x : -R - x;
+            }
+
+            double x = hz * WN[iz];
+            if (FN[iz] + nextDouble() * (FN[iz - 1] - FN[iz]) < Math.exp(-0.5 * x * x)) {
+                return x;
+            }
+        }
+    }
+}
@@ -34,7 +34,7 @@ import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
  * and Brian Gough.
  *
  */
-public class KnuthSubtractive implements RandomProvider {
+public class KnuthSubtractive extends AbstractRandomProvider {
     private static final long serialVersionUID = 8124520969303604479L;
     private final long seed;
 
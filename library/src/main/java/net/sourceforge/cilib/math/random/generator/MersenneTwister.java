@@ -53,7 +53,7 @@ import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
  * Comment text ripped from GSL.
  *
  */
-public class MersenneTwister implements RandomProvider {
+public class MersenneTwister extends AbstractRandomProvider {
 
     private static final long serialVersionUID = -4165908582605023476L;
     private final long seed;
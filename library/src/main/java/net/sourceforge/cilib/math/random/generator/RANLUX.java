@@ -55,7 +55,7 @@ import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
  * Comment text ripped from GSL.
  *
  */
-public class RANLUX implements RandomProvider {
+public class RANLUX extends AbstractRandomProvider {
 
     private static final long serialVersionUID = -2393841490133897078L;
     private final long seed;
@@ -43,4 +43,23 @@ public interface RandomProvider {
     double nextDouble();
 
     void nextBytes(byte[] bytes);
+
+    /**
+     * Fill the provided array with uniform values in the range [0, 1).
+     * @param values The array to fill.
+     */
+    void nextDoubles(double[] values);
+
+    /**
+     * Fill the provided array with values from the standard normal distribution.
+     * @param values The array to fill.
+     */
+    void nextGaussians(double[] values);
+
+    /**
+     * Fill the provided array with uniform values in the range [0, bound).
+     * @param values The array to fill.
+     * @param bound The exclusive upper bound. Must be positive.
+     */
+    void nextInts(int[] values, int bound);
 }
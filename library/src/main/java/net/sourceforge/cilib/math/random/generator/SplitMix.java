@@ -0,0 +1,201 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
+
+/**
+ * <p>
+ * This is an implementation of the SplitMix64 random number generator.
+ * </p><p>
+ * SplitMix64 is a counter-based generator: the n-th output is a bijective
+ * mixing function applied to {@code seed + n * GAMMA}, where {@code GAMMA} is
+ * an odd constant derived from the golden ratio. The generator therefore
+ * only requires two words of state, is very cheap to construct and does not
+ * share any state between instances. New, statistically independent streams
+ * are obtained with {@link #split(long)} which allows for the deterministic
+ * derivation of streams from keys such as (simulation, sample, entity, purpose).
+ * </p><p>
+ * References:
+ * <ul><li>
+ * G. L. Steele, D. Lea and C. H. Flood, "Fast Splittable Pseudorandom
+ * Number Generators", `Proceedings of the 2014 ACM International Conference
+ * on Object Oriented Programming Systems Languages & Applications', 2014,
+ * 453-472.
+ * </li></ul></p>
+ */
+public class SplitMix extends AbstractRandomProvider implements SplittableRandomProvider {
+
+    private static final long serialVersionUID = 6021764330213493781L;
+    private static final long GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long SPLIT = 0xbf58476d1ce4e5b9L;
+    private static final double DOUBLE_UNIT = 1.0 / (1L << 53);
+
+    private final long seed;
+    private long counter;
+
+    /**
+     * Default Constructor. Initialises the {@linkplain SplitMix} with the
+     * seed value from {@link Seeder#getSeed()}.
+     */
+    public SplitMix() {
+        this(Seeder.getSeed());
+    }
+
+    /**
+     * Create a {@linkplain SplitMix} with the given seed value.
+     * @param seed The initial seed value to use.
+     */
+    public SplitMix(long seed) {
+        this.seed = seed;
+        this.counter = 0;
+    }
+
+    /**
+     * Copy constructor. Create an instance with the same seed as the given
+     * instance.
+     * @param copy The instance to copy.
+     */
+    public SplitMix(SplitMix copy) {
+        this.seed = copy.seed;
+        this.counter = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The seed of the derived stream is a function of only the seed of this
+     * instance and the provided key.
+     */
+    @Override
+    public SplitMix split(long key) {
+        return new SplitMix(mix(seed ^ mix(key * SPLIT + GAMMA)));
+    }
+
+    /**
+     * Derive a stream by successively splitting on each of the given keys.
+     * For example, {@code split(simulation, sample, entity, purpose)}.
+     * @param first The first key identifying the stream.
+     * @param keys The remaining keys identifying the stream.
+     * @return The derived {@linkplain SplitMix}.
+     */
+    public SplitMix split(long first, long... keys) {
+        SplitMix result = split(first);
+        for (long key : keys) {
+            result = result.split(key);
+        }
+        return result;
+    }
+
+    /**
+     * Get the seed value of this generator.
+     * @return The seed value.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * The bijective 64-bit finaliser ("variant 13") of Stafford, also used
+     * by {@code java.util.SplittableRandom}.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private long next64() {
+        return mix(seed + (++counter) * GAMMA);
+    }
+
+    private int next(int bits) {
+        return (int) (next64() >>> (64 - bits));
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return next64() < 0;
+    }
+
+    @Override
+    public int nextInt() {
+        return next(32);
+    }
+
+    @Override
+    public int nextInt(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+
+        if ((n & -n) == n) // i.e., n is a power of 2
+        {
+            return (int) ((n * (long) next(31)) >> 31);
+        }
+
+        int bits, val;
+        do {
+            bits = next(31);
+            val = bits % n;
+        } while (bits - val + (n - 1) < 0);
+        return val;
+    }
+
+    @Override
+    public long nextLong() {
+        return next64();
+    }
+
+    @Override
+    public float nextFloat() {
+        return next(24) / ((float) (1 << 24));
+    }
+
+    @Override
+    public double nextDouble() {
+        return (next64() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void nextDoubles(double[] values) {
+        long base = seed + counter * GAMMA;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (mix(base + (i + 1) * GAMMA) >>> 11) * DOUBLE_UNIT;
+        }
+        counter += values.length;
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        for (int i = 0, len = bytes.length; i < len;) {
+            for (int rnd = nextInt(),
+                    n = Math.min(len - i, Integer.SIZE / Byte.SIZE);
+                    n-- > 0; rnd >>= Byte.SIZE) {
+                bytes[i++] = (byte) rnd;
+            }
+        }
+    }
+}
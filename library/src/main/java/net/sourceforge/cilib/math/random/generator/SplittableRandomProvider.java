@@ -0,0 +1,40 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+/**
+ * A {@linkplain RandomProvider} that is able to derive independent child
+ * streams from itself. A child stream is determined only by the seed of
+ * the parent and the key used to derive it, and not by the amount of numbers
+ * that have already been drawn from the parent. As a result, streams for a
+ * particular simulation, sample, entity and purpose may be obtained in any
+ * order (and on any thread) while still producing identical sequences.
+ */
+public interface SplittableRandomProvider extends RandomProvider {
+
+    /**
+     * Derive a new, independent stream identified by the given key.
+     * @param key The key identifying the child stream.
+     * @return A new {@code SplittableRandomProvider} for the key.
+     */
+    SplittableRandomProvider split(long key);
+}
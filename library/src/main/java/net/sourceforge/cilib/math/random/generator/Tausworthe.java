@@ -50,7 +50,7 @@ import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
  * Comment text ripped from GSL.
  *
  */
-public class Tausworthe implements RandomProvider {
+public class Tausworthe extends AbstractRandomProvider {
     private static final long serialVersionUID = -2863057390167225361L;
     private final long seed;
 
@@ -67,7 +67,7 @@ import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
  * source code is Copyright (C) 1998 James Theiler
  *
  */
-public class ZiffGFSR4 implements RandomProvider {
+public class ZiffGFSR4 extends AbstractRandomProvider {
 
     private static final long serialVersionUID = -1714226372864316570L;
     private final long seed;
@@ -21,13 +21,13 @@
  */
 package net.sourceforge.cilib.math.random.generator.quasi;
 
-import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.math.random.generator.AbstractRandomProvider;
 
 /**
  * TODO: Need to complete javadoc.
  *
  */
-public abstract class QuasiRandom implements RandomProvider {
+public abstract class QuasiRandom extends AbstractRandomProvider {
     private static final long serialVersionUID = -1631441422804523649L;
     private final long seed;
 
@@ -57,4 +57,21 @@ public abstract class QuasiRandom implements RandomProvider {
     }
 
     public abstract double[] nextPoint();
+
+    /**
+     * Fill the provided array with consecutive points of the sequence. The
+     * points are stored one after the other, so that the array is a row-major
+     * matrix with {@link #getDimensions()} columns.
+     * @param points The array to fill. The length must be a multiple of the
+     *        number of dimensions.
+     */
+    public abstract void nextPoints(double[] points);
+
+    /**
+     * Position the sequence so that the next point generated is the point at
+     * the given index. Disjoint blocks of the sequence may be generated by
+     * positioning separate instances at the start of each block.
+     * @param index The index of the next point.
+     */
+    public abstract void skipTo(int index);
 }
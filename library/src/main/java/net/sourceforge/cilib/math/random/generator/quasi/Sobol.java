@@ -95,331 +95,53 @@ public class Sobol extends QuasiRandom {
 
     @Override
     public double[] nextPoint() {
-        int i;
-        boolean[] includ = new boolean[LOG_MAX];
-        int j;
-        int j2;
-        int k;
-        int l = 0;
-        int m;
-        int newv;
-        int seed_temp;
         double[] quasi = new double[dimensions];
+        nextPoint(quasi, 0);
+        return quasi;
+    }
 
-        if (!initialized || dimensions != dimensionsSave) {
-            initialized = true;
-            for (i = 0; i < DIM_MAX2; i++) {
-                for (j = 0; j < LOG_MAX; j++) {
-                    v[i][j] = 0;
-                }
-            }
-
-            v[0][0] = 1;
-            v[1][0] = 1;
-            v[2][0] = 1;
-            v[3][0] = 1;
-            v[4][0] = 1;
-            v[5][0] = 1;
-            v[6][0] = 1;
-            v[7][0] = 1;
-            v[8][0] = 1;
-            v[9][0] = 1;
-            v[10][0] = 1;
-            v[11][0] = 1;
-            v[12][0] = 1;
-            v[13][0] = 1;
-            v[14][0] = 1;
-            v[15][0] = 1;
-            v[16][0] = 1;
-            v[17][0] = 1;
-            v[18][0] = 1;
-            v[19][0] = 1;
-            v[20][0] = 1;
-            v[21][0] = 1;
-            v[22][0] = 1;
-            v[23][0] = 1;
-            v[24][0] = 1;
-            v[25][0] = 1;
-            v[26][0] = 1;
-            v[27][0] = 1;
-            v[28][0] = 1;
-            v[29][0] = 1;
-            v[30][0] = 1;
-            v[31][0] = 1;
-            v[32][0] = 1;
-            v[33][0] = 1;
-            v[34][0] = 1;
-            v[35][0] = 1;
-            v[36][0] = 1;
-            v[37][0] = 1;
-            v[38][0] = 1;
-            v[39][0] = 1;
-
-            v[2][1] = 1;
-            v[3][1] = 3;
-            v[4][1] = 1;
-            v[5][1] = 3;
-            v[6][1] = 1;
-            v[7][1] = 3;
-            v[8][1] = 3;
-            v[9][1] = 1;
-            v[10][1] = 3;
-            v[11][1] = 1;
-            v[12][1] = 3;
-            v[13][1] = 1;
-            v[14][1] = 3;
-            v[15][1] = 1;
-            v[16][1] = 1;
-            v[17][1] = 3;
-            v[18][1] = 1;
-            v[19][1] = 3;
-            v[20][1] = 1;
-            v[21][1] = 3;
-            v[22][1] = 1;
-            v[23][1] = 3;
-            v[24][1] = 3;
-            v[25][1] = 1;
-            v[26][1] = 3;
-            v[27][1] = 1;
-            v[28][1] = 3;
-            v[29][1] = 1;
-            v[30][1] = 3;
-            v[31][1] = 1;
-            v[32][1] = 1;
-            v[33][1] = 3;
-            v[34][1] = 1;
-            v[35][1] = 3;
-            v[36][1] = 1;
-            v[37][1] = 3;
-            v[38][1] = 1;
-            v[39][1] = 3;
-
-            v[3][2] = 7;
-            v[4][2] = 5;
-            v[5][2] = 1;
-            v[6][2] = 3;
-            v[7][2] = 3;
-            v[8][2] = 7;
-            v[9][2] = 5;
-            v[10][2] = 5;
-            v[11][2] = 7;
-            v[12][2] = 7;
-            v[13][2] = 1;
-            v[14][2] = 3;
-            v[15][2] = 3;
-            v[16][2] = 7;
-            v[17][2] = 5;
-            v[18][2] = 1;
-            v[19][2] = 1;
-            v[20][2] = 5;
-            v[21][2] = 3;
-            v[22][2] = 3;
-            v[23][2] = 1;
-            v[24][2] = 7;
-            v[25][2] = 5;
-            v[26][2] = 1;
-            v[27][2] = 3;
-            v[28][2] = 3;
-            v[29][2] = 7;
-            v[30][2] = 5;
-            v[31][2] = 1;
-            v[32][2] = 1;
-            v[33][2] = 5;
-            v[34][2] = 7;
-            v[35][2] = 7;
-            v[36][2] = 5;
-            v[37][2] = 1;
-            v[38][2] = 3;
-            v[39][2] = 3;
-
-            v[5][3] = 1;
-            v[6][3] = 7;
-            v[7][3] = 9;
-            v[8][3] = 13;
-            v[9][3] = 11;
-            v[10][3] = 1;
-            v[11][3] = 3;
-            v[12][3] = 7;
-            v[13][3] = 9;
-            v[14][3] = 5;
-            v[15][3] = 13;
-            v[16][3] = 13;
-            v[17][3] = 11;
-            v[18][3] = 3;
-            v[19][3] = 15;
-            v[20][3] = 5;
-            v[21][3] = 3;
-            v[22][3] = 15;
-            v[23][3] = 7;
-            v[24][3] = 9;
-            v[25][3] = 13;
-            v[26][3] = 9;
-            v[27][3] = 1;
-            v[28][3] = 11;
-            v[29][3] = 7;
-            v[30][3] = 5;
-            v[31][3] = 15;
-            v[32][3] = 1;
-            v[33][3] = 15;
-            v[34][3] = 11;
-            v[35][3] = 5;
-            v[36][3] = 3;
-            v[37][3] = 1;
-            v[38][3] = 7;
-            v[39][3] = 9;
-
-            v[7][4] = 9;
-            v[8][4] = 3;
-            v[9][4] = 27;
-            v[10][4] = 15;
-            v[11][4] = 29;
-            v[12][4] = 21;
-            v[13][4] = 23;
-            v[14][4] = 19;
-            v[15][4] = 11;
-            v[16][4] = 25;
-            v[17][4] = 7;
-            v[18][4] = 13;
-            v[19][4] = 17;
-            v[20][4] = 1;
-            v[21][4] = 25;
-            v[22][4] = 29;
-            v[23][4] = 3;
-            v[24][4] = 31;
-            v[25][4] = 11;
-            v[26][4] = 5;
-            v[27][4] = 23;
-            v[28][4] = 27;
-            v[29][4] = 19;
-            v[30][4] = 21;
-            v[31][4] = 5;
-            v[32][4] = 1;
-            v[33][4] = 17;
-            v[34][4] = 13;
-            v[35][4] = 7;
-            v[36][4] = 15;
-            v[37][4] = 9;
-            v[38][4] = 31;
-            v[39][4] = 9;
-
-            v[13][5] = 37;
-            v[14][5] = 33;
-            v[15][5] = 7;
-            v[16][5] = 5;
-            v[17][5] = 11;
-            v[18][5] = 39;
-            v[19][5] = 63;
-            v[20][5] = 27;
-            v[21][5] = 17;
-            v[22][5] = 15;
-            v[23][5] = 23;
-            v[24][5] = 29;
-            v[25][5] = 3;
-            v[26][5] = 21;
-            v[27][5] = 13;
-            v[28][5] = 31;
-            v[29][5] = 25;
-            v[30][5] = 9;
-            v[31][5] = 49;
-            v[32][5] = 33;
-            v[33][5] = 19;
-            v[34][5] = 29;
-            v[35][5] = 11;
-            v[36][5] = 19;
-            v[37][5] = 27;
-            v[38][5] = 15;
-            v[39][5] = 25;
-
-            v[19][6] = 13;
-            v[20][6] = 35;
-            v[21][6] = 115;
-            v[22][6] = 41;
-            v[23][6] = 79;
-            v[24][6] = 17;
-            v[25][6] = 29;
-            v[26][6] = 119;
-            v[27][6] = 75;
-            v[28][6] = 73;
-            v[29][6] = 105;
-            v[30][6] = 7;
-            v[31][6] = 59;
-            v[32][6] = 65;
-            v[33][6] = 21;
-            v[34][6] = 3;
-            v[35][6] = 113;
-            v[36][6] = 61;
-            v[37][6] = 89;
-            v[38][6] = 45;
-            v[39][6] = 107;
-
-            v[37][7] = 7;
-            v[38][7] = 23;
-            v[39][7] = 39;
-
-            dimensionsSave = dimensions;
-            //
-            // Set ATMOST = 2^LOG_MAX - 1.
-            //
-            atmost = 0;
-            for (i = 1; i <= LOG_MAX; i++) {
-                atmost = 2 * atmost + 1;
-            }
-            //
-            // Find the highest 1 bit in ATMOST (should be LOG_MAX).
-            //
-            maxcol = i4BitHi1(atmost);
-            //
-            // Initialize row 1 of V.
-            //
-            for (j = 0; j < maxcol; j++) {
-                v[0][j] = 1;
-            }
-
-            for (i = 1; i < dimensions; i++) {
-                j = POLY[i];
-                m = 0;
-
-                while (true) {
-                    j = j / 2;
-                    if (j <= 0) {
-                        break;
-                    }
-                    m = m + 1;
-                }
-
-                j = POLY[i];
-                for (k = m - 1; 0 <= k; k--) {
-                    j2 = j / 2;
-                    includ[k] = (j != (2 * j2));
-                    j = j2;
-                }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The points are generated without any intermediate allocations.
+     */
+    @Override
+    public void nextPoints(double[] points) {
+        if (dimensions == 0 || points.length % dimensions != 0) {
+            throw new IllegalArgumentException("The length of the array must be a multiple of the number of dimensions.");
+        }
 
-                for (j = m; j < maxcol; j++) {
-                    newv = v[i][j - m];
-                    l = 1;
+        for (int offset = 0; offset < points.length; offset += dimensions) {
+            nextPoint(points, offset);
+        }
+    }
 
-                    for (k = 0; k < m; k++) {
-                        l = 2 * l;
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The state for the given index is obtained directly from the Gray code
+     * of the index, which requires at most {@code LOG_MAX} operations per
+     * dimension.
+     */
+    @Override
+    public void skipTo(int index) {
+        if (index < 0 || index > (1 << LOG_MAX) - 1) {
+            throw new IllegalArgumentException("The index must be within [0, 2^" + LOG_MAX + " - 1].");
+        }
+        storedSeed = index;
+        seedSave = index; // Forces the state to be derived from the Gray code
+    }
 
-                        if (includ[k]) {
-                            newv = (newv ^ (l * v[i][j - k - 1]));
-                        }
-                    }
-                    v[i][j] = newv;
-                }
-            }
+    /**
+     * Generate the next point into the provided array, starting at the
+     * given offset.
+     */
+    private void nextPoint(double[] quasi, int offset) {
+        int i;
+        int l = 0;
 
-            l = 1;
-            for (j = maxcol - 2; 0 <= j; j--) {
-                l = 2 * l;
-                for (i = 0; i < dimensions; i++) {
-                    v[i][j] = v[i][j] * l;
-                }
-            }
-            //
-            // RECIPD is 1/(common denominator of the elements in V).
-            //
-            recipd = 1.0E+00f / ((float) (2 * l));
+        if (!initialized || dimensions != dimensionsSave) {
+            initialise();
         }
 
         if (storedSeed < 0) {
@@ -433,43 +155,365 @@ public class Sobol extends QuasiRandom {
             }
         } else if (storedSeed == seedSave + 1) {
             l = i4BitLo0(storedSeed);
-        } else if (storedSeed <= seedSave) {
-            seedSave = 0;
-            l = 1;
-            for (i = 0; i < dimensions; i++) {
-                lastq[i] = 0;
-            }
+        } else {
+            grayCode(storedSeed);
+            l = i4BitLo0(storedSeed);
+        }
 
-            for (seed_temp = seedSave; seed_temp <= (storedSeed) - 1; seed_temp++) {
+        for (i = 0; i < dimensions; i++) {
+            quasi[offset + i] = ((float) lastq[i]) * recipd;
+            lastq[i] = (lastq[i] ^ v[i][l - 1]);
+        }
 
-                l = i4BitLo0(seed_temp);
+        seedSave = storedSeed;
+        storedSeed = storedSeed + 1;
+    }
 
-                for (i = 0; i < dimensions; i++) {
-                    lastq[i] = (lastq[i] ^ v[i][l - 1]);
+    /**
+     * Set the state to that of the point at the given index. The point at
+     * index {@code n} is the exclusive-or of the direction numbers selected
+     * by the bits of the Gray code {@code n ^ (n >> 1)}.
+     */
+    private void grayCode(int index) {
+        int gray = index ^ (index >>> 1);
+        for (int i = 0; i < dimensions; i++) {
+            int value = 0;
+            for (int bit = 0; (gray >>> bit) != 0; bit++) {
+                if (((gray >>> bit) & 1) != 0) {
+                    value ^= v[i][bit];
                 }
             }
-            l = i4BitLo0(storedSeed);
-        } else if (seedSave + 1 < storedSeed) {
-            for (seed_temp = seedSave + 1; seed_temp <= (storedSeed) - 1; seed_temp++) {
+            lastq[i] = value;
+        }
+    }
 
-                l = i4BitLo0(seed_temp);
+    /**
+     * Initialise the direction numbers for the current number of dimensions.
+     */
+    private void initialise() {
+        int i;
+        boolean[] includ = new boolean[LOG_MAX];
+        int j;
+        int j2;
+        int k;
+        int l = 0;
+        int m;
+        int newv;
 
-                for (i = 0; i < dimensions; i++) {
-                    lastq[i] = (lastq[i] ^ v[i][l - 1]);
-                }
+
+        initialized = true;
+        for (i = 0; i < DIM_MAX2; i++) {
+            for (j = 0; j < LOG_MAX; j++) {
+                v[i][j] = 0;
             }
-            l = i4BitLo0(storedSeed);
         }
 
-        for (i = 0; i < dimensions; i++) {
-            quasi[i] = ((float) lastq[i]) * recipd;
-            lastq[i] = (lastq[i] ^ v[i][l - 1]);
+        v[0][0] = 1;
+        v[1][0] = 1;
+        v[2][0] = 1;
+        v[3][0] = 1;
+        v[4][0] = 1;
+        v[5][0] = 1;
+        v[6][0] = 1;
+        v[7][0] = 1;
+        v[8][0] = 1;
+        v[9][0] = 1;
+        v[10][0] = 1;
+        v[11][0] = 1;
+        v[12][0] = 1;
+        v[13][0] = 1;
+        v[14][0] = 1;
+        v[15][0] = 1;
+        v[16][0] = 1;
+        v[17][0] = 1;
+        v[18][0] = 1;
+        v[19][0] = 1;
+        v[20][0] = 1;
+        v[21][0] = 1;
+        v[22][0] = 1;
+        v[23][0] = 1;
+        v[24][0] = 1;
+        v[25][0] = 1;
+        v[26][0] = 1;
+        v[27][0] = 1;
+        v[28][0] = 1;
+        v[29][0] = 1;
+        v[30][0] = 1;
+        v[31][0] = 1;
+        v[32][0] = 1;
+        v[33][0] = 1;
+        v[34][0] = 1;
+        v[35][0] = 1;
+        v[36][0] = 1;
+        v[37][0] = 1;
+        v[38][0] = 1;
+        v[39][0] = 1;
+
+        v[2][1] = 1;
+        v[3][1] = 3;
+        v[4][1] = 1;
+        v[5][1] = 3;
+        v[6][1] = 1;
+        v[7][1] = 3;
+        v[8][1] = 3;
+        v[9][1] = 1;
+        v[10][1] = 3;
+        v[11][1] = 1;
+        v[12][1] = 3;
+        v[13][1] = 1;
+        v[14][1] = 3;
+        v[15][1] = 1;
+        v[16][1] = 1;
+        v[17][1] = 3;
+        v[18][1] = 1;
+        v[19][1] = 3;
+        v[20][1] = 1;
+        v[21][1] = 3;
+        v[22][1] = 1;
+        v[23][1] = 3;
+        v[24][1] = 3;
+        v[25][1] = 1;
+        v[26][1] = 3;
+        v[27][1] = 1;
+        v[28][1] = 3;
+        v[29][1] = 1;
+        v[30][1] = 3;
+        v[31][1] = 1;
+        v[32][1] = 1;
+        v[33][1] = 3;
+        v[34][1] = 1;
+        v[35][1] = 3;
+        v[36][1] = 1;
+        v[37][1] = 3;
+        v[38][1] = 1;
+        v[39][1] = 3;
+
+        v[3][2] = 7;
+        v[4][2] = 5;
+        v[5][2] = 1;
+        v[6][2] = 3;
+        v[7][2] = 3;
+        v[8][2] = 7;
+        v[9][2] = 5;
+        v[10][2] = 5;
+        v[11][2] = 7;
+        v[12][2] = 7;
+        v[13][2] = 1;
+        v[14][2] = 3;
+        v[15][2] = 3;
+        v[16][2] = 7;
+        v[17][2] = 5;
+        v[18][2] = 1;
+        v[19][2] = 1;
+        v[20][2] = 5;
+        v[21][2] = 3;
+        v[22][2] = 3;
+        v[23][2] = 1;
+        v[24][2] = 7;
+        v[25][2] = 5;
+        v[26][2] = 1;
+        v[27][2] = 3;
+        v[28][2] = 3;
+        v[29][2] = 7;
+        v[30][2] = 5;
+        v[31][2] = 1;
+        v[32][2] = 1;
+        v[33][2] = 5;
+        v[34][2] = 7;
+        v[35][2] = 7;
+        v[36][2] = 5;
+        v[37][2] = 1;
+        v[38][2] = 3;
+        v[39][2] = 3;
+
+        v[5][3] = 1;
+        v[6][3] = 7;
+        v[7][3] = 9;
+        v[8][3] = 13;
+        v[9][3] = 11;
+        v[10][3] = 1;
+        v[11][3] = 3;
+        v[12][3] = 7;
+        v[13][3] = 9;
+        v[14][3] = 5;
+        v[15][3] = 13;
+        v[16][3] = 13;
+        v[17][3] = 11;
+        v[18][3] = 3;
+        v[19][3] = 15;
+        v[20][3] = 5;
+        v[21][3] = 3;
+        v[22][3] = 15;
+        v[23][3] = 7;
+        v[24][3] = 9;
+        v[25][3] = 13;
+        v[26][3] = 9;
+        v[27][3] = 1;
+        v[28][3] = 11;
+        v[29][3] = 7;
+        v[30][3] = 5;
+        v[31][3] = 15;
+        v[32][3] = 1;
+        v[33][3] = 15;
+        v[34][3] = 11;
+        v[35][3] = 5;
+        v[36][3] = 3;
+        v[37][3] = 1;
+        v[38][3] = 7;
+        v[39][3] = 9;
+
+        v[7][4] = 9;
+        v[8][4] = 3;
+        v[9][4] = 27;
+        v[10][4] = 15;
+        v[11][4] = 29;
+        v[12][4] = 21;
+        v[13][4] = 23;
+        v[14][4] = 19;
+        v[15][4] = 11;
+        v[16][4] = 25;
+        v[17][4] = 7;
+        v[18][4] = 13;
+        v[19][4] = 17;
+        v[20][4] = 1;
+        v[21][4] = 25;
+        v[22][4] = 29;
+        v[23][4] = 3;
+        v[24][4] = 31;
+        v[25][4] = 11;
+        v[26][4] = 5;
+        v[27][4] = 23;
+        v[28][4] = 27;
+        v[29][4] = 19;
+        v[30][4] = 21;
+        v[31][4] = 5;
+        v[32][4] = 1;
+        v[33][4] = 17;
+        v[34][4] = 13;
+        v[35][4] = 7;
+        v[36][4] = 15;
+        v[37][4] = 9;
+        v[38][4] = 31;
+        v[39][4] = 9;
+
+        v[13][5] = 37;
+        v[14][5] = 33;
+        v[15][5] = 7;
+        v[16][5] = 5;
+        v[17][5] = 11;
+        v[18][5] = 39;
+        v[19][5] = 63;
+        v[20][5] = 27;
+        v[21][5] = 17;
+        v[22][5] = 15;
+        v[23][5] = 23;
+        v[24][5] = 29;
+        v[25][5] = 3;
+        v[26][5] = 21;
+        v[27][5] = 13;
+        v[28][5] = 31;
+        v[29][5] = 25;
+        v[30][5] = 9;
+        v[31][5] = 49;
+        v[32][5] = 33;
+        v[33][5] = 19;
+        v[34][5] = 29;
+        v[35][5] = 11;
+        v[36][5] = 19;
+        v[37][5] = 27;
+        v[38][5] = 15;
+        v[39][5] = 25;
+
+        v[19][6] = 13;
+        v[20][6] = 35;
+        v[21][6] = 115;
+        v[22][6] = 41;
+        v[23][6] = 79;
+        v[24][6] = 17;
+        v[25][6] = 29;
+        v[26][6] = 119;
+        v[27][6] = 75;
+        v[28][6] = 73;
+        v[29][6] = 105;
+        v[30][6] = 7;
+        v[31][6] = 59;
+        v[32][6] = 65;
+        v[33][6] = 21;
+        v[34][6] = 3;
+        v[35][6] = 113;
+        v[36][6] = 61;
+        v[37][6] = 89;
+        v[38][6] = 45;
+        v[39][6] = 107;
+
+        v[37][7] = 7;
+        v[38][7] = 23;
+        v[39][7] = 39;
+
+        dimensionsSave = dimensions;
+        //
+        // Set ATMOST = 2^LOG_MAX - 1.
+        //
+        atmost = 0;
+        for (i = 1; i <= LOG_MAX; i++) {
+            atmost = 2 * atmost + 1;
+        }
+        //
+        // Find the highest 1 bit in ATMOST (should be LOG_MAX).
+        //
+        maxcol = i4BitHi1(atmost);
+        //
+        // Initialize row 1 of V.
+        //
+        for (j = 0; j < maxcol; j++) {
+            v[0][j] = 1;
         }
 
-        seedSave = storedSeed;
-        storedSeed = storedSeed + 1;
+        for (i = 1; i < dimensions; i++) {
+            j = POLY[i];
+            m = 0;
 
-        return quasi;
+            while (true) {
+                j = j / 2;
+                if (j <= 0) {
+                    break;
+                }
+                m = m + 1;
+            }
+
+            j = POLY[i];
+            for (k = m - 1; 0 <= k; k--) {
+                j2 = j / 2;
+                includ[k] = (j != (2 * j2));
+                j = j2;
+            }
+
+            for (j = m; j < maxcol; j++) {
+                newv = v[i][j - m];
+                l = 1;
+
+                for (k = 0; k < m; k++) {
+                    l = 2 * l;
+
+                    if (includ[k]) {
+                        newv = (newv ^ (l * v[i][j - k - 1]));
+                    }
+                }
+                v[i][j] = newv;
+            }
+        }
+
+        l = 1;
+        for (j = maxcol - 2; 0 <= j; j--) {
+            l = 2 * l;
+            for (i = 0; i < dimensions; i++) {
+                v[i][j] = v[i][j] * l;
+            }
+        }
+        //
+        // RECIPD is 1/(common denominator of the elements in V).
+        //
+        recipd = 1.0E+00f / ((float) (2 * l));
     }
     private int calls = 0;
     private double[] currentPoint = null;
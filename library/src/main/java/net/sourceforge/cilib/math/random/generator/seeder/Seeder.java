@@ -21,14 +21,30 @@
  */
 package net.sourceforge.cilib.math.random.generator.seeder;
 
+import net.sourceforge.cilib.math.random.generator.SplittableRandomProvider;
 
 /**
- *
- * @deprecated This class needs to be replaced by some enum type solution.
+ * Provides seed values to pseudo-random number generators.
+ * <p>
+ * Seeds are obtained from a seed stream that is bound to the current thread,
+ * if one has been bound with {@link #setSeedStream(SplittableRandomProvider)}.
+ * The seeds handed out are then a deterministic function of the stream and
+ * the order in which the components on that thread request them, which allows
+ * a sample to be repeated exactly. No locking is required, as each stream is
+ * confined to the thread it is bound to. Work that is spread over other
+ * threads with {@link net.sourceforge.cilib.util.Tasks} binds a stream derived
+ * from the stream of the calling thread and the index of the work.
+ * <p>
+ * If no stream is bound, the seed is obtained from the current
+ * {@linkplain SeedSelectionStrategy}, unless seed streams have been made
+ * required with {@link #setSeedStreamRequired(boolean)}. In that case a seed
+ * requested on a thread without a bound stream is refused, as it could not be
+ * reproduced.
  */
-@Deprecated
 public final class Seeder {
-    private SeedSelectionStrategy seedSelectionStrategy;
+    private static final ThreadLocal<SplittableRandomProvider> seedStream = new ThreadLocal<SplittableRandomProvider>();
+    private static volatile boolean seedStreamRequired;
+    private volatile SeedSelectionStrategy seedSelectionStrategy;
 
 
     /**
@@ -49,13 +65,61 @@ public final class Seeder {
 
 
     /**
-     * Get a seed value.
+     * Get a seed value. The value is taken from the seed stream bound to the
+     * current thread, or from the current {@linkplain SeedSelectionStrategy} if
+     * there is none.
      * @return The seed value.
+     * @throws IllegalStateException if seed streams are required and no stream
+     *         is bound to the current thread.
      */
-    public static synchronized long getSeed() {
+    public static long getSeed() {
+        SplittableRandomProvider stream = seedStream.get();
+        if (stream != null) {
+            return stream.nextLong();
+        }
+        if (seedStreamRequired) {
+            throw new IllegalStateException("No seed stream is bound to thread " + Thread.currentThread().getName()
+                    + ", so its random numbers could not be reproduced.");
+        }
         return getInstance().seedSelectionStrategy.getSeed();
     }
 
+    /**
+     * Set whether a seed stream must be bound to every thread that requests a
+     * seed.
+     * @param required {@code true} to refuse seeds to threads without a bound
+     *        stream, {@code false} to obtain them from the
+     *        {@linkplain SeedSelectionStrategy}.
+     */
+    public static void setSeedStreamRequired(boolean required) {
+        seedStreamRequired = required;
+    }
+
+    /**
+     * Bind the provided seed stream to the current thread. All seeds requested
+     * on the current thread will be drawn from this stream until it is removed
+     * with {@link #removeSeedStream()}.
+     * @param stream The seed stream to bind.
+     */
+    public static void setSeedStream(SplittableRandomProvider stream) {
+        seedStream.set(stream);
+    }
+
+    /**
+     * Get the seed stream bound to the current thread.
+     * @return The bound stream, or {@code null} if there is none.
+     */
+    public static SplittableRandomProvider getSeedStream() {
+        return seedStream.get();
+    }
+
+    /**
+     * Remove the seed stream bound to the current thread, if any.
+     */
+    public static void removeSeedStream() {
+        seedStream.remove();
+    }
+
     /**
      * Get the currently defined {@linkplain SeedSelectionStrategy}.
      * @return The current {@linkplain SeedSelectionStrategy}.
@@ -68,7 +132,7 @@ public final class Seeder {
      * Set the {@linkplain SeedSelectionStrategy} to use.
      * @param seedSelectionStrategy The value to set.
      */
-    public synchronized static void setSeederStrategy(SeedSelectionStrategy seedSelectionStrategy) {
+    public static void setSeederStrategy(SeedSelectionStrategy seedSelectionStrategy) {
         getInstance().seedSelectionStrategy = seedSelectionStrategy;
     }
 
@@ -0,0 +1,244 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.measurement;
+
+import com.google.common.collect.Maps;
+import java.util.Map;
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.entity.PopulationStatistics;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.container.StructuredType;
+
+/**
+ * <p>
+ * Aggregates of an algorithm that are shared by the measurements taken at the
+ * same time, such as the best solution, the statistics of the population and
+ * the number of bound violations. Every aggregate is calculated when it is
+ * first requested and then remembered, so that a suite of measurements does
+ * not traverse the population once per measurement.
+ * </p>
+ * <p>
+ * A context is {@linkplain #begin(Algorithm) begun} before a suite of
+ * measurements is taken and {@linkplain #end() ended} afterwards. The
+ * aggregates are only valid while the algorithm does not change, which is
+ * why the context is confined to the thread that takes the measurements.
+ * Measurements obtain the context with {@link #of(Algorithm)}, which also
+ * works outside of a suite by providing a context that is not shared.
+ * </p>
+ */
+public final class MeasurementContext {
+
+    private static final ThreadLocal<MeasurementContext> current = new ThreadLocal<MeasurementContext>();
+
+    private final Algorithm algorithm;
+    private OptimisationSolution bestSolution;
+    private PopulationStatistics statistics;
+    private double diameter = Double.NaN;
+    private int entitiesOutsideBounds = -1;
+    private int dimensionsOutsideBounds = -1;
+    private int personalBestsOutsideBounds = -1;
+    private final Map<Class<?>, Object> aggregates = Maps.newHashMap();
+
+    private MeasurementContext(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Begin a context for measurements of the given algorithm, in the
+     * current thread.
+     * @param algorithm The algorithm to be measured.
+     * @return The new context.
+     */
+    public static MeasurementContext begin(Algorithm algorithm) {
+        MeasurementContext context = new MeasurementContext(algorithm);
+        current.set(context);
+        return context;
+    }
+
+    /**
+     * End this context. Measurements taken afterwards no longer share it.
+     */
+    public void end() {
+        if (current.get() == this) {
+            current.remove();
+        }
+    }
+
+    /**
+     * Obtain the context for measurements of the given algorithm. This is the
+     * context begun in the current thread if it belongs to the algorithm,
+     * otherwise a new context which is not shared.
+     * @param algorithm The algorithm being measured.
+     * @return The context.
+     */
+    public static MeasurementContext of(Algorithm algorithm) {
+        MeasurementContext context = current.get();
+        if (context != null && context.algorithm == algorithm) {
+            return context;
+        }
+        return new MeasurementContext(algorithm);
+    }
+
+    /**
+     * Get the algorithm being measured.
+     * @return The algorithm.
+     */
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Get the best solution of the algorithm.
+     * @return The best solution.
+     * @see Algorithm#getBestSolution()
+     */
+    public OptimisationSolution getBestSolution() {
+        if (bestSolution == null) {
+            bestSolution = algorithm.getBestSolution();
+        }
+        return bestSolution;
+    }
+
+    /**
+     * Get the statistics of the candidate solutions in the topology of the
+     * algorithm, which must be a {@link PopulationBasedAlgorithm}.
+     * @return The population statistics.
+     */
+    public PopulationStatistics getPopulationStatistics() {
+        if (statistics == null) {
+            statistics = PopulationStatistics.of(((PopulationBasedAlgorithm) algorithm).getTopology());
+        }
+        return statistics;
+    }
+
+    /**
+     * Get the largest Euclidean distance between two entities.
+     * @return The diameter of the population.
+     * @see PopulationStatistics#getDiameter()
+     */
+    public double getDiameter() {
+        if (Double.isNaN(diameter)) {
+            diameter = getPopulationStatistics().getDiameter();
+        }
+        return diameter;
+    }
+
+    /**
+     * Get the number of entities with at least one element of the candidate
+     * solution outside of its bounds.
+     * @return The number of entities outside of the bounds.
+     */
+    public int getEntitiesOutsideBounds() {
+        countBoundViolations();
+        return entitiesOutsideBounds;
+    }
+
+    /**
+     * Get the total number of elements of the candidate solutions that are
+     * outside of their bounds.
+     * @return The number of elements outside of the bounds.
+     */
+    public int getDimensionsOutsideBounds() {
+        countBoundViolations();
+        return dimensionsOutsideBounds;
+    }
+
+    /**
+     * Get the number of entities with at least one element of the personal
+     * best position outside of its bounds.
+     * @return The number of personal best positions outside of the bounds.
+     * @throws UnsupportedOperationException If an entity does not have a
+     *         personal best position.
+     */
+    public int getPersonalBestsOutsideBounds() {
+        countBoundViolations();
+        if (personalBestsOutsideBounds < 0) {
+            throw new UnsupportedOperationException("Entity is not a particle.");
+        }
+        return personalBestsOutsideBounds;
+    }
+
+    /**
+     * Get an aggregate of a type which is not known to this class, which was
+     * previously remembered with {@link #putAggregate(Class, Object)}.
+     * @param <T> The type of the aggregate.
+     * @param type The class of the aggregate.
+     * @return The aggregate, or {@code null} if it has not been remembered.
+     */
+    public <T> T getAggregate(Class<T> type) {
+        return type.cast(aggregates.get(type));
+    }
+
+    /**
+     * Remember an aggregate, so that the measurements that follow may share it.
+     * @param <T> The type of the aggregate.
+     * @param type The class of the aggregate.
+     * @param aggregate The aggregate.
+     */
+    public <T> void putAggregate(Class<T> type, T aggregate) {
+        aggregates.put(type, aggregate);
+    }
+
+    private void countBoundViolations() {
+        if (entitiesOutsideBounds >= 0) {
+            return;
+        }
+
+        int entities = 0;
+        int dimensions = 0;
+        int personalBests = 0;
+        for (Entity entity : ((PopulationBasedAlgorithm) algorithm).getTopology()) {
+            int violations = countOutsideBounds(entity.getCandidateSolution());
+            if (violations > 0) {
+                entities++;
+            }
+            dimensions += violations;
+
+            // Personal bests are only counted while every entity has one.
+            StructuredType<?> pbest = (StructuredType<?>) entity.getProperties().get(EntityType.Particle.BEST_POSITION);
+            if (pbest == null) {
+                personalBests = -1;
+            } else if (personalBests >= 0 && countOutsideBounds(pbest) > 0) {
+                personalBests++;
+            }
+        }
+
+        entitiesOutsideBounds = entities;
+        dimensionsOutsideBounds = dimensions;
+        personalBestsOutsideBounds = personalBests;
+    }
+
+    private static int countOutsideBounds(StructuredType<?> solution) {
+        int violations = 0;
+        for (Object element : solution) {
+            Numeric position = (Numeric) element;
+            if (!position.getBounds().isInsideBounds(position.doubleValue())) {
+                violations++;
+            }
+        }
+        return violations;
+    }
+}
@@ -21,19 +21,28 @@
  */
 package net.sourceforge.cilib.measurement;
 
+import com.google.common.collect.MapMaker;
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import net.sourceforge.cilib.algorithm.Algorithm;
 
 /**
- *
+ * Keeps the state of each {@linkplain StateAwareMeasurement} for each
+ * algorithm that it measures, so that a single measurement instance can be
+ * shared between algorithms.
+ * <p>
+ * The state is kept as the object returned by
+ * {@link StateAwareMeasurement#saveState()}, which needs no serialisation.
+ * The algorithms and measurements are compared by identity and are not
+ * retained once they are no longer in use. The externalised
+ * {@linkplain MeasurementMemento} of a measurement is still available through
+ * {@link #getState(Algorithm, StateAwareMeasurement)}, for checkpointing.
  */
 public class MeasurementStateManager {
-    private ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement, MeasurementMemento>> algorithmData;
+    private final ConcurrentMap<Algorithm, ConcurrentMap<StateAwareMeasurement, Object>> algorithmData;
 
     public MeasurementStateManager() {
-        this.algorithmData = new ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement, MeasurementMemento>>();
+        this.algorithmData = new MapMaker().weakKeys().makeMap();
     }
 
     /**
@@ -47,20 +56,17 @@ public class MeasurementStateManager {
     public void setState(Algorithm algorithm, StateAwareMeasurement measurement) {
         if (!measurement.isStateAware()) return;
 
-        try {
-            ConcurrentHashMap<Measurement, MeasurementMemento> measurementData = this.algorithmData.get(algorithm);
-            if (measurementData == null) {
-                measurementData = new ConcurrentHashMap<Measurement, MeasurementMemento>();
-                algorithmData.put(algorithm, measurementData);
-            }
+        Object state = measurementData(algorithm).get(measurement);
+        if (state == null) {// The state has not been saved yet.
+            return;
+        }
 
-            MeasurementMemento memento = measurementData.get(measurement);
-            if (memento == null) {// The state has not been saved yet.
-                memento = new MeasurementMemento();
-                measurementData.put(measurement, memento);
+        try {
+            if (state instanceof MeasurementMemento) {
+                measurement.setState((MeasurementMemento) state);
+            } else {
+                measurement.restoreState(state);
             }
-
-            measurement.setState(memento);
         }
         catch (IOException io) {
 //            logger.error("Error restoring state of measurement [{}] for algorithm [{}]", measurement, algorithm);
@@ -71,23 +77,37 @@ public class MeasurementStateManager {
         }
     }
 
+    /**
+     * Record the state of the provided {@code measurement} for the provided
+     * {@code algorithm}, without externalising it.
+     * @param algorithm The algorithm to which the measurement state is associated.
+     * @param measurement The measurement which needs to have it's state recorded.
+     */
+    public void saveState(Algorithm algorithm, StateAwareMeasurement measurement) {
+        if (!measurement.isStateAware()) return;
+
+        try {
+            measurementData(algorithm).put(measurement, measurement.saveState());
+        }
+        catch (IOException io) {
+//           logger.error("Error persisting state of measurement {} for algorithm {}", measurement, algorithm);
+//           logger.error("Execption: ", io);
+        }
+    }
+
     /**
      * Extract the state of the provided {@code measurement} based on the current
-     * provided {@code algorithm}.
+     * provided {@code algorithm}, as an externalised memento which may be
+     * checkpointed.
      * @param algorithm The algorithm to which the measurement state is associated.
      * @param measurement The measurement which needs to have it's state extracted.
      */
     public MeasurementMemento getState(Algorithm algorithm, StateAwareMeasurement measurement) {
         if (!measurement.isStateAware()) return null;
 
-        if (!algorithmData.containsKey(algorithm))
-            this.algorithmData.putIfAbsent(algorithm, new ConcurrentHashMap<Measurement, MeasurementMemento>());
-
-        Map<Measurement, MeasurementMemento> data = this.algorithmData.get(algorithm);
-
         try {
             MeasurementMemento memento = measurement.getState();
-            data.put(measurement, memento);
+            measurementData(algorithm).put(measurement, memento);
             return memento;
         }
         catch (IOException io) {
@@ -98,4 +118,16 @@ public class MeasurementStateManager {
         return null;
     }
 
+    private ConcurrentMap<StateAwareMeasurement, Object> measurementData(Algorithm algorithm) {
+        ConcurrentMap<StateAwareMeasurement, Object> measurementData = algorithmData.get(algorithm);
+        if (measurementData == null) {
+            ConcurrentMap<StateAwareMeasurement, Object> created = new MapMaker().weakKeys().makeMap();
+            measurementData = algorithmData.putIfAbsent(algorithm, created);
+            if (measurementData == null) {
+                measurementData = created;
+            }
+        }
+        return measurementData;
+    }
+
 }
@@ -42,6 +42,13 @@ import net.sourceforge.cilib.type.types.Type;
  * restoring that may be required as the measurements are performed on the
  * current algorithm.
  * </p>
+ * <p>
+ * The state is recorded in memory with {@link #saveState()} and applied again
+ * with {@link #restoreState(Object)}. Measurements should override these
+ * methods to copy their fields into a small state object, which avoids
+ * serialising the state every time a measurement is taken. The externalised
+ * {@linkplain MeasurementMemento} remains available for checkpointing.
+ * </p>
  *
  * @param <E> The {@code Type} type.
  */
@@ -105,4 +112,26 @@ public abstract class StateAwareMeasurement<E extends Type> implements Measureme
         memento.setData(baos.toByteArray());
         return memento;
     }
+
+    /**
+     * Obtain a copy of the current state of the measurement. The copy must not
+     * change when the measurement changes. The default implementation
+     * externalises the state into a {@linkplain MeasurementMemento}.
+     * @return The state of the measurement.
+     * @throws java.io.IOException If an IO error occours.
+     */
+    protected Object saveState() throws IOException {
+        return getState();
+    }
+
+    /**
+     * Set the state of the measurement from a copy obtained with
+     * {@link #saveState()}.
+     * @param state The state of the measurement.
+     * @throws java.io.IOException If an IO error occours.
+     * @throws java.lang.ClassNotFoundException If a specified class cannot be found.
+     */
+    protected void restoreState(Object state) throws IOException, ClassNotFoundException {
+        setState((MeasurementMemento) state);
+    }
 }
@@ -0,0 +1,708 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.measurement.clustervalidity;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.measurement.MeasurementContext;
+import net.sourceforge.cilib.type.types.container.CentroidHolder;
+import net.sourceforge.cilib.type.types.container.ClusterCentroid;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.DistanceMeasure;
+import net.sourceforge.cilib.util.EuclideanDistanceMeasure;
+import net.sourceforge.cilib.util.Tasks;
+
+/**
+ * <p>
+ * The statistics of a clustering that the {@linkplain ValidityIndex validity indexes}
+ * are calculated from. The centroids and the patterns of the clusters are
+ * copied into primitive arrays once, and every statistic is calculated when it
+ * is first requested and then remembered. The pairwise statistics of the
+ * clusters are spread over the available processors when there are many
+ * patterns.
+ * </p>
+ * <p>
+ * With the {@linkplain EuclideanDistanceMeasure Euclidean distance} the
+ * distances are calculated on the primitive arrays, and the diameters of the
+ * clusters and the separations between clusters are found exactly without
+ * comparing every pair of patterns: the patterns are ordered by their distance
+ * from the mean of a cluster, and the triangle inequality bounds the distances
+ * of the pairs that can still change the result. Any other distance measure is
+ * applied to every pair of patterns.
+ * </p>
+ * <p>
+ * For very large clusters the diameter and the separation may be estimated
+ * from a random sample of the patterns instead.
+ * </p>
+ */
+public final class ClusterStatistics {
+
+    private static final long PARALLEL_THRESHOLD = 1L << 21;
+    private static final double TOLERANCE = 1e-12;
+
+    private final DistanceMeasure distanceMeasure;
+    private final boolean euclidean;
+    private final int clusters;
+    private final int dimensions;
+    private final int[] start;
+    private final int[] size;
+    private final double[] positions;
+    private final double[] centroids;
+    private final Vector[] patternVectors;
+    private final Vector[] centroidVectors;
+
+    private double[] centroidDistances;
+    private double[] averageDistances;
+    private double averageDistance = Double.NaN;
+    private double[] diameters;
+    private double[] separations;
+    private double[] variances;
+    private double[] datasetMean;
+    private double datasetVariance = Double.NaN;
+    private double standardDeviation = Double.NaN;
+    private double[] centroidDensities;
+    private double[] midpointDensities;
+
+    private ClusterStatistics(Collection<ClusterCentroid> holder, DistanceMeasure distanceMeasure) {
+        this.distanceMeasure = distanceMeasure;
+        this.euclidean = distanceMeasure.getClass() == EuclideanDistanceMeasure.class;
+        this.clusters = holder.size();
+
+        int patterns = 0;
+        int width = 0;
+        for (ClusterCentroid centroid : holder) {
+            patterns += centroid.getDataItems().size();
+            width = centroid.size();
+        }
+        this.dimensions = width;
+        this.start = new int[clusters];
+        this.size = new int[clusters];
+        this.positions = new double[patterns * dimensions];
+        this.centroids = new double[clusters * dimensions];
+        this.patternVectors = new Vector[patterns];
+        this.centroidVectors = new Vector[clusters];
+
+        int k = 0;
+        int p = 0;
+        for (ClusterCentroid centroid : holder) {
+            Vector centroidVector = centroid.toVector();
+            centroidVectors[k] = centroidVector;
+            for (int d = 0; d < dimensions; d++) {
+                centroids[k * dimensions + d] = centroidVector.doubleValueOf(d);
+            }
+
+            start[k] = p;
+            size[k] = centroid.getDataItems().size();
+            for (Vector pattern : centroid.getDataItems()) {
+                patternVectors[p] = pattern;
+                for (int d = 0; d < dimensions; d++) {
+                    positions[p * dimensions + d] = pattern.doubleValueOf(d);
+                }
+                p++;
+            }
+            k++;
+        }
+    }
+
+    /**
+     * Gather the statistics of the provided clusters.
+     * @param holder The clusters, with the patterns assigned to them.
+     * @param distanceMeasure The distance measure between patterns.
+     * @return The statistics of the clusters.
+     */
+    public static ClusterStatistics of(Collection<ClusterCentroid> holder, DistanceMeasure distanceMeasure) {
+        return new ClusterStatistics(holder, distanceMeasure);
+    }
+
+    /**
+     * Gather the statistics of the clusters of the best solution of the
+     * algorithm. The statistics for the Euclidean distance are shared by the
+     * measurements in the same {@linkplain MeasurementContext}.
+     * @param algorithm The clustering algorithm.
+     * @param distanceMeasure The distance measure between patterns.
+     * @return The statistics of the clusters.
+     */
+    public static ClusterStatistics of(Algorithm algorithm, DistanceMeasure distanceMeasure) {
+        MeasurementContext context = MeasurementContext.of(algorithm);
+        CentroidHolder holder = (CentroidHolder) context.getBestSolution().getPosition();
+        if (distanceMeasure.getClass() != EuclideanDistanceMeasure.class) {
+            return of(holder, distanceMeasure);
+        }
+
+        ClusterStatistics statistics = context.getAggregate(ClusterStatistics.class);
+        if (statistics == null) {
+            statistics = of(holder, distanceMeasure);
+            context.putAggregate(ClusterStatistics.class, statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Get the number of clusters.
+     * @return The number of clusters.
+     */
+    public int getClusters() {
+        return clusters;
+    }
+
+    /**
+     * Get the number of patterns assigned to a cluster.
+     * @param cluster The index of the cluster.
+     * @return The number of patterns in the cluster.
+     */
+    public int getClusterSize(int cluster) {
+        return size[cluster];
+    }
+
+    /**
+     * Get the distance between the centroids of two clusters.
+     * @param i The index of the first cluster.
+     * @param j The index of the second cluster.
+     * @return The distance between the centroids.
+     */
+    public double getCentroidDistance(int i, int j) {
+        if (centroidDistances == null) {
+            double[] distances = new double[clusters * clusters];
+            for (int a = 0; a < clusters; a++) {
+                for (int b = a + 1; b < clusters; b++) {
+                    double distance = euclidean
+                            ? Math.sqrt(squaredDistance(centroids, a * dimensions, centroids, b * dimensions))
+                            : distanceMeasure.distance(centroidVectors[a], centroidVectors[b]);
+                    distances[a * clusters + b] = distance;
+                    distances[b * clusters + a] = distance;
+                }
+            }
+            centroidDistances = distances;
+        }
+        return centroidDistances[i * clusters + j];
+    }
+
+    /**
+     * Get the smallest distance between the centroids of two different clusters.
+     * @return The smallest distance between centroids, or positive infinity
+     *         if there are less than two clusters.
+     */
+    public double getMinimumCentroidDistance() {
+        double minimum = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < clusters; i++) {
+            for (int j = i + 1; j < clusters; j++) {
+                minimum = Math.min(minimum, getCentroidDistance(i, j));
+            }
+        }
+        return minimum;
+    }
+
+    /**
+     * Get the average distance between the patterns of a cluster and its centroid.
+     * @param cluster The index of the cluster.
+     * @return The average distance, which is not a number for an empty cluster.
+     */
+    public double getAverageDistance(int cluster) {
+        calculateAverageDistances();
+        return averageDistances[cluster];
+    }
+
+    /**
+     * Get the average distance between every pattern and the centroid of its cluster.
+     * @return The average distance over all patterns.
+     */
+    public double getAverageDistance() {
+        calculateAverageDistances();
+        return averageDistance;
+    }
+
+    private void calculateAverageDistances() {
+        if (averageDistances != null) {
+            return;
+        }
+
+        double[] averages = new double[clusters];
+        double total = 0.0;
+        for (int k = 0; k < clusters; k++) {
+            double sum = 0.0;
+            for (int p = start[k]; p < start[k] + size[k]; p++) {
+                sum += euclidean
+                        ? Math.sqrt(squaredDistance(positions, p * dimensions, centroids, k * dimensions))
+                        : distanceMeasure.distance(patternVectors[p], centroidVectors[k]);
+            }
+            averages[k] = sum / size[k];
+            total += sum;
+        }
+        averageDistance = total / patternVectors.length;
+        averageDistances = averages;
+    }
+
+    /**
+     * Get the largest distance between two patterns of a cluster.
+     * @param cluster The index of the cluster.
+     * @return The diameter of the cluster, or zero if the cluster has less than two patterns.
+     */
+    public double getDiameter(int cluster) {
+        if (diameters == null) {
+            final double[] result = new double[clusters];
+            long work = 0;
+            for (int k = 0; k < clusters; k++) {
+                work += (long) size[k] * size[k];
+            }
+            forEach(clusters, work * dimensions, new Tasks.Task() {
+                @Override
+                public void run(int k) {
+                    result[k] = diameter(members(k));
+                }
+            });
+            diameters = result;
+        }
+        return diameters[cluster];
+    }
+
+    /**
+     * Get the smallest distance between a pattern of one cluster and a pattern
+     * of another cluster.
+     * @param i The index of the first cluster.
+     * @param j The index of the second cluster.
+     * @return The separation of the clusters, or positive infinity if either
+     *         cluster is empty.
+     */
+    public double getSeparation(int i, int j) {
+        if (separations == null) {
+            final double[] result = new double[clusters * clusters];
+            final int pairs = clusters * (clusters - 1) / 2;
+            final int[] first = new int[pairs];
+            final int[] second = new int[pairs];
+            long work = 0;
+            for (int a = 0, pair = 0; a < clusters; a++) {
+                for (int b = a + 1; b < clusters; b++, pair++) {
+                    first[pair] = a;
+                    second[pair] = b;
+                    work += (long) size[a] * size[b];
+                }
+            }
+            forEach(pairs, work * dimensions, new Tasks.Task() {
+                @Override
+                public void run(int pair) {
+                    int a = first[pair];
+                    int b = second[pair];
+                    double separation = separation(members(a), members(b));
+                    result[a * clusters + b] = separation;
+                    result[b * clusters + a] = separation;
+                }
+            });
+            separations = result;
+        }
+        return separations[i * clusters + j];
+    }
+
+    /**
+     * Estimate the diameter of a cluster from a random sample of its patterns.
+     * The estimate is never larger than the diameter. Clusters with no more
+     * patterns than the sample size have their exact diameter.
+     * @param cluster The index of the cluster.
+     * @param samples The number of patterns in the sample.
+     * @param random The random number generator used to select the sample.
+     * @return The estimated diameter of the cluster.
+     */
+    public double estimateDiameter(int cluster, int samples, RandomProvider random) {
+        if (size[cluster] <= samples) {
+            return getDiameter(cluster);
+        }
+        return diameter(sample(cluster, samples, random));
+    }
+
+    /**
+     * Estimate the separation of two clusters from random samples of their
+     * patterns. The estimate is never smaller than the separation. If both
+     * clusters have no more patterns than the sample size the separation is exact.
+     * @param i The index of the first cluster.
+     * @param j The index of the second cluster.
+     * @param samples The number of patterns in the sample of each cluster.
+     * @param random The random number generator used to select the samples.
+     * @return The estimated separation of the clusters.
+     */
+    public double estimateSeparation(int i, int j, int samples, RandomProvider random) {
+        if (size[i] <= samples && size[j] <= samples) {
+            return getSeparation(i, j);
+        }
+        int[] firstMembers = size[i] <= samples ? members(i) : sample(i, samples, random);
+        int[] secondMembers = size[j] <= samples ? members(j) : sample(j, samples, random);
+        return separation(firstMembers, secondMembers);
+    }
+
+    /**
+     * Get the variance of a cluster, as used by the
+     * {@linkplain HalkidiVazirgiannisValidityIndex}: the norm of the vector of
+     * the squared average squared deviations of the patterns from the centroid.
+     * @param cluster The index of the cluster.
+     * @return The variance of the cluster.
+     */
+    public double getVariance(int cluster) {
+        if (variances == null) {
+            double[] result = new double[clusters];
+            for (int k = 0; k < clusters; k++) {
+                result[k] = variance(start[k], size[k], centroids, k * dimensions);
+            }
+            variances = result;
+        }
+        return variances[cluster];
+    }
+
+    /**
+     * Get the mean of all the patterns.
+     * @return The mean of the dataset.
+     */
+    public Vector getDatasetMean() {
+        return toVector(datasetMean(), 0);
+    }
+
+    /**
+     * Get the variance of all the patterns around their mean.
+     * @return The variance of the dataset.
+     * @see #getVariance(int)
+     */
+    public double getDatasetVariance() {
+        if (Double.isNaN(datasetVariance)) {
+            datasetVariance = variance(0, patternVectors.length, datasetMean(), 0);
+        }
+        return datasetVariance;
+    }
+
+    /**
+     * Get the average variance of the clusters.
+     * @return The average variance.
+     */
+    public double getStandardDeviation() {
+        if (Double.isNaN(standardDeviation)) {
+            double sum = 0.0;
+            for (int k = 0; k < clusters; k++) {
+                sum += getVariance(k);
+            }
+            standardDeviation = sum / clusters;
+        }
+        return standardDeviation;
+    }
+
+    /**
+     * Get the number of patterns that are no further than the
+     * {@linkplain #getStandardDeviation() standard deviation} from a point.
+     * @param point The point.
+     * @return The density around the point.
+     */
+    public double getDensity(Vector point) {
+        double[] position = new double[dimensions];
+        for (int d = 0; d < dimensions; d++) {
+            position[d] = point.doubleValueOf(d);
+        }
+        return density(position, 0, point);
+    }
+
+    /**
+     * Get the density around the centroid of a cluster.
+     * @param cluster The index of the cluster.
+     * @return The density around the centroid.
+     * @see #getDensity(Vector)
+     */
+    public double getCentroidDensity(int cluster) {
+        calculateDensities();
+        return centroidDensities[cluster];
+    }
+
+    /**
+     * Get the density around the point halfway between the centroids of two clusters.
+     * @param i The index of the first cluster.
+     * @param j The index of the second cluster.
+     * @return The density around the midpoint of the centroids.
+     * @see #getDensity(Vector)
+     */
+    public double getMidpointDensity(int i, int j) {
+        calculateDensities();
+        return midpointDensities[i * clusters + j];
+    }
+
+    private void calculateDensities() {
+        if (midpointDensities != null) {
+            return;
+        }
+
+        getStandardDeviation();
+        final int points = clusters + clusters * (clusters - 1) / 2;
+        final int[] first = new int[points];
+        final int[] second = new int[points];
+        for (int k = 0, point = 0; k < clusters; k++) {
+            first[point] = k;
+            second[point++] = k;
+            for (int l = k + 1; l < clusters; l++) {
+                first[point] = k;
+                second[point++] = l;
+            }
+        }
+
+        final double[] centroidResult = new double[clusters];
+        final double[] midpointResult = new double[clusters * clusters];
+        forEach(points, (long) points * patternVectors.length * dimensions, new Tasks.Task() {
+            @Override
+            public void run(int point) {
+                int a = first[point];
+                int b = second[point];
+                if (a == b) {
+                    centroidResult[a] = density(centroids, a * dimensions, centroidVectors[a]);
+                    return;
+                }
+
+                double[] midpoint = new double[dimensions];
+                for (int d = 0; d < dimensions; d++) {
+                    midpoint[d] = (centroids[a * dimensions + d] + centroids[b * dimensions + d]) / 2.0;
+                }
+                double density = density(midpoint, 0, euclidean ? null : toVector(midpoint, 0));
+                midpointResult[a * clusters + b] = density;
+                midpointResult[b * clusters + a] = density;
+            }
+        });
+        centroidDensities = centroidResult;
+        midpointDensities = midpointResult;
+    }
+
+    private double density(double[] point, int offset, Vector pointVector) {
+        double deviation = getStandardDeviation();
+        double count = 0.0;
+        for (int p = 0; p < patternVectors.length; p++) {
+            double distance = euclidean
+                    ? Math.sqrt(squaredDistance(positions, p * dimensions, point, offset))
+                    : distanceMeasure.distance(patternVectors[p], pointVector);
+            if (!(distance > deviation)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private double[] datasetMean() {
+        if (datasetMean == null) {
+            double[] sum = new double[dimensions];
+            for (int p = 0; p < patternVectors.length; p++) {
+                for (int d = 0; d < dimensions; d++) {
+                    sum[d] += positions[p * dimensions + d];
+                }
+            }
+            for (int d = 0; d < dimensions; d++) {
+                sum[d] /= patternVectors.length;
+            }
+            datasetMean = sum;
+        }
+        return datasetMean;
+    }
+
+    private double variance(int from, int count, double[] centre, int offset) {
+        double[] sums = new double[dimensions];
+        for (int p = from; p < from + count; p++) {
+            for (int d = 0; d < dimensions; d++) {
+                double deviation = positions[p * dimensions + d] - centre[offset + d];
+                sums[d] += deviation * deviation;
+            }
+        }
+
+        double result = 0.0;
+        for (int d = 0; d < dimensions; d++) {
+            double average = count > 0 ? sums[d] / count : 0.0;
+            result += average * average;
+        }
+        return Math.sqrt(result);
+    }
+
+    private double diameter(int[] members) {
+        int n = members.length;
+        double best = 0.0;
+        if (!euclidean) {
+            for (int a = 0; a < n; a++) {
+                for (int b = a + 1; b < n; b++) {
+                    best = Math.max(best, distance(members[a], members[b]));
+                }
+            }
+            return best;
+        }
+        if (n < 2) {
+            return best;
+        }
+
+        // Two patterns are no further apart than the sum of their distances from the mean.
+        double[] mean = mean(members);
+        double[] radius = new double[n];
+        for (int a = 0; a < n; a++) {
+            radius[a] = Math.sqrt(squaredDistance(positions, members[a] * dimensions, mean, 0));
+        }
+        int[] order = ascending(radius);
+
+        for (int x = n - 1; x > 0; x--) {
+            int a = order[x];
+            if (2.0 * radius[a] * (1.0 + TOLERANCE) < best) {
+                break;
+            }
+            for (int y = x - 1; y >= 0; y--) {
+                int b = order[y];
+                if ((radius[a] + radius[b]) * (1.0 + TOLERANCE) < best) {
+                    break;
+                }
+                best = Math.max(best, distance(members[a], members[b]));
+            }
+        }
+        return best;
+    }
+
+    private double separation(int[] first, int[] second) {
+        double best = Double.POSITIVE_INFINITY;
+        if (!euclidean) {
+            for (int a : first) {
+                for (int b : second) {
+                    best = Math.min(best, distance(a, b));
+                }
+            }
+            return best;
+        }
+        if (first.length == 0 || second.length == 0) {
+            return best;
+        }
+
+        // Two patterns are at least as far apart as the difference of their distances from the mean.
+        double[] mean = mean(second);
+        double[] radius = new double[second.length];
+        for (int b = 0; b < second.length; b++) {
+            radius[b] = Math.sqrt(squaredDistance(positions, second[b] * dimensions, mean, 0));
+        }
+        int[] order = ascending(radius);
+        double[] sorted = new double[second.length];
+        for (int y = 0; y < order.length; y++) {
+            sorted[y] = radius[order[y]];
+        }
+
+        for (int a : first) {
+            double r = Math.sqrt(squaredDistance(positions, a * dimensions, mean, 0));
+            int position = Arrays.binarySearch(sorted, r);
+            if (position < 0) {
+                position = -position - 1;
+            }
+
+            for (int y = position; y < sorted.length; y++) {
+                if (sorted[y] - r > best + TOLERANCE * (sorted[y] + r)) {
+                    break;
+                }
+                best = Math.min(best, distance(a, second[order[y]]));
+            }
+            for (int y = position - 1; y >= 0; y--) {
+                if (r - sorted[y] > best + TOLERANCE * (sorted[y] + r)) {
+                    break;
+                }
+                best = Math.min(best, distance(a, second[order[y]]));
+            }
+
+            if (best == 0.0) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    private double distance(int a, int b) {
+        if (euclidean) {
+            return Math.sqrt(squaredDistance(positions, a * dimensions, positions, b * dimensions));
+        }
+        return distanceMeasure.distance(patternVectors[a], patternVectors[b]);
+    }
+
+    private double squaredDistance(double[] x, int xOffset, double[] y, int yOffset) {
+        double sum = 0.0;
+        for (int d = 0; d < dimensions; d++) {
+            double difference = x[xOffset + d] - y[yOffset + d];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+
+    private double[] mean(int[] members) {
+        double[] mean = new double[dimensions];
+        for (int p : members) {
+            for (int d = 0; d < dimensions; d++) {
+                mean[d] += positions[p * dimensions + d];
+            }
+        }
+        for (int d = 0; d < dimensions; d++) {
+            mean[d] /= members.length;
+        }
+        return mean;
+    }
+
+    private int[] members(int cluster) {
+        int[] members = new int[size[cluster]];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = start[cluster] + i;
+        }
+        return members;
+    }
+
+    private int[] sample(int cluster, int samples, RandomProvider random) {
+        int[] members = members(cluster);
+        for (int i = 0; i < samples; i++) {
+            int j = i + random.nextInt(members.length - i);
+            int swap = members[i];
+            members[i] = members[j];
+            members[j] = swap;
+        }
+        return Arrays.copyOf(members, samples);
+    }
+
+    private Vector toVector(double[] values, int offset) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int d = 0; d < dimensions; d++) {
+            builder.add(values[offset + d]);
+        }
+        return builder.build();
+    }
+
+    private static int[] ascending(final double[] keys) {
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Double.compare(keys[a], keys[b]);
+            }
+        });
+
+        int[] result = new int[keys.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+
+    /**
+     * Perform {@code task} for every index in {@code [0, count)}, spread over
+     * the available processors if the estimated work is large enough. Every
+     * index is performed exactly once, so tasks may write to distinct elements
+     * of shared arrays.
+     */
+    private static void forEach(int count, long work, Tasks.Task task) {
+        Tasks.forEach(count, work < PARALLEL_THRESHOLD ? 1 : Tasks.getProcessors(), task);
+    }
+}
@@ -21,11 +21,10 @@
  */
 package net.sourceforge.cilib.measurement.clustervalidity;
 
+import java.util.Arrays;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.type.types.Real;
-import net.sourceforge.cilib.type.types.container.CentroidHolder;
 import net.sourceforge.cilib.type.types.container.ClusterCentroid;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * This class calculates the Davies Bouldin Validity Index that can be found in:
@@ -66,16 +65,22 @@ public class DaviesBouldinValidityIndex extends ValidityIndex{
      */
     @Override
     public Real getValue(Algorithm algorithm) {
-        CentroidHolder holder = (CentroidHolder) algorithm.getBestSolution().getPosition();
+        ClusterStatistics statistics = getStatistics(algorithm);
+        int clusters = statistics.getClusters();
+        
+        double[] maxInterClusterDistances = new double[clusters];
+        for(int i = 0; i < clusters; i++) {
+            maxInterClusterDistances[i] = (statistics.getClusterSize(i) > 0) ? 2 * statistics.getAverageDistance(i) : 0;
+        }
+        
         double maximum = 0;
-        for(ClusterCentroid centroid1 : holder) {
-            CentroidHolder holder2 = holder.getClone();
-            holder2.remove(centroid1);
-            for(ClusterCentroid centroid2 : holder2) {
-                double euclideanDistance = distanceMeasure.distance(centroid1, centroid2);
-                double maxInterClusterDistanceC1 = (centroid1.getDataItemDistances().length > 0) ? getMaximumInterclusterDistance(centroid1) : 0;
-                double maxInterClusterDistanceC2 = (centroid2.getDataItemDistances().length > 0) ? getMaximumInterclusterDistance(centroid2) : 0;
-                double result = ((0.5 * maxInterClusterDistanceC1) + (0.5 * maxInterClusterDistanceC2)) / (double) euclideanDistance;
+        for(int i = 0; i < clusters; i++) {
+            for(int j = 0; j < clusters; j++) {
+                if(i == j) {
+                    continue;
+                }
+                double euclideanDistance = statistics.getCentroidDistance(i, j);
+                double result = ((0.5 * maxInterClusterDistances[i]) + (0.5 * maxInterClusterDistances[j])) / (double) euclideanDistance;
                 
                 if(result > maximum) {
                     maximum = result;
@@ -83,7 +88,7 @@ public class DaviesBouldinValidityIndex extends ValidityIndex{
             }
         }
         
-        maximum /= holder.size();
+        maximum /= clusters;
         
         return Real.valueOf(maximum);
     }
@@ -94,13 +99,6 @@ public class DaviesBouldinValidityIndex extends ValidityIndex{
      * @return result The maximum distance
      */
     protected double getMaximumInterclusterDistance(ClusterCentroid centroid) {
-        double result = 0;
-        for(Vector pattern : centroid.getDataItems()) { 
-            result += distanceMeasure.distance(centroid.toVector(), pattern);
-        }
-        
-        result = 2 * (result / centroid.getDataItems().size());
-        
-        return result;
+        return 2 * ClusterStatistics.of(Arrays.asList(centroid), distanceMeasure).getAverageDistance(0);
     }
 }
@@ -21,12 +21,12 @@
  */
 package net.sourceforge.cilib.measurement.clustervalidity;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.type.types.Real;
-import net.sourceforge.cilib.type.types.container.CentroidHolder;
 import net.sourceforge.cilib.type.types.container.ClusterCentroid;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * This class calculates the Dunn Validity Index that can be found in:
@@ -35,13 +35,20 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *  title = {A local network neighbourhood artificial immune system},
  *  year = {2011},
  *  }
+ * The diameters and separations of large clusters may be estimated from a
+ * sample of their patterns by setting the sample size.
  */
 public class DunnValidityIndex extends ValidityIndex{
+    private int sampleSize;
+    private RandomProvider random;
+
     /*
      * Default constructor for DunnValidityIndex
      */
     public DunnValidityIndex() {
         super();
+        sampleSize = 0;
+        random = new MersenneTwister();
     }
     
     /*
@@ -49,6 +56,8 @@ public class DunnValidityIndex extends ValidityIndex{
      */
     public DunnValidityIndex(DunnValidityIndex copy) {
         super(copy);
+        sampleSize = copy.sampleSize;
+        random = copy.random;
     }
     
     /*
@@ -67,22 +76,23 @@ public class DunnValidityIndex extends ValidityIndex{
      */
     @Override
     public Real getValue(Algorithm algorithm) {
-        CentroidHolder holder = (CentroidHolder) algorithm.getBestSolution().getPosition();
+        ClusterStatistics statistics = getStatistics(algorithm);
+        int clusters = statistics.getClusters();
+        
+        double[] diameters = new double[clusters];
+        for(int i = 0; i < clusters; i++) {
+            diameters[i] = (sampleSize > 0) ? statistics.estimateDiameter(i, sampleSize, random) : statistics.getDiameter(i);
+        }
+        
         double minimum = Double.POSITIVE_INFINITY;
-        for(ClusterCentroid centroid1 : holder) {
-            CentroidHolder holder2 = holder.getClone();
-            holder2.remove(centroid1);
-            double min = Double.POSITIVE_INFINITY;
-            for(ClusterCentroid centroid2 : holder2) {
-                double result = getMinimumIntraclusterDistance(centroid1, centroid2) / (double) getMaximumInterclusterDistance(centroid1);
-                if(result < min) {
-                    min = result;
+        for(int i = 0; i < clusters; i++) {
+            for(int j = i + 1; j < clusters; j++) {
+                double separation = (sampleSize > 0) ? statistics.estimateSeparation(i, j, sampleSize, random) : statistics.getSeparation(i, j);
+                double result = Math.min(separation / (diameters[i] + Double.MIN_VALUE), separation / (diameters[j] + Double.MIN_VALUE));
+                if(result < minimum) {
+                    minimum = result;
                 }
             }
-            
-            if(min < minimum) {
-                minimum = min;
-            }
         }
         
         return Real.valueOf(minimum);
@@ -96,15 +106,7 @@ public class DunnValidityIndex extends ValidityIndex{
      * @return minimumDistance the minimum distance between the two clusters
      */
     protected double getMinimumIntraclusterDistance(ClusterCentroid cluster1, ClusterCentroid cluster2) {
-        double minimumDistance = Double.POSITIVE_INFINITY;
-        for(Vector pattern1 : cluster1.getDataItems()) {
-            for(Vector pattern2 : cluster2.getDataItems()) {
-                if(distanceMeasure.distance(pattern1, pattern2) < minimumDistance) {
-                    minimumDistance = distanceMeasure.distance(pattern1, pattern2);
-                }
-            }
-        }
-        return minimumDistance;
+        return ClusterStatistics.of(Arrays.asList(cluster1, cluster2), distanceMeasure).getSeparation(0, 1);
     }
     
     /*
@@ -112,19 +114,41 @@ public class DunnValidityIndex extends ValidityIndex{
      * @param centroid The cluster to be checked
      */
     protected double getMaximumInterclusterDistance(ClusterCentroid centroid) {
-        double maximumDistance = 0;
-        
-        for(Vector pattern : centroid.getDataItems()) {
-            ArrayList<Vector> patterns2 = (ArrayList<Vector>) centroid.getDataItems().clone();
-            patterns2.remove(pattern);
-            
-            for(Vector pattern2 : patterns2) {
-                if(distanceMeasure.distance(pattern, pattern2) > maximumDistance) {
-                    maximumDistance = distanceMeasure.distance(pattern, pattern2);
-                }
-            }
-        }
-        
-        return maximumDistance + Double.MIN_VALUE;
+        return ClusterStatistics.of(Arrays.asList(centroid), distanceMeasure).getDiameter(0) + Double.MIN_VALUE;
+    }
+    
+    /*
+     * Returns the number of patterns sampled from a cluster to estimate its
+     * diameter and separation, or zero if they are calculated exactly
+     * @return sampleSize The sample size
+     */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+    
+    /*
+     * Sets the number of patterns sampled from clusters that are larger than it,
+     * to estimate their diameters and separations. Zero calculates them exactly
+     * @param sampleSize The new sample size
+     */
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+    
+    /*
+     * Returns the random number generator used to sample the patterns
+     * @return random The random number generator
+     */
+    public RandomProvider getRandom() {
+        return random;
+    }
+    
+    /*
+     * Sets the random number generator used to sample the patterns, so that
+     * the estimated diameters and separations can be reproduced
+     * @param random The new random number generator
+     */
+    public void setRandom(RandomProvider random) {
+        this.random = random;
     }
 }
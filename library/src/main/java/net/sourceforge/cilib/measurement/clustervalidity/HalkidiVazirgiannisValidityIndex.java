@@ -23,6 +23,7 @@ package net.sourceforge.cilib.measurement.clustervalidity;
 
 import java.util.ArrayList;
 import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
 import net.sourceforge.cilib.type.types.container.ClusterCentroid;
@@ -38,6 +39,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class HalkidiVazirgiannisValidityIndex extends ValidityIndex {
     CentroidHolder centroidHolder;
+    private ClusterStatistics statistics;
+    private CentroidHolder statisticsHolder;
     
     /*
      * Default constructor for HalkidiVazirgiannisValidityIndex
@@ -71,7 +74,9 @@ public class HalkidiVazirgiannisValidityIndex extends ValidityIndex {
      */
     @Override
     public Real getValue(Algorithm algorithm) {
-        centroidHolder = (CentroidHolder) algorithm.getBestSolution().getPosition();
+        statistics = getStatistics(algorithm);
+        centroidHolder = (CentroidHolder) MeasurementContext.of(algorithm).getBestSolution().getPosition();
+        statisticsHolder = centroidHolder;
         double result = getScattering() + getDensityAmongClusters();
         return Real.valueOf(result);
     }
@@ -81,12 +86,7 @@ public class HalkidiVazirgiannisValidityIndex extends ValidityIndex {
      * @return result The standard deviation
      */
     protected double getStandardDeviation() {
-        double sum = 0;
-        for(ClusterCentroid centroid : centroidHolder) {
-            sum += getVariance(centroid.getDataItems(), centroid.toVector());
-        }
-        
-        return sum / (double) centroidHolder.size();
+        return getStatistics().getStandardDeviation();
     }
     
     /*
@@ -140,13 +140,7 @@ public class HalkidiVazirgiannisValidityIndex extends ValidityIndex {
      * @return result the density
      */
     protected double getDensity(Vector middlePoint) {
-        ArrayList<Vector> allPatterns = getAllPatterns();
-        double sum = 0;
-        for(Vector pattern : allPatterns) {
-            sum += getNeighbourhoodValue(pattern, middlePoint);
-        }
-        
-        return sum;
+        return getStatistics().getDensity(middlePoint);
     }
     
     /*
@@ -154,14 +148,15 @@ public class HalkidiVazirgiannisValidityIndex extends ValidityIndex {
      * @return resut The density among all clusters
      */
     protected double getDensityAmongClusters() {
-        double valueToMultiply = 1 / (double) ((centroidHolder.size() * (centroidHolder.size() - 1)));
+        ClusterStatistics clusterStatistics = getStatistics();
+        int clusters = clusterStatistics.getClusters();
+        double valueToMultiply = 1 / (double) ((clusters * (clusters - 1)));
         double sum = 0;
-        for(ClusterCentroid centroid : centroidHolder) {
-            CentroidHolder centroidHolder2 = centroidHolder.getClone();
-            centroidHolder2.remove(centroid);
-            
-            for(ClusterCentroid centroid2 : centroidHolder2) {
-               sum += (getDensity(getMiddlePoint(centroid, centroid2)) / ((double) Math.max(getDensity(centroid.toVector()), getDensity(centroid2.toVector()))));
+        for(int i = 0; i < clusters; i++) {
+            for(int j = 0; j < clusters; j++) {
+                if(i != j) {
+                    sum += (clusterStatistics.getMidpointDensity(i, j) / ((double) Math.max(clusterStatistics.getCentroidDensity(i), clusterStatistics.getCentroidDensity(j))));
+                }
             }
         }
         
@@ -185,21 +180,7 @@ public class HalkidiVazirgiannisValidityIndex extends ValidityIndex {
      * @return middlePoint The midle point of the entire dataset
      */
     protected Vector getMiddlePointOfDataset() {
-        ArrayList<Vector> allPatterns = getAllPatterns();
-        
-        Vector.Builder builder = Vector.newBuilder();
-        for(int i = 0; i < allPatterns.get(0).size(); i++) {
-            builder.add(0);
-        }
-        
-        Vector sum = builder.build();
-        
-        for(Vector pattern : allPatterns) {
-            sum = Vector.copyOf(sum).plus(pattern);
-        }
-        
-        return Vector.copyOf(sum).divide(allPatterns.size());
-        
+        return getStatistics().getDatasetMean();
     }
     
     /*
@@ -207,13 +188,26 @@ public class HalkidiVazirgiannisValidityIndex extends ValidityIndex {
      * @return scattering The scattering of the clusters
      */
     protected double getScattering() {
+        ClusterStatistics clusterStatistics = getStatistics();
         double sum = 0;
         
-        for(ClusterCentroid centroid : centroidHolder) {
-            sum += getVariance(centroid.getDataItems(), centroid.toVector()) / (double) getVariance(getAllPatterns(), getMiddlePointOfDataset());
+        for(int i = 0; i < clusterStatistics.getClusters(); i++) {
+            sum += clusterStatistics.getVariance(i) / (double) clusterStatistics.getDatasetVariance();
         }
         
-        return sum / (double) centroidHolder.size();
+        return sum / (double) clusterStatistics.getClusters();
+    }
+    
+    /*
+     * Returns the statistics of the clusters in the centroid holder
+     * @return statistics The statistics of the clusters
+     */
+    private ClusterStatistics getStatistics() {
+        if(statistics == null || statisticsHolder != centroidHolder) {
+            statistics = ClusterStatistics.of(centroidHolder, distanceMeasure);
+            statisticsHolder = centroidHolder;
+        }
+        return statistics;
     }
     
 }
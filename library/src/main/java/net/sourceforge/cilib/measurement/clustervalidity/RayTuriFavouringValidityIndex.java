@@ -24,6 +24,7 @@ package net.sourceforge.cilib.measurement.clustervalidity;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
 
@@ -78,7 +79,7 @@ public class RayTuriFavouringValidityIndex extends ValidityIndex{
      */
     @Override
     public Real getValue(Algorithm algorithm) {
-        CentroidHolder holder = (CentroidHolder) algorithm.getBestSolution().getPosition();
+        CentroidHolder holder = (CentroidHolder) MeasurementContext.of(algorithm).getBestSolution().getPosition();
         double result = delegate.getValue(algorithm).doubleValue() * ((scalingConstant.getParameter() * getGaussianValue(holder)) + 1);
         
         return Real.valueOf(result);
@@ -25,8 +25,6 @@ import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
-import net.sourceforge.cilib.type.types.container.ClusterCentroid;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * This class calculates the Ray Tury Validity Index that can be found in:
@@ -58,8 +56,8 @@ public class RayTuriValidityIndex extends ValidityIndex {
      */
     @Override
     public Real getValue(Algorithm algorithm) {
-        CentroidHolder holder = (CentroidHolder) algorithm.getBestSolution().getPosition();
-        double result = getaverageClusterDistance(holder) / (double) getInterClusterDistance(holder);
+        ClusterStatistics statistics = getStatistics(algorithm);
+        double result = statistics.getAverageDistance() / (double) statistics.getMinimumCentroidDistance();
         
         return Real.valueOf(result);
     }
@@ -70,18 +68,7 @@ public class RayTuriValidityIndex extends ValidityIndex {
      * @return distace The average distance
      */
     protected double getaverageClusterDistance(CentroidHolder centroidHolder) {
-        double sum = 0;
-        double numberOfPatterns = 0;
-        for(ClusterCentroid centroid :centroidHolder) {
-            for(Vector pattern : centroid.getDataItems()) {
-                sum += distanceMeasure.distance(pattern, centroid.toVector());
-                numberOfPatterns++;
-            }
-        }
-        
-        sum /= (double) numberOfPatterns;
-        
-        return sum;
+        return ClusterStatistics.of(centroidHolder, distanceMeasure).getAverageDistance();
     }
     
     /*
@@ -90,20 +77,7 @@ public class RayTuriValidityIndex extends ValidityIndex {
      * @return minimumDistance the smallest distance between clusters
      */
     protected double getInterClusterDistance(CentroidHolder centroidHolder) {
-        double minimum = Double.POSITIVE_INFINITY;
-        for(ClusterCentroid centroid : centroidHolder) {
-            CentroidHolder centroidHolder2 = centroidHolder.getClone();
-            centroidHolder2.remove(centroid);
-            
-            for(ClusterCentroid centroid2 : centroidHolder2) {
-                double distance = distanceMeasure.distance(centroid.toVector(), centroid2.toVector());
-                if(distance < minimum) {
-                    minimum = distance;
-                }
-            }
-        }
-        
-        return minimum;
+        return ClusterStatistics.of(centroidHolder, distanceMeasure).getMinimumCentroidDistance();
     }
 
     /*
@@ -61,6 +61,16 @@ public abstract class ValidityIndex implements Measurement<Real> {
     @Override
     public abstract Real getValue(Algorithm algorithm);
 
+    /*
+     * Returns the statistics of the clusters of the best solution of the algorithm
+     * @param algorithm The algorithm for which validity indexes are being calculated
+     * @return statistics The statistics of the clusters, shared with the other
+     *         validity indexes measured at the same time
+     */
+    protected ClusterStatistics getStatistics(Algorithm algorithm) {
+        return ClusterStatistics.of(algorithm, distanceMeasure);
+    }
+
     /*
      * Sets the distanceMeasure that will be used when calculating validity inexes
      * @param distanceMeasure The new distance measure
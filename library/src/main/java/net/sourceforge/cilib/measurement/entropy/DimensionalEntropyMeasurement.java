@@ -21,12 +21,11 @@
  */
 package net.sourceforge.cilib.measurement.entropy;
 
-import java.util.Iterator;
-
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.PopulationStatistics;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.TypeList;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -63,6 +62,9 @@ public class DimensionalEntropyMeasurement extends EntropyMeasurement {
      * of entities in each interval and dividing this number by the size of
      * the population. The probabilities calculated for each interval are used
      * to determine the entropy in the specific dimension.
+     * <p>
+     * The intervals of all dimensions are counted in a single pass over the
+     * positions of the entities, using {@link PopulationStatistics}.
      *
      * @param algorithm The algorithm to perform the entropy measurement on.
      * @return An array of double values; the entropy measurements in each dimension of the search space.
@@ -71,13 +73,12 @@ public class DimensionalEntropyMeasurement extends EntropyMeasurement {
     public TypeList getValue(Algorithm algorithm) {
         PopulationBasedAlgorithm populationBasedAlgorithm = (PopulationBasedAlgorithm) algorithm;
 
-        int numberOfEntities = populationBasedAlgorithm.getTopology().size();
-        Iterator<? extends Entity> populationIterator;
+        PopulationStatistics statistics = MeasurementContext.of(algorithm).getPopulationStatistics();
+        int numberOfEntities = statistics.getSize();
 
         int dimensions = populationBasedAlgorithm.getOptimisationProblem().getDomain().getDimension();
 
         Vector bounds = (Vector)populationBasedAlgorithm.getOptimisationProblem().getDomain().getBuiltRepresentation();
-        Entity e;
 
         //keeps an entropy measurement for each dimension
         TypeList entropyMeasurements = new TypeList();
@@ -86,31 +87,13 @@ public class DimensionalEntropyMeasurement extends EntropyMeasurement {
             double dimensionLowerBound = bounds.get(d).getBounds().getLowerBound();
             double dimensionRange = bounds.get(d).getBounds().getRange();
 
+            //number of entities in each interval, with the bounds of an interval included
+            int[] entityCounts = statistics.getHistogram(d, dimensionLowerBound, dimensionRange, intervals);
+
             //keeps probabilities that a given particle will fall in each interval
             double[] probabilities = new double[intervals];
-
             for(int i = 0; i < intervals; i++) {
-                int entityCount = 0; //number of entities in this interval
-
-                double intervalLowerBound = dimensionLowerBound + i * (dimensionRange / intervals);
-                double intervalUppderBound = intervalLowerBound + (dimensionRange / intervals);
-
-                populationIterator = populationBasedAlgorithm.getTopology().iterator();
-
-                while(populationIterator.hasNext()) {
-                    e = populationIterator.next();
-                    Vector entityPosition = (Vector) e.getCandidateSolution();
-                    double position = entityPosition.get(d).doubleValue();
-
-                    if(position <= intervalUppderBound && position >= intervalLowerBound) {
-                        //The entity falls within the current interval in the current dimension
-                        entityCount++;
-                    }
-                }
-
-                //calculate probability that a particle falls within this interval
-                double p = (double)entityCount / (double)numberOfEntities;
-                probabilities[i] = p;
+                probabilities[i] = (double)entityCounts[i] / (double)numberOfEntities;
             }
 
             double entropy = 0.0;
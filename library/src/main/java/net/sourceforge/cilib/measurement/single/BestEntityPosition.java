@@ -23,6 +23,7 @@ package net.sourceforge.cilib.measurement.single;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.StringType;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -46,7 +47,7 @@ public class BestEntityPosition implements Measurement<StringType> {
      */
     @Override
     public StringType getValue(Algorithm algorithm) {
-        Vector solution = (Vector) algorithm.getBestSolution().getPosition();
+        Vector solution = (Vector) MeasurementContext.of(algorithm).getBestSolution().getPosition();
         return new StringType(solution.toString());
     }
 
@@ -22,13 +22,12 @@
 package net.sourceforge.cilib.measurement.single;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
-import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.PopulationStatistics;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.parser.DomainParser;
-import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.StructuredType;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -103,26 +102,22 @@ public class ConvergedDimensions implements Measurement<Real> {
      */
     @Override
     public Real getValue(Algorithm algorithm) {
-        PopulationBasedAlgorithm populationBasedAlgorithm = (PopulationBasedAlgorithm) algorithm;
-        int populationSize = populationBasedAlgorithm.getTopology().size();
+        PopulationStatistics statistics = MeasurementContext.of(algorithm).getPopulationStatistics();
+        int populationSize = statistics.getSize();
+        int dimensions = statistics.getDimensions();
+        double threshold = this.errorThreshold.getParameter();
 
-        int dimensions = 0;
         double sumOfAverageConvergedDimensions = 0.0;
-
-        for (Entity populationEntity : populationBasedAlgorithm.getTopology()) {
-            dimensions = populationEntity.getDimension();
-
-            int dimension = 0;
+        for (int entity = 0; entity < populationSize; entity++) {
             int numberConvergedDimensions = 0;
-            for (Numeric position : (Vector) populationEntity.getCandidateSolution()) {
-                double lowerBound = targetSolution.doubleValueOf(dimension) - this.errorThreshold.getParameter();
-                double upperBound = targetSolution.doubleValueOf(dimension) + this.errorThreshold.getParameter();
-                double value = position.doubleValue();
+            for (int dimension = 0; dimension < dimensions; dimension++) {
+                double lowerBound = targetSolution.doubleValueOf(dimension) - threshold;
+                double upperBound = targetSolution.doubleValueOf(dimension) + threshold;
+                double value = statistics.getPosition(entity, dimension);
 
                 if ((value >= lowerBound) && (value <= upperBound)) {
                     numberConvergedDimensions++;
                 }
-                dimension++;
             }
             sumOfAverageConvergedDimensions += (double) numberConvergedDimensions / (double) dimensions;
         }
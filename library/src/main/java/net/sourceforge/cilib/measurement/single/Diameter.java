@@ -27,6 +27,7 @@ import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.entity.visitor.DiameterVisitor;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.Real;
 
 /**
@@ -38,6 +39,7 @@ import net.sourceforge.cilib.type.types.Real;
  */
 public class Diameter implements Measurement<Real> {
     private static final long serialVersionUID = 5136996282460480831L;
+    private boolean approximate;
 
     /**
      * {@inheritDoc}
@@ -55,10 +57,34 @@ public class Diameter implements Measurement<Real> {
         PopulationBasedAlgorithm popAlg = (PopulationBasedAlgorithm) algorithm;
         Topology<? extends Entity> topology = popAlg.getTopology();
 
+        if (!approximate && !topology.isEmpty()) {
+            return Real.valueOf(MeasurementContext.of(algorithm).getDiameter());
+        }
+
         DiameterVisitor visitor = new DiameterVisitor();
+        visitor.setApproximate(approximate);
         topology.accept(visitor);
 
         return Real.valueOf(visitor.getResult());
     }
 
+    /**
+     * Determine whether the diameter is approximated.
+     * @return {@code true} if the diameter is approximated.
+     * @see DiameterVisitor#setApproximate(boolean)
+     */
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    /**
+     * Set whether the diameter is approximated in linear time. The
+     * approximation is at least half of the diameter.
+     * @param approximate {@code true} to approximate the diameter.
+     * @see DiameterVisitor#setApproximate(boolean)
+     */
+    public void setApproximate(boolean approximate) {
+        this.approximate = approximate;
+    }
+
 }
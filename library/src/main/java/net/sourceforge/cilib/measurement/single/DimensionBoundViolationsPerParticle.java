@@ -23,12 +23,9 @@ package net.sourceforge.cilib.measurement.single;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.measurement.Measurement;
-import net.sourceforge.cilib.type.types.Bounds;
-import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.Real;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * Calculates the average number of violations of boundary constraints
@@ -66,25 +63,9 @@ public class DimensionBoundViolationsPerParticle implements Measurement<Real> {
     @Override
     public Real getValue(Algorithm algorithm) {
         PopulationBasedAlgorithm populationBasedAlgorithm = (PopulationBasedAlgorithm) algorithm;
-        double sumOfAverageViolations = 0.0;
         int populationSize = populationBasedAlgorithm.getTopology().size();
-        int numberOfViolations;
-        int dimension = 0;
+        int numberOfViolations = MeasurementContext.of(algorithm).getDimensionsOutsideBounds();
 
-        for (Entity populationEntity : populationBasedAlgorithm.getTopology()) {
-            numberOfViolations = 0;
-            dimension = populationEntity.getDimension();
-
-            for (Numeric position : (Vector) populationEntity.getCandidateSolution()) {
-                Bounds bounds = position.getBounds();
-
-                if (!bounds.isInsideBounds(position.doubleValue())) {
-                    numberOfViolations++;
-                }
-            }
-            sumOfAverageViolations += numberOfViolations;
-        }
-
-        return Real.valueOf(sumOfAverageViolations / (double) populationSize);
+        return Real.valueOf(numberOfViolations / (double) populationSize);
     }
 }
@@ -23,6 +23,7 @@ package net.sourceforge.cilib.measurement.single;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.Real;
 
 /**
@@ -44,7 +45,7 @@ public class Fitness implements Measurement<Real> {
      */
     @Override
     public Real getValue(Algorithm algorithm) {
-        double fitness = algorithm.getBestSolution().getFitness().getValue();
+        double fitness = MeasurementContext.of(algorithm).getBestSolution().getFitness().getValue();
         return Real.valueOf(fitness);
     }
 
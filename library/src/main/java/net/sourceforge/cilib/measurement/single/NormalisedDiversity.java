@@ -21,15 +21,12 @@
  */
 package net.sourceforge.cilib.measurement.single;
 
-import java.util.Iterator;
-
 import net.sourceforge.cilib.algorithm.Algorithm;
-import net.sourceforge.cilib.entity.Particle;
-import net.sourceforge.cilib.entity.visitor.DiameterVisitor;
+import net.sourceforge.cilib.entity.PopulationStatistics;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.type.types.Real;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * <p>
@@ -66,40 +63,16 @@ public class NormalisedDiversity implements Measurement<Real> {
     public Real getValue(Algorithm algorithm) {
         PSO pso = (PSO) algorithm;
 
-        int numberParticles = pso.getTopology().size();
-
-        Iterator<Particle> k = pso.getTopology().iterator();
-        Particle particle = k.next();
-        Vector averageParticlePosition = (Vector) particle.getPosition().getClone();
-        while (k.hasNext()) {
-            particle = k.next();
-            Vector v = (Vector) particle.getPosition();
-            for (int j = 0; j < averageParticlePosition.size(); ++j) {
-                averageParticlePosition.setReal(j, averageParticlePosition.doubleValueOf(j) + v.doubleValueOf(j));
-            }
-        }
-        for (int j = 0; j < averageParticlePosition.size(); ++j) {
-            averageParticlePosition.setReal(j, averageParticlePosition.doubleValueOf(j) / numberParticles);
-        }
+        MeasurementContext context = MeasurementContext.of(pso);
+        PopulationStatistics statistics = context.getPopulationStatistics();
 
-        Iterator<Particle> i = pso.getTopology().iterator();
         double particleSum = 0.0;
-        while (i.hasNext()) {
-            particle = i.next();
-
-            double dimensionSum = 0.0;
-            Vector v = (Vector) particle.getPosition();
-            for (int j = 0; j < particle.getDimension(); ++j) {
-                dimensionSum += (v.doubleValueOf(j) - averageParticlePosition.doubleValueOf(j)) * (v.doubleValueOf(j) - averageParticlePosition.doubleValueOf(j));
-            }
-            particleSum += Math.sqrt(dimensionSum);
+        for (double distance : statistics.getDistancesFromMean()) {
+            particleSum += distance;
         }
 
-        double diversity = particleSum / numberParticles;
-
-        DiameterVisitor diameterVisitor = new DiameterVisitor();
-        pso.accept(diameterVisitor);
-        double diameter = diameterVisitor.getResult();
+        double diversity = particleSum / statistics.getSize();
+        double diameter = context.getDiameter();
 
         return Real.valueOf(diversity / diameter);
     }
@@ -21,14 +21,10 @@
  */
 package net.sourceforge.cilib.measurement.single;
 
-import java.util.Iterator;
-
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.measurement.Measurement;
-import net.sourceforge.cilib.type.types.Bounds;
-import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.Real;
 
 /**
@@ -56,26 +52,9 @@ public class ParticleBoundViolations implements Measurement<Real> {
     @Override
     public Real getValue(Algorithm algorithm) {
         PopulationBasedAlgorithm populationBasedAlgorithm = (PopulationBasedAlgorithm) algorithm;
-
-        Iterator<? extends Entity> populationIterator = populationBasedAlgorithm.getTopology().iterator();
-
-        int numberOfViolations = 0;
         int populationSize = populationBasedAlgorithm.getTopology().size();
+        int numberOfViolations = MeasurementContext.of(algorithm).getEntitiesOutsideBounds();
 
-        while (populationIterator.hasNext()) {
-            Entity entity = populationIterator.next();
-
-            Iterator positionIterator = entity.getCandidateSolution().iterator();
-
-            while (positionIterator.hasNext()) {
-                Numeric position = (Numeric) positionIterator.next();
-                Bounds bounds = position.getBounds();
-                if (!bounds.isInsideBounds(position.doubleValue())) {
-                    numberOfViolations++;
-                    break;
-                }
-            }
-        }
         return Real.valueOf((double) numberOfViolations / (double) populationSize);
     }
 }
@@ -23,13 +23,9 @@ package net.sourceforge.cilib.measurement.single;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Entity;
-import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.measurement.Measurement;
-import net.sourceforge.cilib.type.types.Bounds;
-import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.Real;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * Calculates the average number of personal best positions in
@@ -55,25 +51,9 @@ public class PbestBoundViolations implements Measurement<Real> {
     public Real getValue(Algorithm algorithm) {
         PopulationBasedAlgorithm populationBasedAlgorithm = (PopulationBasedAlgorithm) algorithm;
 
-        int numberOfViolations = 0;
+        int numberOfViolations = MeasurementContext.of(algorithm).getPersonalBestsOutsideBounds();
         int populationSize = populationBasedAlgorithm.getTopology().size();
 
-        for (Entity populationEntity : populationBasedAlgorithm.getTopology()) {
-            Vector pbest = (Vector) populationEntity.getProperties().get(EntityType.Particle.BEST_POSITION);
-            if (pbest == null) {
-                throw new UnsupportedOperationException("Entity is not a particle.");
-            }
-
-            for (Numeric position : pbest) {
-                Bounds bounds = position.getBounds();
-
-                if (!bounds.isInsideBounds(position.doubleValue())) {
-                    numberOfViolations++;
-                    break;
-                }
-            }
-        }
-
         return Real.valueOf((double) numberOfViolations / (double) populationSize);
     }
 }
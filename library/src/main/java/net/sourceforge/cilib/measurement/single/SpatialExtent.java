@@ -21,16 +21,12 @@
  */
 package net.sourceforge.cilib.measurement.single;
 
-import java.util.Iterator;
-
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
-import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.PopulationStatistics;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.type.types.Real;
-import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.ChebyshevDistanceMeasure;
-import net.sourceforge.cilib.util.DistanceMeasure;
 
 /**
  * <p>
@@ -57,61 +53,19 @@ public class SpatialExtent implements Measurement<Real> {
 
     @Override
     public Real getValue(Algorithm algorithm) {
-
-        /*PSO pso = (PSO) Algorithm.get();
-
-        Iterator k = pso.getTopology().iterator();
-        Particle particle = (Particle) k.next();
-        Vector pos = (Vector) particle.getPosition();
-        Vector maxVector = pos.clone();
-        Vector minVector = pos.clone();
-        while (k.hasNext()) {
-        particle = (Particle) k.next();
-        Vector position = (Vector) particle.getPosition();
-        for (int j = 0; j < position.getDimension(); ++j) {
-        double posValue = position.getReal(j);
-        double maxValue = maxVector.getReal(j);
-        double minValue = minVector.getReal(j);
-
-        if (posValue > maxValue)
-        maxVector.setReal(j,posValue);
-
-        if (posValue < minValue)
-        minVector.setReal(j,posValue);
-        }
-        }
-
-        double maxDimensionalDifference = 0.0;
-        for (int j = 0; j < maxVector.getDimension(); ++j) {
-        double dimensionDifference = maxVector.getReal(j) - minVector.getReal(j);
-        if (dimensionDifference > maxDimensionalDifference)
-        maxDimensionalDifference = dimensionDifference;
+        PopulationBasedAlgorithm populationBasedAlgorithm = (PopulationBasedAlgorithm) algorithm;
+        if (populationBasedAlgorithm.getTopology().isEmpty()) {
+            return Real.valueOf(0.0);
         }
-        return new Real(maxDimensionalDifference);*/
-
 
-        PopulationBasedAlgorithm populationBasedAlgorithm = (PopulationBasedAlgorithm) algorithm;
-        DistanceMeasure chebyshevDistance = new ChebyshevDistanceMeasure();
+        // The largest Chebyshev distance between two entities is the widest
+        // range of the positions in a single dimension.
+        PopulationStatistics statistics = MeasurementContext.of(algorithm).getPopulationStatistics();
         double maxDimensionalDifference = 0.0;
-        //PSO pso = (PSO) Algorithm.get();
-
-        Iterator<? extends Entity> populationIterator_1 = populationBasedAlgorithm.getTopology().iterator();
-
-        while (populationIterator_1.hasNext()) {
-            Entity entity_1 = populationIterator_1.next();
-            Vector entity_1Contents = (Vector) entity_1.getCandidateSolution();
-
-            Iterator<? extends Entity> populationIterator_2 = populationBasedAlgorithm.getTopology().iterator();
-
-            while (populationIterator_2.hasNext()) {
-                Entity entity_2 = populationIterator_2.next();
-                Vector entity_2Contents = (Vector) entity_2.getCandidateSolution();
-
-                double dimensionalDifference = chebyshevDistance.distance(entity_1Contents, entity_2Contents);
-
-                if (dimensionalDifference > maxDimensionalDifference) {
-                    maxDimensionalDifference = dimensionalDifference;
-                }
+        for (int d = 0; d < statistics.getDimensions(); d++) {
+            double dimensionalDifference = statistics.getMaximum(d) - statistics.getMinimum(d);
+            if (dimensionalDifference > maxDimensionalDifference) {
+                maxDimensionalDifference = dimensionalDifference;
             }
         }
 
@@ -26,7 +26,9 @@ import java.util.Iterator;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.PopulationStatistics;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.measurement.single.diversity.centerinitialisationstrategies.CenterInitialisationStrategy;
 import net.sourceforge.cilib.measurement.single.diversity.centerinitialisationstrategies.SpatialCenterInitialisationStrategy;
 import net.sourceforge.cilib.measurement.single.diversity.normalisation.DiversityNormalisation;
@@ -69,14 +71,22 @@ public class Diversity implements Measurement<Real> {
         PopulationBasedAlgorithm populationBasedAlgorithm = (PopulationBasedAlgorithm) algorithm;
         int numberOfEntities = populationBasedAlgorithm.getTopology().size();
 
-        Vector center = populationCenter.getCenter(populationBasedAlgorithm.getTopology());
-        Iterator<? extends Entity> populationIterator = populationBasedAlgorithm.getTopology().iterator();
-
         double distanceSum = 0.0;
 
-        while (populationIterator.hasNext()) {
-            Vector currentEntityPosition = (Vector) (((Entity) populationIterator.next()).getCandidateSolution());
-            distanceSum += distanceMeasure.distance(center, currentEntityPosition);
+        if (populationCenter.getClass() == SpatialCenterInitialisationStrategy.class
+                && distanceMeasure.getClass() == EuclideanDistanceMeasure.class) {
+            // The center and the distances from it are found on primitive copies of the positions.
+            for (double distance : MeasurementContext.of(algorithm).getPopulationStatistics().getDistancesFromMean()) {
+                distanceSum += distance;
+            }
+        } else {
+            Vector center = populationCenter.getCenter(populationBasedAlgorithm.getTopology());
+            Iterator<? extends Entity> populationIterator = populationBasedAlgorithm.getTopology().iterator();
+
+            while (populationIterator.hasNext()) {
+                Vector currentEntityPosition = (Vector) (((Entity) populationIterator.next()).getCandidateSolution());
+                distanceSum += distanceMeasure.distance(center, currentEntityPosition);
+            }
         }
 
         distanceSum /= numberOfEntities;
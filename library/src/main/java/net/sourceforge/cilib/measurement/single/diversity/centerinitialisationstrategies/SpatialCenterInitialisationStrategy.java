@@ -21,9 +21,8 @@
  */
 package net.sourceforge.cilib.measurement.single.diversity.centerinitialisationstrategies;
 
-import java.util.Iterator;
-
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.PopulationStatistics;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -38,19 +37,6 @@ public class SpatialCenterInitialisationStrategy implements CenterInitialisation
      */
     @Override
     public Vector getCenter(Topology<? extends Entity> topology) {
-        int numberOfEntities = topology.size();
-        Iterator<? extends Entity> averageIterator = topology.iterator();
-        Entity entity = averageIterator.next();
-        Vector averageEntityPosition = (Vector) entity.getCandidateSolution().getClone();
-
-        while (averageIterator.hasNext()) {
-            entity = averageIterator.next();
-            Vector entityContents = (Vector) entity.getCandidateSolution();
-            averageEntityPosition = averageEntityPosition.plus(entityContents);
-        }
-        
-        averageEntityPosition.divide(numberOfEntities);
-
-        return averageEntityPosition;
+        return PopulationStatistics.of(topology).getMean();
     }
 }
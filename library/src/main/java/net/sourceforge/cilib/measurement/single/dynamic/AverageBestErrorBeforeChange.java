@@ -21,10 +21,6 @@
  */
 package net.sourceforge.cilib.measurement.single.dynamic;
 
-import java.io.IOException;
-import java.io.ObjectInput;
-import java.io.ObjectOutput;
-
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.problem.DynamicOptimizationProblem;
 import net.sourceforge.cilib.type.types.Real;
@@ -44,7 +40,6 @@ public class AverageBestErrorBeforeChange extends DynamicMeasurement<Real> {
 
     private static final long serialVersionUID = -2848258016113713942L;
     private int cycleSize = 50; //period between 2 changes in the environment
-    private int cycleNr;
 
     public AverageBestErrorBeforeChange() {
         super();
@@ -80,16 +75,4 @@ public class AverageBestErrorBeforeChange extends DynamicMeasurement<Real> {
     public void setCycleSize(int cycleSize) {
         this.cycleSize = cycleSize;
     }
-
-    @Override
-    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-        this.avg = in.readDouble();
-        this.cycleNr = in.readInt();
-    }
-
-    @Override
-    public void writeExternal(ObjectOutput out) throws IOException {
-        out.writeDouble(avg);
-        out.writeInt(cycleNr);
-    }
 }
@@ -41,7 +41,6 @@ public class AverageIterationsToErrorLimit extends DynamicMeasurement<Real> {
 
     private static final long serialVersionUID = -2848258016113713942L;
     private int cycleSize = 50; //period between 2 changes in the environment
-    private int cycleNr = 0;
     private double limit; //the acceptable error limit
     private boolean flag = true; //false if the limit has been reach for the current cycle
 
@@ -104,15 +103,37 @@ public class AverageIterationsToErrorLimit extends DynamicMeasurement<Real> {
     @Override
     public void readExternal(ObjectInput in) throws IOException,
             ClassNotFoundException {
-        this.cycleNr = in.readInt();
-        this.avg = in.readDouble();
+        super.readExternal(in);
         this.flag = in.readBoolean();
     }
 
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
-        out.writeInt(cycleNr);
-        out.writeDouble(avg);
+        super.writeExternal(out);
         out.writeBoolean(flag);
     }
+
+    @Override
+    protected State saveState() {
+        return new ErrorLimitState(avg, cycleNr, flag);
+    }
+
+    @Override
+    protected void restoreState(Object state) {
+        super.restoreState(state);
+        this.flag = ((ErrorLimitState) state).flag;
+    }
+
+    /**
+     * The state of the measurement, including whether the limit has been
+     * reached in the current cycle.
+     */
+    private static class ErrorLimitState extends State {
+        private final boolean flag;
+
+        ErrorLimitState(double avg, int cycleNr, boolean flag) {
+            super(avg, cycleNr);
+            this.flag = flag;
+        }
+    }
 }
@@ -31,6 +31,7 @@ import net.sourceforge.cilib.type.types.Type;
 public abstract class DynamicMeasurement<E extends Type> extends StateAwareMeasurement<E> {
 
     protected double avg;
+    protected int cycleNr;
 
     public DynamicMeasurement() {
         setStateAware(true);
@@ -40,10 +41,38 @@ public abstract class DynamicMeasurement<E extends Type> extends StateAwareMeasu
     public void readExternal(ObjectInput in) throws IOException,
             ClassNotFoundException {
         this.avg = in.readDouble();
+        this.cycleNr = in.readInt();
     }
 
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
         out.writeDouble(avg);
+        out.writeInt(cycleNr);
+    }
+
+    @Override
+    protected State saveState() {
+        return new State(avg, cycleNr);
+    }
+
+    @Override
+    protected void restoreState(Object state) {
+        State s = (State) state;
+        this.avg = s.avg;
+        this.cycleNr = s.cycleNr;
+    }
+
+    /**
+     * The running average of a dynamic measurement and the number of
+     * environment changes that it covers.
+     */
+    protected static class State {
+        private final double avg;
+        private final int cycleNr;
+
+        protected State(double avg, int cycleNr) {
+            this.avg = avg;
+            this.cycleNr = cycleNr;
+        }
     }
 }
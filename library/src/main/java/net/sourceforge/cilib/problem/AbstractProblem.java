@@ -46,6 +46,7 @@ public abstract class AbstractProblem implements Problem {
     protected AtomicInteger fitnessEvaluations;
     protected DomainRegistry domainRegistry;
     protected Objective objective;
+    protected FitnessCache fitnessCache;
 
     protected AbstractProblem() {
         this.fitnessEvaluations = new AtomicInteger(0);
@@ -57,6 +58,7 @@ public abstract class AbstractProblem implements Problem {
         this.fitnessEvaluations = new AtomicInteger(copy.fitnessEvaluations.get());
         this.domainRegistry = copy.domainRegistry.getClone();
         this.objective = copy.objective;
+        this.fitnessCache = (copy.fitnessCache == null) ? null : copy.fitnessCache.getClone();
     }
 
     @Override
@@ -73,12 +75,30 @@ public abstract class AbstractProblem implements Problem {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * If a {@link FitnessCache} is set, previously calculated fitness values
+     * are reused.
      */
     @Override
     public final Fitness getFitness(Type solution) {
-        fitnessEvaluations.incrementAndGet();
+        FitnessCache.Key key = (fitnessCache == null) ? null : fitnessCache.keyOf(solution);
+        if (key == null) {
+            fitnessEvaluations.incrementAndGet();
+            return calculateFitness(solution);
+        }
+
+        Fitness fitness = fitnessCache.get(key);
+        if (fitness != null) {
+            if (fitnessCache.getCountHits()) {
+                fitnessEvaluations.incrementAndGet();
+            }
+            return fitness;
+        }
 
-        return calculateFitness(solution);
+        fitnessEvaluations.incrementAndGet();
+        fitness = calculateFitness(solution);
+        fitnessCache.put(key, fitness);
+        return fitness;
     }
 
     /**
@@ -109,4 +129,20 @@ public abstract class AbstractProblem implements Problem {
     public Objective getObjective() {
         return objective;
     }
+
+    /**
+     * Set the cache of fitness values, or {@code null} to disable caching.
+     * @param fitnessCache The cache to use.
+     */
+    public void setFitnessCache(FitnessCache fitnessCache) {
+        this.fitnessCache = fitnessCache;
+    }
+
+    /**
+     * Get the cache of fitness values.
+     * @return The cache, or {@code null} if caching is disabled.
+     */
+    public FitnessCache getFitnessCache() {
+        return fitnessCache;
+    }
 }
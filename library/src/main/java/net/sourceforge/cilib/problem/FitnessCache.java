@@ -0,0 +1,259 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Cloneable;
+
+/**
+ * <p>
+ * A bounded cache of the fitness values calculated by an {@link AbstractProblem},
+ * for problems where the same candidate solutions are evaluated repeatedly,
+ * such as discrete problems or converged populations. The cache is disabled
+ * unless it is set on the problem.
+ * </p>
+ * <p>
+ * Candidate solutions are identified by the exact values of their elements,
+ * so only {@link Vector} solutions are cached. When the cache is full the
+ * least recently used entry is evicted. Cache hits are counted as fitness
+ * evaluations by default, so that algorithms with stopping conditions based on
+ * the number of evaluations behave the same with or without the cache.
+ * </p>
+ * <p>
+ * The cached values are only valid while the problem does not change. The
+ * cache should therefore not be used with dynamic problems, unless it is
+ * {@linkplain #clear() cleared} whenever the problem changes.
+ * </p>
+ */
+public class FitnessCache implements Cloneable {
+
+    private static final long serialVersionUID = -3377105385096451587L;
+    private int capacity;
+    private boolean countHits;
+    private transient Map<Key, Fitness> entries;
+    private long hits;
+    private long misses;
+
+    /**
+     * Create a cache that holds up to 1000 fitness values.
+     */
+    public FitnessCache() {
+        this(1000);
+    }
+
+    /**
+     * Create a cache that holds up to {@code capacity} fitness values.
+     * @param capacity The maximum number of cached values.
+     */
+    public FitnessCache(int capacity) {
+        Preconditions.checkArgument(capacity > 0, "The capacity of the cache must be positive.");
+        this.capacity = capacity;
+        this.countHits = true;
+    }
+
+    /**
+     * Create a copy of the given instance. The cached values and statistics
+     * are not copied.
+     * @param copy The instance to copy.
+     */
+    public FitnessCache(FitnessCache copy) {
+        this.capacity = copy.capacity;
+        this.countHits = copy.countHits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FitnessCache getClone() {
+        return new FitnessCache(this);
+    }
+
+    /**
+     * Obtain the key identifying the given solution.
+     * @param solution The candidate solution.
+     * @return The key, or {@code null} if the solution cannot be cached.
+     */
+    Key keyOf(Type solution) {
+        if (!(solution instanceof Vector)) {
+            return null;
+        }
+
+        Vector vector = (Vector) solution;
+        double[] values = new double[vector.size()];
+        long hash = 1;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = vector.doubleValueOf(i);
+            hash = 31 * hash + Double.doubleToLongBits(values[i]);
+        }
+        return new Key(values, (int) (hash ^ (hash >>> 32)));
+    }
+
+    /**
+     * Look up the fitness of a solution, recording a hit or a miss.
+     * @param key The key of the solution.
+     * @return The cached fitness, or {@code null} if there is none.
+     */
+    synchronized Fitness get(Key key) {
+        Fitness fitness = getEntries().get(key);
+        if (fitness == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return fitness;
+    }
+
+    /**
+     * Store the fitness of a solution, evicting the least recently used entry
+     * if the cache is full.
+     * @param key The key of the solution.
+     * @param fitness The fitness of the solution.
+     */
+    synchronized void put(Key key, Fitness fitness) {
+        getEntries().put(key, fitness);
+    }
+
+    private Map<Key, Fitness> getEntries() {
+        if (entries == null) {
+            entries = new LinkedHashMap<Key, Fitness>(16, 0.75f, true) {
+                private static final long serialVersionUID = 2166339468311155823L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Fitness> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+        return entries;
+    }
+
+    /**
+     * Remove all cached values. The statistics are retained.
+     */
+    public synchronized void clear() {
+        getEntries().clear();
+    }
+
+    /**
+     * Get the number of cached values.
+     * @return The number of cached values.
+     */
+    public synchronized int size() {
+        return getEntries().size();
+    }
+
+    /**
+     * Get the number of lookups that found a cached value.
+     * @return The number of hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of lookups that did not find a cached value.
+     * @return The number of misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the fraction of lookups that found a cached value.
+     * @return The hit ratio, or {@code 0} if no lookups were made.
+     */
+    public synchronized double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Get the maximum number of cached values.
+     * @return The capacity of the cache.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Set the maximum number of cached values. Any cached values are removed.
+     * @param capacity The capacity of the cache.
+     */
+    public synchronized void setCapacity(int capacity) {
+        Preconditions.checkArgument(capacity > 0, "The capacity of the cache must be positive.");
+        this.capacity = capacity;
+        this.entries = null;
+    }
+
+    /**
+     * Determine whether cache hits are counted as fitness evaluations.
+     * @return {@code true} if hits are counted as evaluations.
+     */
+    public boolean getCountHits() {
+        return countHits;
+    }
+
+    /**
+     * Set whether cache hits are counted as fitness evaluations.
+     * @param countHits {@code true} to count hits as evaluations.
+     */
+    public void setCountHits(boolean countHits) {
+        this.countHits = countHits;
+    }
+
+    /**
+     * The values of a candidate solution, with a precomputed hash code.
+     */
+    static final class Key {
+        private final double[] values;
+        private final int hash;
+
+        private Key(double[] values, int hash) {
+            this.values = values;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -21,23 +21,32 @@
  */
 package net.sourceforge.cilib.problem;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ForwardingList;
 import com.google.common.collect.Lists;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.sourceforge.cilib.functions.MultiObjectiveFunction;
 import net.sourceforge.cilib.problem.dataset.DataSetBuilder;
+import net.sourceforge.cilib.problem.objective.Objective;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.problem.solution.Fitnesses;
 import net.sourceforge.cilib.problem.solution.MOFitness;
 import net.sourceforge.cilib.type.DomainRegistry;
 import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
 
 public class MOOptimisationProblem extends ForwardingList<Problem> implements Problem {
 
     private static final long serialVersionUID = 4997914969290350571L;
     protected final List<Problem> problems;
+    private MultiObjectiveFunction function;
+    private AtomicInteger fitnessEvaluations;
 
     public MOOptimisationProblem() {
         this.problems = Lists.newArrayList();
+        this.fitnessEvaluations = new AtomicInteger(0);
     }
 
     public MOOptimisationProblem(MOOptimisationProblem copy) {
@@ -45,6 +54,8 @@ public class MOOptimisationProblem extends ForwardingList<Problem> implements Pr
         for (Problem optimisationProblem : copy.problems) {
             this.problems.add(optimisationProblem.getClone());
         }
+        this.function = copy.function;
+        this.fitnessEvaluations = new AtomicInteger(copy.fitnessEvaluations.get());
     }
 
     @Override
@@ -56,9 +67,84 @@ public class MOOptimisationProblem extends ForwardingList<Problem> implements Pr
         return Fitnesses.create(this, solutions);
     }
 
+    /**
+     * Get the fitness of all the objectives of the solution. If a
+     * {@link MultiObjectiveFunction} is set, all objectives are computed in one
+     * pass and each value is evaluated by the objective of its problem, otherwise
+     * each problem evaluates the solution separately.
+     * @throws IllegalStateException If a function is set that computes more
+     *         objectives than there are problems.
+     */
     @Override
     public MOFitness getFitness(Type solution) {
-        return Fitnesses.create(this, solution);
+        if (function == null) {
+            return Fitnesses.create(this, solution);
+        }
+
+        int size = this.problems.size();
+        Preconditions.checkState(size == function.getNumberOfObjectives(),
+                "The function computes %s objectives, but there are %s problems.", function.getNumberOfObjectives(), size);
+        double[] values = new double[function.getNumberOfObjectives()];
+        function.apply((Vector) solution, values);
+
+        Fitness[] fitnesses = new Fitness[size];
+        for (int i = 0; i < size; ++i) {
+            fitnesses[i] = getObjective(i).evaluate(values[i]);
+        }
+        // Counted per objective, as if each problem had evaluated the solution.
+        fitnessEvaluations.addAndGet(size);
+        return Fitnesses.create(fitnesses);
+    }
+
+    private Objective getObjective(int index) {
+        return ((AbstractProblem) this.problems.get(index)).getObjective();
+    }
+
+    /**
+     * Check that the given problems can be evaluated together by the function,
+     * if one is set. Each problem must define its objective, and there may not
+     * be more problems than objectives.
+     */
+    private void checkProblems(MultiObjectiveFunction function, Collection<? extends Problem> problems, int size) {
+        if (function == null) {
+            return;
+        }
+        Preconditions.checkArgument(size <= function.getNumberOfObjectives(),
+                "The function computes %s objectives, but there are %s problems.", function.getNumberOfObjectives(), size);
+        for (Problem problem : problems) {
+            Preconditions.checkArgument(problem instanceof AbstractProblem,
+                    "The objective of a %s is unknown, so it cannot be evaluated by the function.", problem.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public boolean add(Problem problem) {
+        checkProblems(function, Lists.newArrayList(problem), problems.size() + 1);
+        return super.add(problem);
+    }
+
+    @Override
+    public void add(int index, Problem problem) {
+        checkProblems(function, Lists.newArrayList(problem), problems.size() + 1);
+        super.add(index, problem);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Problem> collection) {
+        checkProblems(function, collection, problems.size() + collection.size());
+        return super.addAll(collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Problem> collection) {
+        checkProblems(function, collection, problems.size() + collection.size());
+        return super.addAll(index, collection);
+    }
+
+    @Override
+    public Problem set(int index, Problem problem) {
+        checkProblems(function, Lists.newArrayList(problem), problems.size());
+        return super.set(index, problem);
     }
 
     public Fitness getFitness(int index, Type solution) {
@@ -67,13 +153,37 @@ public class MOOptimisationProblem extends ForwardingList<Problem> implements Pr
 
     @Override
     public int getFitnessEvaluations() {
-        int sum = 0;
+        int sum = fitnessEvaluations.get();
         for (Problem problem : this.problems) {
             sum += problem.getFitnessEvaluations();
         }
         return sum;
     }
 
+    /**
+     * Set the function that computes all the objectives together. The problems
+     * still define the domain and the objective of each function value, so
+     * every problem must be an {@linkplain AbstractProblem}, and there must be
+     * one problem per objective. Problems that are added later are checked as
+     * they are added.
+     * <p>
+     * The problems do not evaluate the solution themselves, so their
+     * {@linkplain FitnessCache}s are not used and their evaluation counters
+     * are not incremented. The evaluations are counted by this problem
+     * instead, once per objective, and included in
+     * {@link #getFitnessEvaluations()}.
+     * @param function The function to set, or {@code null} to evaluate each
+     *        problem separately.
+     */
+    public void setFunction(MultiObjectiveFunction function) {
+        checkProblems(function, problems, problems.size());
+        this.function = function;
+    }
+
+    public MultiObjectiveFunction getFunction() {
+        return function;
+    }
+
     @Override
     public DomainRegistry getDomain() {
         throw new UnsupportedOperationException("This method is not implemented");
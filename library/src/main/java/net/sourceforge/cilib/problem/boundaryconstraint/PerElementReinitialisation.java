@@ -25,7 +25,6 @@ import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.type.types.Numeric;
-import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.Types;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -59,17 +58,17 @@ public class PerElementReinitialisation extends ReinitialisationBoundary {
     }
 
     /**
-     * This method only randomises those elements inside the given {@linkplain Type} object that are out of bounds.
-     * NOTE: This method is recursive so that it can handle <tt>Vectors</tt> inside <tt>Vectors</tt>.
-     * @param type the {@linkplain Type} object whose individual elements should be randomised if they are out of bounds
+     * This method only randomises those elements inside the given {@linkplain Vector} that are out of bounds.
+     * @param vector the {@linkplain Vector} whose individual elements should be randomised if they are out of bounds
      */
     private void enforce(Vector vector) {
-        for (Type element : vector) {
-            try {
-                enforce((Numeric) element);
-            }
-            catch (ClassCastException cce) {
-                enforce((Vector) element);
+        for (int i = 0; i < vector.size(); i++) {
+            Numeric element = vector.get(i);
+            if (!Types.isInsideBounds(element)) {
+                // Replace, rather than modify, the element as it may be shared
+                Numeric replacement = element.getClone();
+                replacement.randomize(random);
+                vector.set(i, replacement);
             }
         }
     }
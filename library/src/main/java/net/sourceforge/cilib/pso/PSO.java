@@ -22,7 +22,6 @@
 package net.sourceforge.cilib.pso;
 
 import com.google.common.collect.Lists;
-import java.util.Iterator;
 import java.util.List;
 import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
 import net.sourceforge.cilib.algorithm.population.IterationStrategy;
@@ -35,6 +34,7 @@ import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.entity.topologies.GBestTopology;
+import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
 import net.sourceforge.cilib.pso.iterationstrategies.SynchronousIterationStrategy;
 import net.sourceforge.cilib.pso.particle.StandardParticle;
@@ -64,6 +64,12 @@ public class PSO extends SinglePopulationBasedAlgorithm implements Participating
     private Topology<Particle> topology;
     private IterationStrategy<PSO> iterationStrategy;
     private ContributionSelectionStrategy contributionSelection;
+    private Particle bestParticle;
+    private OptimisationSolution bestSolution;
+    private List<OptimisationSolution> solutions;
+    private int cachedEvaluations;
+    private int cachedSize;
+    private boolean tracked;
 
     /**
      * Creates a new instance of <code>PSO</code>. All fields are initialised to reasonable
@@ -91,10 +97,9 @@ public class PSO extends SinglePopulationBasedAlgorithm implements Participating
         this.initialisationStrategy = copy.initialisationStrategy; // need to clone?
         this.contributionSelection = copy.contributionSelection.getClone();
 
-        for (Iterator<? extends Particle> i = topology.iterator(); i.hasNext();) {
-            Particle current = i.next();
-            Particle nBest = Topologies.getNeighbourhoodBest(topology, current, new SocialBestFitnessComparator());
-            current.setNeighbourhoodBest(nBest);
+        SocialBestFitnessComparator<Particle> comparator = new SocialBestFitnessComparator<Particle>();
+        for (int i = 0; i < topology.size(); i++) {
+            topology.get(i).setNeighbourhoodBest(Topologies.getNeighbourhoodBest(topology, i, comparator));
         }
     }
 
@@ -115,6 +120,7 @@ public class PSO extends SinglePopulationBasedAlgorithm implements Participating
         Iterable<Particle> particles = (Iterable<Particle>) this.initialisationStrategy.initialise(this.getOptimisationProblem());
         topology.clear();
         topology.addAll(Lists.<Particle>newLinkedList(particles));
+        invalidateSolutions();
 
         for (Particle p : topology) {
             p.calculateFitness();
@@ -127,18 +133,45 @@ public class PSO extends SinglePopulationBasedAlgorithm implements Participating
      */
     @Override
     protected void algorithmIteration() {
+        invalidateSolutions();
         iterationStrategy.performIteration(this);
     }
 
     /**
      * Get the best current solution. This best solution is determined from the personal bests of the
-     * particles.
+     * particles. After an iteration strategy has {@linkplain #setBestParticle(Particle) recorded} the
+     * best particle, the solution is memoised until the next iteration, so repeated calls by
+     * measurements and stopping conditions do not rescan the topology. At any other time the
+     * topology is scanned, since particles may be changed without being evaluated.
      * @return The <code>OptimisationSolution</code> representing the best solution.
      */
     @Override
     public OptimisationSolution getBestSolution() {
-        Particle bestEntity = Topologies.getBestEntity(topology, new SocialBestFitnessComparator<Particle>());
-        return new OptimisationSolution(bestEntity.getBestPosition(), bestEntity.getBestFitness());
+        if (!validateSolutions()) {
+            Particle best = Topologies.getBestEntity(topology, new SocialBestFitnessComparator<Particle>());
+            return new OptimisationSolution(best.getBestPosition(), best.getBestFitness());
+        }
+
+        if (bestSolution == null) {
+            bestSolution = new OptimisationSolution(bestParticle.getBestPosition(), bestParticle.getBestFitness());
+        }
+        return bestSolution;
+    }
+
+    /**
+     * Record the particle with the best social fitness in the topology. Iteration strategies that
+     * evaluate every particle can track the best particle while doing so and hand it over here, once
+     * the particles will not change again during the iteration. The record and the solutions derived
+     * from it are kept until the next iteration starts, the topology is replaced or changes size, or
+     * further fitness evaluations take place.
+     * @param particle The best particle in the current topology.
+     */
+    public void setBestParticle(Particle particle) {
+        invalidateSolutions();
+        bestParticle = particle;
+        cachedEvaluations = getFitnessEvaluations();
+        cachedSize = topology.size();
+        tracked = true;
     }
 
     /**
@@ -148,11 +181,54 @@ public class PSO extends SinglePopulationBasedAlgorithm implements Participating
      */
     @Override
     public List<OptimisationSolution> getSolutions() {
-        List<OptimisationSolution> solutions = Lists.newLinkedList();
-        for (Particle e : Topologies.getNeighbourhoodBestEntities(topology, new SocialBestFitnessComparator<Particle>())) {
-            solutions.add(new OptimisationSolution(e.getBestPosition(), e.getBestFitness()));
+        boolean memoised = validateSolutions();
+        List<OptimisationSolution> result = solutions;
+        if (result == null) {
+            result = Lists.newArrayList();
+            for (Particle e : Topologies.getNeighbourhoodBestEntities(topology, new SocialBestFitnessComparator<Particle>())) {
+                result.add(new OptimisationSolution(e.getBestPosition(), e.getBestFitness()));
+            }
+            if (memoised) {
+                solutions = result;
+            }
+        }
+        return Lists.newLinkedList(result);
+    }
+
+    /**
+     * Determine whether the recorded best particle is still current, and discard the memoised
+     * solutions if it is not. It is current until fitness evaluations take place or the topology
+     * changes size after it was recorded.
+     * @return {@code true} if the memoised solutions may be used.
+     */
+    private boolean validateSolutions() {
+        if (tracked && (cachedSize != topology.size() || cachedEvaluations != getFitnessEvaluations())) {
+            invalidateSolutions();
         }
-        return solutions;
+        return tracked;
+    }
+
+    /**
+     * Discard the recorded best particle and the memoised solutions.
+     */
+    private void invalidateSolutions() {
+        tracked = false;
+        bestParticle = null;
+        bestSolution = null;
+        solutions = null;
+    }
+
+    private int getFitnessEvaluations() {
+        return optimisationProblem == null ? 0 : optimisationProblem.getFitnessEvaluations();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setOptimisationProblem(Problem problem) {
+        super.setOptimisationProblem(problem);
+        invalidateSolutions();
     }
 
     /**
@@ -163,6 +239,7 @@ public class PSO extends SinglePopulationBasedAlgorithm implements Participating
     @SuppressWarnings("unchecked")
     public void setTopology(Topology topology) {
         this.topology = topology;
+        invalidateSolutions();
     }
 
     /**
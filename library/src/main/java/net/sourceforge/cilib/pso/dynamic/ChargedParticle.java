@@ -24,7 +24,6 @@ package net.sourceforge.cilib.pso.dynamic;
 import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.problem.solution.InferiorFitness;
 import net.sourceforge.cilib.problem.Problem;
-import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -104,6 +103,6 @@ public class ChargedParticle extends DynamicParticle {
         this.getProperties().put(EntityType.FITNESS, InferiorFitness.instance());
         this.getProperties().put(EntityType.Particle.BEST_FITNESS, InferiorFitness.instance());
         this.neighbourhoodBest = this;
-        this.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(0));
+        setPersonalBestStagnationCount(0);
     }
 }
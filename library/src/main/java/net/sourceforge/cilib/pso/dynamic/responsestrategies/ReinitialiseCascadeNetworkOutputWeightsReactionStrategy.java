@@ -86,7 +86,9 @@ public class ReinitialiseCascadeNetworkOutputWeightsReactionStrategy<E extends P
             Vector position = (Vector)particle.getPosition();
 			Vector velocity = (Vector)particle.getVelocity();
 			for (int curElement = position.size()-nrOfweightsToDo; curElement < position.size(); ++curElement) {
-            	((Real) position.get(curElement)).randomize(randomGenerator);
+            	Real weight = (Real) position.get(curElement).getClone();
+            	weight.randomize(randomGenerator);
+            	position.set(curElement, weight);
 				velocity.setReal(curElement, 0.0);
 			}
         }
@@ -23,9 +23,7 @@ package net.sourceforge.cilib.pso.hpso.detectionstrategies;
 
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
-import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.entity.Particle;
-import net.sourceforge.cilib.type.types.Int;
 
 /**
  * This {@link BehaviorChangeTriggerDetectionStrategy} monitors a
@@ -72,7 +70,7 @@ public class PersonalBestStagnationDetectionStrategy implements BehaviorChangeTr
      */
     @Override
     public boolean detect(Particle entity) {
-        int counter = ((Int)entity.getProperties().get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER)).intValue();
+        int counter = entity.getPersonalBestStagnationCount();
 
         if (counter > windowSize.getParameter()) {
             return true;
@@ -21,11 +21,11 @@
  */
 package net.sourceforge.cilib.pso.iterationstrategies;
 
-import java.util.Iterator;
 
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.entity.Particle;
 import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.pso.PSO;
 
 /**
@@ -62,9 +62,11 @@ public class ASynchronousIterationStrategy extends AbstractIterationStrategy<PSO
      */
     public void performIteration(PSO algorithm) {
         Topology<Particle> topology = algorithm.getTopology();
+        SocialBestFitnessComparator<Particle> comparator = new SocialBestFitnessComparator<Particle>();
+        Particle best = null;
 
-        for (Iterator<? extends Particle> i = topology.iterator(); i.hasNext();) {
-            Particle current = i.next();
+        for (int i = 0; i < topology.size(); i++) {
+            Particle current = topology.get(i);
             current.updateVelocity();       // TODO: replace with visitor (will simplify particle interface)
             current.updatePosition();       // TODO: replace with visitor (will simplify particle interface)
 
@@ -72,12 +74,18 @@ public class ASynchronousIterationStrategy extends AbstractIterationStrategy<PSO
 
             current.calculateFitness();
 
-            for (Iterator<? extends Particle> j = topology.neighbourhood(i); j.hasNext();) {
-                Particle other = j.next();
+            if (best == null || comparator.compare(best, current) < 0) {
+                best = current;
+            }
+
+            for (int j : topology.neighbourhoodIndices(i)) {
+                Particle other = topology.get(j);
                 if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
                     other.setNeighbourhoodBest(current); // TODO: neighbourhood visitor?
                 }
             }
         }
+
+        algorithm.setBestParticle(best);
     }
 }
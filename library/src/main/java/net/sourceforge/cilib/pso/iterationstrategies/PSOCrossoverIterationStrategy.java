@@ -21,9 +21,9 @@
  */
 package net.sourceforge.cilib.pso.iterationstrategies;
 
-import java.util.Iterator;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.crossover.operations.BoltzmannCrossoverSelection;
@@ -82,16 +82,7 @@ public class PSOCrossoverIterationStrategy extends AbstractIterationStrategy<PSO
         
         algorithm.setTopology(crossoverOperation.f(algorithm));
         
-        for (Iterator<? extends Particle> i = topology.iterator(); i.hasNext();) {
-            Particle current = i.next();
-
-            for (Iterator<? extends Particle> j = topology.neighbourhood(i); j.hasNext();) {
-                Particle other = j.next();
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
-                    other.setNeighbourhoodBest(current);
-                }
-            }
-        }
+        Topologies.updateNeighbourhoodBests(topology);
     }
 
     public void setCrossoverOperation(PSOCrossoverOperation crossoverOperation) {
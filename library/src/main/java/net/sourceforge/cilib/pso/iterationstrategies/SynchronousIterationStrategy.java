@@ -21,11 +21,12 @@
  */
 package net.sourceforge.cilib.pso.iterationstrategies;
 
-import java.util.Iterator;
 
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.pso.PSO;
 
 /**
@@ -62,6 +63,8 @@ public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO>
     @Override
     public void performIteration(PSO pso) {
         Topology<Particle> topology = pso.getTopology();
+        SocialBestFitnessComparator<Particle> comparator = new SocialBestFitnessComparator<Particle>();
+        Particle best = null;
 
         for (Particle current : topology) {
             current.updateVelocity();
@@ -70,16 +73,15 @@ public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO>
             boundaryConstraint.enforce(current);
         }
 
-        for (Iterator<? extends Particle> i = topology.iterator(); i.hasNext();) {
-            Particle current = i.next();
+        for (Particle current : topology) {
             current.calculateFitness();
 
-            for (Iterator<? extends Particle> j = topology.neighbourhood(i); j.hasNext();) {
-                Particle other = j.next();
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
-                    other.setNeighbourhoodBest(current); // TODO: neighbourhood visitor?
-                }
+            if (best == null || comparator.compare(best, current) < 0) {
+                best = current;
             }
         }
+
+        Topologies.updateNeighbourhoodBests(topology);
+        pso.setBestParticle(best);
     }
 }
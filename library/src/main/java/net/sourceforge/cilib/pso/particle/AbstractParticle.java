@@ -23,6 +23,7 @@ package net.sourceforge.cilib.pso.particle;
 
 import net.sourceforge.cilib.entity.AbstractEntity;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.entity.Particle;
 import net.sourceforge.cilib.entity.initialization.ConstantInitializationStrategy;
 import net.sourceforge.cilib.entity.initialization.InitializationStrategy;
@@ -355,6 +356,22 @@ public abstract class AbstractParticle extends AbstractEntity implements Particl
         this.personalBestUpdateStrategy = personalBestUpdateStrategy;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPersonalBestStagnationCount() {
+        return getEntityProperties().getCount(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPersonalBestStagnationCount(int count) {
+        getEntityProperties().setCount(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, count);
+    }
+
     @Override
     public ParticleBehavior getParticleBehavior() {
         return this.behavior;
@@ -0,0 +1,891 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.particle;
+
+import com.google.common.base.Preconditions;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.EntityIdFactory;
+import net.sourceforge.cilib.entity.EntityProperties;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.entity.initialization.ConstantInitializationStrategy;
+import net.sourceforge.cilib.entity.initialization.InitializationStrategy;
+import net.sourceforge.cilib.entity.initialization.RandomInitializationStrategy;
+import net.sourceforge.cilib.entity.initialization.StandardPBestPositionInitializationStrategy;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.InferiorFitness;
+import net.sourceforge.cilib.pso.guideprovider.NBestGuideProvider;
+import net.sourceforge.cilib.pso.guideprovider.PBestGuideProvider;
+import net.sourceforge.cilib.pso.pbestupdate.BoundedPersonalBestUpdateStrategy;
+import net.sourceforge.cilib.pso.pbestupdate.PersonalBestUpdateStrategy;
+import net.sourceforge.cilib.pso.pbestupdate.StandardPersonalBestUpdateStrategy;
+import net.sourceforge.cilib.pso.positionprovider.MemoryNeighbourhoodBestUpdateStrategy;
+import net.sourceforge.cilib.pso.positionprovider.NeighbourhoodBestUpdateStrategy;
+import net.sourceforge.cilib.pso.positionprovider.PositionProvider;
+import net.sourceforge.cilib.pso.positionprovider.StandardPositionProvider;
+import net.sourceforge.cilib.pso.velocityprovider.StandardVelocityProvider;
+import net.sourceforge.cilib.pso.velocityprovider.VelocityProvider;
+import net.sourceforge.cilib.type.types.Blackboard;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.StructuredType;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.calculator.EntityBasedFitnessCalculator;
+import net.sourceforge.cilib.util.calculator.FitnessCalculator;
+
+/**
+ * A real valued {@linkplain Particle} that is a view of an index in a
+ * structure-of-arrays swarm storage. The position, velocity, personal best
+ * position and previous position of all particles cloned from the same
+ * uninitialised prototype are kept in contiguous {@code double[N * D]} blocks,
+ * and their fitness values in {@code double[N]} blocks, instead of as
+ * {@code Vector}s of {@code Real} instances and {@code Fitness} objects. A
+ * clone of an initialised particle is stored in a new block of its own, so
+ * that temporary copies and cloned swarms do not share storage with the
+ * original particles. Only minimisation and maximisation fitnesses can be
+ * stored.
+ * <p>
+ * To use the structure-of-arrays representation, set an {@code ArrayParticle}
+ * as the entity type of the population initialisation strategy of a
+ * {@linkplain net.sourceforge.cilib.pso.PSO}. The default behaviour, namely
+ * the {@linkplain StandardVelocityProvider}, {@linkplain StandardPositionProvider},
+ * {@linkplain PBestGuideProvider}, {@linkplain NBestGuideProvider} and
+ * {@linkplain StandardPersonalBestUpdateStrategy}, also as the delegate of a
+ * {@linkplain BoundedPersonalBestUpdateStrategy}, is applied directly to the
+ * stored arrays. Any other strategy is applied to {@code Vector}s that are
+ * created from, and written back to, the stored arrays.
+ * <p>
+ * A {@code Vector} obtained from the particle, including through
+ * {@link #getProperties()}, reflects the stored state until the next update,
+ * reinitialisation or fitness evaluation of the particle, at which time any
+ * changes made to it are written back. Changes made afterwards are not
+ * reflected.
+ */
+public class ArrayParticle implements Particle {
+    private static final long serialVersionUID = -1407224018296014219L;
+
+    private static final int POSITION = 0;
+    private static final int VELOCITY = 1;
+    private static final int BEST_POSITION = 2;
+    private static final int PREVIOUS_POSITION = 3;
+
+    private final ParticleBlock block;
+    private int index;
+    private final Vector[] views;
+    private final Blackboard<Enum<?>, Type> properties;
+    private EntityProperties others;
+
+    private long id;
+    private FitnessCalculator<Entity> fitnessCalculator;
+    private Particle neighbourhoodBest;
+    private int stagnation;
+
+    private transient double[] cognitive;
+    private transient double[] social;
+
+    protected ParticleBehavior behavior;
+
+    protected InitializationStrategy<Particle> velocityInitializationStrategy;
+    protected InitializationStrategy<Particle> positionInitialisationStrategy;
+    protected InitializationStrategy<Particle> personalBestInitialisationStrategy;
+
+    protected PersonalBestUpdateStrategy personalBestUpdateStrategy;
+    protected NeighbourhoodBestUpdateStrategy neighbourhoodBestUpdateStrategy;
+
+    /**
+     * Create a new {@code ArrayParticle}, with its own storage. All clones of
+     * the particle made before it is initialised share the storage.
+     */
+    public ArrayParticle() {
+        this.block = new ParticleBlock();
+        this.index = -1;
+        this.views = new Vector[4];
+        this.properties = new Blackboard<Enum<?>, Type>(new RowProperties());
+
+        this.id = EntityIdFactory.getNextId();
+        this.fitnessCalculator = new EntityBasedFitnessCalculator();
+        this.behavior = new ParticleBehavior();
+
+        this.velocityInitializationStrategy = new ConstantInitializationStrategy<Particle>(0.0);
+        this.positionInitialisationStrategy = new RandomInitializationStrategy<Particle>();
+        this.personalBestInitialisationStrategy = new StandardPBestPositionInitializationStrategy();
+
+        this.personalBestUpdateStrategy = new StandardPersonalBestUpdateStrategy();
+        this.neighbourhoodBestUpdateStrategy = new MemoryNeighbourhoodBestUpdateStrategy();
+    }
+
+    /**
+     * Copy constructor. The copy shares the storage of an uninitialised
+     * instance, and is stored in a new storage block otherwise. Any
+     * {@code Vector}s handed out by {@code copy} are copied as they are,
+     * without being written back to the storage of {@code copy}.
+     * @param copy The instance to copy.
+     */
+    public ArrayParticle(ArrayParticle copy) {
+        this.block = copy.index < 0 ? copy.block : new ParticleBlock(copy.block);
+        this.index = -1;
+        this.views = new Vector[4];
+        this.properties = new Blackboard<Enum<?>, Type>(new RowProperties());
+        this.others = copy.others == null ? null : new EntityProperties(copy.others);
+
+        if (copy.index >= 0) {
+            this.index = block.allocate();
+            for (int property = 0; property < views.length; property++) {
+                if (copy.views[property] != null) {
+                    block.copyOf(copy.views[property], data(property), index);
+                } else {
+                    int dimension = block.getDimension();
+                    System.arraycopy(copy.data(property), copy.index * dimension, data(property), index * dimension, dimension);
+                }
+            }
+            block.fitnesses[index] = copy.block.fitnesses[copy.index];
+            block.bestFitnesses[index] = copy.block.bestFitnesses[copy.index];
+            block.previousFitnesses[index] = copy.block.previousFitnesses[copy.index];
+        }
+        this.stagnation = copy.stagnation;
+
+        this.id = EntityIdFactory.getNextId();
+        this.fitnessCalculator = copy.fitnessCalculator.getClone();
+        this.behavior = copy.behavior.getClone();
+
+        this.velocityInitializationStrategy = cloneOf(copy.velocityInitializationStrategy);
+        this.positionInitialisationStrategy = cloneOf(copy.positionInitialisationStrategy);
+        this.personalBestInitialisationStrategy = cloneOf(copy.personalBestInitialisationStrategy);
+
+        this.personalBestUpdateStrategy = copy.personalBestUpdateStrategy.getClone();
+        this.neighbourhoodBestUpdateStrategy = copy.neighbourhoodBestUpdateStrategy.getClone();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static InitializationStrategy<Particle> cloneOf(InitializationStrategy<Particle> strategy) {
+        return strategy.getClone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArrayParticle getClone() {
+        return new ArrayParticle(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if ((object == null) || (this.getClass() != object.getClass())) {
+            return false;
+        }
+
+        ArrayParticle other = (ArrayParticle) object;
+        return this.id == other.id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + (int) (id ^ (id >>> 32));
+        return hash;
+    }
+
+    private double[] data(int property) {
+        switch (property) {
+            case POSITION: return block.positions;
+            case VELOCITY: return block.velocities;
+            case BEST_POSITION: return block.bestPositions;
+            default: return block.previousPositions;
+        }
+    }
+
+    private Vector read(int property) {
+        if (index < 0) {
+            return Vector.newBuilder().build();
+        }
+        if (views[property] == null) {
+            views[property] = block.toVector(data(property), index);
+        }
+        return views[property];
+    }
+
+    private void write(int property, Type value) {
+        Preconditions.checkArgument(value instanceof Vector, "Only Vector values can be stored.");
+        Vector vector = (Vector) value;
+        if (index < 0) {
+            if (vector.isEmpty()) {
+                return;
+            }
+            block.setRepresentation(vector);
+            index = block.allocate();
+        }
+        views[property] = null;
+        block.copyOf(vector, data(property), index);
+    }
+
+    private Fitness readFitness(double[] fitnesses) {
+        return index < 0 ? null : block.toFitness(fitnesses[index]);
+    }
+
+    private void writeFitness(double[] fitnesses, Fitness value) {
+        Preconditions.checkState(index >= 0, "The particle has not been initialised.");
+        fitnesses[index] = block.valueOf(value);
+    }
+
+    /**
+     * Write any {@code Vector}s handed out by this particle back to the storage.
+     */
+    private void synchronise() {
+        for (int property = 0; property < views.length; property++) {
+            if (views[property] != null) {
+                block.copyOf(views[property], data(property), index);
+                views[property] = null;
+            }
+        }
+    }
+
+    /**
+     * Record the current position as the previous position.
+     */
+    private void savePreviousPosition() {
+        int dimension = block.getDimension();
+        System.arraycopy(block.positions, index * dimension, block.previousPositions, index * dimension, dimension);
+        views[PREVIOUS_POSITION] = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Blackboard<Enum<?>, Type> getProperties() {
+        return properties;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector getCandidateSolution() {
+        return read(POSITION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void setCandidateSolution(StructuredType candidateSolution) {
+        write(POSITION, candidateSolution);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector getPosition() {
+        return read(POSITION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector getVelocity() {
+        return read(VELOCITY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector getBestPosition() {
+        return read(BEST_POSITION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Fitness getFitness() {
+        return readFitness(block.fitnesses);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Fitness getBestFitness() {
+        return readFitness(block.bestFitnesses);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDimension() {
+        return block.getDimension();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialise(Problem problem) {
+        StructuredType<?> representation = problem.getDomain().getBuiltRepresentation();
+        Preconditions.checkArgument(representation instanceof Vector, "An ArrayParticle requires a Vector representation.");
+        Vector position = (Vector) representation;
+        for (int i = 0; i < position.size(); i++) {
+            Preconditions.checkArgument(position.get(i) instanceof Real,
+                    "An ArrayParticle requires a real valued representation.");
+        }
+
+        block.setRepresentation(position);
+        write(POSITION, position);
+        write(BEST_POSITION, position);
+        write(VELOCITY, position);
+
+        this.positionInitialisationStrategy.initialize(EntityType.CANDIDATE_SOLUTION, this);
+        this.personalBestInitialisationStrategy.initialize(EntityType.Particle.BEST_POSITION, this);
+        this.velocityInitializationStrategy.initialize(EntityType.Particle.VELOCITY, this);
+        synchronise();
+        savePreviousPosition();
+
+        writeFitness(block.fitnesses, InferiorFitness.instance());
+        writeFitness(block.bestFitnesses, InferiorFitness.instance());
+        writeFitness(block.previousFitnesses, InferiorFitness.instance());
+        this.neighbourhoodBest = this;
+
+        this.stagnation = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reinitialise() {
+        synchronise();
+        this.positionInitialisationStrategy.initialize(EntityType.CANDIDATE_SOLUTION, this);
+        this.personalBestInitialisationStrategy.initialize(EntityType.Particle.BEST_POSITION, this);
+        this.velocityInitializationStrategy.initialize(EntityType.Particle.VELOCITY, this);
+        synchronise();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateVelocity() {
+        synchronise();
+
+        VelocityProvider velocityProvider = this.behavior.getVelocityProvider();
+        if (velocityProvider instanceof StandardVelocityProvider
+                && this.behavior.getLocalGuideProvider().getClass() == PBestGuideProvider.class
+                && this.behavior.getGlobalGuideProvider().getClass() == NBestGuideProvider.class
+                && this.neighbourhoodBest instanceof ArrayParticle
+                && ((ArrayParticle) this.neighbourhoodBest).hasStoredBestPosition()) {
+            ArrayParticle best = (ArrayParticle) this.neighbourhoodBest;
+            updateVelocity((StandardVelocityProvider) velocityProvider, best.block.bestPositions, best.index);
+            return;
+        }
+
+        write(VELOCITY, velocityProvider.get(this));
+    }
+
+    /**
+     * Determine whether the stored personal best position of this particle is
+     * current, that is, whether no {@code Vector} of it has been handed out
+     * that may have been changed since.
+     */
+    private boolean hasStoredBestPosition() {
+        return index >= 0 && views[BEST_POSITION] == null;
+    }
+
+    /**
+     * The standard velocity update, applied to the stored arrays. The control
+     * parameters and random numbers are obtained in the same order as
+     * {@link StandardVelocityProvider#get(Particle)} obtains them, so that both
+     * produce identical results.
+     */
+    private void updateVelocity(StandardVelocityProvider provider, double[] nbest, int bestIndex) {
+        int dimension = block.getDimension();
+        int offset = index * dimension;
+        int bestOffset = bestIndex * dimension;
+        double[] x = block.positions;
+        double[] v = block.velocities;
+        double[] pbest = block.bestPositions;
+        if (cognitive == null || cognitive.length != dimension) {
+            cognitive = new double[dimension];
+            social = new double[dimension];
+        }
+
+        double inertia = provider.getInertiaWeight().getParameter();
+
+        ControlParameter c1 = provider.getCognitiveAcceleration();
+        for (int i = 0; i < dimension; i++) {
+            cognitive[i] = (pbest[offset + i] - x[offset + i]) * c1.getParameter();
+        }
+        RandomProvider r1 = provider.getR1();
+        for (int i = 0; i < dimension; i++) {
+            cognitive[i] *= r1.nextDouble();
+        }
+
+        ControlParameter c2 = provider.getSocialAcceleration();
+        for (int i = 0; i < dimension; i++) {
+            social[i] = (nbest[bestOffset + i] - x[offset + i]) * c2.getParameter();
+        }
+        RandomProvider r2 = provider.getR2();
+        for (int i = 0; i < dimension; i++) {
+            social[i] *= r2.nextDouble();
+        }
+
+        for (int i = 0; i < dimension; i++) {
+            v[offset + i] = v[offset + i] * inertia + cognitive[i] + social[i];
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePosition() {
+        synchronise();
+        savePreviousPosition();
+
+        PositionProvider positionProvider = this.behavior.getPositionProvider();
+        if (positionProvider.getClass() == StandardPositionProvider.class) {
+            double[] x = block.positions;
+            double[] v = block.velocities;
+            int dimension = block.getDimension();
+            for (int i = index * dimension, end = i + dimension; i < end; i++) {
+                x[i] += v[i];
+            }
+            return;
+        }
+
+        write(POSITION, positionProvider.get(this));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void calculateFitness() {
+        synchronise();
+
+        Fitness fitness = getFitnessCalculator().getFitness(this);
+        block.previousFitnesses[index] = block.fitnesses[index];
+        writeFitness(block.fitnesses, fitness);
+
+        PersonalBestUpdateStrategy strategy = this.personalBestUpdateStrategy;
+        if (strategy.getClass() == BoundedPersonalBestUpdateStrategy.class
+                && ((BoundedPersonalBestUpdateStrategy) strategy).getDelegate().getClass() == StandardPersonalBestUpdateStrategy.class) {
+            if (!block.isInsideBounds(block.positions, index)) {
+                writeFitness(block.fitnesses, InferiorFitness.instance());
+                views[POSITION] = null;
+                return;
+            }
+            strategy = ((BoundedPersonalBestUpdateStrategy) strategy).getDelegate();
+        }
+
+        if (strategy.getClass() != StandardPersonalBestUpdateStrategy.class) {
+            synchronise();
+            strategy.updatePersonalBest(this);
+            return;
+        }
+
+        views[POSITION] = null;
+        if (fitness.compareTo(getBestFitness()) > 0) {
+            this.behavior.incrementSuccessCounter();
+            this.stagnation = 0;
+            block.bestFitnesses[index] = block.fitnesses[index];
+            int dimension = block.getDimension();
+            System.arraycopy(block.positions, index * dimension, block.bestPositions, index * dimension, dimension);
+            views[BEST_POSITION] = null;
+            return;
+        }
+        this.stagnation++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPersonalBestStagnationCount() {
+        return stagnation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPersonalBestStagnationCount(int count) {
+        this.stagnation = count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StructuredType<?> getGlobalGuide() {
+        return this.behavior.getGlobalGuideProvider().get(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StructuredType<?> getLocalGuide() {
+        return this.behavior.getLocalGuideProvider().get(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Particle getNeighbourhoodBest() {
+        return this.neighbourhoodBest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setNeighbourhoodBest(Particle particle) {
+        this.neighbourhoodBest = particle;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Fitness getSocialFitness() {
+        return this.neighbourhoodBestUpdateStrategy.getSocialBestFitness(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(Entity o) {
+        return this.getFitness().compareTo(o.getFitness());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FitnessCalculator<Entity> getFitnessCalculator() {
+        return this.fitnessCalculator;
+    }
+
+    /**
+     * Set the {@code FitnessCalculator} for the current {@code Entity}.
+     * @param fitnessCalculator The value to set.
+     */
+    public void setFitnessCalculator(FitnessCalculator<Entity> fitnessCalculator) {
+        this.fitnessCalculator = fitnessCalculator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PositionProvider getPositionProvider() {
+        return this.behavior.getPositionProvider();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPositionProvider(PositionProvider positionProvider) {
+        this.behavior.setPositionProvider(positionProvider);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VelocityProvider getVelocityProvider() {
+        return this.behavior.getVelocityProvider();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setVelocityProvider(VelocityProvider velocityProvider) {
+        this.behavior.setVelocityProvider(velocityProvider);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InitializationStrategy<Particle> getVelocityInitializationStrategy() {
+        return this.velocityInitializationStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void setVelocityInitializationStrategy(InitializationStrategy initializationStrategy) {
+        this.velocityInitializationStrategy = initializationStrategy;
+    }
+
+    /**
+     * Get the current position initialisation strategy.
+     * @return The current position initialisation strategy.
+     */
+    public InitializationStrategy<Particle> getPositionInitialisationStrategy() {
+        return this.positionInitialisationStrategy;
+    }
+
+    /**
+     * Set the position initialisation strategy to be used.
+     * @param positionInitialisationStrategy The value to set.
+     */
+    public void setPositionInitialisationStrategy(InitializationStrategy<Particle> positionInitialisationStrategy) {
+        this.positionInitialisationStrategy = positionInitialisationStrategy;
+    }
+
+    /**
+     * Set the personal best initialisation strategy to be used.
+     * @param personalBestInitialisationStrategy The value to set.
+     */
+    public void setPersonalBestInitialisationStrategy(InitializationStrategy<Particle> personalBestInitialisationStrategy) {
+        this.personalBestInitialisationStrategy = personalBestInitialisationStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NeighbourhoodBestUpdateStrategy getNeighbourhoodBestUpdateStrategy() {
+        return this.neighbourhoodBestUpdateStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setNeighbourhoodBestUpdateStrategy(NeighbourhoodBestUpdateStrategy neighbourhoodBestUpdateStrategy) {
+        this.neighbourhoodBestUpdateStrategy = neighbourhoodBestUpdateStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PersonalBestUpdateStrategy getPersonalBestUpdateStrategy() {
+        return this.personalBestUpdateStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPersonalBestUpdateStrategy(PersonalBestUpdateStrategy personalBestUpdateStrategy) {
+        this.personalBestUpdateStrategy = personalBestUpdateStrategy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ParticleBehavior getParticleBehavior() {
+        return this.behavior;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setParticleBehavior(ParticleBehavior particleBehavior) {
+        this.behavior = particleBehavior;
+    }
+
+    /**
+     * The properties of the particle. The vector, fitness and counter
+     * properties are mapped onto the storage, all other properties are kept
+     * in an {@linkplain EntityProperties} store that is created when needed.
+     */
+    private final class RowProperties extends AbstractMap<Enum<?>, Type> {
+
+        private int rowOf(Object key) {
+            if (key == EntityType.CANDIDATE_SOLUTION) {
+                return POSITION;
+            } else if (key == EntityType.Particle.VELOCITY) {
+                return VELOCITY;
+            } else if (key == EntityType.Particle.BEST_POSITION) {
+                return BEST_POSITION;
+            } else if (key == EntityType.PREVIOUS_SOLUTION) {
+                return PREVIOUS_POSITION;
+            }
+            return -1;
+        }
+
+        private boolean isFitness(Object key) {
+            return key == EntityType.FITNESS || key == EntityType.Particle.BEST_FITNESS
+                    || key == EntityType.PREVIOUS_FITNESS;
+        }
+
+        private double[] fitnessesOf(Object key) {
+            if (key == EntityType.FITNESS) {
+                return block.fitnesses;
+            } else if (key == EntityType.Particle.BEST_FITNESS) {
+                return block.bestFitnesses;
+            }
+            return block.previousFitnesses;
+        }
+
+        @Override
+        public Type get(Object key) {
+            int property = rowOf(key);
+            if (property >= 0) {
+                return read(property);
+            }
+            if (isFitness(key)) {
+                return readFitness(fitnessesOf(key));
+            }
+            if (key == EntityType.Particle.Count.PBEST_STAGNATION_COUNTER) {
+                return Int.valueOf(stagnation);
+            }
+            return others == null ? null : others.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Type put(Enum<?> key, Type value) {
+            Type previous = get(key);
+            int property = rowOf(key);
+            if (property >= 0) {
+                write(property, value);
+                return previous;
+            }
+            if (isFitness(key)) {
+                writeFitness(fitnessesOf(key), (Fitness) value);
+                return previous;
+            }
+            if (key == EntityType.Particle.Count.PBEST_STAGNATION_COUNTER) {
+                stagnation = ((Numeric) value).intValue();
+                return previous;
+            }
+            if (others == null) {
+                others = new EntityProperties();
+            }
+            return others.put(key, value);
+        }
+
+        @Override
+        public Type remove(Object key) {
+            Preconditions.checkArgument(rowOf(key) < 0 && !isFitness(key),
+                    "The stored properties of an ArrayParticle cannot be removed.");
+            Type previous = get(key);
+            if (key == EntityType.Particle.Count.PBEST_STAGNATION_COUNTER) {
+                stagnation = 0;
+            } else if (others != null) {
+                others.remove(key);
+            }
+            return previous;
+        }
+
+        @Override
+        public Set<Map.Entry<Enum<?>, Type>> entrySet() {
+            final List<Enum<?>> keys = new ArrayList<Enum<?>>();
+            keys.add(EntityType.CANDIDATE_SOLUTION);
+            keys.add(EntityType.Particle.VELOCITY);
+            keys.add(EntityType.Particle.BEST_POSITION);
+            keys.add(EntityType.PREVIOUS_SOLUTION);
+            for (Enum<?> key : new Enum<?>[] {EntityType.FITNESS, EntityType.Particle.BEST_FITNESS, EntityType.PREVIOUS_FITNESS}) {
+                if (get(key) != null) {
+                    keys.add(key);
+                }
+            }
+            keys.add(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER);
+            if (others != null) {
+                keys.addAll(others.keySet());
+            }
+
+            return new AbstractSet<Map.Entry<Enum<?>, Type>>() {
+                @Override
+                public Iterator<Map.Entry<Enum<?>, Type>> iterator() {
+                    final Iterator<Enum<?>> i = keys.iterator();
+                    return new Iterator<Map.Entry<Enum<?>, Type>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return i.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<Enum<?>, Type> next() {
+                            Enum<?> key = i.next();
+                            return new SimpleImmutableEntry<Enum<?>, Type>(key, get(key));
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return keys.size();
+                }
+            };
+        }
+    }
+}
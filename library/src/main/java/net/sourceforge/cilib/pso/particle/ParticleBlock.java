@@ -0,0 +1,210 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.particle;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+import java.util.Arrays;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.InferiorFitness;
+import net.sourceforge.cilib.problem.solution.MaximisationFitness;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Structure-of-arrays storage for the state of {@linkplain ArrayParticle}
+ * instances. Each particle is allocated an index. The positions, velocities,
+ * personal best positions and previous positions of {@code N} particles with
+ * {@code D} dimensions are each stored row-major in a single
+ * {@code double[N * D]} block, and the current, best and previous fitness
+ * values in a {@code double[N]} each.
+ * <p>
+ * The blocks grow as particles are allocated, and indices are not reused.
+ * Allocation is synchronised, but access to the blocks is not: all the
+ * particles of a block must be allocated before the block is used by more than
+ * one thread, and a particle may only be used by one thread at a time.
+ */
+final class ParticleBlock implements Serializable {
+    private static final long serialVersionUID = -5361460467386096581L;
+
+    private int dimension;
+    private Bounds[] bounds;
+    private volatile Fitness fitnessType;
+    private int size;
+
+    double[] positions;
+    double[] velocities;
+    double[] bestPositions;
+    double[] previousPositions;
+    double[] fitnesses;
+    double[] bestFitnesses;
+    double[] previousFitnesses;
+
+    ParticleBlock() {
+        this.bounds = new Bounds[0];
+        allocateBlocks(0);
+    }
+
+    /**
+     * Create an empty block with the same representation as the given block.
+     * @param representation The block to copy the representation from.
+     */
+    ParticleBlock(ParticleBlock representation) {
+        this.dimension = representation.dimension;
+        this.bounds = representation.bounds;
+        this.fitnessType = representation.fitnessType;
+        allocateBlocks(0);
+    }
+
+    private void allocateBlocks(int capacity) {
+        positions = new double[capacity * dimension];
+        velocities = new double[capacity * dimension];
+        bestPositions = new double[capacity * dimension];
+        previousPositions = new double[capacity * dimension];
+        fitnesses = new double[capacity];
+        bestFitnesses = new double[capacity];
+        previousFitnesses = new double[capacity];
+    }
+
+    /**
+     * Allocate the next particle index. The blocks grow to twice their size
+     * when they are full. The fitness values of the new particle are inferior.
+     * The representation of the block must have been set.
+     * @return The index of the particle.
+     */
+    synchronized int allocate() {
+        Preconditions.checkState(dimension != 0, "The representation of the block has not been set.");
+        if (size == fitnesses.length) {
+            int capacity = Math.max(1, 2 * size);
+            positions = Arrays.copyOf(positions, capacity * dimension);
+            velocities = Arrays.copyOf(velocities, capacity * dimension);
+            bestPositions = Arrays.copyOf(bestPositions, capacity * dimension);
+            previousPositions = Arrays.copyOf(previousPositions, capacity * dimension);
+            fitnesses = Arrays.copyOf(fitnesses, capacity);
+            bestFitnesses = Arrays.copyOf(bestFitnesses, capacity);
+            previousFitnesses = Arrays.copyOf(previousFitnesses, capacity);
+        }
+        fitnesses[size] = Double.NaN;
+        bestFitnesses[size] = Double.NaN;
+        previousFitnesses[size] = Double.NaN;
+        return size++;
+    }
+
+    /**
+     * Get the number of dimensions of the stored particles, or {@code 0} if the
+     * dimension has not been determined yet.
+     */
+    int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Fix the dimension and element bounds of the stored particles, based on the
+     * given representation. Only real valued representations are supported.
+     * @param representation The representation of a particle position.
+     */
+    synchronized void setRepresentation(Vector representation) {
+        if (dimension != 0) {
+            Preconditions.checkArgument(representation.size() == dimension,
+                    "All particles in the block must have %s dimensions.", dimension);
+            return;
+        }
+
+        Bounds[] elementBounds = new Bounds[representation.size()];
+        for (int i = 0; i < elementBounds.length; i++) {
+            elementBounds[i] = representation.boundsOf(i);
+        }
+        bounds = elementBounds;
+        dimension = elementBounds.length;
+    }
+
+    /**
+     * Create a {@code Vector} of the given row of the given block.
+     */
+    Vector toVector(double[] data, int index) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = 0, offset = index * dimension; i < dimension; i++) {
+            builder.addWithin(data[offset + i], bounds[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Copy the given {@code Vector} into the given row of the given block.
+     */
+    void copyOf(Vector vector, double[] data, int index) {
+        Preconditions.checkArgument(vector.size() == dimension,
+                "Expected a vector with %s dimensions.", dimension);
+        for (int i = 0, offset = index * dimension; i < dimension; i++) {
+            data[offset + i] = vector.doubleValueOf(i);
+        }
+    }
+
+    /**
+     * Determine whether all the elements of the given row of the given block are
+     * within their bounds.
+     */
+    boolean isInsideBounds(double[] data, int index) {
+        for (int i = 0, offset = index * dimension; i < dimension; i++) {
+            if (!bounds[i].isInsideBounds(data[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create the {@code Fitness} of the given stored value. {@code NaN} is
+     * stored for an {@linkplain InferiorFitness}, so a fitness with a
+     * {@code NaN} value is read back as inferior.
+     */
+    Fitness toFitness(double value) {
+        Fitness type = fitnessType;
+        if (Double.isNaN(value) || type == null) {
+            return InferiorFitness.instance();
+        }
+        return type.newInstance(value);
+    }
+
+    /**
+     * Get the value to store for the given {@code Fitness}. Only minimisation,
+     * maximisation and inferior fitnesses can be stored.
+     */
+    double valueOf(Fitness fitness) {
+        Preconditions.checkArgument(fitness != null, "The fitness of an ArrayParticle cannot be removed.");
+        Class<?> type = fitness.getClass();
+        if (type == InferiorFitness.class) {
+            return Double.NaN;
+        }
+        Preconditions.checkArgument(type == MinimisationFitness.class || type == MaximisationFitness.class,
+                "An ArrayParticle can only store minimisation or maximisation fitnesses, not %s.", type.getSimpleName());
+        Fitness current = fitnessType;
+        if (current == null) {
+            fitnessType = fitness;
+        } else {
+            Preconditions.checkArgument(current.getClass() == type,
+                    "All particles in the block must have a %s.", current.getClass().getSimpleName());
+        }
+        return fitness.getValue();
+    }
+}
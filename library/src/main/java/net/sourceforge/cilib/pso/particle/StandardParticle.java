@@ -26,7 +26,6 @@ import net.sourceforge.cilib.entity.Particle;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.problem.solution.InferiorFitness;
 import net.sourceforge.cilib.problem.Problem;
-import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -83,7 +82,7 @@ public class StandardParticle extends AbstractParticle {
      */
     @Override
     public Fitness getBestFitness() {
-        return (Fitness) this.getProperties().get(EntityType.Particle.BEST_FITNESS);
+        return (Fitness) getEntityProperties().get(EntityType.Particle.BEST_FITNESS);
     }
 
     /**
@@ -91,7 +90,7 @@ public class StandardParticle extends AbstractParticle {
      */
     @Override
     public Vector getBestPosition() {
-        return (Vector) this.getProperties().get(EntityType.Particle.BEST_POSITION);
+        return (Vector) getEntityProperties().get(EntityType.Particle.BEST_POSITION);
     }
 
     /**
@@ -123,7 +122,7 @@ public class StandardParticle extends AbstractParticle {
      */
     @Override
     public Vector getVelocity() {
-        return (Vector) this.getProperties().get(EntityType.Particle.VELOCITY);
+        return (Vector) getEntityProperties().get(EntityType.Particle.VELOCITY);
     }
 
     /**
@@ -144,7 +143,7 @@ public class StandardParticle extends AbstractParticle {
         this.getProperties().put(EntityType.PREVIOUS_FITNESS, InferiorFitness.instance());
         this.neighbourhoodBest = this;
 
-        this.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(0));
+        setPersonalBestStagnationCount(0);
         this.getProperties().put(EntityType.PREVIOUS_SOLUTION, getCandidateSolution());
     }
 
@@ -153,8 +152,8 @@ public class StandardParticle extends AbstractParticle {
      */
     @Override
     public void updatePosition() {
-        getProperties().put(EntityType.PREVIOUS_SOLUTION, getCandidateSolution());
-        getProperties().put(EntityType.CANDIDATE_SOLUTION, this.behavior.getPositionProvider().get(this));
+        getEntityProperties().put(EntityType.PREVIOUS_SOLUTION, getCandidateSolution());
+        getEntityProperties().put(EntityType.CANDIDATE_SOLUTION, this.behavior.getPositionProvider().get(this));
     }
 
     /**
@@ -163,8 +162,8 @@ public class StandardParticle extends AbstractParticle {
     @Override
     public void calculateFitness() {
         Fitness fitness = getFitnessCalculator().getFitness(this);
-        this.getProperties().put(EntityType.PREVIOUS_FITNESS, this.getFitness());
-        this.getProperties().put(EntityType.FITNESS, fitness);
+        getEntityProperties().put(EntityType.PREVIOUS_FITNESS, this.getFitness());
+        getEntityProperties().put(EntityType.FITNESS, fitness);
 
         this.personalBestUpdateStrategy.updatePersonalBest(this);
     }
@@ -182,7 +181,7 @@ public class StandardParticle extends AbstractParticle {
      */
     @Override
     public void updateVelocity() {
-        getProperties().put(EntityType.Particle.VELOCITY, this.behavior.getVelocityProvider().get(this));
+        getEntityProperties().put(EntityType.Particle.VELOCITY, this.behavior.getVelocityProvider().get(this));
     }
 
     /**
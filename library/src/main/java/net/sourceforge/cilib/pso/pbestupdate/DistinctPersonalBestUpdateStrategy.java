@@ -27,7 +27,7 @@ import net.sourceforge.cilib.entity.Particle;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.pso.crossover.velocityprovider.IdentityOffspringVelocityProvider;
 import net.sourceforge.cilib.pso.crossover.velocityprovider.OffspringVelocityProvider;
-import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.container.StructuredType;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 public class DistinctPersonalBestUpdateStrategy implements PersonalBestUpdateStrategy {
@@ -54,22 +54,28 @@ public class DistinctPersonalBestUpdateStrategy implements PersonalBestUpdateStr
     public void updatePersonalBest(Particle particle) {
         if (particle.getFitness().compareTo(particle.getBestFitness()) > 0) {
             particle.getParticleBehavior().incrementSuccessCounter();
-            particle.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(0));
+            particle.setPersonalBestStagnationCount(0);
 
-            Particle temp = particle.getClone();
-            temp.setCandidateSolution(positionProvider.f(particle));
-
-            Fitness tempFitness = particle.getFitnessCalculator().getFitness(temp);
+            // Evaluate the distinct position in place of the current position,
+            // instead of on a clone of the particle.
+            StructuredType position = particle.getCandidateSolution();
+            StructuredType distinct = positionProvider.f(particle);
+            particle.setCandidateSolution(distinct);
+            Fitness tempFitness = particle.getFitnessCalculator().getFitness(particle);
+            particle.setCandidateSolution(position);
 
             if (tempFitness.compareTo(particle.getFitness()) > 0) {
                 particle.getProperties().put(EntityType.Particle.BEST_FITNESS, tempFitness);
-                particle.getProperties().put(EntityType.Particle.BEST_POSITION, temp.getCandidateSolution());
+                particle.getProperties().put(EntityType.Particle.BEST_POSITION, distinct);
             } else {
+                Particle temp = particle.getClone();
+                temp.setCandidateSolution(distinct);
+
                 particle.getProperties().put(EntityType.Particle.BEST_FITNESS, particle.getFitness());
                 particle.getProperties().put(EntityType.Particle.BEST_POSITION, particle.getCandidateSolution());
 
                 particle.getProperties().put(EntityType.FITNESS, tempFitness);
-                particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, temp.getCandidateSolution());
+                particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, distinct);
 
                 particle.getProperties().put(EntityType.Particle.VELOCITY, (Vector) velocityProvider.f(Arrays.asList(temp), particle));
             }
@@ -78,8 +84,7 @@ public class DistinctPersonalBestUpdateStrategy implements PersonalBestUpdateStr
         }
 
         //PBest didn't change. Increment stagnation counter.
-        int count = ((Int)particle.getProperties().get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER)).intValue();
-        particle.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER,  Int.valueOf(++count));
+        particle.setPersonalBestStagnationCount(particle.getPersonalBestStagnationCount() + 1);
     }
 
     public DistinctPositionProvider getPositionProvider() {
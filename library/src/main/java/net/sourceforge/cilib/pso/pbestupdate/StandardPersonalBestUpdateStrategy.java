@@ -23,8 +23,6 @@ package net.sourceforge.cilib.pso.pbestupdate;
 
 import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.entity.Particle;
-import net.sourceforge.cilib.type.types.Int;
-import net.sourceforge.cilib.type.types.Numeric;
 
 /**
  * Update the personal best of the particle, based on the standard PSO definition
@@ -57,14 +55,13 @@ public class StandardPersonalBestUpdateStrategy implements PersonalBestUpdateStr
     public void updatePersonalBest(Particle particle) {
         if (particle.getFitness().compareTo(particle.getBestFitness()) > 0) {
             particle.getParticleBehavior().incrementSuccessCounter();
-            particle.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(0));
+            particle.setPersonalBestStagnationCount(0);
             particle.getProperties().put(EntityType.Particle.BEST_FITNESS, particle.getFitness());
             particle.getProperties().put(EntityType.Particle.BEST_POSITION, particle.getPosition().getClone());
             return;
         }
 
         //PBest didn't change. Increment stagnation counter.
-        int count = ((Int)particle.getProperties().get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER)).intValue();
-        particle.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER,  Int.valueOf(++count));
+        particle.setPersonalBestStagnationCount(particle.getPersonalBestStagnationCount() + 1);
     }
 }
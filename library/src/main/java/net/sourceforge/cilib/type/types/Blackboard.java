@@ -44,6 +44,15 @@ public final class Blackboard<K, V extends Type> implements Type {
         this.board = new HashMap<K, V>();
     }
 
+    /**
+     * Create a {@code Blackboard} that is a view of the provided map. All
+     * changes to the {@code Blackboard} are written through to the map.
+     * @param board The map that stores the key / value pairs.
+     */
+    public Blackboard(Map<K, V> board) {
+        this.board = board;
+    }
+
     /**
      * Copy constructor. Create a copy of the provided instance.
      * @param copy The isntance to copy.
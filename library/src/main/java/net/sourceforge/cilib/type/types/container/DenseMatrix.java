@@ -0,0 +1,312 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.type.types.container;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.util.Tasks;
+
+/**
+ * A mutable matrix with its elements stored in a single array in row-major
+ * order. It is intended for the numerical kernels that dominate the cost of
+ * the rotated benchmark functions, where the nested arrays and the
+ * immutability of {@link Matrix} get in the way.
+ * <p>
+ * The products are accumulated in the same order as the textbook definition
+ * ({@code c[i][j] = a[i][0]*b[0][j] + a[i][1]*b[1][j] + ...}), so the results
+ * are identical to those of a naive implementation, regardless of blocking or
+ * of the number of threads used.
+ */
+public final class DenseMatrix implements Type {
+
+    private static final long serialVersionUID = -2213806541208738735L;
+    private static final int BLOCK = 64;
+    private static final long PARALLEL_THRESHOLD = 1L << 21;
+
+    private final int rows;
+    private final int columns;
+    private final double[] data;
+
+    /**
+     * Create a matrix of the given dimensions, with all elements set to zero.
+     * @param rows The number of rows.
+     * @param columns The number of columns.
+     */
+    public DenseMatrix(int rows, int columns) {
+        Preconditions.checkArgument(rows > 0, "Zero row length does not make sense.");
+        Preconditions.checkArgument(columns > 0, "Zero column length does not make sense.");
+        this.rows = rows;
+        this.columns = columns;
+        this.data = new double[rows * columns];
+    }
+
+    /**
+     * Create a copy of the given instance.
+     * @param copy The instance to copy.
+     */
+    public DenseMatrix(DenseMatrix copy) {
+        this.rows = copy.rows;
+        this.columns = copy.columns;
+        this.data = copy.data.clone();
+    }
+
+    /**
+     * Create a square identity matrix.
+     * @param size The dimension of the matrix.
+     * @return The identity matrix.
+     */
+    public static DenseMatrix identity(int size) {
+        DenseMatrix result = new DenseMatrix(size, size);
+        for (int i = 0; i < size; i++) {
+            result.data[i * size + i] = 1.0;
+        }
+        return result;
+    }
+
+    /**
+     * Create a {@code DenseMatrix} with the same elements as the given {@link Matrix}.
+     * @param matrix The matrix to copy.
+     * @return The new matrix.
+     */
+    public static DenseMatrix copyOf(Matrix matrix) {
+        DenseMatrix result = new DenseMatrix(matrix.getRows(), matrix.getColumns());
+        for (int i = 0; i < result.rows; i++) {
+            for (int j = 0; j < result.columns; j++) {
+                result.data[i * result.columns + j] = matrix.valueAt(i, j);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DenseMatrix getClone() {
+        return new DenseMatrix(this);
+    }
+
+    /**
+     * Create an immutable {@link Matrix} with the same elements.
+     * @return The new matrix.
+     */
+    public Matrix toMatrix() {
+        return Matrix.fromRowMajor(data, rows, columns);
+    }
+
+    /**
+     * Get the number of rows within the matrix.
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Get the number of columns within the matrix.
+     * @return The number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Obtain the value at the provided co-ordinates.
+     * @param row The row to lookup, indexed from 0.
+     * @param col The column to lookup, indexed from 0.
+     * @return The value located at the position {@code [row][col]}.
+     */
+    public double valueAt(int row, int col) {
+        return data[row * columns + col];
+    }
+
+    /**
+     * Set the value at the provided co-ordinates.
+     * @param row The row to set, indexed from 0.
+     * @param col The column to set, indexed from 0.
+     * @param value The new value.
+     */
+    public void setValueAt(int row, int col, double value) {
+        data[row * columns + col] = value;
+    }
+
+    /**
+     * Obtain the transposition of this matrix.
+     * @return A new {@code DenseMatrix} that is the transpose of this matrix.
+     */
+    public DenseMatrix transpose() {
+        DenseMatrix result = new DenseMatrix(columns, rows);
+        for (int ii = 0; ii < rows; ii += BLOCK) {
+            int iEnd = Math.min(ii + BLOCK, rows);
+            for (int jj = 0; jj < columns; jj += BLOCK) {
+                int jEnd = Math.min(jj + BLOCK, columns);
+                for (int i = ii; i < iEnd; i++) {
+                    for (int j = jj; j < jEnd; j++) {
+                        result.data[j * rows + i] = data[i * columns + j];
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculate {@code out = A x}, where {@code A} is this matrix.
+     * @param x The vector to multiply, of length {@link #getColumns()}.
+     * @param out The array to store the result in, of length {@link #getRows()}.
+     *        It may not be the same array as {@code x}.
+     */
+    public void multiplyInto(double[] x, double[] out) {
+        Preconditions.checkArgument(x.length >= columns && out.length >= rows,
+            "Illegal vector dimensions for matrix multiplication.");
+        for (int i = 0, offset = 0; i < rows; i++, offset += columns) {
+            double sum = 0.0;
+            for (int k = 0; k < columns; k++) {
+                sum += data[offset + k] * x[k];
+            }
+            out[i] = sum;
+        }
+    }
+
+    /**
+     * Calculate {@code out = A^T x}, where {@code A} is this matrix. This is
+     * the product of the row vector {@code x} and this matrix, which is
+     * calculated without forming the transpose.
+     * @param x The vector to multiply, of length {@link #getRows()}.
+     * @param out The array to store the result in, of length {@link #getColumns()}.
+     *        It may not be the same array as {@code x}.
+     */
+    public void transposeMultiplyInto(double[] x, double[] out) {
+        Preconditions.checkArgument(x.length >= rows && out.length >= columns,
+            "Illegal vector dimensions for matrix multiplication.");
+        Arrays.fill(out, 0, columns, 0.0);
+        for (int i = 0, offset = 0; i < rows; i++, offset += columns) {
+            double xi = x[i];
+            for (int j = 0; j < columns; j++) {
+                out[j] += xi * data[offset + j];
+            }
+        }
+    }
+
+    /**
+     * Perform matrix multiplication of this matrix and the provided matrix.
+     * Large products are spread over the available processors.
+     * @param b The matrix to multiply this matrix with.
+     * @return A new {@code DenseMatrix} representing the result of the multiplication.
+     */
+    public DenseMatrix times(final DenseMatrix b) {
+        Preconditions.checkArgument(columns == b.rows, "Illegal matrix dimensions for matrix multiplication.");
+        final DenseMatrix result = new DenseMatrix(rows, b.columns);
+        if ((long) rows * columns * b.columns < PARALLEL_THRESHOLD) {
+            multiplyRows(b, result, 0, rows);
+            return result;
+        }
+
+        int blocks = (rows + BLOCK - 1) / BLOCK;
+        Tasks.forEach(blocks, Tasks.getProcessors(), new Tasks.Task() {
+            @Override
+            public void run(int block) {
+                int start = block * BLOCK;
+                multiplyRows(b, result, start, Math.min(start + BLOCK, rows));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Blocked i-k-j multiplication of the rows {@code [from, to)}. For every
+     * element of the result the terms are added in increasing order of
+     * {@code k}, as the k-blocks are visited in order.
+     */
+    private void multiplyRows(DenseMatrix b, DenseMatrix result, int from, int to) {
+        final int n = b.columns;
+        final double[] c = result.data;
+        final double[] bd = b.data;
+
+        for (int ii = from; ii < to; ii += BLOCK) {
+            int iEnd = Math.min(ii + BLOCK, to);
+            for (int kk = 0; kk < columns; kk += BLOCK) {
+                int kEnd = Math.min(kk + BLOCK, columns);
+                for (int jj = 0; jj < n; jj += BLOCK) {
+                    int jEnd = Math.min(jj + BLOCK, n);
+                    for (int i = ii; i < iEnd; i++) {
+                        int cRow = i * n;
+                        int aRow = i * columns;
+                        for (int k = kk; k < kEnd; k++) {
+                            double aik = data[aRow + k];
+                            int bRow = k * n;
+                            for (int j = jj; j < jEnd; j++) {
+                                c[cRow + j] += aik * bd[bRow + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiply this matrix, in place, by the plane rotation of {@code angle}
+     * radians in the {@code (i, j)} plane. The rotation matrix is the identity
+     * matrix with {@code [i][i] = [j][j] = cos(angle)}, {@code [i][j] = sin(angle)}
+     * and {@code [j][i] = -sin(angle)}, as used by {@link Matrix#rotate(double, int, int)}
+     * on an identity matrix. Only columns {@code i} and {@code j} change.
+     * @param angle The rotation angle defined in radians.
+     * @param i The first axis of the plane.
+     * @param j The second axis of the plane.
+     */
+    public void rotate(double angle, int i, int j) {
+        Preconditions.checkArgument(i != j, "A rotation requires two distinct axes.");
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        for (int r = 0, offset = 0; r < rows; r++, offset += columns) {
+            double a = data[offset + i];
+            double b = data[offset + j];
+            data[offset + i] = a * cos + b * -sin;
+            data[offset + j] = a * sin + b * cos;
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final DenseMatrix other = (DenseMatrix) obj;
+        return rows == other.rows && columns == other.columns && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 31 * hash + rows;
+        hash = 31 * hash + columns;
+        hash = 31 * hash + Arrays.hashCode(data);
+        return hash;
+    }
+}
@@ -45,6 +45,21 @@ public final class Matrix implements Type {
         this.contents = new double[x][y];
     }
 
+    /**
+     * Create a {@code Matrix} from elements stored in row-major order.
+     * @param data The elements of the matrix.
+     * @param rows The number of rows.
+     * @param columns The number of columns.
+     * @return The new matrix.
+     */
+    static Matrix fromRowMajor(double[] data, int rows, int columns) {
+        Matrix matrix = new Matrix(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, i * columns, matrix.contents[i], 0, columns);
+        }
+        return matrix;
+    }
+
     /**
      * Determine if the {@code Matrix} is square. In other words, if the number
      * of rows and columns are the same.
@@ -187,16 +202,9 @@ public final class Matrix implements Type {
      * @return A new {@code Matrix} representing the result of the multiplication.
      */
     public Matrix times(Matrix b) {
-        Preconditions.checkArgument(this.getRows() == b.getColumns(), "Illegal matrix dimensions for matrix multiplication.");
+        Preconditions.checkArgument(this.getColumns() == b.getRows(), "Illegal matrix dimensions for matrix multiplication.");
 
-        Matrix result = new Matrix(this.getRows(), b.getColumns());
-        for (int i = 0; i < result.getColumns(); i++) {
-            for (int j = 0; j < result.getRows(); j++) {
-                for (int k = 0; k < this.getRows(); k++)
-                result.contents[i][j] += this.contents[i][k] * b.contents[k][j];
-            }
-        }
-        return result;
+        return DenseMatrix.copyOf(this).times(DenseMatrix.copyOf(b)).toMatrix();
     }
 
     /**
@@ -630,8 +630,33 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public void randomize(RandomProvider random) {
-        for (int i = 0; i < components.length; i++) {
-            this.components[i].randomize(random);
+        randomize(components, random);
+    }
+
+    /**
+     * Randomize the provided elements. If all the elements are {@code Real}
+     * instances the random values are generated in bulk, otherwise each element
+     * is randomized individually.
+     * @param numerics The elements to randomize.
+     * @param random The {@code Random} to use.
+     */
+    private static void randomize(Numeric[] numerics, RandomProvider random) {
+        for (Numeric numeric : numerics) {
+            if (!(numeric instanceof Real)) {
+                for (int i = 0; i < numerics.length; i++) {
+                    numerics[i] = numerics[i].getClone();
+                    numerics[i].randomize(random);
+                }
+                return;
+            }
+        }
+
+        double[] values = new double[numerics.length];
+        random.nextDoubles(values);
+        for (int i = 0; i < numerics.length; i++) {
+            Bounds bounds = numerics[i].getBounds();
+            double lower = bounds.getLowerBound();
+            numerics[i] = Real.valueOf(values[i] * (bounds.getUpperBound() - lower) + lower, bounds);
         }
     }
 
@@ -1062,12 +1087,8 @@ public class Vector implements StructuredType<Numeric>,
             }
 
             MersenneTwister random = new MersenneTwister(); // needs to come out, must be passed in
-            Numeric[] numerics = new Numeric[elements.size()];
-            int index = 0;
-            for (Numeric element : elements) {
-                element.randomize(random);
-                numerics[index++] = element;
-            }
+            Numeric[] numerics = elements.toArray(new Numeric[elements.size()]);
+            randomize(numerics, random);
             return new Vector(numerics);
         }
     }
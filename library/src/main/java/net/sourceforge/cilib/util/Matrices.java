@@ -21,15 +21,11 @@
  */
 package net.sourceforge.cilib.util;
 
-import com.google.common.collect.Lists;
-import java.util.List;
 import net.sourceforge.cilib.math.random.GaussianDistribution;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
-import net.sourceforge.cilib.type.types.Numeric;
-import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.DenseMatrix;
 import net.sourceforge.cilib.type.types.container.Matrix;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * Utility functions pertaining to Matrices.
@@ -47,43 +43,62 @@ public class Matrices {
     
     /**
      * Creates a random square orthonormal matrix.
+     * <p>
+     * The rows are obtained by applying the Gram-Schmidt process, as in
+     * {@link Vectors#orthonormalize(java.util.List)}, to rows drawn from a
+     * Gaussian distribution. The process works directly on the elements of a
+     * {@link DenseMatrix} rather than on intermediate {@code Vector} instances.
      * @param size The dimension of the matrix.
      * @return The orthonormal matrix.
      */
     public static Matrix getRandomOrthonormalMatrix(int size) {
-        List<Vector> vecs = Lists.<Vector>newArrayList();
-        final GaussianDistribution random = new GaussianDistribution();
-        Vector proto = Vector.fill(0.0, size);
-        Matrix.Builder builder = Matrix.builder().dimensions(size, size);
+        GaussianDistribution random = new GaussianDistribution();
+        double[][] vectors = new double[size][size];
 
         //get random vectors
-        for(int i = 0; i < size; i++) {
-            vecs.add(proto.map(new Vector.Function<Numeric, Numeric>() {
-                @Override
-                public Numeric apply(Numeric x) {
-                    return Real.valueOf(random.getRandomNumber());
-                }
-            }));
+        for (int i = 0; i < size; i++) {
+            for (int k = 0; k < size; k++) {
+                vectors[i][k] = random.getRandomNumber();
+            }
         }
 
-        //orthonormalize the random vectors
-        vecs = Vectors.orthonormalize(vecs);
+        //orthogonalize the random vectors against the bases found so far
+        double[][] bases = new double[size][];
+        double[] norms = new double[size];
+        bases[0] = vectors[0].clone();
+        norms[0] = dot(bases[0], bases[0]);
+        int count = 1;
 
-        //convert vectors to matrix
-        for (Vector v : vecs) {
-            Double[] vals = new Double[size];
-            int i = 0;
+        for (int i = 1; i < size; i++) {
+            double[] u = vectors[i].clone();
+
+            for (int j = 0; j < count; j++) {
+                double coefficient = dot(vectors[i], bases[j]) / norms[j];
+                for (int k = 0; k < size; k++) {
+                    u[k] = u[k] - bases[j][k] * coefficient;
+                }
+            }
 
-            for (Numeric n : v) {
-                vals[i++] = n.doubleValue();
+            if (!isZero(u)) {
+                bases[count] = u;
+                norms[count] = dot(u, u);
+                count++;
             }
+        }
 
-            builder.addRow(vals);
+        //normalize the bases into the rows of the matrix
+        DenseMatrix result = new DenseMatrix(size, size);
+        for (int i = 0; i < count; i++) {
+            double norm = Math.sqrt(norms[i]);
+            double scale = Double.compare(norm, 0.0) != 0 ? 1.0 / norm : 1.0;
+            for (int k = 0; k < size; k++) {
+                result.setValueAt(i, k, bases[i][k] * scale);
+            }
         }
 
-        return builder.build();
+        return result.toMatrix();
     }
-    
+
     /**
      * Creates a random linear transformation matrix:
      * PxNxQ where P and Q are orthonormal matrices and N is a diagonal matrix with
@@ -94,24 +109,32 @@ public class Matrices {
      */
     public static Matrix getRandomLinearTransformationMatrix(int size, int condition) {
         ProbabilityDistributionFunction random = new UniformDistribution();
-        
-        Matrix p = getRandomOrthonormalMatrix(size);
-        Matrix q = getRandomOrthonormalMatrix(size);
-        Matrix.Builder builder = Matrix.builder().dimensions(size, size);
-        
-        
+
+        DenseMatrix p = DenseMatrix.copyOf(getRandomOrthonormalMatrix(size));
+        DenseMatrix q = DenseMatrix.copyOf(getRandomOrthonormalMatrix(size));
+        DenseMatrix n = new DenseMatrix(size, size);
+
         for (int i = 0; i < size; i++) {
-            Double[] row = new Double[size];
-            
-            for (int j = 0; j < size; j++) {
-                row[j] = i == j ? Math.pow(condition, (random.getRandomNumber(1, size + 1) - 1) / (size)) : 0.0;
+            n.setValueAt(i, i, Math.pow(condition, (random.getRandomNumber(1, size + 1) - 1) / (size)));
+        }
+
+        return p.times(n).times(q).toMatrix();
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double result = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            result += a[i] * b[i];
+        }
+        return result;
+    }
+
+    private static boolean isZero(double[] a) {
+        for (double d : a) {
+            if (Double.compare(d, 0.0) != 0) {
+                return false;
             }
-            
-            builder.addRow(row);
         }
-        
-        Matrix n = builder.build();
-        
-        return p.times(n).times(q);
+        return true;
     }
 }
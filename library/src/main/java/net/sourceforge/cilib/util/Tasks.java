@@ -0,0 +1,171 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import net.sourceforge.cilib.math.random.generator.SplittableRandomProvider;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
+
+/**
+ * Utility methods to spread indexed work over a shared pool of daemon threads.
+ * <p>
+ * The pool creates threads as they are needed and reuses idle threads, so the
+ * number of tasks submitted determines the number of threads that run
+ * concurrently.
+ * <p>
+ * If a seed stream is bound to the calling thread, each index is performed
+ * with its own seed stream bound, which is split off the stream of the calling
+ * thread with the index as key. Random numbers obtained by a task therefore
+ * depend only on the calling thread and the index, and not on the thread that
+ * performs it or the number of threads used.
+ */
+public final class Tasks {
+
+    private static ExecutorService executor;
+
+    private Tasks() {
+    }
+
+    /**
+     * The work performed for a single index.
+     */
+    public interface Task {
+        /**
+         * Perform the work for the given index.
+         * @param index The index to perform the work for.
+         */
+        void run(int index);
+    }
+
+    /**
+     * Get the number of processors available to the virtual machine.
+     * @return The number of available processors.
+     */
+    public static int getProcessors() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Perform {@code task} for every index in {@code [0, count)}, spread over
+     * at most {@code threads} threads. Thread {@code t} performs the indices
+     * {@code t, t + threads, t + 2 * threads, ...}. With a single thread the
+     * indices are performed in order in the calling thread. Every index is
+     * performed exactly once, so tasks may write to distinct elements of
+     * shared arrays.
+     * <p>
+     * A single seed is drawn from the seed stream bound to the calling thread,
+     * if any, to derive the streams of the indices.
+     * <p>
+     * An exception thrown by a task is rethrown in the calling thread, wrapped
+     * in a {@code RuntimeException} if it is checked.
+     * @param count The number of indices.
+     * @param threads The maximum number of threads to use.
+     * @param task The work to perform for each index.
+     */
+    public static void forEach(final int count, int threads, final Task task) {
+        SplittableRandomProvider callerSeeds = Seeder.getSeedStream();
+        final SplittableRandomProvider seeds = callerSeeds == null ? null : callerSeeds.split(callerSeeds.nextLong());
+        final int tasks = Math.min(count, threads);
+        if (tasks <= 1) {
+            for (int i = 0; i < count; i++) {
+                run(task, i, seeds);
+            }
+            return;
+        }
+
+        List<Callable<Void>> work = Lists.newArrayListWithCapacity(tasks);
+        for (int t = 0; t < tasks; t++) {
+            final int first = t;
+            work.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (int i = first; i < count; i += tasks) {
+                        run(task, i, seeds);
+                    }
+                    return null;
+                }
+            });
+        }
+
+        try {
+            for (Future<Void> future : getExecutor().invokeAll(work)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Perform the task for the given index, with the seed stream of the index
+     * bound if {@code seeds} is not {@code null}.
+     */
+    private static void run(Task task, int index, SplittableRandomProvider seeds) {
+        if (seeds == null) {
+            task.run(index);
+            return;
+        }
+
+        SplittableRandomProvider previous = Seeder.getSeedStream();
+        Seeder.setSeedStream(seeds.split(index));
+        try {
+            task.run(index);
+        } finally {
+            if (previous == null) {
+                Seeder.removeSeedStream();
+            } else {
+                Seeder.setSeedStream(previous);
+            }
+        }
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "cilib-task");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util.calculator;
+
+import com.google.common.base.Preconditions;
+import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.util.Cloneable;
+import net.sourceforge.cilib.util.Tasks;
+
+/**
+ * Evaluate a batch of candidate solutions against a {@link Problem}, spreading
+ * the evaluations over a fixed number of threads.
+ * <p>
+ * Unlike the {@link FitnessCalculator} implementations, the problem is given
+ * explicitly and not obtained from the current algorithm, which is only known
+ * to the calling thread. With a single thread the evaluations take place in the
+ * calling thread, otherwise the problem must be safe to use concurrently.
+ */
+public class ParallelFitnessEvaluator implements Cloneable {
+
+    private static final long serialVersionUID = 2781870263416425916L;
+    private int threads;
+
+    /**
+     * Create an evaluator that uses the calling thread.
+     */
+    public ParallelFitnessEvaluator() {
+        this.threads = 1;
+    }
+
+    /**
+     * Create a copy of the given instance.
+     * @param copy The instance to copy.
+     */
+    public ParallelFitnessEvaluator(ParallelFitnessEvaluator copy) {
+        this.threads = copy.threads;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ParallelFitnessEvaluator getClone() {
+        return new ParallelFitnessEvaluator(this);
+    }
+
+    /**
+     * Evaluate the first {@code count} solutions, storing the fitness of
+     * {@code solutions[i]} in {@code fitnesses[i]}.
+     * @param problem The problem to evaluate the solutions against.
+     * @param solutions The solutions to evaluate.
+     * @param fitnesses The array to store the fitness values in.
+     * @param count The number of solutions to evaluate.
+     */
+    public void evaluate(final Problem problem, final Type[] solutions, final Fitness[] fitnesses, int count) {
+        Tasks.forEach(count, threads, new Tasks.Task() {
+            @Override
+            public void run(int index) {
+                fitnesses[index] = problem.getFitness(solutions[index]);
+            }
+        });
+    }
+
+    /**
+     * Get the number of threads used for evaluation.
+     * @return The number of threads.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Set the number of threads used for evaluation.
+     * @param threads The number of threads.
+     */
+    public void setThreads(int threads) {
+        Preconditions.checkArgument(threads >= 1, "At least one thread is required.");
+        this.threads = threads;
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util.selection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+
+/**
+ * Walker's alias method for sampling indices in proportion to a fixed set of
+ * weights. Building the table takes linear time, after which every draw takes
+ * constant time and two random numbers. Use it when many selections are made
+ * from weights that do not change between the selections; a {@link FenwickTree}
+ * is better suited to weights that change as selections are made.
+ * <p>
+ * References:
+ * <ul>
+ * <li>M. D. Vose, "A linear algorithm for generating random numbers with a given
+ * distribution," IEEE Transactions on Software Engineering, vol. 17, no. 9,
+ * pp. 972-975, 1991.</li>
+ * </ul>
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Create a table for the given weights.
+     * @param weights The non-negative weights, which need not be normalised.
+     * @throws IllegalArgumentException if the weights do not have a positive sum.
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        double total = 0.0;
+        for (double weight : weights) {
+            checkArgument(weight >= 0.0, "Weights may not be negative.");
+            total += weight;
+        }
+        checkArgument(total > 0.0, "The sum of the weights must be positive.");
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever remains is only off from 1.0 by rounding error.
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    /**
+     * Draw an index in proportion to the weights of the table.
+     * @param random The source of randomness.
+     * @return The selected index.
+     */
+    public int sample(RandomProvider random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Get the number of weights in the table.
+     * @return The size of the table.
+     */
+    public int size() {
+        return probability.length;
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util.selection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkState;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+
+/**
+ * A Fenwick (binary indexed) tree over non-negative weights. Updating a
+ * weight, obtaining a cumulative weight and locating the index at which a
+ * cumulative weight is reached all take logarithmic time. This makes it
+ * suitable for proportional selection from weights that change between
+ * selections, such as selection without replacement, where an
+ * {@link AliasTable} would have to be rebuilt after every draw.
+ * <p>
+ * References:
+ * <ul>
+ * <li>P. M. Fenwick, "A new data structure for cumulative frequency tables,"
+ * Software: Practice and Experience, vol. 24, no. 3, pp. 327-336, 1994.</li>
+ * </ul>
+ */
+public final class FenwickTree {
+
+    private final double[] weights;
+    private final double[] tree;
+
+    /**
+     * Create a tree over the given weights in linear time.
+     * @param weights The non-negative initial weights.
+     */
+    public FenwickTree(double[] weights) {
+        int n = weights.length;
+        this.weights = new double[n];
+        this.tree = new double[n + 1];
+
+        for (int i = 0; i < n; i++) {
+            checkArgument(!(weights[i] < 0.0), "Weights may not be negative.");
+            this.weights[i] = weights[i];
+            tree[i + 1] += weights[i];
+            int parent = (i + 1) + ((i + 1) & -(i + 1));
+            if (parent <= n) {
+                tree[parent] += tree[i + 1];
+            }
+        }
+    }
+
+    /**
+     * Get the number of weights in the tree.
+     * @return The size of the tree.
+     */
+    public int size() {
+        return weights.length;
+    }
+
+    /**
+     * Get the weight at the given index.
+     * @param index The index of the weight.
+     * @return The weight.
+     */
+    public double get(int index) {
+        return weights[checkElementIndex(index, weights.length)];
+    }
+
+    /**
+     * Replace the weight at the given index.
+     * @param index The index of the weight.
+     * @param weight The new, non-negative, weight.
+     */
+    public void set(int index, double weight) {
+        checkElementIndex(index, weights.length);
+        checkArgument(!(weight < 0.0), "Weights may not be negative.");
+
+        double delta = weight - weights[index];
+        weights[index] = weight;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Get the sum of the first {@code count} weights.
+     * @param count The number of weights to sum.
+     * @return The cumulative weight.
+     */
+    public double prefixSum(int count) {
+        checkArgument(count >= 0 && count <= weights.length, "Invalid count: %s", count);
+        double sum = 0.0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Get the sum of all the weights.
+     * @return The total weight.
+     */
+    public double total() {
+        return prefixSum(weights.length);
+    }
+
+    /**
+     * Find the first index at which the cumulative weight, up to and including
+     * that index, is at least {@code value}.
+     * @param value The cumulative weight to locate.
+     * @return The index, or {@link #size()} if the total weight is less than {@code value}.
+     */
+    public int search(double value) {
+        return search(value, true);
+    }
+
+    /**
+     * Draw an index in proportion to the current weights.
+     * @param random The source of randomness.
+     * @return The selected index.
+     * @throws IllegalStateException if the total weight is zero.
+     */
+    public int sample(RandomProvider random) {
+        double total = total();
+        checkState(total > 0.0, "Cannot sample when the total weight is zero.");
+        int index = search(random.nextDouble() * total, false);
+        return index < weights.length ? index : lastPositive();
+    }
+
+    private int search(double value, boolean inclusive) {
+        int position = 0;
+        double remaining = value;
+        for (int step = Integer.highestOneBit(Math.max(1, weights.length)); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && (inclusive ? tree[next] < remaining : tree[next] <= remaining)) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return position;
+    }
+
+    // Guards against rounding pushing a draw past the final cumulative weight.
+    private int lastPositive() {
+        for (int i = weights.length - 1; i >= 0; i--) {
+            if (weights[i] > 0.0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Cannot sample when the total weight is zero.");
+    }
+}
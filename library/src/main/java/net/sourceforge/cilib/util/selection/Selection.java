@@ -26,8 +26,8 @@ import com.google.common.base.Predicate;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import java.util.Collection;
 import java.util.List;
 import net.sourceforge.cilib.util.selection.weighting.Weighting;
 
@@ -46,10 +46,12 @@ public final class Selection<T> implements WeighableSelection<T>, PartialSelecti
 
     // Check array size
     private static <T> Object[] copyOfInternal(Iterable<T> iterable) {
-        checkArgument(Iterables.size(iterable) >= 1, "Attempting to create a "
+        Object[] array = (iterable instanceof Collection)
+                ? ((Collection<T>) iterable).toArray()
+                : Lists.newArrayList(iterable).toArray();
+        checkArgument(array.length >= 1, "Attempting to create a "
                 + "selection on an empty collection is not valid.");
-        List<T> list = Lists.newArrayList(iterable);
-        return list.toArray();
+        return array;
     }
 
     Selection(Object[] array) {
@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.List;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.util.selection.FenwickTree;
 import net.sourceforge.cilib.util.selection.WeightedObject;
 
 /**
@@ -58,20 +59,44 @@ public class ProportionalArrangement<T> implements Arrangement<T> {
             return Lists.newArrayList();
         }
 
-        List<WeightedObject> temp = Lists.newArrayList();
-        while (weightedObjects.size() > 0) {
+        // Draw without replacement: a drawn element's weight is zeroed in the
+        // tree, so every draw costs O(log n) instead of a scan of the remainder.
+        int size = weightedObjects.size();
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = weightedObjects.get(i).getWeight();
+        }
+        FenwickTree tree = new FenwickTree(weights);
+        boolean[] drawn = new boolean[size];
+        int first = 0;
+        int last = size - 1;
+
+        List<WeightedObject> temp = Lists.newArrayListWithCapacity(size);
+        for (int count = 0; count < size; count++) {
             double randomValue = this.generator.nextDouble() * total;
-            double marker = 0.0;
-            int i = 0;
-            do {
-                marker += weightedObjects.get(i++).getWeight();
-            } while (i < weightedObjects.size() && marker < randomValue);
+            int i = tree.search(randomValue);
+
+            // A draw of zero, or one beyond the remaining weight due to rounding,
+            // falls on the first or last remaining element respectively.
+            while (drawn[first]) {
+                first++;
+            }
+            while (drawn[last]) {
+                last--;
+            }
+            if (i >= size) {
+                i = last;
+            } else if (drawn[i]) {
+                i = first;
+            }
 
-            WeightedObject selected = weightedObjects.get(i - 1);
+            WeightedObject selected = weightedObjects.get(i);
             temp.add(selected);
-            weightedObjects.remove(i - 1);
+            drawn[i] = true;
+            tree.set(i, 0.0);
             total -= selected.getWeight();
         }
+        weightedObjects.clear();
 
         // The reverse is needed as largest
         // elements were added to the front.
@@ -23,6 +23,7 @@ package net.sourceforge.cilib.util.selection.arrangement;
 
 import com.google.common.collect.Lists;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -30,10 +31,27 @@ import java.util.List;
  */
 public class SortedArrangement<T extends Comparable> implements Arrangement<T> {
 
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Create an arrangement that sorts the elements in their natural order.
+     */
+    public SortedArrangement() {
+        this.comparator = null;
+    }
+
+    /**
+     * Create an arrangement that sorts the elements using the given comparator.
+     * @param comparator The comparator to sort with.
+     */
+    public SortedArrangement(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
     @Override
     public Iterable<T> arrange(Iterable<T> elements) {
         List<T> list = Lists.newArrayList(elements);
-        Collections.sort(list);
+        Collections.sort(list, comparator);
         return list;
     }
 }
@@ -0,0 +1,78 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util.selection.recipes;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Helpers for the index exclusions of {@link IndexedSelector} implementations.
+ */
+final class Exclusions {
+
+    private Exclusions() {
+    }
+
+    /**
+     * Determine whether the given index is excluded.
+     * @param excluded The excluded indices.
+     * @param index The index to test.
+     * @return {@code true} if {@code index} is contained in {@code excluded}.
+     */
+    static boolean contains(int[] excluded, int index) {
+        for (int i : excluded) {
+            if (i == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Count the elements of a list of the given size that remain eligible for
+     * selection. Duplicate and out of range exclusions are ignored.
+     * @param size The size of the list.
+     * @param excluded The excluded indices.
+     * @return The number of eligible elements, which is at least one.
+     * @throws IllegalArgumentException if no element is eligible.
+     */
+    static int eligible(int size, int[] excluded) {
+        int count = size;
+        for (int i = 0; i < excluded.length; i++) {
+            int index = excluded[i];
+            if (index >= 0 && index < size && !isRepeated(excluded, i)) {
+                count--;
+            }
+        }
+        checkArgument(count >= 1, "Attempting to create a "
+                + "selection on an empty collection is not valid.");
+        return count;
+    }
+
+    private static boolean isRepeated(int[] excluded, int position) {
+        for (int i = 0; i < position; i++) {
+            if (excluded[i] == excluded[position]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util.selection.recipes;
+
+import java.util.List;
+
+/**
+ * A selector that samples directly from a {@code List}, by index, instead of
+ * first copying the elements into a {@link net.sourceforge.cilib.util.selection.Selection}.
+ * This makes it suitable for selections that are repeated for every member of
+ * a population, such as the target vector selection of differential evolution.
+ * @param <E> The selection type.
+ */
+public interface IndexedSelector<E> {
+
+    /**
+     * Select an element from the provided list.
+     * @param elements The elements to select from.
+     * @param excluded The indices of elements that may not be selected.
+     * @return The index of the selected element.
+     * @throws IllegalArgumentException if every element is excluded.
+     */
+    int select(List<? extends E> elements, int... excluded);
+}
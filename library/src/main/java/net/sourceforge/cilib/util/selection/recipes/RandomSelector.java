@@ -21,6 +21,7 @@
  */
 package net.sourceforge.cilib.util.selection.recipes;
 
+import java.util.List;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.util.selection.PartialSelection;
@@ -37,7 +38,7 @@ import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
  * </ol>
  * @param <E>
  */
-public class RandomSelector<E> implements Selector<E> {
+public class RandomSelector<E> implements Selector<E>, IndexedSelector<E> {
     private static final long serialVersionUID = -5099663528040315048L;
 
     private RandomProvider random;
@@ -69,4 +70,21 @@ public class RandomSelector<E> implements Selector<E> {
     public PartialSelection<E> on(Iterable<E> iterable) {
         return (Selection<E>) Selection.copyOf(iterable).orderBy(new RandomArrangement(random));
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Excluded elements are handled by rejection: indices are drawn uniformly
+     * until an index that is not excluded is found.
+     */
+    @Override
+    public int select(List<? extends E> elements, int... excluded) {
+        Exclusions.eligible(elements.size(), excluded);
+
+        int index;
+        do {
+            index = random.nextInt(elements.size());
+        } while (Exclusions.contains(excluded, index));
+        return index;
+    }
 }
@@ -21,10 +21,13 @@
  */
 package net.sourceforge.cilib.util.selection.recipes;
 
+import static com.google.common.base.Preconditions.checkState;
+import java.util.List;
 import net.sourceforge.cilib.util.selection.PartialSelection;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.util.selection.Selection;
+import net.sourceforge.cilib.util.selection.WeightedObject;
 import net.sourceforge.cilib.util.selection.arrangement.ProportionalArrangement;
 import net.sourceforge.cilib.util.selection.arrangement.ReverseArrangement;
 import net.sourceforge.cilib.util.selection.arrangement.SortedArrangement;
@@ -42,7 +45,7 @@ import net.sourceforge.cilib.util.selection.weighting.Weighting;
  * </ol>
  * @param <E> The selection type.
  */
-public class RouletteWheelSelector<E extends Comparable> implements Selector<E> {
+public class RouletteWheelSelector<E extends Comparable> implements Selector<E>, IndexedSelector<E> {
 
     private static final long serialVersionUID = 4194450350205390514L;
     private Weighting weighting;
@@ -116,4 +119,54 @@ public class RouletteWheelSelector<E extends Comparable> implements Selector<E>
                 .orderBy(new ProportionalArrangement())
                 .orderBy(new ReverseArrangement());
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The weights are accumulated in list order, with excluded elements
+     * contributing nothing, and the selected index is found by a binary
+     * search over the cumulative weights. A draw that rounds up to the total
+     * weight selects the last element with a positive weight.
+     */
+    @Override
+    public int select(List<? extends E> elements, int... excluded) {
+        double[] cumulative = weigh(elements, excluded);
+        double total = 0.0;
+        int last = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            if (cumulative[i] > 0.0) {
+                last = i;
+            }
+            total += cumulative[i];
+            cumulative[i] = total;
+        }
+        checkState(total > 0.0, "Selection is invalid, the total weight of the eligible elements is zero.");
+
+        double value = random.nextDouble() * total;
+        int low = 0;
+        int high = last;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulative[middle] > value) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private double[] weigh(List<? extends E> elements, int... excluded) {
+        Exclusions.eligible(elements.size(), excluded);
+
+        double[] weights = new double[elements.size()];
+        int i = 0;
+        for (WeightedObject object : weighting.weigh(elements)) {
+            if (!Exclusions.contains(excluded, i)) {
+                weights[i] = object.getWeight();
+            }
+            i++;
+        }
+        return weights;
+    }
 }
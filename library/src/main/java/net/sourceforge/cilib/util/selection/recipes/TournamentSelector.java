@@ -50,7 +50,7 @@ import net.sourceforge.cilib.util.selection.arrangement.SortedArrangement;
  *
  * @param <E> The selection type.
  */
-public class TournamentSelector<E extends Comparable> implements Selector<E> {
+public class TournamentSelector<E extends Comparable> implements Selector<E>, IndexedSelector<E> {
 
     private static final long serialVersionUID = -6689673224380247931L;
     private ControlParameter tournamentProportion;
@@ -126,12 +126,74 @@ public class TournamentSelector<E extends Comparable> implements Selector<E> {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The tournament is ranked using the {@link #getComparator() comparator}.
      */
     @Override
     public PartialSelection<E> on(Iterable<E> iterable) {
         int size = Iterables.size(iterable);
         int tournamentSize = Double.valueOf(this.tournamentProportion.getParameter() * size).intValue();
         List<E> intermediate = Selection.copyOf(iterable).orderBy(new RandomArrangement(random)).select(Samples.last(tournamentSize));
-        return Selection.copyOf(intermediate).orderBy(new SortedArrangement()).orderBy(new ReverseArrangement());
+        return Selection.copyOf(intermediate).orderBy(new SortedArrangement<E>(comparator)).orderBy(new ReverseArrangement());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The tournament is drawn without replacement from the elements that are
+     * not excluded, and its best element is determined using the
+     * {@link #getComparator() comparator}. Small tournaments are drawn by
+     * rejection; larger ones by a partial shuffle of the eligible indices.
+     */
+    @Override
+    public int select(List<? extends E> elements, int... excluded) {
+        int size = elements.size();
+        int eligible = Exclusions.eligible(size, excluded);
+        int tournamentSize = Double.valueOf(this.tournamentProportion.getParameter() * eligible).intValue();
+        tournamentSize = Math.max(1, Math.min(eligible, tournamentSize));
+
+        int best = -1;
+        if (2 * tournamentSize <= eligible) {
+            int[] entrants = new int[tournamentSize];
+            for (int i = 0; i < tournamentSize; i++) {
+                int index;
+                do {
+                    index = random.nextInt(size);
+                } while (Exclusions.contains(excluded, index) || isEntrant(entrants, i, index));
+                entrants[i] = index;
+                best = fitter(elements, best, index);
+            }
+        } else {
+            int[] candidates = new int[eligible];
+            for (int i = 0, j = 0; i < size; i++) {
+                if (!Exclusions.contains(excluded, i)) {
+                    candidates[j++] = i;
+                }
+            }
+            for (int i = 0; i < tournamentSize; i++) {
+                int k = i + random.nextInt(eligible - i);
+                int index = candidates[k];
+                candidates[k] = candidates[i];
+                candidates[i] = index;
+                best = fitter(elements, best, index);
+            }
+        }
+        return best;
+    }
+
+    private static boolean isEntrant(int[] entrants, int count, int index) {
+        for (int i = 0; i < count; i++) {
+            if (entrants[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int fitter(List<? extends E> elements, int best, int index) {
+        if (best == -1 || this.comparator.compare(elements.get(best), elements.get(index)) < 0) {
+            return index;
+        }
+        return best;
     }
 }
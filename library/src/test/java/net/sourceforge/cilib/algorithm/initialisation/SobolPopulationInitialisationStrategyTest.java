@@ -0,0 +1,69 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.algorithm.initialisation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+public class SobolPopulationInitialisationStrategyTest {
+
+    @Test
+    public void initialiseWithinDomain() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setDomain("R(-5.0:5.0)^4");
+        problem.setFunction(new Spherical());
+
+        SobolPopulationInitialisationStrategy<Particle> strategy = new SobolPopulationInitialisationStrategy<Particle>();
+        strategy.setEntityType(new StandardParticle());
+        strategy.setEntityNumber(16);
+
+        List<Particle> first = Lists.newArrayList(strategy.initialise(problem));
+        List<Particle> second = Lists.newArrayList(strategy.initialise(problem));
+
+        assertEquals(16, first.size());
+        for (Particle particle : first) {
+            Vector position = (Vector) particle.getCandidateSolution();
+            assertEquals(4, position.size());
+            for (int i = 0; i < position.size(); i++) {
+                assertTrue(position.doubleValueOf(i) >= -5.0 && position.doubleValueOf(i) < 5.0);
+            }
+            assertEquals(position, particle.getProperties().get(EntityType.Particle.BEST_POSITION));
+        }
+
+        for (Particle a : first) {
+            for (Particle b : second) {
+                assertFalse(a.getCandidateSolution().equals(b.getCandidateSolution()));
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.boa;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.seeder.SeedSelectionStrategy;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
+import net.sourceforge.cilib.math.random.generator.seeder.ZeroSeederStrategy;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class VectorisedABCTest {
+
+    @Test
+    public void everyBeeEvaluatesOncePerIteration() {
+        VectorisedABC abc = createABC(1);
+        double initial = abc.getBestSolution().getFitness().getValue();
+        abc.run();
+
+        assertThat(abc.getOptimisationProblem().getFitnessEvaluations(), is(30 + 20 * 60));
+        assertTrue(abc.getBestSolution().getFitness().getValue() < initial);
+    }
+
+    @Test
+    public void cloneAfterInitialisation() {
+        VectorisedABC abc = createABC(1);
+        double initial = abc.getBestSolution().getFitness().getValue();
+        VectorisedABC clone = abc.getClone();
+        clone.run();
+
+        assertTrue(clone.getBestSolution().getFitness().getValue() < initial);
+        assertThat(abc.getBestSolution().getFitness().getValue(), is(initial));
+    }
+
+    @Test
+    public void parallelEvaluation() {
+        SeedSelectionStrategy seedStrategy = Seeder.getSeederStrategy();
+        Seeder.setSeederStrategy(new ZeroSeederStrategy());
+
+        try {
+            VectorisedABC serial = createABC(1);
+            serial.run();
+            VectorisedABC parallel = createABC(4);
+            parallel.run();
+
+            assertThat(parallel.getBestSolution().getFitness().getValue(),
+                    is(serial.getBestSolution().getFitness().getValue()));
+        } finally {
+            Seeder.setSeederStrategy(seedStrategy);
+        }
+    }
+
+    private VectorisedABC createABC(int threads) {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setDomain("R(-5.12:5.12)^30");
+        problem.setFunction(new Spherical());
+
+        VectorisedABC abc = new VectorisedABC();
+        abc.setColonySize(ConstantControlParameter.of(60));
+        abc.getEvaluator().setThreads(threads);
+        abc.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 20));
+        abc.setOptimisationProblem(problem);
+        abc.performInitialisation();
+        return abc;
+    }
+}
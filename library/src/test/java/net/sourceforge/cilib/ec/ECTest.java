@@ -22,6 +22,8 @@
 package net.sourceforge.cilib.ec;
 
 import net.sourceforge.cilib.ec.iterationstrategies.DifferentialEvolutionIterationStrategy;
+import net.sourceforge.cilib.ec.iterationstrategies.SynchronousDifferentialEvolutionIterationStrategy;
+import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
 import net.sourceforge.cilib.math.random.generator.seeder.SeedSelectionStrategy;
 import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
@@ -56,7 +58,7 @@ public class ECTest {
             ec.run();
 
             //Assert.assertThat(ec.getBestSolution().getFitness().getValue(), is(247.1330178942291));
-            Assert.assertThat(ec.getBestSolution().getFitness().getValue(), is(268.60354620427955));
+            Assert.assertThat(ec.getBestSolution().getFitness().getValue(), is(244.8955726585883));
         } finally {
             Seeder.setSeederStrategy(seedStrategy);
         }
@@ -84,4 +86,48 @@ public class ECTest {
             Seeder.setSeederStrategy(seedStrategy);
         }
     }
+
+    /**
+     * The zero seeder initialises every individual at the same position, which
+     * leaves DE without difference vectors, so the default seeding is used here.
+     */
+    @Test
+    public void synchronousDeTest() {
+        runSynchronousDE(1);
+        runSynchronousDE(4);
+    }
+
+    private void runSynchronousDE(int threads) {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setDomain("R(-5.12:5.12)^30");
+        problem.setFunction(new Spherical());
+
+        SynchronousDifferentialEvolutionIterationStrategy strategy = new SynchronousDifferentialEvolutionIterationStrategy();
+        strategy.getEvaluator().setThreads(threads);
+
+        EC ec = new EC();
+        ec.setIterationStrategy(strategy);
+        ec.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 10));
+        ec.setOptimisationProblem(problem);
+        ec.performInitialisation();
+
+        int size = ec.getTopology().size();
+        double initial = totalFitness(ec);
+        int evaluations = ec.getOptimisationProblem().getFitnessEvaluations();
+        ec.run();
+
+        // Only the trial vectors are evaluated, the parents keep their fitness.
+        Assert.assertThat(ec.getOptimisationProblem().getFitnessEvaluations() - evaluations, is(10 * size));
+        // Selection never replaces an individual with a worse one, so the
+        // population as a whole improves even if the best individual does not.
+        Assert.assertTrue(totalFitness(ec) < initial);
+    }
+
+    private static double totalFitness(EC ec) {
+        double total = 0.0;
+        for (Entity entity : ec.getTopology()) {
+            total += entity.getFitness().getValue();
+        }
+        return total;
+    }
 }
@@ -0,0 +1,104 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+public class EntityPropertiesTest {
+
+    @Test
+    public void slotsBehaveAsMap() {
+        EntityProperties properties = new EntityProperties();
+        Vector position = Vector.of(1.0, 2.0);
+
+        Assert.assertThat(properties.put(EntityType.CANDIDATE_SOLUTION, position), is(nullValue()));
+        properties.put(EntityType.Particle.VELOCITY, Vector.of(0.0, 0.0));
+        properties.put(EntityType.Coevolution.POPULATION_ID, Int.valueOf(3));
+
+        Assert.assertThat((Vector) properties.get(EntityType.CANDIDATE_SOLUTION), sameInstance(position));
+        Assert.assertThat(properties.get(EntityType.Coevolution.POPULATION_ID), is((Type) Int.valueOf(3)));
+        Assert.assertThat(properties.get(EntityType.FITNESS), is(nullValue()));
+        Assert.assertThat(properties.size(), is(3));
+
+        Map<Enum<?>, Type> expected = new HashMap<Enum<?>, Type>();
+        expected.put(EntityType.CANDIDATE_SOLUTION, position);
+        expected.put(EntityType.Particle.VELOCITY, Vector.of(0.0, 0.0));
+        expected.put(EntityType.Coevolution.POPULATION_ID, Int.valueOf(3));
+        Assert.assertEquals(expected, properties);
+        Assert.assertEquals(expected.hashCode(), properties.hashCode());
+
+        properties.remove(EntityType.CANDIDATE_SOLUTION);
+        Assert.assertThat(properties.containsKey(EntityType.CANDIDATE_SOLUTION), is(false));
+        Assert.assertThat(properties.size(), is(2));
+    }
+
+    @Test
+    public void countersArePrimitive() {
+        EntityProperties properties = new EntityProperties();
+        EntityType.Particle.Count key = EntityType.Particle.Count.PBEST_STAGNATION_COUNTER;
+
+        Assert.assertThat(properties.get(key), is(nullValue()));
+        Assert.assertThat(properties.getCount(key), is(0));
+
+        properties.put(key, Int.valueOf(4));
+        Assert.assertThat(properties.incrementCount(key), is(5));
+        Assert.assertThat(properties.get(key), is((Type) Int.valueOf(5)));
+
+        properties.setCount(key, 0);
+        Assert.assertThat(properties.get(key), is((Type) Int.valueOf(0)));
+        Assert.assertThat(properties.size(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countersRejectNonNumericValues() {
+        new EntityProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Vector.of(1.0));
+    }
+
+    @Test
+    public void copyClonesValues() {
+        EntityProperties properties = new EntityProperties();
+        properties.put(EntityType.Particle.BEST_POSITION, Vector.of(1.0));
+        properties.put(EntityType.Coevolution.DISTANCE, Real.valueOf(2.0));
+        properties.setCount(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, 7);
+
+        EntityProperties copy = new EntityProperties(properties);
+
+        Assert.assertEquals(properties, copy);
+        Assert.assertThat(copy.get(EntityType.Particle.BEST_POSITION), not(sameInstance(properties.get(EntityType.Particle.BEST_POSITION))));
+        Assert.assertThat(copy.get(EntityType.Coevolution.DISTANCE), not(sameInstance(properties.get(EntityType.Coevolution.DISTANCE))));
+
+        copy.incrementCount(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER);
+        Assert.assertThat(properties.getCount(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER), is(7));
+    }
+}
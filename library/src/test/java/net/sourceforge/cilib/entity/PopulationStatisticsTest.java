@@ -0,0 +1,118 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity;
+
+import java.util.Random;
+import net.sourceforge.cilib.entity.topologies.GBestTopology;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+
+public class PopulationStatisticsTest {
+
+    private static Topology<Particle> topology(double[][] positions) {
+        Topology<Particle> topology = new GBestTopology<Particle>();
+        for (double[] position : positions) {
+            Particle particle = new StandardParticle();
+            Vector.Builder builder = Vector.newBuilder();
+            for (double value : position) {
+                builder.add(value);
+            }
+            particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, builder.build());
+            topology.add(particle);
+        }
+        return topology;
+    }
+
+    private static double[][] randomPositions(int size, int dimensions) {
+        Random random = new Random(5);
+        double[][] positions = new double[size][dimensions];
+        for (int i = 0; i < size; i++) {
+            for (int d = 0; d < dimensions; d++) {
+                positions[i][d] = random.nextDouble() * 10 - 5;
+            }
+        }
+        return positions;
+    }
+
+    @Test
+    public void moments() {
+        PopulationStatistics statistics = PopulationStatistics.of(topology(new double[][] {
+            {1.0, -2.0}, {3.0, 2.0}, {2.0, 0.0}
+        }));
+
+        Assert.assertThat(statistics.getSize(), is(3));
+        Assert.assertThat(statistics.getDimensions(), is(2));
+        Assert.assertThat(statistics.getMinimum(0), is(1.0));
+        Assert.assertThat(statistics.getMaximum(0), is(3.0));
+        Assert.assertThat(statistics.getMinimum(1), is(-2.0));
+        Assert.assertThat(statistics.getMaximum(1), is(2.0));
+        Assert.assertThat(statistics.getMean(), is(Vector.of(2.0, 0.0)));
+        Assert.assertEquals(2.0 / 3.0, statistics.getVariance(0), 1e-15);
+        Assert.assertEquals(8.0 / 3.0, statistics.getVariance(1), 1e-15);
+        Assert.assertThat(statistics.getPosition(1, 1), is(2.0));
+    }
+
+    @Test
+    public void histogramCountsClosedIntervals() {
+        PopulationStatistics statistics = PopulationStatistics.of(topology(new double[][] {
+            {0.0}, {0.5}, {1.0}, {3.5}, {4.0}, {5.0}, {-0.1}
+        }));
+
+        int[] counts = statistics.getHistogram(0, 0.0, 4.0, 4);
+
+        Assert.assertThat(counts[0], is(3));
+        Assert.assertThat(counts[1], is(1));
+        Assert.assertThat(counts[2], is(0));
+        Assert.assertThat(counts[3], is(2));
+    }
+
+    @Test
+    public void diameter() {
+        double[][] positions = randomPositions(40, 6);
+        PopulationStatistics statistics = PopulationStatistics.of(topology(positions));
+
+        double expected = 0.0;
+        for (double[] a : positions) {
+            for (double[] b : positions) {
+                double sum = 0.0;
+                for (int d = 0; d < a.length; d++) {
+                    sum += (a[d] - b[d]) * (a[d] - b[d]);
+                }
+                expected = Math.max(expected, Math.sqrt(sum));
+            }
+        }
+
+        Assert.assertThat(statistics.getDiameter(), is(expected));
+
+        double approximate = statistics.getApproximateDiameter(3);
+        Assert.assertTrue(approximate <= expected);
+        Assert.assertTrue(approximate >= expected / 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyTopology() {
+        PopulationStatistics.of(new GBestTopology<Particle>());
+    }
+}
@@ -153,4 +153,25 @@ public class TopologiesTest {
         Assert.assertTrue(leastFit.containsAll(Arrays.asList(i1, i2)));
         Assert.assertTrue(other.containsAll(Arrays.asList(i3, i4)));
     }
+
+    @Test
+    public void updateNeighbourhoodBests() {
+        Topology<Particle> topology = new LBestTopology<Particle>();
+        double[] bestFitnesses = {0.7, 1.0, 0.0, 0.1, 0.3};
+        for (double fitness : bestFitnesses) {
+            Particle particle = new StandardParticle();
+            particle.getProperties().put(EntityType.Particle.BEST_FITNESS, new MinimisationFitness(fitness));
+            particle.setNeighbourhoodBest(particle);
+            topology.add(particle);
+        }
+
+        Topologies.updateNeighbourhoodBests(topology);
+
+        for (int i = 0; i < topology.size(); i++) {
+            Particle expected = Topologies.getNeighbourhoodBest(topology, i, new SocialBestFitnessComparator<Particle>());
+            Assert.assertSame(expected, topology.get(i).getNeighbourhoodBest());
+        }
+        Assert.assertSame(topology.get(4), topology.get(0).getNeighbourhoodBest());
+        Assert.assertSame(topology.get(3), topology.get(4).getNeighbourhoodBest());
+    }
 }
@@ -0,0 +1,74 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.entity.operators.creation;
+
+import java.util.List;
+import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.entity.topologies.GBestTopology;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class RandCreationStrategyTest {
+
+    @Test
+    public void selectsDistinctParticipants() {
+        Topology<Individual> topology = createTopology(6);
+        Entity target = topology.get(0);
+        Entity current = topology.get(1);
+
+        List<Entity> participants = new RandCreationStrategy().selectParticipants(topology, 4, target, current);
+
+        Assert.assertThat(participants.size(), is(4));
+        Assert.assertFalse(participants.contains(target));
+        Assert.assertFalse(participants.contains(current));
+        for (int i = 0; i < participants.size(); i++) {
+            Assert.assertThat(participants.lastIndexOf(participants.get(i)), is(i));
+        }
+    }
+
+    /**
+     * A population that is too small yields fewer participants instead of failing.
+     */
+    @Test
+    public void selectsFewerParticipantsFromSmallPopulation() {
+        Topology<Individual> topology = createTopology(3);
+        Entity target = topology.get(0);
+        Entity current = topology.get(1);
+
+        List<Entity> participants = new RandCreationStrategy().selectParticipants(topology, 4, target, current);
+
+        Assert.assertThat(participants.size(), is(1));
+        Assert.assertThat(participants.get(0), is((Entity) topology.get(2)));
+    }
+
+    private static Topology<Individual> createTopology(int size) {
+        Topology<Individual> topology = new GBestTopology<Individual>();
+        for (int i = 0; i < size; i++) {
+            topology.add(new Individual());
+        }
+        return topology;
+    }
+}
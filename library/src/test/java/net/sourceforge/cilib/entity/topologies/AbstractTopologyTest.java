@@ -21,6 +21,8 @@
  */
 package net.sourceforge.cilib.entity.topologies;
 
+import java.util.Iterator;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.entity.Particle;
 import net.sourceforge.cilib.entity.Topology;
@@ -82,4 +84,55 @@ public class AbstractTopologyTest {
         Assert.assertThat(best, is(p1));*/
     }
 
+    @Test
+    public void neighbourhoodIndicesFollowNeighbourhoodIterator() {
+        for (int size = 1; size <= 12; size++) {
+            assertIndicesMatchIterator(populate(new GBestTopology<Particle>(), size));
+            assertIndicesMatchIterator(populate(new VonNeumannTopology<Particle>(), size));
+
+            for (int neighbourhoodSize = 1; neighbourhoodSize <= 5; neighbourhoodSize++) {
+                Topology<Particle> lbest = new LBestTopology<Particle>();
+                lbest.setNeighbourhoodSize(ConstantControlParameter.of(neighbourhoodSize));
+                assertIndicesMatchIterator(populate(lbest, size));
+            }
+        }
+    }
+
+    @Test
+    public void neighbourhoodIndicesFollowMembershipChanges() {
+        Topology<Particle> topology = populate(new LBestTopology<Particle>(), 6);
+        int[] indices = topology.neighbourhoodIndices(0);
+        Assert.assertSame(indices, topology.neighbourhoodIndices(0));
+        Assert.assertThat(indices, is(new int[] {5, 0, 1}));
+
+        topology.set(0, new StandardParticle());
+        Assert.assertSame(indices, topology.neighbourhoodIndices(0));
+
+        topology.remove(5);
+        Assert.assertThat(topology.neighbourhoodIndices(0), is(new int[] {4, 0, 1}));
+
+        topology.setNeighbourhoodSize(ConstantControlParameter.of(5));
+        Assert.assertThat(topology.neighbourhoodIndices(0), is(new int[] {3, 4, 0, 1, 2}));
+        assertIndicesMatchIterator(topology);
+    }
+
+    private static Topology<Particle> populate(Topology<Particle> topology, int size) {
+        for (int i = 0; i < size; i++) {
+            topology.add(new StandardParticle());
+        }
+        return topology;
+    }
+
+    private static void assertIndicesMatchIterator(Topology<Particle> topology) {
+        int index = 0;
+        for (Iterator<Particle> i = topology.iterator(); i.hasNext(); index++) {
+            i.next();
+            int[] indices = topology.neighbourhoodIndices(index);
+            int count = 0;
+            for (Iterator<Particle> j = topology.neighbourhood(i); j.hasNext(); count++) {
+                Assert.assertSame(j.next(), topology.get(indices[count]));
+            }
+            Assert.assertThat(indices.length, is(count));
+        }
+    }
 }
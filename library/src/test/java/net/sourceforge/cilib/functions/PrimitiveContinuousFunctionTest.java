@@ -0,0 +1,133 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions;
+
+import java.util.Random;
+import net.sourceforge.cilib.functions.continuous.unconstrained.AbsoluteValue;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Ackley;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Alpine;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Beale;
+import net.sourceforge.cilib.functions.continuous.unconstrained.DeJongF4;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Elliptic;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Griewank;
+import net.sourceforge.cilib.functions.continuous.unconstrained.HyperEllipsoid;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Michalewicz;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Norwegian;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Quadric;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Quartic;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rosenbrock;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Salomon;
+import net.sourceforge.cilib.functions.continuous.unconstrained.SchwefelProblem2_21;
+import net.sourceforge.cilib.functions.continuous.unconstrained.SchwefelProblem2_22;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Step;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Vincent;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Zakharov;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+public class PrimitiveContinuousFunctionTest {
+
+    private static final int DIMENSION = 7;
+    private static final int COUNT = 5;
+
+    private static PrimitiveContinuousFunction[] functions() {
+        return new PrimitiveContinuousFunction[] {
+            new AbsoluteValue(), new Ackley(), new Alpine(), new DeJongF4(),
+            new Elliptic(), new Griewank(), new HyperEllipsoid(), new Michalewicz(),
+            new Norwegian(), new Quadric(), new Quartic(), new Rastrigin(),
+            new Rosenbrock(), new Salomon(), new SchwefelProblem2_21(),
+            new SchwefelProblem2_22(), new Spherical(), new Step(), new Vincent(),
+            new Zakharov()
+        };
+    }
+
+    private static double[] population(int count, int dim) {
+        Random random = new Random(7);
+        double[] population = new double[count * dim];
+        for (int i = 0; i < population.length; i++) {
+            population[i] = 0.25 + 9.75 * random.nextDouble();
+        }
+        return population;
+    }
+
+    private static Vector row(double[] population, int offset, int dim) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = offset; i < offset + dim; i++) {
+            builder.add(population[i]);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void primitiveEvaluationMatchesVectorEvaluation() {
+        double[] population = population(COUNT, DIMENSION);
+
+        for (PrimitiveContinuousFunction function : functions()) {
+            for (int offset = 0; offset < population.length; offset += DIMENSION) {
+                double expected = function.apply(row(population, offset, DIMENSION));
+                Assert.assertThat(function.getClass().getSimpleName(),
+                        function.apply(population, offset, DIMENSION), is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void batchEvaluation() {
+        double[] population = population(COUNT, DIMENSION);
+
+        for (PrimitiveContinuousFunction function : functions()) {
+            double[] results = new double[COUNT];
+            function.apply(population, COUNT, DIMENSION, results);
+
+            for (int i = 0; i < COUNT; i++) {
+                Assert.assertThat(function.getClass().getSimpleName(),
+                        results[i], is(function.apply(population, i * DIMENSION, DIMENSION)));
+            }
+        }
+    }
+
+    @Test
+    public void adapter() {
+        Beale beale = new Beale();
+        PrimitiveContinuousFunction adapted = PrimitiveFunctionAdapter.of(beale);
+        double[] population = population(COUNT, 2);
+        double[] results = new double[COUNT];
+
+        adapted.apply(population, COUNT, 2, results);
+
+        for (int i = 0; i < COUNT; i++) {
+            Assert.assertThat(results[i], is(beale.apply(row(population, 2 * i, 2))));
+        }
+    }
+
+    @Test
+    public void adapterKeepsPrimitiveFunctions() {
+        Spherical spherical = new Spherical();
+
+        Assert.assertThat(PrimitiveFunctionAdapter.of(spherical), sameInstance((PrimitiveContinuousFunction) spherical));
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Ackley;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CompiledFunctionDecoratorTest {
+
+    private static final Vector INPUT = Vector.of(1.5, -0.25, 3.0, 0.75, -2.0);
+
+    private static ContinuousFunction decorate(ContinuousFunction base) {
+        ReflectedFunctionDecorator reflected = new ReflectedFunctionDecorator();
+        reflected.setHorizontalReflection(true);
+        reflected.setVerticalReflection(true);
+        reflected.setFunction(base);
+
+        ScaledFunctionDecorator scaled = new ScaledFunctionDecorator();
+        scaled.setHorizontalScale(0.5);
+        scaled.setVerticalScale(2.0);
+        scaled.setFunction(reflected);
+
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(scaled);
+
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setHorizontalShift(ConstantControlParameter.of(1.25));
+        shifted.setVerticalShift(ConstantControlParameter.of(100.0));
+        shifted.setFunction(rotated);
+        return shifted;
+    }
+
+    @Test
+    public void primitiveKernel() {
+        ContinuousFunction stack = decorate(new Rastrigin());
+        CompiledFunctionDecorator compiled = new CompiledFunctionDecorator();
+        compiled.setFunction(stack);
+
+        assertEquals(stack.apply(INPUT), compiled.apply(INPUT));
+        assertEquals(stack.apply(INPUT), compiled.apply(new double[] {9.0, 1.5, -0.25, 3.0, 0.75, -2.0}, 1, 5), 0.0);
+    }
+
+    @Test
+    public void legacyKernel() {
+        ContinuousFunction stack = decorate(new Ackley());
+        CompiledFunctionDecorator compiled = new CompiledFunctionDecorator();
+        compiled.setFunction(stack);
+
+        assertEquals(stack.apply(INPUT), compiled.apply(INPUT));
+    }
+
+    @Test
+    public void expandedKernel() {
+        ExpandedFunctionDecorator expanded = new ExpandedFunctionDecorator();
+        expanded.setFunction(new Spherical());
+        ContinuousFunction stack = decorate(expanded);
+        CompiledFunctionDecorator compiled = new CompiledFunctionDecorator();
+        compiled.setFunction(stack);
+
+        assertEquals(stack.apply(INPUT), compiled.apply(INPUT));
+    }
+}
@@ -21,13 +21,17 @@
  */
 package net.sourceforge.cilib.functions.continuous.dynamic;
 
+import java.util.Random;
 import net.sourceforge.cilib.measurement.generic.Iterations;
 import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.objective.Maximise;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.stoppingcondition.Maximum;
 import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
 import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
 
 /**
  *
@@ -55,4 +59,58 @@ public class GeneralizedMovingPeaksTest {
         //pso.initialise();
         pso.run();
     }
+
+    private static double[] points(int count, int dimensions) {
+        Random random = new Random(3);
+        double[] points = new double[count * dimensions];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = -50 + 100 * random.nextDouble();
+        }
+        return points;
+    }
+
+    private static Vector point(double[] points, int offset, int dimensions) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = offset; i < offset + dimensions; i++) {
+            builder.add(points[i]);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void evaluationForms() {
+        int dimensions = 20;
+        int count = 50;
+        GeneralizedMovingPeaks function = new GeneralizedMovingPeaks(1, 200, 0.1, 3.0, 2.0, 0.5);
+        function.setSeed(11);
+        double[] points = points(count, dimensions);
+
+        for (int change = 0; change < 3; change++) {
+            double[] batch = new double[count];
+            double[] cutBatch = new double[count];
+
+            function.setCutOff(false);
+            function.apply(points, count, dimensions, batch);
+            function.setCutOff(true);
+            function.apply(points, count, dimensions, cutBatch);
+
+            for (int n = 0; n < count; n++) {
+                int offset = n * dimensions;
+                Assert.assertThat(function.apply(points, offset, dimensions), is(batch[n]));
+                Assert.assertThat(cutBatch[n], is(batch[n]));
+                function.setCutOff(false);
+                Assert.assertThat(function.apply(point(points, offset, dimensions)), is(batch[n]));
+                function.setCutOff(true);
+            }
+
+            function.changeEnvironment();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void inputMustMatchPeakDimensions() {
+        GeneralizedMovingPeaks function = new GeneralizedMovingPeaks(1, 5, 0.1, 3.0, 2.0, 0.5);
+        function.apply(points(1, 5), 0, 5);
+        function.apply(points(1, 3), 0, 3);
+    }
 }
@@ -0,0 +1,110 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.functions.continuous.dynamic.moo.fda1;
+
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ *
+ */
+public class FDA1Test {
+
+    @Test
+    public void testEvaluate01() {
+        Vector.Builder builder = Vector.newBuilder();
+        builder.add(Real.valueOf(0.25));
+        for (int i = 0; i < 19; ++i) {
+            builder.add(Real.valueOf(0.0));
+        }
+        EvaluatingAlgorithm algorithm = new EvaluatingAlgorithm(new FDA1(), builder.build());
+        algorithm.performInitialisation();
+        algorithm.performIteration();
+
+        assertThat(algorithm.objectives[0], is(equalTo(0.25)));
+        assertThat(algorithm.objectives[1], is(equalTo(0.5)));
+    }
+
+    @Test
+    public void testEvaluate02() {
+        Vector.Builder builder = Vector.newBuilder();
+        builder.add(Real.valueOf(0.25));
+        for (int i = 0; i < 19; ++i) {
+            builder.add(Real.valueOf(1.0));
+        }
+        FDA1 fda1 = new FDA1();
+        fda1.setTau_t(1);
+        fda1.setN_t(1);
+        EvaluatingAlgorithm algorithm = new EvaluatingAlgorithm(fda1, builder.build());
+        algorithm.performInitialisation();
+        algorithm.performIteration();
+        // t = 0, so G = 0 and g = 20.
+        assertThat(algorithm.objectives[1], is(equalTo(20.0 * (1.0 - Math.sqrt(0.25 / 20.0)))));
+
+        algorithm.performIteration();
+        // t = 1, so G = 1 and the variables are on the front.
+        assertThat(algorithm.objectives[0], is(equalTo(0.25)));
+        assertThat(algorithm.objectives[1], is(equalTo(0.5)));
+    }
+
+    /**
+     * Evaluates the function in each iteration, so that the function sees the
+     * iteration of the algorithm.
+     */
+    private static class EvaluatingAlgorithm extends AbstractAlgorithm {
+        private final FDA1 function;
+        private final Vector input;
+        private final double[] objectives = new double[2];
+
+        EvaluatingAlgorithm(FDA1 function, Vector input) {
+            this.function = function;
+            this.input = input;
+        }
+
+        @Override
+        public AbstractAlgorithm getClone() {
+            return this;
+        }
+
+        @Override
+        protected void algorithmIteration() {
+            function.apply(input, objectives);
+        }
+
+        @Override
+        public OptimisationSolution getBestSolution() {
+            return null;
+        }
+
+        @Override
+        public Iterable<OptimisationSolution> getSolutions() {
+            return null;
+        }
+    }
+}
@@ -24,6 +24,7 @@ package net.sourceforge.cilib.functions.continuous.moo.wfg;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import net.sourceforge.cilib.problem.solution.MOFitness;
 import net.sourceforge.cilib.type.types.container.Vector;
 import org.junit.Assert;
 import org.junit.Test;
@@ -69,4 +70,21 @@ public class WFG1Test {
         }
         reader.close();
     }
+
+    @Test
+    public void objectivesComputedTogether() {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = 0; i < k + 20; ++i) {
+            builder.add((i + 1) * 0.75);
+        }
+        Vector x = builder.build();
+
+        WFG1 wfg1 = new WFG1();
+        MOFitness fitness = wfg1.getFitness(x);
+
+        for (int i = 0; i < M; ++i) {
+            Assert.assertThat(fitness.getFitness(i).getValue(), is(equalTo(wfg1.getFitness(i, x).getValue())));
+        }
+        Assert.assertThat(wfg1.getFitnessEvaluations(), is(equalTo(2 * M)));
+    }
 }
@@ -78,4 +78,19 @@ public class ZDT1Test {
         assertThat(fitness.getFitness(0).getValue(), is(equalTo(0.0)));
         assertThat(fitness.getFitness(1).getValue(), is(equalTo(Double.NaN)));
     }
+
+    @Test
+    public void objectivesComputedTogether() {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = 0; i < 30; ++i) {
+            builder.add(Real.valueOf(i / 30.0));
+        }
+        Vector x = builder.build();
+        ZDT1 t1 = new ZDT1();
+        MOFitness fitness = t1.getFitness(x);
+
+        assertThat(fitness.getFitness(0).getValue(), is(equalTo(t1.getFitness(0, x).getValue())));
+        assertThat(fitness.getFitness(1).getValue(), is(equalTo(t1.getFitness(1, x).getValue())));
+        assertThat(t1.getFitnessEvaluations(), is(equalTo(4)));
+    }
 }
@@ -0,0 +1,83 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.hs;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.seeder.SeedSelectionStrategy;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
+import net.sourceforge.cilib.math.random.generator.seeder.ZeroSeederStrategy;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import static org.hamcrest.CoreMatchers.is;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class SteadyStateHSTest {
+
+    @Test
+    public void batchesAreEvaluatedOnce() {
+        SteadyStateHS hs = createHS(1);
+        double initial = hs.getBestSolution().getFitness().getValue();
+        hs.run();
+
+        Assert.assertThat(hs.getOptimisationProblem().getFitnessEvaluations(), is(20 + 50 * 5));
+        Assert.assertTrue(hs.getBestSolution().getFitness().getValue() < initial);
+    }
+
+    @Test
+    public void parallelEvaluation() {
+        SeedSelectionStrategy seedStrategy = Seeder.getSeederStrategy();
+        Seeder.setSeederStrategy(new ZeroSeederStrategy());
+
+        try {
+            SteadyStateHS serial = createHS(1);
+            serial.run();
+            SteadyStateHS parallel = createHS(4);
+            parallel.run();
+
+            Assert.assertThat(parallel.getBestSolution().getFitness().getValue(),
+                    is(serial.getBestSolution().getFitness().getValue()));
+        } finally {
+            Seeder.setSeederStrategy(seedStrategy);
+        }
+    }
+
+    private SteadyStateHS createHS(int threads) {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setDomain("R(-5.12:5.12)^30");
+        problem.setFunction(new Spherical());
+
+        SteadyStateHS hs = new SteadyStateHS();
+        hs.setImprovisations(ConstantControlParameter.of(5));
+        hs.getEvaluator().setThreads(threads);
+        hs.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 50));
+        hs.setOptimisationProblem(problem);
+        hs.performInitialisation();
+        return hs;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ *
+ */
+public class AbstractRandomProviderTest {
+
+    @Test
+    public void testNextDoubles() {
+        MersenneTwister single = new MersenneTwister(7);
+        MersenneTwister bulk = new MersenneTwister(7);
+        double[] values = new double[1000];
+        bulk.nextDoubles(values);
+
+        for (double d : values) {
+            assertEquals(single.nextDouble(), d, 0.0);
+        }
+    }
+
+    @Test
+    public void testNextGaussians() {
+        double[] values = new double[200000];
+        new MersenneTwister(7).nextGaussians(values);
+
+        double sum = 0.0;
+        double sumSquares = 0.0;
+        for (double d : values) {
+            sum += d;
+            sumSquares += d * d;
+        }
+        double mean = sum / values.length;
+        double variance = sumSquares / values.length - mean * mean;
+
+        assertEquals(0.0, mean, 0.01);
+        assertEquals(1.0, variance, 0.02);
+    }
+
+    @Test
+    public void testNextInts() {
+        int[] values = new int[100000];
+        int[] counts = new int[10];
+        new MersenneTwister(7).nextInts(values, counts.length);
+
+        for (int i : values) {
+            assertTrue("Random value out of range", 0 <= i && i < counts.length);
+            counts[i]++;
+        }
+        for (int count : counts) {
+            assertEquals(values.length / counts.length, count, values.length / 100);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNextIntsInvalidBound() {
+        new MersenneTwister(7).nextInts(new int[1], 0);
+    }
+}
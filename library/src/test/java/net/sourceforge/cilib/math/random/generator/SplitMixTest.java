@@ -0,0 +1,84 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ *
+ */
+public class SplitMixTest {
+
+    @Test
+    public void testNextDouble() {
+        RandomTester tester = new SimpleRandomTester();
+        RandomProvider r = new SplitMix();
+        for (int i = 0; i < 100000; ++i) {
+            double d = r.nextDouble();
+            assertTrue("Random value out of range", 0 <= d && d < 1);
+            tester.addSample(d);
+        }
+        assertTrue("Samples are not random", tester.hasRandomSamples());
+    }
+
+    @Test
+    public void testNextDoubles() {
+        SplitMix single = new SplitMix(42);
+        SplitMix bulk = new SplitMix(42);
+        single.nextDouble();
+        bulk.nextDouble();
+
+        double[] values = new double[100];
+        bulk.nextDoubles(values);
+
+        for (double d : values) {
+            assertEquals(single.nextDouble(), d, 0.0);
+        }
+        assertEquals(single.nextLong(), bulk.nextLong());
+    }
+
+    @Test
+    public void testSplitIsIndependentOfParentState() {
+        SplitMix first = new SplitMix(1234);
+        SplitMix second = new SplitMix(1234);
+        for (int i = 0; i < 50; i++) {
+            second.nextLong();
+        }
+
+        SplitMix a = first.split(1, 2, 3, 4);
+        SplitMix b = second.split(1, 2, 3, 4);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+    }
+
+    @Test
+    public void testSplitKeysProduceDifferentStreams() {
+        SplitMix parent = new SplitMix(1234);
+        assertFalse(parent.split(1).nextLong() == parent.split(2).nextLong());
+        assertFalse(parent.split(1, 2).nextLong() == parent.split(2, 1).nextLong());
+    }
+}
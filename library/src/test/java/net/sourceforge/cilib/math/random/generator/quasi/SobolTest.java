@@ -0,0 +1,76 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator.quasi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ *
+ */
+public class SobolTest {
+
+    @Test
+    public void skipToMatchesSequentialGeneration() {
+        Sobol sequential = new Sobol(0);
+        sequential.setDimensions(5);
+        double[][] expected = new double[300][];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = sequential.nextPoint();
+        }
+
+        Sobol skipping = new Sobol(0);
+        skipping.setDimensions(5);
+        for (int index : new int[]{257, 3, 0, 128, 298}) {
+            skipping.skipTo(index);
+            assertArrayEquals(expected[index], skipping.nextPoint(), 0.0);
+            assertArrayEquals(expected[index + 1], skipping.nextPoint(), 0.0);
+        }
+    }
+
+    @Test
+    public void nextPointsMatchesNextPoint() {
+        Sobol single = new Sobol(0);
+        single.setDimensions(3);
+        Sobol batch = new Sobol(0);
+        batch.setDimensions(3);
+
+        double[] points = new double[3 * 64];
+        batch.nextPoints(points);
+
+        for (int i = 0; i < 64; i++) {
+            double[] point = single.nextPoint();
+            for (int j = 0; j < 3; j++) {
+                assertEquals(point[j], points[i * 3 + j], 0.0);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nextPointsRequiresWholePoints() {
+        Sobol sobol = new Sobol(0);
+        sobol.setDimensions(3);
+        sobol.nextPoints(new double[4]);
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.math.random.generator.seeder;
+
+import static org.junit.Assert.assertEquals;
+
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.SplitMix;
+import org.junit.Test;
+
+/**
+ *
+ */
+public class SeederTest {
+
+    @Test
+    public void seedsFromBoundStream() {
+        SplitMix expected = new SplitMix(1234);
+        Seeder.setSeedStream(new SplitMix(1234));
+        try {
+            assertEquals(expected.nextLong(), Seeder.getSeed());
+            assertEquals(expected.nextLong(), Seeder.getSeed());
+        } finally {
+            Seeder.removeSeedStream();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void threadsWithoutStreamAreRefused() {
+        Seeder.setSeedStreamRequired(true);
+        try {
+            Seeder.getSeed();
+        } finally {
+            Seeder.setSeedStreamRequired(false);
+        }
+    }
+
+    @Test
+    public void generatorsAreReproducible() {
+        double[] first = sample(new SplitMix(99).split(3));
+        double[] second = sample(new SplitMix(99).split(3));
+
+        for (int i = 0; i < first.length; i++) {
+            assertEquals(first[i], second[i], 0.0);
+        }
+    }
+
+    private double[] sample(SplitMix stream) {
+        Seeder.setSeedStream(stream);
+        try {
+            MersenneTwister a = new MersenneTwister();
+            MersenneTwister b = new MersenneTwister();
+            return new double[]{a.nextDouble(), a.nextDouble(), b.nextDouble(), b.nextDouble()};
+        } finally {
+            Seeder.removeSeedStream();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.measurement;
+
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.entity.topologies.GBestTopology;
+import net.sourceforge.cilib.measurement.single.ConvergedDimensions;
+import net.sourceforge.cilib.measurement.single.DimensionBoundViolationsPerParticle;
+import net.sourceforge.cilib.measurement.single.Fitness;
+import net.sourceforge.cilib.measurement.single.ParticleBoundViolations;
+import net.sourceforge.cilib.measurement.single.PbestBoundViolations;
+import net.sourceforge.cilib.measurement.single.SpatialExtent;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+import static org.mockito.Mockito.*;
+
+public class MeasurementContextTest {
+
+    @Test
+    public void sharedWithinContext() {
+        Algorithm algorithm = mock(Algorithm.class);
+        when(algorithm.getBestSolution()).thenReturn(new OptimisationSolution(Vector.of(1.0), new MinimisationFitness(2.0)));
+
+        MeasurementContext context = MeasurementContext.begin(algorithm);
+        try {
+            Assert.assertSame(context, MeasurementContext.of(algorithm));
+            Assert.assertNotSame(context, MeasurementContext.of(mock(Algorithm.class)));
+
+            Measurement<?> fitness = new Fitness();
+            Assert.assertEquals(Real.valueOf(2.0), fitness.getValue(algorithm));
+            Assert.assertEquals(Real.valueOf(2.0), fitness.getValue(algorithm));
+        } finally {
+            context.end();
+        }
+
+        verify(algorithm, times(1)).getBestSolution();
+        Assert.assertNotSame(context, MeasurementContext.of(algorithm));
+    }
+
+    @Test
+    public void notSharedOutsideContext() {
+        Algorithm algorithm = mock(Algorithm.class);
+        when(algorithm.getBestSolution()).thenReturn(new OptimisationSolution(Vector.of(1.0), new MinimisationFitness(2.0)));
+
+        Measurement<?> fitness = new Fitness();
+        fitness.getValue(algorithm);
+        fitness.getValue(algorithm);
+
+        verify(algorithm, times(2)).getBestSolution();
+    }
+
+    @Test
+    public void populationAggregates() {
+        Bounds bounds = new Bounds(0.0, 2.0);
+        Topology<Particle> topology = new GBestTopology<Particle>();
+        topology.add(particleOf(bounds, 0.0, -1.0, 0.0));
+        topology.add(particleOf(bounds, 1.0, 2.0, 2.0));
+        topology.add(particleOf(bounds, -1.0, 0.0, 1.0));
+        topology.add(particleOf(bounds, 1.0, 2.0, -1.0));
+
+        PopulationBasedAlgorithm algorithm = mock(PopulationBasedAlgorithm.class);
+        when(algorithm.getTopology()).thenReturn((Topology) topology);
+
+        MeasurementContext context = MeasurementContext.begin(algorithm);
+        try {
+            Assert.assertSame(context.getPopulationStatistics(), context.getPopulationStatistics());
+            Assert.assertEquals(3, context.getEntitiesOutsideBounds());
+            Assert.assertEquals(3, context.getDimensionsOutsideBounds());
+            Assert.assertEquals(Math.sqrt(14.0), context.getDiameter(), 0.0);
+
+            Assert.assertEquals(Real.valueOf(0.75), new ParticleBoundViolations().getValue(algorithm));
+            Assert.assertEquals(Real.valueOf(0.75), new DimensionBoundViolationsPerParticle().getValue(algorithm));
+            Assert.assertEquals(Real.valueOf(3.0), new SpatialExtent().getValue(algorithm));
+        } finally {
+            context.end();
+        }
+    }
+
+    @Test
+    public void personalBestAggregates() {
+        Bounds bounds = new Bounds(0.0, 2.0);
+        Topology<Particle> topology = new GBestTopology<Particle>();
+        topology.add(particleOf(bounds, 0.0, -1.0));
+        topology.add(particleOf(bounds, 1.0, 2.0));
+        topology.get(0).getProperties().put(EntityType.Particle.BEST_POSITION, Vector.of(Real.valueOf(1.0, bounds), Real.valueOf(1.0, bounds)));
+        topology.get(1).getProperties().put(EntityType.Particle.BEST_POSITION, Vector.of(Real.valueOf(3.0, bounds), Real.valueOf(1.0, bounds)));
+
+        PopulationBasedAlgorithm algorithm = mock(PopulationBasedAlgorithm.class);
+        when(algorithm.getTopology()).thenReturn((Topology) topology);
+
+        ConvergedDimensions converged = new ConvergedDimensions();
+        converged.setTargetSolution("R(0:2)^2");
+        converged.setErrorThreshold(ConstantControlParameter.of(1.0));
+
+        MeasurementContext context = MeasurementContext.begin(algorithm);
+        try {
+            Assert.assertEquals(1, context.getPersonalBestsOutsideBounds());
+            Assert.assertEquals(Real.valueOf(0.5), new PbestBoundViolations().getValue(algorithm));
+            Assert.assertEquals(Real.valueOf(1.5), converged.getValue(algorithm));
+        } finally {
+            context.end();
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void personalBestsNeedParticles() {
+        Individual individual = new Individual();
+        individual.getProperties().put(EntityType.CANDIDATE_SOLUTION, Vector.of(Real.valueOf(1.0, new Bounds(0.0, 2.0))));
+        Topology<Individual> topology = new GBestTopology<Individual>();
+        topology.add(individual);
+
+        PopulationBasedAlgorithm algorithm = mock(PopulationBasedAlgorithm.class);
+        when(algorithm.getTopology()).thenReturn((Topology) topology);
+
+        MeasurementContext.of(algorithm).getPersonalBestsOutsideBounds();
+    }
+
+    private Particle particleOf(Bounds bounds, double... values) {
+        Vector.Builder vector = Vector.newBuilder();
+        for (int i = 0; i < values.length; i++) {
+            vector.add(Real.valueOf(values[i], bounds));
+        }
+        Particle particle = new StandardParticle();
+        particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, vector.build());
+        return particle;
+    }
+}
@@ -48,6 +48,81 @@ public class MeasurementStateManagerTest {
     }
 
 
+    @Test
+    public void savedStatePerAlgorithm() {
+        PSO pso1 = new PSO();
+        PSO pso2 = new PSO();
+
+        CountingMeasurement measurement = new CountingMeasurement();
+        MeasurementStateManager manager = new MeasurementStateManager();
+
+        for (int i = 0; i < 3; i++) {
+            manager.setState(pso1, measurement);
+            measurement.getValue(pso1);
+            manager.saveState(pso1, measurement);
+        }
+
+        manager.setState(pso2, measurement);
+        Assert.assertEquals(3, measurement.count);
+        measurement.count = 0;
+        measurement.getValue(pso2);
+        manager.saveState(pso2, measurement);
+
+        manager.setState(pso1, measurement);
+        Assert.assertEquals(3, measurement.count);
+        manager.setState(pso2, measurement);
+        Assert.assertEquals(1, measurement.count);
+    }
+
+    @Test
+    public void checkpointedState() {
+        PSO pso = new PSO();
+
+        CountingMeasurement measurement = new CountingMeasurement();
+        measurement.count = 5;
+        MeasurementStateManager manager = new MeasurementStateManager();
+
+        Assert.assertNotNull(manager.getState(pso, measurement));
+        measurement.count = 0;
+        manager.setState(pso, measurement);
+        Assert.assertEquals(5, measurement.count);
+    }
+
+    private class CountingMeasurement extends StateAwareMeasurement {
+        private int count;
+
+        @Override
+        public Measurement getClone() {
+            return this;
+        }
+
+        @Override
+        public Type getValue(Algorithm algorithm) {
+            count++;
+            return null;
+        }
+
+        @Override
+        protected Object saveState() {
+            return count;
+        }
+
+        @Override
+        protected void restoreState(Object state) {
+            count = (Integer) state;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeInt(count);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            count = in.readInt();
+        }
+    }
+
     private class MockStateAwareMeasurement extends StateAwareMeasurement {
 
         @Override
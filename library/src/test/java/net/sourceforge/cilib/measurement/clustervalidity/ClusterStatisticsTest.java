@@ -0,0 +1,150 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.measurement.clustervalidity;
+
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.measurement.MeasurementContext;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.container.CentroidHolder;
+import net.sourceforge.cilib.type.types.container.ClusterCentroid;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.DistanceMeasure;
+import net.sourceforge.cilib.util.EuclideanDistanceMeasure;
+import net.sourceforge.cilib.util.ManhattanDistanceMeasure;
+import org.junit.Assert;
+import org.junit.Test;
+import static org.mockito.Mockito.*;
+
+public class ClusterStatisticsTest {
+
+    @Test
+    public void exactDiameterAndSeparation() {
+        // Large enough for the pairwise statistics to be calculated in parallel.
+        CentroidHolder holder = clusters(new MersenneTwister(1), 4, 500, 6);
+        assertPairwiseStatistics(holder, new EuclideanDistanceMeasure());
+    }
+
+    @Test
+    public void otherDistanceMeasures() {
+        CentroidHolder holder = clusters(new MersenneTwister(2), 3, 40, 3);
+        assertPairwiseStatistics(holder, new ManhattanDistanceMeasure());
+    }
+
+    @Test
+    public void emptyClusters() {
+        CentroidHolder holder = new CentroidHolder();
+        holder.add(ClusterCentroid.of(0, 0));
+        ClusterCentroid single = ClusterCentroid.of(1, 1);
+        single.addDataItem(0, Vector.of(1, 1));
+        holder.add(single);
+
+        ClusterStatistics statistics = ClusterStatistics.of(holder, new EuclideanDistanceMeasure());
+        Assert.assertEquals(0.0, statistics.getDiameter(0), 0.0);
+        Assert.assertEquals(0.0, statistics.getDiameter(1), 0.0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, statistics.getSeparation(0, 1), 0.0);
+        Assert.assertEquals(Math.sqrt(2.0), statistics.getMinimumCentroidDistance(), 1e-15);
+    }
+
+    @Test
+    public void estimates() {
+        CentroidHolder holder = clusters(new MersenneTwister(3), 2, 300, 4);
+        ClusterStatistics statistics = ClusterStatistics.of(holder, new EuclideanDistanceMeasure());
+        RandomProvider random = new MersenneTwister(4);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(statistics.estimateDiameter(0, 50, random) <= statistics.getDiameter(0));
+            Assert.assertTrue(statistics.estimateSeparation(0, 1, 50, random) >= statistics.getSeparation(0, 1));
+        }
+        Assert.assertEquals(statistics.getDiameter(1), statistics.estimateDiameter(1, 300, random), 0.0);
+        Assert.assertEquals(statistics.getSeparation(0, 1), statistics.estimateSeparation(0, 1, 300, random), 0.0);
+    }
+
+    @Test
+    public void sharedWithinContext() {
+        CentroidHolder holder = clusters(new MersenneTwister(5), 2, 5, 2);
+        Algorithm algorithm = mock(Algorithm.class);
+        when(algorithm.getBestSolution()).thenReturn(new OptimisationSolution(holder, new MinimisationFitness(0.0)));
+
+        MeasurementContext context = MeasurementContext.begin(algorithm);
+        try {
+            ClusterStatistics statistics = ClusterStatistics.of(algorithm, new EuclideanDistanceMeasure());
+            Assert.assertSame(statistics, ClusterStatistics.of(algorithm, new EuclideanDistanceMeasure()));
+            Assert.assertNotSame(statistics, ClusterStatistics.of(algorithm, new ManhattanDistanceMeasure()));
+
+            Assert.assertEquals(new DunnValidityIndex().getValue(algorithm).doubleValue(),
+                    statistics.getSeparation(0, 1) / (Math.max(statistics.getDiameter(0), statistics.getDiameter(1)) + Double.MIN_VALUE), 0.0);
+        } finally {
+            context.end();
+        }
+    }
+
+    private void assertPairwiseStatistics(CentroidHolder holder, DistanceMeasure distanceMeasure) {
+        ClusterStatistics statistics = ClusterStatistics.of(holder, distanceMeasure);
+
+        for (int i = 0; i < holder.size(); i++) {
+            double diameter = 0.0;
+            for (Vector a : holder.get(i).getDataItems()) {
+                for (Vector b : holder.get(i).getDataItems()) {
+                    diameter = Math.max(diameter, distanceMeasure.distance(a, b));
+                }
+            }
+            Assert.assertEquals(diameter, statistics.getDiameter(i), 1e-12);
+
+            for (int j = 0; j < holder.size(); j++) {
+                if (i == j) {
+                    continue;
+                }
+                double separation = Double.POSITIVE_INFINITY;
+                for (Vector a : holder.get(i).getDataItems()) {
+                    for (Vector b : holder.get(j).getDataItems()) {
+                        separation = Math.min(separation, distanceMeasure.distance(a, b));
+                    }
+                }
+                Assert.assertEquals(separation, statistics.getSeparation(i, j), 1e-12);
+                Assert.assertEquals(distanceMeasure.distance(holder.get(i), holder.get(j)), statistics.getCentroidDistance(i, j), 1e-12);
+            }
+        }
+    }
+
+    private CentroidHolder clusters(RandomProvider random, int clusters, int patterns, int dimensions) {
+        CentroidHolder holder = new CentroidHolder();
+        for (int k = 0; k < clusters; k++) {
+            Number[] centre = new Number[dimensions];
+            for (int d = 0; d < dimensions; d++) {
+                centre[d] = 10.0 * random.nextDouble();
+            }
+            ClusterCentroid centroid = ClusterCentroid.of(centre);
+            for (int p = 0; p < patterns; p++) {
+                Vector.Builder pattern = Vector.newBuilder();
+                for (int d = 0; d < dimensions; d++) {
+                    pattern.add(centre[d].doubleValue() + 4.0 * random.nextDouble() - 2.0);
+                }
+                centroid.addDataItem(0, pattern.build());
+            }
+            holder.add(centroid);
+        }
+        return holder;
+    }
+}
@@ -22,6 +22,8 @@
 package net.sourceforge.cilib.measurement.clustervalidity;
 
 import junit.framework.Assert;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.type.types.container.ClusterCentroid;
 import org.junit.After;
@@ -89,4 +91,16 @@ public class DunnValidityIndexTest {
         Assert.assertEquals(Math.round(3.1320919526731650539273262067644 * 1e10) / 1e10, Math.round(distance * 1e10) / 1e10);
     }
 
+    /**
+     * Test that a clone samples with the random number generator of the original.
+     */
+    @Test
+    public void testCloneKeepsRandom() {
+        RandomProvider random = new MersenneTwister(1);
+        DunnValidityIndex instance = new DunnValidityIndex();
+        instance.setRandom(random);
+        
+        Assert.assertSame(random, instance.getClone().getRandom());
+    }
+
 }
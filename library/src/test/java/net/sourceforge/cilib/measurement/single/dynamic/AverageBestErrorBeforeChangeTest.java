@@ -21,7 +21,9 @@
  */
 package net.sourceforge.cilib.measurement.single.dynamic;
 
+import java.io.IOException;
 import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.measurement.MeasurementMemento;
 import net.sourceforge.cilib.problem.DynamicOptimizationProblem;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
@@ -66,4 +68,18 @@ public class AverageBestErrorBeforeChangeTest {
         verify(mockProblem, times(2)).getError(Matchers.<Type>anyObject());
     }
 
+    @Test
+    public void mementoKeepsCycleCount() throws IOException, ClassNotFoundException {
+        AverageBestErrorBeforeChange m = new AverageBestErrorBeforeChange();
+        m.avg = 0.25;
+        m.cycleNr = 3;
+
+        MeasurementMemento memento = m.getState();
+        AverageBestErrorBeforeChange restored = new AverageBestErrorBeforeChange();
+        restored.setState(memento);
+
+        Assert.assertEquals(0.25, restored.avg, 0.0);
+        Assert.assertEquals(3, restored.cycleNr);
+    }
+
 }
@@ -22,7 +22,9 @@
 package net.sourceforge.cilib.measurement.single.dynamic;
 
 
+import java.io.IOException;
 import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.measurement.MeasurementMemento;
 import net.sourceforge.cilib.problem.DynamicOptimizationProblem;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
@@ -68,4 +70,18 @@ public class AverageIterationToErrorLimitTest {
         verify(algorithm, times(2)).isFinished();
         verify(mockProblem, times(6)).getError(Matchers.<Type>anyObject());
     }
+
+    @Test
+    public void mementoKeepsCycleCount() throws IOException, ClassNotFoundException {
+        AverageIterationsToErrorLimit m = new AverageIterationsToErrorLimit();
+        m.avg = 1.5;
+        m.cycleNr = 2;
+
+        MeasurementMemento memento = m.getState();
+        AverageIterationsToErrorLimit restored = new AverageIterationsToErrorLimit();
+        restored.setState(memento);
+
+        Assert.assertEquals(1.5, restored.avg, 0.0);
+        Assert.assertEquals(2, restored.cycleNr);
+    }
 }
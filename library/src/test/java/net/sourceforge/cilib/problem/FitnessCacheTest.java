@@ -0,0 +1,128 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem;
+
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+public class FitnessCacheTest {
+
+    private CountingFunction function;
+    private FunctionOptimisationProblem problem;
+
+    private static class CountingFunction implements ContinuousFunction {
+        private static final long serialVersionUID = 1L;
+        int calls;
+
+        @Override
+        public Double apply(Vector input) {
+            calls++;
+            return input.dot(input);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        function = new CountingFunction();
+        problem = new FunctionOptimisationProblem();
+        problem.setDomain("R^2");
+        problem.setFunction(function);
+    }
+
+    @Test
+    public void disabledByDefault() {
+        problem.getFitness(Vector.of(1.0, 2.0));
+        problem.getFitness(Vector.of(1.0, 2.0));
+
+        Assert.assertThat(function.calls, is(2));
+        Assert.assertThat(problem.getFitnessEvaluations(), is(2));
+    }
+
+    @Test
+    public void hitsAreCountedAsEvaluations() {
+        FitnessCache cache = new FitnessCache(10);
+        problem.setFitnessCache(cache);
+
+        Fitness first = problem.getFitness(Vector.of(1.0, 2.0));
+        Fitness second = problem.getFitness(Vector.of(1.0, 2.0));
+
+        Assert.assertThat(second, sameInstance(first));
+        Assert.assertThat(function.calls, is(1));
+        Assert.assertThat(problem.getFitnessEvaluations(), is(2));
+        Assert.assertThat(cache.getHits(), is(1L));
+        Assert.assertThat(cache.getMisses(), is(1L));
+        Assert.assertThat(cache.getHitRatio(), is(0.5));
+    }
+
+    @Test
+    public void hitsNotCountedAsEvaluations() {
+        FitnessCache cache = new FitnessCache(10);
+        cache.setCountHits(false);
+        problem.setFitnessCache(cache);
+
+        problem.getFitness(Vector.of(1.0, 2.0));
+        problem.getFitness(Vector.of(1.0, 2.0));
+        problem.getFitness(Vector.of(2.0, 1.0));
+
+        Assert.assertThat(function.calls, is(2));
+        Assert.assertThat(problem.getFitnessEvaluations(), is(2));
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted() {
+        FitnessCache cache = new FitnessCache(2);
+        problem.setFitnessCache(cache);
+
+        problem.getFitness(Vector.of(1.0, 0.0));
+        problem.getFitness(Vector.of(2.0, 0.0));
+        problem.getFitness(Vector.of(1.0, 0.0));
+        problem.getFitness(Vector.of(3.0, 0.0));
+        Assert.assertThat(cache.size(), is(2));
+        Assert.assertThat(function.calls, is(3));
+
+        problem.getFitness(Vector.of(1.0, 0.0));
+        Assert.assertThat(function.calls, is(3));
+
+        problem.getFitness(Vector.of(2.0, 0.0));
+        Assert.assertThat(function.calls, is(4));
+    }
+
+    @Test
+    public void cloneHasEmptyCache() {
+        FitnessCache cache = new FitnessCache(5);
+        cache.setCountHits(false);
+        problem.setFitnessCache(cache);
+        problem.getFitness(Vector.of(1.0, 2.0));
+
+        FunctionOptimisationProblem clone = problem.getClone();
+
+        Assert.assertThat(clone.getFitnessCache().size(), is(0));
+        Assert.assertThat(clone.getFitnessCache().getCapacity(), is(5));
+        Assert.assertThat(clone.getFitnessCache().getCountHits(), is(false));
+    }
+}
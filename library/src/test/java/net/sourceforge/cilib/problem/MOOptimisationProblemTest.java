@@ -0,0 +1,66 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.problem;
+
+import net.sourceforge.cilib.functions.MultiObjectiveFunction;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.mockito.Mockito.*;
+
+/**
+ *
+ */
+public class MOOptimisationProblemTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void functionNeedsTheObjectiveOfEachProblem() {
+        MultiObjectiveFunction function = mock(MultiObjectiveFunction.class);
+        when(function.getNumberOfObjectives()).thenReturn(1);
+
+        MOOptimisationProblem problem = new MOOptimisationProblem();
+        problem.setFunction(function);
+        problem.add(mock(Problem.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void functionNeedsAnObjectivePerProblem() {
+        MultiObjectiveFunction function = mock(MultiObjectiveFunction.class);
+        when(function.getNumberOfObjectives()).thenReturn(1);
+
+        MOOptimisationProblem problem = new MOOptimisationProblem();
+        problem.add(new FunctionOptimisationProblem());
+        problem.add(new FunctionOptimisationProblem());
+        problem.setFunction(function);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void functionNeedsAProblemPerObjective() {
+        MultiObjectiveFunction function = mock(MultiObjectiveFunction.class);
+        when(function.getNumberOfObjectives()).thenReturn(2);
+
+        MOOptimisationProblem problem = new MOOptimisationProblem();
+        problem.add(new FunctionOptimisationProblem());
+        problem.setFunction(function);
+        problem.getFitness(Vector.of(1.0));
+    }
+}
@@ -21,12 +21,18 @@
  */
 package net.sourceforge.cilib.pso;
 
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.entity.Topologies;
+import net.sourceforge.cilib.entity.comparator.SocialBestFitnessComparator;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
 import net.sourceforge.cilib.math.random.generator.seeder.SeedSelectionStrategy;
 import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
 import net.sourceforge.cilib.math.random.generator.seeder.ZeroSeederStrategy;
 import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
 import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.type.types.container.Vector;
 import static org.hamcrest.CoreMatchers.is;
 import org.junit.Assert;
 import org.junit.Test;
@@ -74,4 +80,47 @@ public class PSOTest {
             Seeder.setSeederStrategy(seedStrategy);
         }
     }
+
+    @Test
+    public void bestSolutionIsMemoisedUntilTheSwarmChanges() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setDomain("R(-5.12:5.12)^5");
+        problem.setFunction(new Spherical());
+
+        PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.addStoppingCondition(new MeasuredStoppingCondition());
+        pso.performInitialisation();
+
+        for (int i = 0; i < 10; i++) {
+            pso.performIteration();
+
+            Particle best = Topologies.getBestEntity(pso.getTopology(), new SocialBestFitnessComparator<Particle>());
+            Assert.assertThat(pso.getBestSolution().getFitness(), is(best.getBestFitness()));
+            Assert.assertEquals(best.getBestPosition(), pso.getBestSolution().getPosition());
+            Assert.assertSame(pso.getBestSolution(), pso.getBestSolution());
+        }
+
+        OptimisationSolution solution = pso.getBestSolution();
+        problem.getFitness(solution.getPosition());
+        Assert.assertNotSame(solution, pso.getBestSolution());
+    }
+
+    @Test
+    public void bestSolutionFollowsParticlesChangedWithoutEvaluation() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setDomain("R(-5.12:5.12)^5");
+        problem.setFunction(new Spherical());
+
+        PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.addStoppingCondition(new MeasuredStoppingCondition());
+        pso.performInitialisation();
+
+        // Outside of an iteration the particles may be changed without being evaluated.
+        Particle best = Topologies.getBestEntity(pso.getTopology(), new SocialBestFitnessComparator<Particle>());
+        Assert.assertEquals(best.getBestPosition(), pso.getBestSolution().getPosition());
+        best.getProperties().put(EntityType.Particle.BEST_POSITION, Vector.of(0.0, 0.0, 0.0, 0.0, 0.0));
+        Assert.assertEquals(Vector.of(0.0, 0.0, 0.0, 0.0, 0.0), pso.getBestSolution().getPosition());
+    }
 }
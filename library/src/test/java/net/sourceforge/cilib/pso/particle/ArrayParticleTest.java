@@ -0,0 +1,179 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.pso.particle;
+
+import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.math.random.generator.seeder.SeedSelectionStrategy;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
+import net.sourceforge.cilib.math.random.generator.seeder.ZeroSeederStrategy;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.pbestupdate.BoundedPersonalBestUpdateStrategy;
+import net.sourceforge.cilib.pso.velocityprovider.ClampingVelocityProvider;
+import net.sourceforge.cilib.pso.velocityprovider.DistinctCrossoverVelocityProvider;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+
+public class ArrayParticleTest {
+
+    private static FunctionOptimisationProblem createProblem() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setDomain("R(-5.12:5.12)^10");
+        problem.setFunction(new Rastrigin());
+        return problem;
+    }
+
+    private static OptimisationSolution run(Entity prototype) {
+        SeedSelectionStrategy seedStrategy = Seeder.getSeederStrategy();
+        Seeder.setSeederStrategy(new ZeroSeederStrategy());
+
+        try {
+            ClonedPopulationInitialisationStrategy initialisation = new ClonedPopulationInitialisationStrategy();
+            initialisation.setEntityType(prototype);
+
+            PSO pso = new PSO();
+            pso.setInitialisationStrategy(initialisation);
+            pso.setOptimisationProblem(createProblem());
+            pso.addStoppingCondition(new MeasuredStoppingCondition());
+
+            pso.performInitialisation();
+            pso.run();
+            return pso.getBestSolution();
+        } finally {
+            Seeder.setSeederStrategy(seedStrategy);
+        }
+    }
+
+    /**
+     * The structure-of-arrays particles must follow exactly the same
+     * trajectories as the standard particles.
+     */
+    @Test
+    public void sameResultAsStandardParticle() {
+        OptimisationSolution expected = run(new StandardParticle());
+        OptimisationSolution actual = run(new ArrayParticle());
+
+        Assert.assertThat(actual.getFitness().getValue(), is(expected.getFitness().getValue()));
+        Assert.assertThat((Vector) actual.getPosition(), is((Vector) expected.getPosition()));
+    }
+
+    @Test
+    public void sameResultWithGenericVelocityProvider() {
+        StandardParticle standard = new StandardParticle();
+        standard.setVelocityProvider(new ClampingVelocityProvider());
+        ArrayParticle array = new ArrayParticle();
+        array.setVelocityProvider(new ClampingVelocityProvider());
+
+        OptimisationSolution expected = run(standard);
+        OptimisationSolution actual = run(array);
+
+        Assert.assertThat(actual.getFitness().getValue(), is(expected.getFitness().getValue()));
+    }
+
+    @Test
+    public void sameResultWithBoundedPersonalBest() {
+        StandardParticle standard = new StandardParticle();
+        standard.setPersonalBestUpdateStrategy(new BoundedPersonalBestUpdateStrategy());
+        ArrayParticle array = new ArrayParticle();
+        array.setPersonalBestUpdateStrategy(new BoundedPersonalBestUpdateStrategy());
+
+        OptimisationSolution expected = run(standard);
+        OptimisationSolution actual = run(array);
+
+        Assert.assertThat(actual.getFitness().getValue(), is(expected.getFitness().getValue()));
+    }
+
+    @Test
+    public void sameResultWithPreviousSolution() {
+        StandardParticle standard = new StandardParticle();
+        standard.setVelocityProvider(new DistinctCrossoverVelocityProvider());
+        ArrayParticle array = new ArrayParticle();
+        array.setVelocityProvider(new DistinctCrossoverVelocityProvider());
+
+        OptimisationSolution expected = run(standard);
+        OptimisationSolution actual = run(array);
+
+        Assert.assertThat(actual.getFitness().getValue(), is(expected.getFitness().getValue()));
+    }
+
+    @Test
+    public void previousSolutionIsStored() {
+        ArrayParticle particle = new ArrayParticle().getClone();
+        particle.initialise(createProblem());
+        Assert.assertThat(particle.getProperties().get(EntityType.PREVIOUS_SOLUTION), is((Object) particle.getPosition()));
+
+        Vector position = Vector.copyOf(particle.getPosition());
+        particle.getProperties().put(EntityType.Particle.VELOCITY, Vector.fill(1.0, 10));
+        particle.updatePosition();
+        Assert.assertThat(particle.getProperties().get(EntityType.PREVIOUS_SOLUTION), is((Object) position));
+        Assert.assertThat(particle.getPosition(), not(is(position)));
+    }
+
+    @Test
+    public void propertiesAreStoredInRows() {
+        ArrayParticle prototype = new ArrayParticle();
+        ArrayParticle particle = prototype.getClone();
+        particle.initialise(createProblem());
+
+        Vector velocity = Vector.fill(1.0, 10);
+        particle.getProperties().put(EntityType.Particle.VELOCITY, velocity);
+        for (int i = 0; i < velocity.size(); i++) {
+            Assert.assertThat(particle.getVelocity().doubleValueOf(i), is(1.0));
+        }
+
+        // In-place changes are written back when the particle is updated
+        particle.getVelocity().setReal(0, 2.0);
+        Vector position = Vector.copyOf(particle.getPosition());
+        particle.updatePosition();
+        Assert.assertThat(particle.getPosition().doubleValueOf(0), is(position.doubleValueOf(0) + 2.0));
+        Assert.assertThat(particle.getPosition().doubleValueOf(1), is(position.doubleValueOf(1) + 1.0));
+
+        particle.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(3));
+        Assert.assertThat(particle.getPersonalBestStagnationCount(), is(3));
+
+        particle.getProperties().put(EntityType.Coevolution.POPULATION_ID, Int.valueOf(1));
+        Assert.assertThat(particle.getProperties().get(EntityType.Coevolution.POPULATION_ID), is((Object) Int.valueOf(1)));
+    }
+
+    @Test
+    public void clonesHaveIndependentState() {
+        ArrayParticle particle = new ArrayParticle().getClone();
+        particle.initialise(createProblem());
+        ArrayParticle clone = particle.getClone();
+
+        Assert.assertThat(clone.getPosition(), is(particle.getPosition()));
+        Assert.assertThat(clone, not(is(particle)));
+
+        clone.getProperties().put(EntityType.CANDIDATE_SOLUTION, Vector.fill(0.0, 10));
+        Assert.assertThat(particle.getPosition(), not(is(clone.getPosition())));
+    }
+}
@@ -23,6 +23,7 @@ package net.sourceforge.cilib.pso.pbestupdate;
 
 import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.entity.Particle;
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
 import net.sourceforge.cilib.pso.particle.StandardParticle;
 import net.sourceforge.cilib.type.types.Int;
@@ -83,4 +84,25 @@ public class StandardPersonalBestUpdateStrategyTest {
         Assert.assertThat(particle.getBestPosition(), is(not(particle.getPosition())));
         Assert.assertEquals(((Int)particle.getProperties().get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER)).intValue(), 1);
     }
+
+    /**
+     * The personal best position must not change when the position of the
+     * particle is modified after the update.
+     */
+    @Test
+    public void personalBestIsIndependentOfPosition() {
+        Particle particle = new StandardParticle();
+
+        particle.getProperties().put(EntityType.FITNESS, new MinimisationFitness(200.0));
+        particle.getProperties().put(EntityType.Particle.BEST_FITNESS, new MinimisationFitness(300.0));
+        particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, Vector.of(1.0, 2.0));
+
+        StandardPersonalBestUpdateStrategy strategy = new StandardPersonalBestUpdateStrategy();
+        strategy.updatePersonalBest(particle);
+        ((Vector) particle.getPosition()).setReal(0, 5.0);
+        ((Vector) particle.getPosition()).randomize(new MersenneTwister(0));
+        ((Vector) particle.getPosition()).get(1).randomize(new MersenneTwister(1));
+
+        Assert.assertThat(particle.getBestPosition(), is((Object) Vector.of(1.0, 2.0)));
+    }
 }
@@ -0,0 +1,150 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.type.types.container;
+
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+
+public class DenseMatrixTest {
+
+    private static DenseMatrix random(int rows, int columns, long seed) {
+        Random random = new Random(seed);
+        DenseMatrix matrix = new DenseMatrix(rows, columns);
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                matrix.setValueAt(i, j, random.nextGaussian());
+            }
+        }
+        return matrix;
+    }
+
+    private static DenseMatrix naiveProduct(DenseMatrix a, DenseMatrix b) {
+        DenseMatrix result = new DenseMatrix(a.getRows(), b.getColumns());
+        for (int i = 0; i < a.getRows(); i++) {
+            for (int j = 0; j < b.getColumns(); j++) {
+                double sum = 0.0;
+                for (int k = 0; k < a.getColumns(); k++) {
+                    sum += a.valueAt(i, k) * b.valueAt(k, j);
+                }
+                result.setValueAt(i, j, sum);
+            }
+        }
+        return result;
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void constructionZeroRow() {
+        new DenseMatrix(0, 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void illegalMultiplication() {
+        new DenseMatrix(2, 3).times(new DenseMatrix(2, 3));
+    }
+
+    @Test
+    public void multiplicationMatchesNaiveProduct() {
+        DenseMatrix a = random(70, 130, 1);
+        DenseMatrix b = random(130, 65, 2);
+
+        Assert.assertThat(a.times(b), is(naiveProduct(a, b)));
+    }
+
+    @Test
+    public void parallelMultiplicationMatchesNaiveProduct() {
+        DenseMatrix a = random(200, 150, 3);
+        DenseMatrix b = random(150, 100, 4);
+
+        Assert.assertThat(a.times(b), is(naiveProduct(a, b)));
+    }
+
+    @Test
+    public void multiplyInto() {
+        DenseMatrix a = random(5, 7, 5);
+        double[] x = new double[7];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i - 3;
+        }
+        double[] out = new double[5];
+
+        a.multiplyInto(x, out);
+
+        for (int i = 0; i < 5; i++) {
+            double sum = 0.0;
+            for (int k = 0; k < 7; k++) {
+                sum += a.valueAt(i, k) * x[k];
+            }
+            Assert.assertThat(out[i], is(sum));
+        }
+    }
+
+    @Test
+    public void transposeMultiplyInto() {
+        DenseMatrix a = random(6, 4, 6);
+        double[] x = {1.0, -2.0, 0.5, 3.0, 0.0, -1.5};
+        double[] expected = new double[4];
+        double[] out = new double[4];
+
+        a.transpose().multiplyInto(x, expected);
+        a.transposeMultiplyInto(x, out);
+
+        for (int j = 0; j < 4; j++) {
+            Assert.assertThat(out[j], is(expected[j]));
+        }
+    }
+
+    @Test
+    public void transpose() {
+        DenseMatrix a = random(100, 70, 7);
+        DenseMatrix t = a.transpose();
+
+        Assert.assertThat(t.getRows(), is(70));
+        Assert.assertThat(t.getColumns(), is(100));
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 70; j++) {
+                Assert.assertThat(t.valueAt(j, i), is(a.valueAt(i, j)));
+            }
+        }
+        Assert.assertThat(t.transpose(), is(a));
+    }
+
+    @Test
+    public void rotationMatchesMatrixRotation() {
+        double angle = 0.3;
+        DenseMatrix a = DenseMatrix.identity(4);
+        a.rotate(angle, 1, 3);
+
+        Matrix expected = Matrix.builder().dimensions(4, 4).identity().build().rotate(angle, 1, 3);
+
+        Assert.assertThat(a.toMatrix(), is(expected));
+    }
+
+    @Test
+    public void conversion() {
+        Matrix matrix = Matrix.builder().dimensions(2, 3).addRow(1.0, 2.0, 3.0).addRow(4.0, 5.0, 6.0).build();
+
+        Assert.assertThat(DenseMatrix.copyOf(matrix).toMatrix(), is(matrix));
+        Assert.assertThat(DenseMatrix.copyOf(matrix).valueAt(1, 0), is(4.0));
+    }
+}
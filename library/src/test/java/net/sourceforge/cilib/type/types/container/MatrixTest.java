@@ -159,6 +159,26 @@ public class MatrixTest {
         Assert.assertThat(c.getRow(1), equalTo(Vector.of(30.0, 44.0)));
     }
 
+    @Test
+    public void nonSquareMultiplication() {
+        Matrix a = Matrix.builder().dimensions(2, 3)
+            .addRow(1.0, 2.0, 3.0)
+            .addRow(4.0, 5.0, 6.0)
+            .build();
+        Matrix b = Matrix.builder().dimensions(3, 1)
+            .addRow(1.0)
+            .addRow(0.0)
+            .addRow(-1.0)
+            .build();
+
+        Matrix c = a.times(b);
+
+        Assert.assertThat(c.getRows(), is(2));
+        Assert.assertThat(c.getColumns(), is(1));
+        Assert.assertThat(c.getRow(0), equalTo(Vector.of(-2.0)));
+        Assert.assertThat(c.getRow(1), equalTo(Vector.of(-2.0)));
+    }
+
     @Test
     public void squareTranspose() {
         Matrix a = Matrix.builder().dimensions(2, 2)
@@ -0,0 +1,83 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import net.sourceforge.cilib.math.random.generator.SplitMix;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TasksTest {
+
+    @Test
+    public void everyIndexIsPerformedOnce() {
+        final AtomicIntegerArray counts = new AtomicIntegerArray(1000);
+        Tasks.forEach(counts.length(), 4, new Tasks.Task() {
+            @Override
+            public void run(int index) {
+                counts.incrementAndGet(index);
+            }
+        });
+
+        for (int i = 0; i < counts.length(); i++) {
+            Assert.assertEquals(1, counts.get(i));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exceptionsArePropagated() {
+        Tasks.forEach(10, 4, new Tasks.Task() {
+            @Override
+            public void run(int index) {
+                if (index == 7) {
+                    throw new IllegalStateException();
+                }
+            }
+        });
+    }
+
+    @Test
+    public void seedsDependOnIndexOnly() {
+        long[] sequential = seeds(1);
+        long[] parallel = seeds(4);
+
+        Assert.assertArrayEquals(sequential, parallel);
+        Assert.assertTrue(parallel[0] != parallel[1]);
+    }
+
+    private long[] seeds(int threads) {
+        final long[] seeds = new long[100];
+        Seeder.setSeedStream(new SplitMix(7));
+        try {
+            Tasks.forEach(seeds.length, threads, new Tasks.Task() {
+                @Override
+                public void run(int index) {
+                    seeds[index] = Seeder.getSeed();
+                }
+            });
+        } finally {
+            Seeder.removeSeedStream();
+        }
+        return seeds;
+    }
+}
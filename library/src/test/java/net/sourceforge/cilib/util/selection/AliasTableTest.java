@@ -0,0 +1,62 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util.selection;
+
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AliasTableTest {
+
+    @Test
+    public void samplesInProportionToWeights() {
+        double[] weights = {1.0, 0.0, 3.0, 4.0, 2.0};
+        AliasTable table = new AliasTable(weights);
+        RandomProvider random = new MersenneTwister(0);
+
+        int draws = 100000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < draws; i++) {
+            counts[table.sample(random)]++;
+        }
+
+        Assert.assertEquals(0, counts[1]);
+        for (int i = 0; i < weights.length; i++) {
+            Assert.assertEquals(weights[i] / 10.0, counts[i] / (double) draws, 0.01);
+        }
+    }
+
+    @Test
+    public void singleWeight() {
+        AliasTable table = new AliasTable(new double[] {0.0, 0.5, 0.0});
+        RandomProvider random = new MersenneTwister(0);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(1, table.sample(random));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroWeights() {
+        new AliasTable(new double[] {0.0, 0.0});
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Computational Intelligence Library (CIlib)
+ * Copyright (C) 2003 - 2010
+ * Computational Intelligence Research Group (CIRG@UP)
+ * Department of Computer Science
+ * University of Pretoria
+ * South Africa
+ *
+ * This library is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sourceforge.cilib.util.selection;
+
+import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FenwickTreeTest {
+
+    @Test
+    public void prefixSums() {
+        FenwickTree tree = new FenwickTree(new double[] {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0});
+
+        double sum = 0.0;
+        for (int i = 0; i <= tree.size(); i++) {
+            Assert.assertEquals(sum, tree.prefixSum(i), 0.0);
+            if (i < tree.size()) {
+                sum += tree.get(i);
+            }
+        }
+
+        tree.set(3, 0.0);
+        Assert.assertEquals(24.0, tree.total(), 0.0);
+        Assert.assertEquals(6.0, tree.prefixSum(4), 0.0);
+        Assert.assertEquals(11.0, tree.prefixSum(5), 0.0);
+    }
+
+    @Test
+    public void search() {
+        FenwickTree tree = new FenwickTree(new double[] {1.0, 0.0, 2.0, 3.0});
+
+        Assert.assertEquals(0, tree.search(0.0));
+        Assert.assertEquals(0, tree.search(1.0));
+        Assert.assertEquals(2, tree.search(1.5));
+        Assert.assertEquals(2, tree.search(3.0));
+        Assert.assertEquals(3, tree.search(3.5));
+        Assert.assertEquals(4, tree.search(6.5));
+    }
+
+    @Test
+    public void sampleFollowsUpdatedWeights() {
+        FenwickTree tree = new FenwickTree(new double[] {1.0, 1.0, 1.0, 1.0});
+        RandomProvider random = new MersenneTwister(0);
+
+        tree.set(0, 0.0);
+        tree.set(2, 0.0);
+        for (int i = 0; i < 1000; i++) {
+            int index = tree.sample(random);
+            Assert.assertTrue(index == 1 || index == 3);
+        }
+
+        tree.set(1, 0.0);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(3, tree.sample(random));
+        }
+    }
+}
@@ -24,7 +24,7 @@ package net.sourceforge.cilib.util.selection.arrangement;
 import com.google.common.collect.Lists;
 import java.util.List;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
-import net.sourceforge.cilib.math.random.generator.RandomProvider;
+import net.sourceforge.cilib.math.random.generator.AbstractRandomProvider;
 import net.sourceforge.cilib.util.selection.Selection;
 import net.sourceforge.cilib.util.selection.WeightedObject;
 import net.sourceforge.cilib.util.selection.weighting.LinearWeighting;
@@ -110,7 +110,7 @@ public class ProportionalArrangementTest {
         Assert.assertThat(i.intValue(), is(1));
     }
 
-    private static class ConstantRandomNumber implements RandomProvider {
+    private static class ConstantRandomNumber extends AbstractRandomProvider {
 
         private static final long serialVersionUID = 3019387660938987850L;
         private final MersenneTwister randomProvider;
@@ -47,4 +47,21 @@ public class RandomSelectorTest {
         int selected = selection.on(elements).select();
         Assert.assertThat(selected, is(1));
     }
+
+    @Test
+    public void indexedSelectionSkipsExcluded() {
+        List<Integer> elements = Lists.newArrayList(1, 2, 3, 4, 5);
+        RandomSelector<Integer> selection = new RandomSelector<Integer>();
+        for (int i = 0; i < 100; i++) {
+            int selected = selection.select(elements, 0, 1, 3);
+            Assert.assertTrue(selected == 2 || selected == 4);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indexedSelectionAllExcluded() {
+        List<Integer> elements = Lists.newArrayList(1, 2);
+        RandomSelector<Integer> selection = new RandomSelector<Integer>();
+        selection.select(elements, 1, 0, 1);
+    }
 }
@@ -24,6 +24,7 @@ package net.sourceforge.cilib.util.selection.recipes;
 import com.google.common.collect.Lists;
 import java.util.List;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
+import net.sourceforge.cilib.math.random.generator.AbstractRandomProvider;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import org.junit.Assert;
 import org.junit.Test;
@@ -59,7 +60,7 @@ public class RankBasedSelectorTest {
         Assert.assertThat(selected, is(8));
     }
 
-    private static class ConstantRandomNumber implements RandomProvider {
+    private static class ConstantRandomNumber extends AbstractRandomProvider {
 
         private static final long serialVersionUID = 3019387660938987850L;
         private RandomProvider randomProvider = new MersenneTwister(0);
@@ -40,6 +40,7 @@ import org.junit.Test;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNull.notNullValue;
 import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.Mockito.*;
 
 /**
  * <p>
@@ -134,4 +135,40 @@ public class RouletteWheelSelectorTest {
         Assert.assertThat(selected, is(notNullValue()));
         Assert.assertThat(topology, hasItem(selected));
     }
+
+    @Test
+    public void indexedSelection() {
+        Topology<Individual> topology = createDummyTopology();
+        topology.get(0).getProperties().put(EntityType.FITNESS, new MaximisationFitness(0.5));
+        topology.get(1).getProperties().put(EntityType.FITNESS, new MaximisationFitness(90000.0));
+        topology.get(2).getProperties().put(EntityType.FITNESS, new MaximisationFitness(0.5));
+
+        RouletteWheelSelector<Individual> selection = new RouletteWheelSelector<Individual>(new EntityWeighting());
+        Assert.assertThat(selection.select(topology), is(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void indexedSelectionWithoutWeight() {
+        Topology<Individual> topology = createDummyTopology();
+        topology.get(0).getProperties().put(EntityType.FITNESS, new MaximisationFitness(0.5));
+        topology.get(1).getProperties().put(EntityType.FITNESS, new MaximisationFitness(90000.0));
+        topology.get(2).getProperties().put(EntityType.FITNESS, new MaximisationFitness(0.5));
+
+        RouletteWheelSelector<Individual> selection = new RouletteWheelSelector<Individual>(new EntityWeighting());
+        selection.select(topology, 1);
+    }
+
+    @Test
+    public void indexedSelectionOfTotalWeight() {
+        Topology<Individual> topology = createDummyTopology();
+        topology.get(0).getProperties().put(EntityType.FITNESS, new MaximisationFitness(0.5));
+        topology.get(1).getProperties().put(EntityType.FITNESS, new MaximisationFitness(90000.0));
+        topology.get(2).getProperties().put(EntityType.FITNESS, new MaximisationFitness(0.5));
+        RandomProvider random = mock(RandomProvider.class);
+        when(random.nextDouble()).thenReturn(1.0);
+
+        RouletteWheelSelector<Individual> selection = new RouletteWheelSelector<Individual>(new EntityWeighting());
+        selection.setRandom(random);
+        Assert.assertThat(selection.select(topology, 2), is(1));
+    }
 }
@@ -22,12 +22,14 @@
 package net.sourceforge.cilib.util.selection.recipes;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
 import java.util.Collections;
 import java.util.List;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ProportionalControlParameter;
 import net.sourceforge.cilib.math.random.generator.MersenneTwister;
 import net.sourceforge.cilib.math.random.generator.RandomAdaptor;
+import net.sourceforge.cilib.math.random.generator.AbstractRandomProvider;
 import net.sourceforge.cilib.math.random.generator.RandomProvider;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.core.Is.is;
@@ -94,7 +96,7 @@ public class TournamentSelectorTest {
         Assert.assertThat(tournamentList.get(bestIndex), is(equalTo(selected)));
     }
 
-    private static class ConstantRandomNumber implements RandomProvider {
+    private static class ConstantRandomNumber extends AbstractRandomProvider {
         private static final long serialVersionUID = 3019387660938987850L;
         private RandomProvider randomProvider = new MersenneTwister(0);
 
@@ -133,4 +135,39 @@ public class TournamentSelectorTest {
             throw new UnsupportedOperationException("Not supported yet.");
         }
     }
+
+    @Test
+    public void indexedFullTournament() {
+        List<Integer> list = Lists.newArrayList(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        TournamentSelector<Integer> selection = new TournamentSelector<Integer>();
+        selection.setTournamentSize(new ProportionalControlParameter(1.0));
+        Assert.assertThat(selection.select(list), is(8));
+        Assert.assertThat(selection.select(list, 8), is(7));
+    }
+
+    /**
+     * Both the Selection and the indexed paths rank the tournament with the comparator.
+     */
+    @Test
+    public void fullTournamentUsesComparator() {
+        List<Integer> list = Lists.newArrayList(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        TournamentSelector<Integer> selection = new TournamentSelector<Integer>();
+        selection.setTournamentSize(new ProportionalControlParameter(1.0));
+        selection.setComparator(Ordering.<Integer>natural().reverse());
+
+        Assert.assertThat(selection.on(list).select(), is(1));
+        Assert.assertThat(selection.select(list), is(0));
+    }
+
+    @Test
+    public void indexedPartialTournament() {
+        List<Integer> list = Lists.newArrayList(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        TournamentSelector<Integer> selection = new TournamentSelector<Integer>();
+        selection.setTournamentSize(ConstantControlParameter.of(0.3));
+        for (int i = 0; i < 100; i++) {
+            int selected = selection.select(list, 0, 8);
+            // two entrants are drawn from the seven eligible elements, so the worst of those can never win
+            Assert.assertThat(selected >= 2 && selected <= 7, is(true));
+        }
+    }
 }
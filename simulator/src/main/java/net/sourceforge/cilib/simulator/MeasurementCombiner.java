@@ -46,9 +46,20 @@ import java.util.List;
 public class MeasurementCombiner {
 
     private final File file;
+    private final String seedHeader;
 
     MeasurementCombiner(File file) {
         this.file = file;
+        this.seedHeader = null;
+    }
+
+    /**
+     * Create a combiner that also records the master seed of the simulation
+     * as the first header line of the combined file.
+     */
+    MeasurementCombiner(File file, long masterSeed, int simulation) {
+        this.file = file;
+        this.seedHeader = "# Master seed: " + masterSeed + " (simulation " + simulation + ")\n";
     }
 
     /**
@@ -64,6 +75,9 @@ public class MeasurementCombiner {
         try {
             file.getParentFile().mkdirs();
             BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+            if (seedHeader != null) {
+                writer.write(seedHeader);
+            }
             int columnId = 0;
             writer.write("# " + columnId++ + " - Iterations\n");
             for (String description : descriptions) {
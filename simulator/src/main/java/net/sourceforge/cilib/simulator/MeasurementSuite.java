@@ -32,6 +32,7 @@ import java.util.List;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.measurement.MeasurementContext;
 import net.sourceforge.cilib.measurement.StateAwareMeasurement;
 import net.sourceforge.cilib.type.types.Type;
 
@@ -114,19 +115,25 @@ public class MeasurementSuite {
     public void measure(Algorithm algorithm) {
         Type[] tmp = new Type[measurements.size()];
         int index = 0;
-        for (Measurement<?> measurement : measurements) {
-            Type value = null;
-
-            if (measurement instanceof StateAwareMeasurement<?>) {
-                StateAwareMeasurement<?> stateAwareMeasurement = (StateAwareMeasurement<?>) measurement;
-                measurementStateManager.setState(algorithm, stateAwareMeasurement);
-                value = measurement.getValue(algorithm);
-                measurementStateManager.getState(algorithm, stateAwareMeasurement);
-            } else {
-                value = measurement.getValue(algorithm);
+        // The measurements share the aggregates of the algorithm that they have in common.
+        MeasurementContext context = MeasurementContext.begin(algorithm);
+        try {
+            for (Measurement<?> measurement : measurements) {
+                Type value = null;
+
+                if (measurement instanceof StateAwareMeasurement<?>) {
+                    StateAwareMeasurement<?> stateAwareMeasurement = (StateAwareMeasurement<?>) measurement;
+                    measurementStateManager.setState(algorithm, stateAwareMeasurement);
+                    value = measurement.getValue(algorithm);
+                    measurementStateManager.saveState(algorithm, stateAwareMeasurement);
+                } else {
+                    value = measurement.getValue(algorithm);
+                }
+
+                tmp[index++] = value;
             }
-
-            tmp[index++] = value;
+        } finally {
+            context.end();
         }
         StringBuilder builder = new StringBuilder();
         builder.append(algorithm.getIterations());
@@ -26,6 +26,8 @@ import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.AlgorithmEvent;
 import net.sourceforge.cilib.algorithm.AlgorithmListener;
+import net.sourceforge.cilib.math.random.generator.SplittableRandomProvider;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
 import net.sourceforge.cilib.problem.Problem;
 
 /**
@@ -38,18 +40,21 @@ public class Simulation implements AlgorithmListener, Runnable {
     private final Algorithm algorithm;
     private final Problem problem;
     private final MeasurementSuite measurementSuite;
+    private final SplittableRandomProvider seeds;
 
     /**
      * Create a Simulation with the required dependencies.
      * @param simulator The controlling {@code Simulator}.
      * @param algorithmFactory The factory that creates {@code Algorithm} instances.
      * @param problemFactory The factory that creates {@code Problem} instances.
+     * @param seeds The seed stream of this sample.
      */
-    public Simulation(Simulator simulator, Algorithm algorithm, Problem problem, MeasurementSuite measurementSuite) {
+    public Simulation(Simulator simulator, Algorithm algorithm, Problem problem, MeasurementSuite measurementSuite, SplittableRandomProvider seeds) {
         this.simulator = simulator;
         this.algorithm = algorithm;
         this.problem = problem;
         this.measurementSuite = measurementSuite;
+        this.seeds = seeds;
     }
 
     /**
@@ -65,11 +70,17 @@ public class Simulation implements AlgorithmListener, Runnable {
     }
 
     /**
-     * Execute the simulation.
+     * Execute the simulation. The seed stream of the sample is bound to the
+     * executing thread for the duration of the run.
      */
     @Override
     public void run() {
-        algorithm.run();
+        Seeder.setSeedStream(seeds);
+        try {
+            algorithm.run();
+        } finally {
+            Seeder.removeSeedStream();
+        }
     }
 
     /**
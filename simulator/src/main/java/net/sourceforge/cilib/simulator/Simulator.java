@@ -37,6 +37,8 @@ import java.util.logging.Logger;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.ProgressEvent;
 import net.sourceforge.cilib.algorithm.ProgressListener;
+import net.sourceforge.cilib.math.random.generator.SplittableRandomProvider;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
 import net.sourceforge.cilib.problem.Problem;
 
 /**
@@ -55,6 +57,12 @@ import net.sourceforge.cilib.problem.Problem;
  * on a given problem. For that reason, a simulation accepts a measurement suite which it uses to
  * record the performace.
  * </p>
+ * <p>
+ * Every sample is given its own seed stream, derived from the seed stream of
+ * the simulator and the index of the sample. All random number generators
+ * created for a sample are seeded from this stream, which makes each sample
+ * reproducible independently of the order in which the samples execute.
+ * </p>
  */
 public class Simulator {
 
@@ -67,6 +75,7 @@ public class Simulator {
     private final XMLObjectFactory measurementFactory;
     private final MeasurementCombiner combiner;
     private final int samples;
+    private final SplittableRandomProvider seeds;
 
     /**
      * Creates a new instance of Simulator given an algorithm factory, a problem factory and a
@@ -75,13 +84,15 @@ public class Simulator {
      * @param algorithmFactory The algorithm factory.
      * @param problemFactory The problem factory.
      * @param measurementFactory The measurement suite.
+     * @param seeds The seed stream from which the seeds of the samples are derived.
      */
-    public Simulator(XMLObjectFactory algorithmFactory, XMLObjectFactory problemFactory, XMLObjectFactory measurementFactory, MeasurementCombiner combiner, int samples) {
+    public Simulator(XMLObjectFactory algorithmFactory, XMLObjectFactory problemFactory, XMLObjectFactory measurementFactory, MeasurementCombiner combiner, int samples, SplittableRandomProvider seeds) {
         this.algorithmFactory = algorithmFactory;
         this.problemFactory = problemFactory;
         this.measurementFactory = measurementFactory;
         this.combiner = combiner;
         this.samples = samples;
+        this.seeds = seeds;
         this.progressListeners = Lists.newArrayList();
         this.progress = new HashMap<Simulation, Double>();
         this.simulations = new Simulation[samples];
@@ -93,16 +104,30 @@ public class Simulator {
      */
     public void init() {
         for (int i = 0; i < samples; ++i) {
-            simulations[i] = createSimulation();
-            simulations[i].init(); // Prepare the simulation for execution
+            simulations[i] = createSimulation(i);
             progress.put(simulations[i], 0.0);
         }
     }
-    
-    public Simulation createSimulation() {
-        return new Simulation(this, (Algorithm) algorithmFactory.newObject(), 
-                (Problem) problemFactory.newObject(), 
-                (MeasurementSuite) measurementFactory.newObject());
+
+    /**
+     * Create and initialise the {@code Simulation} for the given sample. All
+     * instances are constructed with the seed stream of the sample bound to
+     * the current thread.
+     * @param sample The index of the sample.
+     * @return The prepared {@code Simulation}.
+     */
+    public Simulation createSimulation(int sample) {
+        SplittableRandomProvider sampleSeeds = seeds.split(sample);
+        Seeder.setSeedStream(sampleSeeds);
+        try {
+            Simulation simulation = new Simulation(this, (Algorithm) algorithmFactory.newObject(),
+                    (Problem) problemFactory.newObject(),
+                    (MeasurementSuite) measurementFactory.newObject(), sampleSeeds);
+            simulation.init(); // Prepare the simulation for execution
+            return simulation;
+        } finally {
+            Seeder.removeSeedStream();
+        }
     }
 
     /**
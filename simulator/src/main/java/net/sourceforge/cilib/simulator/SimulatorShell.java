@@ -24,9 +24,14 @@ package net.sourceforge.cilib.simulator;
 import com.google.common.collect.Lists;
 import java.io.File;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import net.sourceforge.cilib.algorithm.ProgressListener;
+import net.sourceforge.cilib.math.random.generator.SplitMix;
+import net.sourceforge.cilib.math.random.generator.seeder.NetworkBasedSeedSelectionStrategy;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
@@ -38,6 +43,16 @@ import org.w3c.dom.NodeList;
  * <p>
  * The {@code SimulatorShell} may construct more than one simulator instance
  * if required, based on the provided simulation file.
+ * <p>
+ * All random number generators are seeded from a single master seed, which
+ * is read from the {@code seed} attribute of the root element of the
+ * simulation file or generated if the attribute is absent. The seed of each
+ * simulation and sample is derived from the master seed, so that providing
+ * the logged master seed reproduces the simulations exactly. Worker threads
+ * derive their seeds from the sample they work for, and a thread that is not
+ * working for a sample is refused a seed. The master seed is also written as
+ * the first header line of each combined output file, unless the
+ * {@code writeSeed} attribute of its {@code output} element is {@code false}.
  *
  */
 public class SimulatorShell {
@@ -54,6 +69,15 @@ public class SimulatorShell {
             DocumentBuilder db = dbf.newDocumentBuilder();
             Document config = db.parse(specification);
 
+            Element root = config.getDocumentElement();
+            long masterSeed = root.hasAttribute("seed")
+                    ? Long.parseLong(root.getAttribute("seed"))
+                    : new NetworkBasedSeedSelectionStrategy().getSeed();
+            Logger.getLogger(SimulatorShell.class.getName()).log(Level.INFO,
+                    "Master seed for {0}: {1}", new Object[]{specification.getName(), Long.toString(masterSeed)});
+            SplitMix seeds = new SplitMix(masterSeed);
+            Seeder.setSeedStreamRequired(true);
+
             NodeList simulations = config.getElementsByTagName("simulation");
             for (int i = 0; i < simulations.getLength(); ++i) {
                 Element current = (Element) simulations.item(i);
@@ -61,9 +85,9 @@ public class SimulatorShell {
                 XMLObjectFactory algorithmFactory = new XMLObjectFactory(config, (Element) current.getElementsByTagName("algorithm").item(0));
                 XMLObjectFactory problemFactory = new XMLObjectFactory(config, (Element) current.getElementsByTagName("problem").item(0));
                 XMLObjectFactory measurementsFactory = new XMLObjectFactory(config, (Element) current.getElementsByTagName("measurements").item(0));
-                MeasurementCombiner combiner = createCombiner((Element) current.getElementsByTagName("output").item(0));
+                MeasurementCombiner combiner = createCombiner((Element) current.getElementsByTagName("output").item(0), masterSeed, i);
 
-                Simulator simulator = new Simulator(algorithmFactory, problemFactory, measurementsFactory, combiner, samples);
+                Simulator simulator = new Simulator(algorithmFactory, problemFactory, measurementsFactory, combiner, samples, seeds.split(i));
                 simulators.add(simulator);
             }
             return simulators;
@@ -88,7 +112,12 @@ public class SimulatorShell {
         }
     }
 
-    private static MeasurementCombiner createCombiner(Element item) {
-        return new MeasurementCombiner(new File(item.getAttribute("file")));
+    private static MeasurementCombiner createCombiner(Element item, long masterSeed, int simulation) {
+        File file = new File(item.getAttribute("file"));
+        String writeSeed = item.getAttribute("writeSeed");
+        if (writeSeed.isEmpty() || Boolean.parseBoolean(writeSeed)) {
+            return new MeasurementCombiner(file, masterSeed, simulation);
+        }
+        return new MeasurementCombiner(file);
     }
 }
@@ -21,9 +21,14 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.w3c.dom.*;
 
 /**
@@ -62,6 +67,16 @@ import org.w3c.dom.*;
  * a hierarchical fashion to handle the construction of complex objects.
  * </p>
  * <p>
+ * The XML description is only interpreted once. On the first call to
+ * {@link #newObject()} the description is compiled into a construction plan
+ * that records the constructor and the setter and adder methods to invoke,
+ * together with the already parsed literal values. Every subsequent call
+ * replays the plan to produce a fresh object graph. Resolved classes,
+ * constructors and methods are additionally cached for all factories, so
+ * that the repeated construction of the same types does not scan the
+ * available methods again.
+ * </p>
+ * <p>
  * Note: Requires the Java API for XML processing (JAXP).
  * </p>
  *
@@ -70,8 +85,21 @@ import org.w3c.dom.*;
  */
 public class XMLObjectFactory {
 
+    private static final ConcurrentMap<String, Class<?>> classes = new ConcurrentHashMap<String, Class<?>>();
+    private static final ConcurrentMap<MethodKey, Method> methods = new ConcurrentHashMap<MethodKey, Method>();
+    private static final Method NO_METHOD;
+
+    static {
+        try {
+            NO_METHOD = Object.class.getMethod("toString");
+        } catch (NoSuchMethodException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
     private Document xmlDocument;
     private Element xmlObjectDescription;
+    private ObjectPlan plan;
 
     /**
      * Creates a new instance of <code>XMLObjectFactory</code> for constructing objects
@@ -92,15 +120,18 @@ public class XMLObjectFactory {
      * @return A new {@link java.lang.Object} constructed according to the given description.
      */
     public Object newObject() {
-        return newObject(xmlObjectDescription);
+        if (plan == null) {
+            plan = compile(xmlObjectDescription);
+        }
+        return plan.build();
     }
 
-    @SuppressWarnings("unchecked")
-    private Object newObject(Element xml) {
+    private ObjectPlan compile(Element xml) {
         Class<?> objectClass = getClass(xml);
-        Object object = instanciate(xml, objectClass);
-        setup(object, xml);
-        return object;
+        Constructor<?> constructor = getConstructor(xml, objectClass);
+        List<Invocation> invocations = new ArrayList<Invocation>();
+        compileSetup(xml, invocations);
+        return new ObjectPlan(xml, constructor, invocations);
     }
 
     private Element getReferencedElement(Element xml) {
@@ -128,40 +159,50 @@ public class XMLObjectFactory {
             error(xml, "No class specified");
         }
 
+        Class<?> cached = classes.get(className);
+        if (cached != null) {
+            return cached;
+        }
+
+        Class<?> result = null;
         try {
-            return Class.forName("net.sourceforge.cilib." + className);
+            result = Class.forName("net.sourceforge.cilib." + className);
         } catch (ClassNotFoundException e) {
             System.out.println("Class not found: net.sourceforge.cilib." + className);
             e.printStackTrace();
         }
 
-        try {
-            return Class.forName(className);
-        } catch (ClassNotFoundException e) {
-            System.out.println("Class not found: " + className);
-            e.printStackTrace();
+        if (result == null) {
+            try {
+                result = Class.forName(className);
+            } catch (ClassNotFoundException e) {
+                System.out.println("Class not found: " + className);
+                e.printStackTrace();
+            }
         }
 
-        error(xml, "Class not found: " + className);
-        return null;
+        if (result == null) {
+            error(xml, "Class not found: " + className);
+        }
+
+        classes.putIfAbsent(className, result);
+        return result;
     }
 
-    private Object instanciate(Element xml, Class<?> objectClass) {
-        // Attempt to instanciate the class
-        Object object = null;
+    private Constructor<?> getConstructor(Element xml, Class<?> objectClass) {
+        Constructor<?> constructor = null;
         try {
-            object = objectClass.newInstance();
+            constructor = objectClass.getConstructor();
         } catch (Exception ex) {
             error(xml, "Could not instanciate " + objectClass.getName());
         }
-
-        return object;
+        return constructor;
     }
 
-    private void setup(Object object, Element xml) {
+    private void compileSetup(Element xml, List<Invocation> invocations) {
         // handle any referenced element
         if (xml.hasAttribute("idref")) {
-            setup(object, getReferencedElement(xml));
+            compileSetup(getReferencedElement(xml), invocations);
         }
 
         // handle attributes of current element
@@ -171,37 +212,37 @@ public class XMLObjectFactory {
             if (attribute.getName().equals("id") || attribute.getName().equals("idref") || attribute.getName().equals("class") || attribute.getName().equals("value")) {
                 continue;
             }
-            invokeSetMethod(xml, object, attribute.getName(), newObject(attribute.getValue()));
+            invocations.add(Invocation.set(xml, attribute.getName(), new Constant(newObject(attribute.getValue()))));
         }
 
         // handle sub-elements of current element
         for (Element e = getFirstChildElement(xml); e != null; e = getNextSiblingElement(e)) {
             if (e.hasAttribute("value")) {
-                invokeSetMethod(e, object, e.getTagName(), newObject(e.getAttribute("value")));
+                invocations.add(Invocation.set(e, e.getTagName(), new Constant(newObject(e.getAttribute("value")))));
             } else if (e.hasAttribute("class") || e.hasAttribute("idref")) {
-                invokeAnyMethod(e, object, e.getTagName(), newObject(e));
+                invocations.add(Invocation.any(e, e.getTagName(), compile(e)));
             } else if (getFirstChildElement(e) == null) {
                 Text text = getFirstChildText(e);
                 if (text == null) {
                     error(e, "Can't create object from null text");
                 }
-                invokeAnyMethod(e, object, e.getTagName(), newObject(text.getNodeValue()));
+                invocations.add(Invocation.any(e, e.getTagName(), new Constant(newObject(text.getNodeValue()))));
             } else {
-                ArrayList<Object> parameters = new ArrayList<Object>();
+                ArrayList<Value> parameters = new ArrayList<Value>();
                 for (Element ee = getFirstChildElement(e); ee != null; ee = getNextSiblingElement(ee)) {
                     if (ee.hasAttribute("value")) {
-                        parameters.add(newObject(ee.getAttribute("value")));
+                        parameters.add(new Constant(newObject(ee.getAttribute("value"))));
                     } else if (ee.hasAttribute("class") || ee.hasAttribute("idref")) {
-                        parameters.add(newObject(ee));
+                        parameters.add(compile(ee));
                     } else {
                         Text text = getFirstChildText(ee);
                         if (text == null) {
                             error(ee, "Can't create object from null text");
                         }
-                        parameters.add(newObject(text.getNodeValue()));
+                        parameters.add(new Constant(newObject(text.getNodeValue())));
                     }
                 }
-                invokeMethod(e, object, e.getTagName(), parameters.toArray());
+                invocations.add(Invocation.method(e, e.getTagName(), parameters.toArray(new Value[parameters.size()])));
             }
         }
     }
@@ -250,22 +291,11 @@ public class XMLObjectFactory {
         }
     }
 
-    private void invokeAnyMethod(Element xml, Object target, String name, Object value) {
-        try {
-            invokeSetMethod(xml, target, name, value);
-        } catch (Exception ex) {
-            Object[] parameter = {value};
-            invokeMethod(xml, target, name, parameter);
-        }
-    }
-
-    private void invokeSetMethod(Element xml, Object target, String property, Object value) {
-        String setMethodName = "set" + property.substring(0, 1).toUpperCase() + property.substring(1);
-        Object[] parameters = {value};
-        invokeMethod(xml, target, setMethodName, parameters);
+    private static String getSetMethodName(String property) {
+        return "set" + property.substring(0, 1).toUpperCase() + property.substring(1);
     }
 
-    private String getParameterString(Object[] parameters) {
+    private static String getParameterString(Object[] parameters) {
         StringBuilder builder = new StringBuilder();
         boolean comma = false;
         for (int i = 0; i < parameters.length; ++i) {
@@ -278,21 +308,38 @@ public class XMLObjectFactory {
         return builder.toString();
     }
 
-    private void invokeMethod(Element xml, Object target, String methodName, Object[] parameters) {
-        Method method = null;
+    /**
+     * Find the public method of the target with the given name that accepts
+     * the provided parameters. The result of the search, including the absence
+     * of a matching method, is cached.
+     */
+    private static Method findMethod(Object target, String methodName, Object[] parameters) {
+        Class<?>[] parameterTypes = new Class<?>[parameters.length];
+        for (int i = 0; i < parameters.length; ++i) {
+            parameterTypes[i] = parameters[i].getClass();
+        }
+        MethodKey key = new MethodKey(target.getClass(), methodName, parameterTypes);
+
+        Method cached = methods.get(key);
+        if (cached == null) {
+            cached = searchMethod(target.getClass(), methodName, parameters);
+            methods.putIfAbsent(key, cached == null ? NO_METHOD : cached);
+        }
+        return cached == NO_METHOD ? null : cached;
+    }
 
-        // Find the method
-        Method[] methods = target.getClass().getMethods();
-        for (int i = 0; i < methods.length; ++i) {
-            if (methods[i].getName().equals(methodName)) {
-                if (parameters.length != methods[i].getParameterTypes().length) {
+    private static Method searchMethod(Class<?> targetClass, String methodName, Object[] parameters) {
+        Method[] candidates = targetClass.getMethods();
+        for (int i = 0; i < candidates.length; ++i) {
+            if (candidates[i].getName().equals(methodName)) {
+                if (parameters.length != candidates[i].getParameterTypes().length) {
                     continue;
                 }
 
                 boolean match = true;
                 for (int j = 0; j < parameters.length; ++j) {
-                    if (methods[i].getParameterTypes()[j].isPrimitive()) {
-                        Class<?> type = methods[i].getParameterTypes()[j];
+                    if (candidates[i].getParameterTypes()[j].isPrimitive()) {
+                        Class<?> type = candidates[i].getParameterTypes()[j];
                         if (parameters[j] instanceof Integer && !(type.equals(Integer.TYPE) || type.equals(Long.TYPE) || type.equals(Double.TYPE))) {
                             match = false;
                         } else if (parameters[j] instanceof Long && !(type.equals(Long.TYPE) || type.equals(Double.TYPE))) {
@@ -302,16 +349,20 @@ public class XMLObjectFactory {
                         } else if (parameters[j] instanceof Boolean && !type.equals(Boolean.TYPE)) {
                             match = false;
                         }
-                    } else if (!methods[i].getParameterTypes()[j].isInstance(parameters[j])) {
+                    } else if (!candidates[i].getParameterTypes()[j].isInstance(parameters[j])) {
                         match = false;
                     }
                 }
                 if (match) {
-                    method = methods[i];
-                    break;
+                    return candidates[i];
                 }
             }
         }
+        return null;
+    }
+
+    private static void invokeMethod(Element xml, Object target, String methodName, Object[] parameters) {
+        Method method = findMethod(target, methodName, parameters);
 
         if (method == null) {
             error(xml, target.getClass().getName() + " does not expose a " + methodName + "(" + getParameterString(parameters) + ") method");
@@ -327,7 +378,160 @@ public class XMLObjectFactory {
         }
     }
 
-    protected void error(Element element, String message) {
+    protected static void error(Element element, String message) {
         throw new RuntimeException("In <" + element.getTagName() + "> : " + message);
     }
+
+    /**
+     * A value that is passed to a method of the object under construction.
+     */
+    private interface Value {
+        Object build();
+    }
+
+    /**
+     * A literal value. Literals are immutable and are shared by all
+     * constructed objects.
+     */
+    private static final class Constant implements Value {
+        private final Object value;
+
+        Constant(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object build() {
+            return value;
+        }
+    }
+
+    /**
+     * The compiled form of an XML element that describes an object: the
+     * constructor to call, followed by the methods to invoke on the result.
+     */
+    private static final class ObjectPlan implements Value {
+        private final Element xml;
+        private final Constructor<?> constructor;
+        private final Invocation[] invocations;
+
+        ObjectPlan(Element xml, Constructor<?> constructor, List<Invocation> invocations) {
+            this.xml = xml;
+            this.constructor = constructor;
+            this.invocations = invocations.toArray(new Invocation[invocations.size()]);
+        }
+
+        @Override
+        public Object build() {
+            Object object = null;
+            try {
+                object = constructor.newInstance();
+            } catch (Exception ex) {
+                error(xml, "Could not instanciate " + constructor.getDeclaringClass().getName());
+            }
+
+            for (Invocation invocation : invocations) {
+                invocation.invoke(object);
+            }
+            return object;
+        }
+    }
+
+    /**
+     * A single method invocation on the object under construction.
+     */
+    private static final class Invocation {
+        private enum Kind { SET, ANY, METHOD }
+
+        private final Element xml;
+        private final Kind kind;
+        private final String name;
+        private final Value[] parameters;
+
+        private Invocation(Element xml, Kind kind, String name, Value[] parameters) {
+            this.xml = xml;
+            this.kind = kind;
+            this.name = name;
+            this.parameters = parameters;
+        }
+
+        /**
+         * Invoke the setter for the given property.
+         */
+        static Invocation set(Element xml, String property, Value value) {
+            return new Invocation(xml, Kind.SET, property, new Value[]{value});
+        }
+
+        /**
+         * Invoke the setter for the given name, or the method with the name
+         * itself if the setter cannot be invoked.
+         */
+        static Invocation any(Element xml, String name, Value value) {
+            return new Invocation(xml, Kind.ANY, name, new Value[]{value});
+        }
+
+        /**
+         * Invoke the method with the given name.
+         */
+        static Invocation method(Element xml, String name, Value[] parameters) {
+            return new Invocation(xml, Kind.METHOD, name, parameters);
+        }
+
+        void invoke(Object target) {
+            Object[] values = new Object[parameters.length];
+            for (int i = 0; i < parameters.length; ++i) {
+                values[i] = parameters[i].build();
+            }
+
+            switch (kind) {
+                case SET:
+                    invokeMethod(xml, target, getSetMethodName(name), values);
+                    break;
+                case ANY:
+                    try {
+                        invokeMethod(xml, target, getSetMethodName(name), values);
+                    } catch (Exception ex) {
+                        invokeMethod(xml, target, name, values);
+                    }
+                    break;
+                default:
+                    invokeMethod(xml, target, name, values);
+            }
+        }
+    }
+
+    /**
+     * Key for the cache of resolved methods.
+     */
+    private static final class MethodKey {
+        private final Class<?> targetClass;
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final int hash;
+
+        MethodKey(Class<?> targetClass, String name, Class<?>[] parameterTypes) {
+            this.targetClass = targetClass;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hash = 31 * (31 * targetClass.hashCode() + name.hashCode()) + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey other = (MethodKey) obj;
+            return targetClass == other.targetClass && name.equals(other.name)
+                    && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }